@@ -18,8 +18,10 @@
 
 package org.eclipse.lemminx;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import org.eclipse.lemminx.commons.ModelTextDocument;
 import org.eclipse.lemminx.customservice.ISynapseLanguageService;
 import org.eclipse.lemminx.customservice.SynapseLanguageClientAPI;
 import org.eclipse.lemminx.customservice.synapse.api.generator.pojo.GenerateAPIResponse;
@@ -56,10 +58,19 @@ import org.eclipse.lemminx.customservice.synapse.expression.pojo.ExpressionParam
 import org.eclipse.lemminx.customservice.synapse.expression.ExpressionCompletionsProvider;
 import org.eclipse.lemminx.customservice.synapse.expression.pojo.HelperPanelData;
 import org.eclipse.lemminx.customservice.synapse.inbound.conector.InboundConnectorResponse;
+import org.eclipse.lemminx.customservice.synapse.executor.RequestCoalescer;
+import org.eclipse.lemminx.customservice.synapse.executor.RequestExecutor;
+import org.eclipse.lemminx.customservice.synapse.executor.RequestExecutor.Pool;
+import org.eclipse.lemminx.customservice.synapse.executor.StartupStages;
+import org.eclipse.lemminx.customservice.synapse.executor.StartupStages.Stage;
+import org.eclipse.lemminx.customservice.synapse.index.ArtifactIndex;
 import org.eclipse.lemminx.customservice.synapse.inbound.conector.InboundConnectorHolder;
 import org.eclipse.lemminx.customservice.synapse.inbound.conector.InboundConnectorParam;
+import org.eclipse.lemminx.customservice.synapse.dependency.tree.DependencyCache;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.DependencyScanner;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.DependencyTree;
+import org.eclipse.lemminx.customservice.synapse.mediator.schema.generate.visitor.SequenceSummaryCache;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.CAPPCacheManager;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.TryOutManager;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutRequest;
 import org.eclipse.lemminx.customservice.synapse.mediatorService.MediatorHandler;
@@ -109,12 +120,15 @@ import org.eclipse.lemminx.customservice.synapse.syntaxTree.factory.mediators.Me
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.ArtifactTypeResponse;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutInfo;
+import org.eclipse.lemminx.customservice.synapse.utils.DOMDocumentCache;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationSettings;
 import org.eclipse.lemminx.services.extensions.completion.ICompletionResponse;
 import org.eclipse.lemminx.settings.SharedSettings;
 import org.eclipse.lsp4j.DefinitionParams;
 import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.FileEvent;
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.SignatureHelp;
@@ -132,11 +146,17 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class SynapseLanguageService implements ISynapseLanguageService {
     private static final Logger log = Logger.getLogger(SynapseLanguageService.class.getName());
+    private static final String EXPRESSION_COMPLETION = "expressionCompletion";
+    private static final String SIGNATURE_HELP = "signatureHelp";
+    private static final String AVAILABLE_RESOURCES = "availableResources:";
+    private static final String OVERVIEW_MODEL = "overviewModel";
+    private static final String PROJECT_EXPLORER_MODEL = "projectExplorerModel:";
     private XMLTextDocumentService xmlTextDocumentService;
     private XMLLanguageServer xmlLanguageServer;
     private SynapseLanguageClientAPI languageClient;
@@ -151,9 +171,12 @@ public class SynapseLanguageService implements ISynapseLanguageService {
     private final InboundConnectorHolder inboundConnectorHolder;
     private final ConnectionHandler connectionHandler;
     private Path synapseXSDPath;
-    private TryOutManager tryOutManager;
+    private volatile TryOutManager tryOutManager;
     private String miServerPath;
     private ExpressionHelperProvider expressionHelperProvider;
+    private final RequestExecutor requestExecutor;
+    private final RequestCoalescer requestCoalescer;
+    private final StartupStages startupStages;
 
     public SynapseLanguageService(XMLTextDocumentService xmlTextDocumentService, XMLLanguageServer xmlLanguageServer) {
 
@@ -163,11 +186,20 @@ public class SynapseLanguageService implements ISynapseLanguageService {
         this.inboundConnectorHolder = new InboundConnectorHolder();
         mediatorHandler = new MediatorHandler();
         connectionHandler = new ConnectionHandler();
+        requestExecutor = new RequestExecutor();
+        requestCoalescer = new RequestCoalescer();
+        startupStages = new StartupStages();
+        DOMDocumentCache.getInstance().setOpenDocumentProvider(this::getOpenDocument);
     }
 
     public void init(String projectUri, Object settings, SynapseLanguageClientAPI languageClient) {
 
+        long initStart = System.nanoTime();
         this.languageClient = languageClient;
+        startupStages.setLanguageClient(languageClient);
+        // The shared results are invalidated by the watched file events, which the client may not send
+        requestCoalescer.setEnabled(
+                xmlLanguageServer.getCapabilityManager().getClientCapabilities().isDidChangeWatchedFilesRegistered());
         if (settings != null) {
             extensionPath = ((JsonObject) settings).get("extensionPath").getAsString();
             miServerPath = ((JsonObject) settings).get("miServerPath").getAsString();
@@ -176,22 +208,42 @@ public class SynapseLanguageService implements ISynapseLanguageService {
             this.projectUri = projectUri;
             this.isLegacyProject = Utils.isLegacyProject(projectUri);
             this.projectServerVersion = Utils.getServerVersion(projectUri, Constant.DEFAULT_MI_VERSION);
+            // The mediator factories must be initialized with the project before any syntax tree is built
+            MediatorFactoryFinder.init(projectServerVersion, projectUri, connectorHolder);
+            this.expressionHelperProvider = new ExpressionHelperProvider(projectUri);
+            startBackgroundStages();
+        } else {
+            log.log(Level.SEVERE, "Project path is null. Language server initialization failed.");
+            startupStages.skip(Stage.values());
+        }
+        resourceFinder = ResourceFinderFactory.getResourceFinder(isLegacyProject);
+        startupStages.recordPhase("synapse service initialization", initStart);
+    }
+
+    private void startBackgroundStages() {
+
+        startupStages.start(Stage.CONNECTORS, requestExecutor.getExecutor(Pool.IO), () -> {
             inboundConnectorHolder.init(projectUri, projectServerVersion);
             initializeConnectorLoader();
+        });
+        startupStages.start(Stage.MEDIATORS, requestExecutor.getExecutor(Pool.CPU), () -> {
             mediatorHandler.init(projectUri, projectServerVersion, connectorHolder);
             connectionHandler.init(connectorHolder);
-            MediatorFactoryFinder.init(projectServerVersion, projectUri, connectorHolder);
+        }, Stage.CONNECTORS);
+        startupStages.start(Stage.TRYOUT, requestExecutor.getExecutor(Pool.IO), () -> {
             try {
                 DynamicClassLoader.updateClassLoader(Path.of(projectUri, "deployment", "libs").toFile());
                 this.tryOutManager = new TryOutManager(projectUri, miServerPath, connectorHolder);
             } catch (Exception e) {
                 log.log(Level.SEVERE, "Error while updating class loader for DB drivers.", e);
             }
-            this.expressionHelperProvider = new ExpressionHelperProvider(projectUri);
+        });
+        if (isLegacyProject) {
+            startupStages.skip(Stage.ARTIFACT_INDEX);
         } else {
-            log.log(Level.SEVERE, "Project path is null. Language server initialization failed.");
+            startupStages.start(Stage.ARTIFACT_INDEX, requestExecutor.getExecutor(Pool.IO),
+                    () -> ArtifactIndex.init(projectUri));
         }
-        resourceFinder = ResourceFinderFactory.getResourceFinder(isLegacyProject);
     }
 
     private void initializeConnectorLoader() {
@@ -201,29 +253,135 @@ public class SynapseLanguageService implements ISynapseLanguageService {
             connectorLoader = new NewProjectConnectorLoader(languageClient, connectorHolder);
         }
         connectorLoader.init(projectUri);
-        updateConnectorDependencies();
+        ConnectorDownloadManager.downloadConnectors(projectUri, languageClient);
+        loadConnectors();
+    }
+
+    /**
+     * Updates the project state according to a watched file change.
+     *
+     * @param event file event
+     */
+    public void didChangeWatchedFile(FileEvent event) {
+
+        ArtifactIndex index = ArtifactIndex.getInstance(projectUri);
+        if (index != null) {
+            index.handleFileEvent(event);
+        }
+        String path = Utils.getAbsolutePath(event.getUri());
+        if (path != null) {
+            requestCoalescer.invalidate(path);
+            DOMDocumentCache.getInstance().invalidate(path);
+        }
+        if (projectUri != null) {
+            DependencyCache.getInstance(projectUri).handleFileEvent(event);
+            CAPPCacheManager.handleFileEvent(projectUri, event);
+        }
+        DirectoryTreeBuilder.handleFileEvent(event);
+        ExpressionCompletionsProvider.clearCache();
+        SequenceSummaryCache.clear();
+    }
+
+    /**
+     * Updates the project state according to the unsaved content of an open document.
+     *
+     * @param document the edited document
+     */
+    public void didChangeDocument(DOMDocument document) {
+
+        ArtifactIndex index = ArtifactIndex.getInstance(projectUri);
+        if (index != null) {
+            index.update(document);
+        }
+        invalidateSharedResults(document.getDocumentURI());
+        // Summaries of the sequences which call the edited sequence are stale
+        SequenceSummaryCache.clear();
+    }
+
+    /**
+     * Updates the project state according to a saved document, without waiting for the watched file event.
+     *
+     * @param uri URI of the saved document
+     */
+    public void didSaveDocument(String uri) {
+
+        String path = invalidateSharedResults(uri);
+        if (path != null) {
+            DOMDocumentCache.getInstance().invalidate(path);
+        }
+    }
+
+    private String invalidateSharedResults(String uri) {
+
+        String path = Utils.getAbsolutePath(uri);
+        if (path != null) {
+            requestCoalescer.invalidate(path);
+        }
+        return path;
+    }
+
+    /**
+     * Reverts the project state updated from the unsaved content of a document which is closed.
+     *
+     * @param uri URI of the closed document
+     */
+    public void didCloseDocument(String uri) {
+
+        ArtifactIndex index = ArtifactIndex.getInstance(projectUri);
+        if (index != null) {
+            index.revert(uri);
+        }
+        SequenceSummaryCache.clear();
+    }
+
+    private <R> CompletableFuture<R> afterStages(Supplier<CompletableFuture<R>> request, Stage... stages) {
+
+        CompletableFuture<Void> ready = startupStages.whenReady(stages);
+        if (ready.isDone()) {
+            return request.get();
+        }
+        return ready.thenCompose(ignored -> request.get());
+    }
+
+    private DOMDocument getOpenDocument(Path path) {
+
+        if (xmlTextDocumentService == null) {
+            return null;
+        }
+        for (ModelTextDocument<DOMDocument> document : xmlTextDocumentService.allDocuments()) {
+            if (!document.getUri().startsWith(Constant.FILE_PREFIX)) {
+                continue;
+            }
+            String documentPath = Utils.getAbsolutePath(document.getUri());
+            if (documentPath != null && path.equals(Path.of(documentPath).toAbsolutePath().normalize())) {
+                return document.getModel();
+            }
+        }
+        return null;
     }
 
     @Override
     public CompletableFuture<SyntaxTreeResponse> syntaxTree(TextDocumentIdentifier param) {
 
-        return xmlTextDocumentService.computeDOMAsync(param, (xmlDocument, cancelChecker) -> {
+        // Connector operations are recognized only after the connectors are loaded
+        return afterStages(() -> xmlTextDocumentService.computeDOMAsync(param, (xmlDocument, cancelChecker) -> {
             SyntaxTreeGenerator generator = new SyntaxTreeGenerator();
             generator.setProjectPath(projectUri);
             return generator.getSyntaxTree(xmlDocument);
-        });
+        }), Stage.CONNECTORS);
     }
 
     @Override
     public CompletableFuture<DBConnectionTestResponse> testDBConnection(DBConnectionTestParams dbConnectionTestParams) {
 
-        DBConnectionTester dbConnectionTester = new DBConnectionTester();
-        boolean connectionStatus = dbConnectionTester.testDBConnection(dbConnectionTestParams.dbType,
-                dbConnectionTestParams.username, dbConnectionTestParams.password,
-                dbConnectionTestParams.host, dbConnectionTestParams.port, dbConnectionTestParams.dbName,
-                dbConnectionTestParams.url, dbConnectionTestParams.className);
-        DBConnectionTestResponse response = new DBConnectionTestResponse(connectionStatus);
-        return CompletableFuture.supplyAsync(() -> response);
+        return requestExecutor.compute(Pool.IO, cancelChecker -> {
+            DBConnectionTester dbConnectionTester = new DBConnectionTester();
+            boolean connectionStatus = dbConnectionTester.testDBConnection(dbConnectionTestParams.dbType,
+                    dbConnectionTestParams.username, dbConnectionTestParams.password,
+                    dbConnectionTestParams.host, dbConnectionTestParams.port, dbConnectionTestParams.dbName,
+                    dbConnectionTestParams.url, dbConnectionTestParams.className);
+            return new DBConnectionTestResponse(connectionStatus);
+        });
     }
 
     @Override
@@ -245,8 +403,8 @@ public class SynapseLanguageService implements ISynapseLanguageService {
     @Override
     public CompletableFuture<DirectoryMapResponse> directoryTree(WorkspaceFolder param) {
 
-        DirectoryMapResponse response = DirectoryTreeBuilder.buildDirectoryTree(param);
-        return CompletableFuture.supplyAsync(() -> response);
+        return requestExecutor.compute(Pool.IO, cancelChecker -> DirectoryTreeBuilder.buildDirectoryTree(param,
+                requestExecutor.getExecutor(Pool.CPU), cancelChecker));
     }
 
     @Override
@@ -263,28 +421,45 @@ public class SynapseLanguageService implements ISynapseLanguageService {
     @Override
     public CompletableFuture<ResourceResponse> availableResources(ResourceParam param) {
 
-        ResourceResponse response = resourceFinder.getAvailableResources(projectUri, param.resourceType);
-        return CompletableFuture.supplyAsync(() -> response);
+        String key = AVAILABLE_RESOURCES + new Gson().toJson(param.resourceType);
+        // The resources are listed from the artifact index once it is built, instead of parsing every artifact
+        return requestCoalescer.compute(key, getProjectSourcePaths(),
+                () -> requestExecutor.compute(startupStages.whenReady(Stage.ARTIFACT_INDEX), Pool.IO,
+                        cancelChecker -> resourceFinder.getAvailableResources(projectUri, param.resourceType)));
     }
 
     @Override
     public CompletableFuture<Either3<ConnectorResponse, Connector, Boolean>> availableConnectors(ConnectorParam param) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return requestExecutor.compute(startupStages.whenReady(Stage.CONNECTORS), Pool.CPU, cancelChecker -> {
             if (param.connectorName != null && !param.connectorName.isEmpty()) {
                 Connector connector = connectorHolder.getConnector(param.connectorName);
                 if (connector == null) {
                     return Either3.forThird(Boolean.FALSE);
                 }
+                connector.loadDetails();
                 return Either3.forSecond(connector);
             }
+            // The connector list is a summary, the details are loaded when a connector is requested by its name
             return Either3.forFirst(new ConnectorResponse(connectorHolder.getConnectors()));
         });
     }
 
     public void updateConnectors() {
 
+        if (!startupStages.isReady(Stage.CONNECTORS)) {
+            // The connectors are loaded at the end of the startup stage, reload them once more to pick this change
+            startupStages.whenReady(Stage.CONNECTORS)
+                    .thenRunAsync(this::loadConnectors, requestExecutor.getExecutor(Pool.IO));
+            return;
+        }
+        loadConnectors();
+    }
+
+    private void loadConnectors() {
+
         connectorLoader.loadConnector(inboundConnectorHolder);
+        requestCoalescer.invalidateAll();
         if (mediatorHandler.isInitialized()) {
             mediatorHandler.reloadMediatorList(projectServerVersion);
         }
@@ -296,126 +471,130 @@ public class SynapseLanguageService implements ISynapseLanguageService {
     @Override
     public CompletableFuture<List<String>> getRegistryFiles(TextDocumentIdentifier param) {
 
-        List<String> registryFiles = RegistryFileScanner.scanRegistryFiles(projectUri);
-        return CompletableFuture.supplyAsync(() -> registryFiles);
+        return requestExecutor.compute(Pool.IO,
+                cancelChecker -> RegistryFileScanner.scanRegistryFiles(projectUri, cancelChecker));
     }
 
     @Override
     public CompletableFuture<List<String>> getResourceFiles() {
 
-        List<String> resourceFiles = ResourceFileScanner.scanResourceFiles(projectUri);
-        return CompletableFuture.supplyAsync(() -> resourceFiles);
+        return requestExecutor.compute(Pool.IO,
+                cancelChecker -> ResourceFileScanner.scanResourceFiles(projectUri, cancelChecker));
     }
 
     @Override
     public CompletableFuture<List<ConfigurableEntry>> getConfigurableEntries() {
 
-        try {
-            List<ConfigurableEntry> configurableEntries = ConfigParser.scanConfigurableEntries(projectUri);
-            return CompletableFuture.supplyAsync(() -> configurableEntries);
-        } catch (IOException e) {
-            log.log(Level.SEVERE, "Error while scanning configurable entries.", e);
-            return CompletableFuture.supplyAsync(() -> new ArrayList<>());
-        }
+        return requestExecutor.compute(Pool.IO, cancelChecker -> {
+            try {
+                return ConfigParser.scanConfigurableEntries(projectUri);
+            } catch (IOException e) {
+                log.log(Level.SEVERE, "Error while scanning configurable entries.", e);
+                return new ArrayList<>();
+            }
+        });
     }
 
     @Override
     public CompletableFuture<List<String>> getResourceUsages(ResourceUsagesRequest resourceUsagesRequest) {
 
-        List<String> resourceUsagesProjectIdentifiers =
-                ResourceUsageFinder.findResourceUsagesProjectIdentifiers(projectUri,
-                        resourceUsagesRequest.getResourceFilePath(), connectorHolder, isLegacyProject);
-        return CompletableFuture.supplyAsync(() -> resourceUsagesProjectIdentifiers);
+        return requestExecutor.compute(startupStages.whenReady(Stage.CONNECTORS, Stage.ARTIFACT_INDEX), Pool.IO,
+                cancelChecker -> ResourceUsageFinder.findResourceUsagesProjectIdentifiers(projectUri,
+                        resourceUsagesRequest.getResourceFilePath(), connectorHolder, isLegacyProject, cancelChecker));
     }
 
     @Override
     public CompletableFuture<List<String>> getArtifactFiles(TextDocumentIdentifier param) {
 
-        List<String> artifactFiles = ArtifactFileScanner.scanArtifactFiles(projectUri);
-        return CompletableFuture.supplyAsync(() -> artifactFiles);
+        return requestExecutor.compute(Pool.IO,
+                cancelChecker -> ArtifactFileScanner.scanArtifactFiles(projectUri, false, cancelChecker));
     }
 
     @Override
     public CompletableFuture<BreakpointInfoResponse> getBreakpointInfo(BreakpointsRequest breakPointRequest) {
 
-        DebuggerHelper debuggerHelper = new DebuggerHelper(breakPointRequest.filePath);
-        List<JsonElement> debugInfoJsonList = debuggerHelper.generateDebugInfoJson(breakPointRequest.breakpoints);
-        BreakpointInfoResponse breakpointInfoResponse = new BreakpointInfoResponse(debugInfoJsonList);
-        return CompletableFuture.supplyAsync(() -> breakpointInfoResponse);
+        return requestExecutor.compute(Pool.CPU, cancelChecker -> {
+            DebuggerHelper debuggerHelper = new DebuggerHelper(breakPointRequest.filePath);
+            List<JsonElement> debugInfoJsonList = debuggerHelper.generateDebugInfoJson(breakPointRequest.breakpoints);
+            return new BreakpointInfoResponse(debugInfoJsonList);
+        });
     }
 
     @Override
     public CompletableFuture<ValidationResponse> validateBreakpoints(BreakpointsRequest breakPointRequest) {
 
-        DebuggerHelper debuggerHelper = new DebuggerHelper(breakPointRequest.filePath);
-        List<BreakpointValidity> validityList = debuggerHelper.validateBreakpoints(breakPointRequest.breakpoints);
-        ValidationResponse validationResponse = new ValidationResponse(validityList);
-        return CompletableFuture.supplyAsync(() -> validationResponse);
+        return requestExecutor.compute(Pool.CPU, cancelChecker -> {
+            DebuggerHelper debuggerHelper = new DebuggerHelper(breakPointRequest.filePath);
+            List<BreakpointValidity> validityList = debuggerHelper.validateBreakpoints(breakPointRequest.breakpoints);
+            return new ValidationResponse(validityList);
+        });
     }
 
     @Override
     public CompletableFuture<StepOverInfo> stepOverBreakpoint(BreakpointsRequest breakPointRequest) {
 
-        DebuggerHelper debuggerHelper = new DebuggerHelper(breakPointRequest.filePath);
-        StepOverInfo stepOverInfo = debuggerHelper.getStepOverBreakpoints(breakPointRequest.breakpoint);
-        return CompletableFuture.supplyAsync(() -> stepOverInfo);
+        return requestExecutor.compute(Pool.CPU, cancelChecker -> {
+            DebuggerHelper debuggerHelper = new DebuggerHelper(breakPointRequest.filePath);
+            return debuggerHelper.getStepOverBreakpoints(breakPointRequest.breakpoint);
+        });
     }
 
     @Override
     public CompletableFuture<Either<Connections, Map<String, Connections>>> connectorConnections(ConnectorParam param) {
 
-        Either<Connections, Map<String, Connections>> connections =
-                ConnectionFinder.findConnections(projectUri, param.connectorName, connectorHolder, isLegacyProject);
-        return CompletableFuture.supplyAsync(() -> connections);
+        return requestExecutor.compute(startupStages.whenReady(Stage.CONNECTORS), Pool.IO, cancelChecker ->
+                ConnectionFinder.findConnections(projectUri, param.connectorName, connectorHolder, isLegacyProject));
     }
 
     @Override
     public CompletableFuture<SchemaGenResponse> generateSchema(SchemaGenRequest schemaGenRequest) {
 
-        SchemaGeneratorHelper schemaGenerate = new SchemaGeneratorHelper();
-        FileType fileType = FileType.valueOf(schemaGenRequest.type);
-        String schema = schemaGenerate.getSchemaContent(fileType, schemaGenRequest.filePath, schemaGenRequest.delimiter);
-        SchemaGenResponse schemaGenResponse = new SchemaGenResponse(schema);
-        return CompletableFuture.supplyAsync(() -> schemaGenResponse);
+        return requestExecutor.compute(Pool.IO, cancelChecker -> {
+            SchemaGeneratorHelper schemaGenerate = new SchemaGeneratorHelper();
+            FileType fileType = FileType.valueOf(schemaGenRequest.type);
+            String schema =
+                    schemaGenerate.getSchemaContent(fileType, schemaGenRequest.filePath, schemaGenRequest.delimiter);
+            return new SchemaGenResponse(schema);
+        });
     }
 
     @Override
     public CompletableFuture<SchemaGenResponse> generateSchemaFromContent(SchemaGenFromContentRequest schemaGenRequest) {
 
-        SchemaGeneratorHelper schemaGenerate = new SchemaGeneratorHelper();
-        FileType fileType = FileType.valueOf(schemaGenRequest.type);
-        String schema = schemaGenerate.getSchemaFromContent(fileType,
-                schemaGenRequest.fileContent, schemaGenRequest.delimiter);
-        SchemaGenResponse schemaGenResponse = new SchemaGenResponse(schema);
-        return CompletableFuture.supplyAsync(() -> schemaGenResponse);
+        return requestExecutor.compute(Pool.CPU, cancelChecker -> {
+            SchemaGeneratorHelper schemaGenerate = new SchemaGeneratorHelper();
+            FileType fileType = FileType.valueOf(schemaGenRequest.type);
+            String schema = schemaGenerate.getSchemaFromContent(fileType,
+                    schemaGenRequest.fileContent, schemaGenRequest.delimiter);
+            return new SchemaGenResponse(schema);
+        });
     }
 
     @Override
     public CompletableFuture<GenerateAPIResponse> generateAPI(GenerateAPIParam param) {
 
         RestApiAdmin generator = new RestApiAdmin();
-        GenerateAPIResponse apiXml = generator.createAPI(param);
-        return CompletableFuture.supplyAsync(() -> apiXml);
+        return requestExecutor.compute(Pool.CPU, cancelChecker -> generator.createAPI(param));
     }
 
     @Override
     public CompletableFuture<GenerateSwaggerResponse> swaggerFromAPI(GenerateSwaggerParam param) {
 
         RestApiAdmin generator = new RestApiAdmin();
-        return CompletableFuture.supplyAsync(() -> generator.generateSwaggerFromAPI(param));
+        return requestExecutor.compute(Pool.CPU, cancelChecker -> generator.generateSwaggerFromAPI(param));
     }
 
     @Override
     public CompletableFuture<Boolean> saveInboundConnectorSchema(InboundConnectorParam param) {
 
-        return CompletableFuture.supplyAsync(() -> inboundConnectorHolder.saveInboundConnector(param.connectorName,
-                param.uiSchema));
+        return requestExecutor.compute(startupStages.whenReady(Stage.CONNECTORS), Pool.WRITE,
+                cancelChecker -> inboundConnectorHolder.saveInboundConnector(param.connectorName, param.uiSchema));
     }
 
     @Override
     public CompletableFuture<InboundConnectorResponse> getInboundConnectorSchema(InboundConnectorParam param) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return requestExecutor.compute(startupStages.whenReady(Stage.CONNECTORS), Pool.IO, cancelChecker -> {
             if (param.connectorId != null) {
                 return inboundConnectorHolder.getInboundConnectorSchemaFromId(param.connectorId);
             } else {
@@ -427,97 +606,118 @@ public class SynapseLanguageService implements ISynapseLanguageService {
     @Override
     public CompletableFuture<JsonObject> getLocalInboundConnectors() {
 
-        return CompletableFuture.supplyAsync(() -> inboundConnectorHolder.getLocalInboundConnectorList());
+        return requestExecutor.compute(startupStages.whenReady(Stage.CONNECTORS), Pool.IO,
+                cancelChecker -> inboundConnectorHolder.getLocalInboundConnectorList());
     }
 
     @Override
     public CompletableFuture<JsonObject> getConnectionUISchema(ConnectionUIParam param) {
 
-        return CompletableFuture.supplyAsync(() -> connectionHandler.getConnectionUISchema(param));
+        return requestExecutor.compute(startupStages.whenReady(Stage.MEDIATORS), Pool.CPU,
+                cancelChecker -> connectionHandler.getConnectionUISchema(param));
     }
 
     @Override
     public CompletableFuture<DependencyTree> dependencyTree(TextDocumentIdentifier param) {
 
-        DependencyScanner dependencyScanner = new DependencyScanner(projectUri);
-        DependencyTree dependencyTree = dependencyScanner.analyzeArtifact(param.getUri());
-        return CompletableFuture.supplyAsync(() -> dependencyTree);
+        return requestExecutor.compute(Pool.CPU, cancelChecker -> {
+            DependencyScanner dependencyScanner = new DependencyScanner(projectUri);
+            return dependencyScanner.analyzeArtifact(param.getUri());
+        });
     }
 
     @Override
     public CompletableFuture<OverviewModel> getOverviewModel() {
-        OverviewModel overviewModel = OverviewModelGenerator.getOverviewModel(projectUri);
-        return CompletableFuture.supplyAsync(() -> overviewModel);
+
+        return requestCoalescer.compute(OVERVIEW_MODEL, getProjectSourcePaths(),
+                () -> requestExecutor.compute(Pool.CPU,
+                        cancelChecker -> OverviewModelGenerator.getOverviewModel(projectUri,
+                                requestExecutor.getExecutor(Pool.CPU), cancelChecker)));
     }
 
     @Override
     public CompletableFuture<CheckDBDriverResponseParams> checkDBDriver(CheckDBDriverRequestParams requestParams) {
-        CheckDBDriverResponseParams response = QueryGenerator.isDriverAvailableInClassPath(requestParams.className, projectUri);
-        return CompletableFuture.supplyAsync(() -> response);
+
+        return requestExecutor.compute(Pool.IO,
+                cancelChecker -> QueryGenerator.isDriverAvailableInClassPath(requestParams.className, projectUri));
     }
 
     @Override
     public CompletableFuture<Boolean> addDBDriver(ModifyDriverRequestParams requestParams) {
-        boolean isSuccess = QueryGenerator.addDriverToClassPath(requestParams.addDriverPath, requestParams.className);
-        return CompletableFuture.supplyAsync(() -> isSuccess);
+
+        return requestExecutor.compute(Pool.WRITE,
+                cancelChecker -> QueryGenerator.addDriverToClassPath(requestParams.addDriverPath,
+                        requestParams.className));
     }
 
     @Override
     public CompletableFuture<Boolean> removeDBDriver(ModifyDriverRequestParams requestParams) {
-        boolean response = QueryGenerator.removeDriverFromClassPath(requestParams.removeDriverPath);
-        return CompletableFuture.supplyAsync(() -> response);
+
+        return requestExecutor.compute(Pool.WRITE,
+                cancelChecker -> QueryGenerator.removeDriverFromClassPath(requestParams.removeDriverPath));
     }
 
     @Override
     public CompletableFuture<Boolean> modifyDBDriver(ModifyDriverRequestParams requestParams) {
-        boolean response = QueryGenerator.modifyDriverInClassPath(requestParams.addDriverPath,
-                requestParams.removeDriverPath, requestParams.className);
-        return CompletableFuture.supplyAsync(() -> response);
+
+        return requestExecutor.compute(Pool.WRITE,
+                cancelChecker -> QueryGenerator.modifyDriverInClassPath(requestParams.addDriverPath,
+                        requestParams.removeDriverPath, requestParams.className));
     }
 
     @Override
     public CompletableFuture<String> generateQueries(QueryGenRequestParams requestParams) {
-        String xmlContent = QueryGenerator.generateDSSQueries(requestParams);
-        return CompletableFuture.supplyAsync(() -> xmlContent);
+
+        return requestExecutor.compute(Pool.IO, cancelChecker -> QueryGenerator.generateDSSQueries(requestParams));
     }
 
     @Override
     public CompletableFuture<Map<String, List<Boolean>>> fetchTables(QueryGenRequestParams requestParams) {
-        Map<String, List<Boolean>> tableList = QueryGenerator.getTableList(requestParams);
-        return CompletableFuture.supplyAsync(() -> tableList);
+
+        return requestExecutor.compute(Pool.IO, cancelChecker -> QueryGenerator.getTableList(requestParams));
     }
 
     @Override
     public CompletableFuture<DirectoryMapResponse> getProjectExplorerModel(WorkspaceFolder param) {
 
-        DirectoryMapResponse response = DirectoryTreeBuilder.getProjectExplorerModel(param);
-        return CompletableFuture.supplyAsync(() -> response);
+        if (param.getUri() == null) {
+            return requestExecutor.compute(Pool.IO, cancelChecker -> DirectoryTreeBuilder.getProjectExplorerModel(param,
+                    requestExecutor.getExecutor(Pool.CPU), cancelChecker));
+        }
+        String key = PROJECT_EXPLORER_MODEL + param.getUri();
+        List<Path> dependsOn = List.of(Path.of(Utils.getAbsolutePath(param.getUri())));
+        return requestCoalescer.compute(key, dependsOn, () -> requestExecutor.compute(Pool.IO,
+                cancelChecker -> DirectoryTreeBuilder.getProjectExplorerModel(param,
+                        requestExecutor.getExecutor(Pool.CPU), cancelChecker)));
     }
 
     @Override
     public CompletableFuture<List<String>> getProjectIntegrationType(WorkspaceFolder param) {
 
-        List<String> response = OverviewPage.getProjectIntegrationType(param);
-        return CompletableFuture.supplyAsync(() -> response);
+        return requestExecutor.compute(Pool.IO, cancelChecker -> OverviewPage.getProjectIntegrationType(param));
     }
 
     @Override
     public CompletableFuture<JsonObject> getMediators(MediatorRequest mediatorRequest) {
 
-        return CompletableFuture.supplyAsync(() -> mediatorHandler.getSupportedMediators(mediatorRequest.documentIdentifier, mediatorRequest.position));
+        return requestExecutor.compute(startupStages.whenReady(Stage.MEDIATORS), Pool.CPU,
+                cancelChecker -> mediatorHandler.getSupportedMediators(mediatorRequest.documentIdentifier,
+                        mediatorRequest.position));
     }
 
     @Override
     public CompletableFuture<JsonObject> getMediatorUISchema(UISchemaRequest uiSchemaRequest) {
 
-        return CompletableFuture.supplyAsync(() -> mediatorHandler.getUiSchema(uiSchemaRequest.mediatorType, uiSchemaRequest.documentIdentifier, uiSchemaRequest.position));
+        return requestExecutor.compute(startupStages.whenReady(Stage.MEDIATORS), Pool.CPU,
+                cancelChecker -> mediatorHandler.getUiSchema(uiSchemaRequest.mediatorType,
+                        uiSchemaRequest.documentIdentifier, uiSchemaRequest.position));
     }
 
     @Override
     public CompletableFuture<SynapseConfigResponse> generateSynapseConfig(SynapseConfigRequest synapseConfigRequest) {
 
-        return CompletableFuture.supplyAsync(
-                () -> mediatorHandler.generateSynapseConfig(synapseConfigRequest.documentUri,
+        return requestExecutor.compute(startupStages.whenReady(Stage.MEDIATORS), Pool.CPU,
+                cancelChecker -> mediatorHandler.generateSynapseConfig(synapseConfigRequest.documentUri,
                         synapseConfigRequest.range, synapseConfigRequest.mediatorType, synapseConfigRequest.values,
                         synapseConfigRequest.dirtyFields));
     }
@@ -525,95 +725,129 @@ public class SynapseLanguageService implements ISynapseLanguageService {
     @Override
     public CompletableFuture<JsonObject> getMediatorUISchemaWithValues(MediatorRequest mediatorRequest) {
 
-        return CompletableFuture.supplyAsync(
-                () -> mediatorHandler.getUISchemaWithValues(mediatorRequest.documentIdentifier,
+        return requestExecutor.compute(startupStages.whenReady(Stage.MEDIATORS), Pool.CPU,
+                cancelChecker -> mediatorHandler.getUISchemaWithValues(mediatorRequest.documentIdentifier,
                         mediatorRequest.position));
     }
 
     @Override
     public CompletableFuture<MediatorTryoutInfo> tryOutMediator(MediatorTryoutRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> tryOutManager.tryout(request));
+        return requestExecutor.compute(startupStages.whenReady(Stage.TRYOUT, Stage.MEDIATORS), Pool.PROCESS,
+                cancelChecker -> tryOutManager.tryout(request));
     }
 
     @Override
     public CompletableFuture<Boolean> shutDownTryoutServer() {
 
-        return CompletableFuture.supplyAsync(() -> Boolean.valueOf(tryOutManager.shutdown()));
+        return requestExecutor.compute(startupStages.whenReady(Stage.TRYOUT), Pool.PROCESS,
+                cancelChecker -> Boolean.valueOf(tryOutManager.shutdown()));
     }
 
     @Override
     public CompletableFuture<MediatorTryoutInfo> mediatorInputOutputSchema(MediatorTryoutRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> tryOutManager.getInputOutputSchema(request));
+        return requestExecutor.compute(startupStages.whenReady(Stage.TRYOUT, Stage.MEDIATORS), Pool.PROCESS,
+                cancelChecker -> tryOutManager.getInputOutputSchema(request));
     }
 
     @Override
     public CompletableFuture<TestConnectionResponse> testConnectorConnection(TestConnectionRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> tryOutManager.testConnectorConnection(request));
+        return requestExecutor.compute(startupStages.whenReady(Stage.TRYOUT, Stage.MEDIATORS), Pool.PROCESS,
+                cancelChecker -> tryOutManager.testConnectorConnection(request));
     }
 
     @Override
     public CompletableFuture<OverviewPageDetailsResponse> getOverviewPageDetails() {
-        OverviewPageDetailsResponse response = OverviewPage.getDetails(projectUri);
-        return CompletableFuture.supplyAsync(() -> response);
+
+        return requestExecutor.compute(Pool.IO, cancelChecker -> OverviewPage.getDetails(projectUri));
     }
 
     @Override
     public CompletableFuture<ICompletionResponse> expressionCompletion(ExpressionParam param) {
 
-        return CompletableFuture.supplyAsync(() -> ExpressionCompletionsProvider.getCompletions(param));
+        // Only a newer request for the same document supersedes a pending request
+        String requestKey = EXPRESSION_COMPLETION + ":" + param.getDocumentUri();
+        return requestExecutor.computeLatest(requestKey, Pool.CPU, cancelChecker -> {
+            ICompletionResponse completions = ExpressionCompletionsProvider.getCompletions(param);
+            startupStages.recordFirstResponse(EXPRESSION_COMPLETION);
+            return completions;
+        });
     }
 
     @Override
     public CompletableFuture<SignatureHelp> signatureHelp(ExpressionParam params) {
 
-        return CompletableFuture.supplyAsync(() -> ExpressionSignatureProvider.getFunctionSignatures(params));
+        return requestExecutor.computeLatest(SIGNATURE_HELP + ":" + params.getDocumentUri(), Pool.CPU,
+                cancelChecker -> ExpressionSignatureProvider.getFunctionSignatures(params));
     }
 
     @Override
     public CompletableFuture<UpdateResponse> updateDependency(UpdateDependencyRequest request) {
-        UpdateResponse response = PomParser.updateDependency(projectUri, request);
-        return CompletableFuture.supplyAsync(() -> response);
+
+        return requestExecutor.compute(Pool.WRITE, cancelChecker -> PomParser.updateDependency(projectUri, request));
     }
 
     @Override
     public CompletableFuture<HelperPanelData> expressionHelperData(ExpressionParam param) {
 
-        return CompletableFuture.supplyAsync(() -> expressionHelperProvider.getExpressionHelperData(param));
+        return requestExecutor.compute(startupStages.whenReady(Stage.CONNECTORS), Pool.CPU,
+                cancelChecker -> expressionHelperProvider.getExpressionHelperData(param));
     }
 
     @Override
     public CompletableFuture<UpdateResponse> updateConfigFile(UpdateConfigRequest request) {
-        UpdateResponse response = ConfigParser.updateConfigFile(projectUri, request);
-        return CompletableFuture.supplyAsync(() -> response);
+
+        return requestExecutor.compute(Pool.WRITE, cancelChecker -> ConfigParser.updateConfigFile(projectUri, request));
     }
 
     @Override
     public CompletableFuture<String> updateConnectorDependencies() {
-        String statusMessage = ConnectorDownloadManager.downloadConnectors(projectUri);
-        updateConnectors();
-        return CompletableFuture.supplyAsync(() -> statusMessage);
+
+        return requestExecutor.compute(startupStages.whenReady(Stage.CONNECTORS), Pool.WRITE, cancelChecker -> {
+            String statusMessage = ConnectorDownloadManager.downloadConnectors(projectUri, languageClient);
+            loadConnectors();
+            return statusMessage;
+        });
     }
 
     @Override
     public CompletableFuture<ConnectorGeneratorResponse> generateConnector(ConnectorGenerateRequest connectorGenReq) {
-        String filePath = null;
-        try {
-            filePath = ConnectorGenerator.generateConnector(connectorGenReq.openAPIPath,
-                    connectorGenReq.connectorProjectPath, projectServerVersion, projectUri);
-        } catch (Exception e) {
-            log.log(Level.SEVERE, "Error occurred while generating the connector", e);
-        }
-        ConnectorGeneratorResponse response = new ConnectorGeneratorResponse(filePath != null, filePath);
-        return CompletableFuture.supplyAsync(() -> response);
+
+        return requestExecutor.compute(Pool.PROCESS, cancelChecker -> {
+            String filePath = null;
+            try {
+                filePath = ConnectorGenerator.generateConnector(connectorGenReq.openAPIPath,
+                        connectorGenReq.connectorProjectPath, projectServerVersion, projectUri);
+            } catch (Exception e) {
+                log.log(Level.SEVERE, "Error occurred while generating the connector", e);
+            }
+            return new ConnectorGeneratorResponse(filePath != null, filePath);
+        });
     }
 
     @Override
     public CompletableFuture<ArtifactTypeResponse> getArtifactType(TextDocumentIdentifier artifactIdentifier) {
 
-        return CompletableFuture.supplyAsync(() -> SyntaxTreeGenerator.getArtifactType(artifactIdentifier.getUri()));
+        return requestExecutor.compute(Pool.IO,
+                cancelChecker -> SyntaxTreeGenerator.getArtifactType(artifactIdentifier.getUri()));
+    }
+
+    /**
+     * Returns the folders whose changes can affect the artifacts and resources of the project.
+     *
+     * @return source folders of the project
+     */
+    private List<Path> getProjectSourcePaths() {
+
+        if (projectUri == null) {
+            return Collections.emptyList();
+        }
+        if (isLegacyProject) {
+            return List.of(Path.of(projectUri));
+        }
+        return List.of(Path.of(projectUri, Constant.SRC), Path.of(projectUri, Constant.POM));
     }
 
     public String getProjectUri() {
@@ -625,6 +859,11 @@ public class SynapseLanguageService implements ISynapseLanguageService {
         return connectorHolder;
     }
 
+    public StartupStages getStartupStages() {
+
+        return startupStages;
+    }
+
     public String getExtensionPath() {
 
         return extensionPath;
@@ -642,6 +881,13 @@ public class SynapseLanguageService implements ISynapseLanguageService {
 
     public void dispose() {
 
-        tryOutManager.shutdown();
+        ArtifactIndex.dispose(projectUri);
+        DependencyCache.dispose(projectUri);
+        DirectoryTreeBuilder.dispose(projectUri);
+        DOMDocumentCache.getInstance().clear();
+        if (tryOutManager != null) {
+            tryOutManager.shutdown();
+        }
+        requestExecutor.shutdown();
     }
 }
@@ -43,6 +43,7 @@ import org.eclipse.lemminx.customservice.ISynapseLanguageService;
 import org.eclipse.lemminx.customservice.SynapseLanguageClientAPI;
 import org.eclipse.lemminx.customservice.XMLLanguageClientAPI;
 import org.eclipse.lemminx.customservice.XMLLanguageServerAPI;
+import org.eclipse.lemminx.customservice.synapse.executor.StartupStages;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.extensions.contentmodel.settings.ContentModelSettings;
@@ -120,12 +121,15 @@ public class XMLLanguageServer implements ProcessLanguageServer, XMLLanguageServ
 
 	@Override
 	public CompletableFuture<InitializeResult> initialize(InitializeParams params) {
+		long initializeStart = System.nanoTime();
+		StartupStages startupStages = synapseLanguageService.getStartupStages();
 		try {
 			Path synapseSchemaPath = Utils.updateSynapseCatalogSettings(params);
 			synapseLanguageService.setSynapseXSDPath(synapseSchemaPath);
 		} catch (IOException | URISyntaxException e) {
 			LOGGER.log(Level.SEVERE, "Error while updating synapse catalog settings", e);
 		}
+		startupStages.recordPhase("synapse catalog", initializeStart);
 		Object initOptions = InitializationOptionsSettings.getSettings(params);
 		Object xmlSettings = AllXMLSettings.getAllXMLSettings(initOptions);
 		XMLGeneralClientSettings settings = XMLGeneralClientSettings.getGeneralXMLSettings(xmlSettings);
@@ -153,6 +157,7 @@ public class XMLLanguageServer implements ProcessLanguageServer, XMLLanguageServ
 				capabilityManager.getClientCapabilities(), xmlTextDocumentService.isIncrementalSupport());
 
 		synapseLanguageService.init(params.getRootPath(), xmlSettings,languageClient);
+		startupStages.recordPhase("initialize", initializeStart);
 		return CompletableFuture.completedFuture(new InitializeResult(nonDynamicServerCapabilities));
 	}
 
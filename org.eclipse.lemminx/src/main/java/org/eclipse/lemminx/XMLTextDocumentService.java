@@ -205,6 +205,7 @@ public class XMLTextDocumentService implements TextDocumentService {
 		this.xmlValidatorDelayer = new ModelValidatorDelayer<DOMDocument>((document) -> {
 			DOMDocument xmlDocument = document.getModel();
 			validate(xmlDocument, Collections.emptyMap());
+			((SynapseLanguageService) xmlLanguageServer.getSynapseLanguageService()).didChangeDocument(xmlDocument);
 
 			getXMLLanguageService().getDocumentLifecycleParticipants().forEach(participant -> {
 				try {
@@ -263,6 +264,8 @@ public class XMLTextDocumentService implements TextDocumentService {
 		return computeDOMAsync(params.getTextDocument(), (xmlDocument, cancelChecker) -> {
 			CompletionList list = getXMLLanguageService().doComplete(xmlDocument, params.getPosition(), sharedSettings,
 					cancelChecker);
+			((SynapseLanguageService) xmlLanguageServer.getSynapseLanguageService()).getStartupStages()
+					.recordFirstResponse("completion");
 			return Either.forRight(list);
 		});
 	}
@@ -404,6 +407,7 @@ public class XMLTextDocumentService implements TextDocumentService {
 		documents.onDidCloseTextDocument(params);
 		// Remove the validation from the delayer
 		xmlValidatorDelayer.cleanPendingValidation(uri);
+		((SynapseLanguageService) xmlLanguageServer.getSynapseLanguageService()).didCloseDocument(uri);
 		// Publish empty errors from the document
 		xmlLanguageServer.getLanguageClient()
 				.publishDiagnostics(new PublishDiagnosticsParams(uri, Collections.emptyList()));
@@ -601,6 +605,8 @@ public class XMLTextDocumentService implements TextDocumentService {
 			// A document was saved, collect documents to revalidate
 			SaveContext context = new SaveContext(params.getTextDocument().getUri());
 			doSave(context);
+			((SynapseLanguageService) xmlLanguageServer.getSynapseLanguageService())
+					.didSaveDocument(params.getTextDocument().getUri());
 
 			// Manage didSave document lifecycle participants
 			final DOMDocument xmlDocument = documents.getModel(params.getTextDocument().getUri());
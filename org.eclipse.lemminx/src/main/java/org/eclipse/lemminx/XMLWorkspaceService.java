@@ -21,6 +21,7 @@ import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.lemminx.commons.WorkspaceFolders;
 import org.eclipse.lemminx.services.extensions.commands.IXMLCommandService;
+import org.eclipse.lemminx.utils.DOMUtils;
 import org.eclipse.lsp4j.DidChangeConfigurationParams;
 import org.eclipse.lsp4j.DidChangeWatchedFilesParams;
 import org.eclipse.lsp4j.DidChangeWorkspaceFoldersParams;
@@ -91,11 +92,15 @@ public class XMLWorkspaceService implements WorkspaceService, IXMLCommandService
 	public void didChangeWatchedFiles(DidChangeWatchedFilesParams params) {
 		XMLTextDocumentService xmlTextDocumentService = (XMLTextDocumentService) xmlLanguageServer
 				.getTextDocumentService();
+		SynapseLanguageService synapseLanguageService =
+				(SynapseLanguageService) xmlLanguageServer.getSynapseLanguageService();
 		List<FileEvent> changes = params.getChanges();
 		for (FileEvent change : changes) {
+			synapseLanguageService.didChangeWatchedFile(change);
 			if (change.getUri().contains("connectors") && change.getUri().contains(".zip")) {
-				((SynapseLanguageService) xmlLanguageServer.getSynapseLanguageService()).updateConnectors();
-			} else {
+				synapseLanguageService.updateConnectors();
+			} else if (isGrammar(change.getUri())) {
+				// The other watched files are project files, which do not change the grammar of the opened files
 				if (!xmlTextDocumentService.documentIsOpen(change.getUri())) {
 					xmlTextDocumentService.doSave(change.getUri());
 				}
@@ -103,6 +108,10 @@ public class XMLWorkspaceService implements WorkspaceService, IXMLCommandService
 		}
 	}
 
+	private static boolean isGrammar(String uri) {
+		return DOMUtils.isXSD(uri) || DOMUtils.isDTD(uri) || DOMUtils.isRelaxNGUri(uri);
+	}
+
 	@Override
 	public void registerCommand(String commandId, IDelegateCommandHandler handler) {
 		synchronized (commands) {
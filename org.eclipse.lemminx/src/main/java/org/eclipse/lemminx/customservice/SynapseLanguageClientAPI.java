@@ -12,7 +12,9 @@
  */
 package org.eclipse.lemminx.customservice;
 
+import org.eclipse.lemminx.customservice.synapse.ConnectorDownloadNotification;
 import org.eclipse.lemminx.customservice.synapse.ConnectorStatusNotification;
+import org.eclipse.lemminx.customservice.synapse.StartupStageNotification;
 import org.eclipse.lsp4j.jsonrpc.services.JsonNotification;
 import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
 
@@ -39,4 +41,20 @@ public interface SynapseLanguageClientAPI extends XMLLanguageClientAPI {
     @JsonNotification("removeConnectorStatus")
     void removeConnectorStatus(ConnectorStatusNotification message);
 
+    /**
+     * Notification to be sent to the client when the download of a connector dependency completes
+     *
+     * @param message the connector download notification
+     */
+    @JsonNotification("connectorDownloadStatus")
+    void connectorDownloadStatus(ConnectorDownloadNotification message);
+
+    /**
+     * Notification to be sent to the client when a background startup stage of the language server completes
+     *
+     * @param message the startup stage notification
+     */
+    @JsonNotification("startupStageStatus")
+    void startupStageStatus(StartupStageNotification message);
+
 }
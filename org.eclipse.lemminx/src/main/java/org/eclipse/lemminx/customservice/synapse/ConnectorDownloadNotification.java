@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.eclipse.lemminx.customservice.synapse;
+
+public class ConnectorDownloadNotification {
+
+    String connector;
+    boolean isSuccess;
+    String message;
+    int completed;
+    int total;
+
+    public ConnectorDownloadNotification(String connector, boolean isSuccess, String message, int completed,
+                                         int total) {
+
+        this.connector = connector;
+        this.isSuccess = isSuccess;
+        this.message = message;
+        this.completed = completed;
+        this.total = total;
+    }
+
+    public String getConnector() {
+
+        return connector;
+    }
+
+    public boolean isSuccess() {
+
+        return isSuccess;
+    }
+
+    public int getCompleted() {
+
+        return completed;
+    }
+
+    public int getTotal() {
+
+        return total;
+    }
+}
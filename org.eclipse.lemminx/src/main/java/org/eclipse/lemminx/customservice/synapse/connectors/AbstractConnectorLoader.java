@@ -23,17 +23,16 @@ import org.eclipse.lemminx.customservice.synapse.ConnectorStatusNotification;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connector;
 import org.eclipse.lemminx.customservice.synapse.inbound.conector.InboundConnectorHolder;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+import org.eclipse.lemminx.customservice.synapse.utils.ExtractionCache;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import static org.eclipse.lemminx.customservice.synapse.utils.Constant.INBOUND_CONNECTOR_PREFIX;
 
@@ -113,26 +112,27 @@ public abstract class AbstractConnectorLoader {
 
     private void extractZips(List<File> connectorZips, File extractFolder, InboundConnectorHolder inboundConnectorHolder) {
 
-        File[] tempFiles = extractFolder.listFiles();
-        List<String> tempConnectorNames =
-                Arrays.stream(tempFiles).filter(File::isDirectory).map(File::getName).collect(Collectors.toList());
         for (File zip : connectorZips) {
             String zipName = zip.getName();
             zipName = zipName.substring(0, zipName.lastIndexOf(Constant.DOT));
-            if (!tempConnectorNames.contains(zipName)) {
-                String extractTo = extractFolder.getAbsolutePath() + File.separator + zipName;
-                File extractToFolder = new File(extractTo);
-                try {
-                    Utils.extractZip(zip, extractToFolder);
-                    if (zipName.contains(INBOUND_CONNECTOR_PREFIX)) {
-                        String schema = Utils.readFile(extractToFolder.toPath().resolve(Constant.RESOURCES)
-                                .resolve(Constant.UI_SCHEMA_JSON).toFile());
-                        inboundConnectorHolder.saveInboundConnector(Utils.getJsonObject(schema)
-                                .get(Constant.NAME).getAsString(), schema);
-                    }
-                } catch (IOException e) {
-                    log.log(Level.WARNING, "Failed to extract connector zip:" + zipName, e);
+            File extractToFolder = new File(extractFolder, zipName);
+            boolean isUpdate = extractToFolder.isDirectory();
+            try {
+                if (!ExtractionCache.getInstance().extractZip(zip, extractToFolder)) {
+                    continue;
+                }
+                if (isUpdate) {
+                    // The zip is replaced with a different content, hence the connector needs to be read again
+                    connectorHolder.removeConnector(getConnectorName(extractToFolder));
+                }
+                if (zipName.contains(INBOUND_CONNECTOR_PREFIX)) {
+                    String schema = Utils.readFile(extractToFolder.toPath().resolve(Constant.RESOURCES)
+                            .resolve(Constant.UI_SCHEMA_JSON).toFile());
+                    inboundConnectorHolder.saveInboundConnector(Utils.getJsonObject(schema)
+                            .get(Constant.NAME).getAsString(), schema);
                 }
+            } catch (IOException e) {
+                log.log(Level.WARNING, "Failed to extract connector zip:" + zipName, e);
             }
         }
     }
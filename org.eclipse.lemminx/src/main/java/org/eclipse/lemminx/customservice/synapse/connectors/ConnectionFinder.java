@@ -22,6 +22,8 @@ import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connection;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.ConnectionParameter;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connections;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connector;
+import org.eclipse.lemminx.customservice.synapse.index.ArtifactIndex;
+import org.eclipse.lemminx.customservice.synapse.index.IndexedArtifact;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.AbstractResourceFinder;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.ResourceFinderFactory;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.ArtifactResource;
@@ -105,6 +107,10 @@ public class ConnectionFinder {
                 String localEntryName = resource.getName();
                 String filePath = ((ArtifactResource) resource).getAbsolutePath();
                 File file = new File(filePath);
+                IndexedArtifact indexedArtifact = ArtifactIndex.lookup(file);
+                if (indexedArtifact != null && !isConnection(indexedArtifact, connections)) {
+                    continue;
+                }
                 DOMDocument document = Utils.getDOMDocument(file);
                 DOMElement childElement = Utils.getFirstElement(document.getDocumentElement());
                 if (childElement != null) {
@@ -123,6 +129,16 @@ public class ConnectionFinder {
         }
     }
 
+    private static boolean isConnection(IndexedArtifact indexedArtifact, Map<String, Connections> connections) {
+
+        String childTag = indexedArtifact.getFirstChildTag();
+        if (childTag == null) {
+            return false;
+        }
+        String connectorName = getConnectorName(childTag);
+        return connectorName != null && connections.containsKey(connectorName);
+    }
+
     private static List<ConnectionParameter> getParameters(DOMElement element) {
 
         List<ConnectionParameter> parameters = new ArrayList<>();
@@ -26,7 +26,7 @@ import org.eclipse.lemminx.customservice.synapse.connectors.entity.TestConnectio
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.TestConnectionResponse;
 import org.eclipse.lemminx.customservice.synapse.mediator.TryOutConstants;
 import org.eclipse.lemminx.customservice.synapse.mediator.TryOutUtils;
-import org.eclipse.lemminx.customservice.synapse.mediator.tryout.TryOutHandler;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.TryOutRuntimePool;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.InvalidConfigurationException;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorInfo;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutInfo;
@@ -58,13 +58,13 @@ public class ConnectionTester {
     private static final Path LOCAL_ENTRY_RELATIVE_PATH =
             Path.of("src", "main", "wso2mi", "artifacts", "local-entries");
     private String projectRoot;
-    private final TryOutHandler tryOutHandler;
+    private final TryOutRuntimePool runtimePool;
     private ConnectorHolder connectorHolder;
 
-    public ConnectionTester(String projectRoot, TryOutHandler tryOutHandler, ConnectorHolder connectorHolder) {
+    public ConnectionTester(String projectRoot, TryOutRuntimePool runtimePool, ConnectorHolder connectorHolder) {
 
         this.projectRoot = projectRoot;
-        this.tryOutHandler = tryOutHandler;
+        this.runtimePool = runtimePool;
         this.connectorHolder = connectorHolder;
     }
 
@@ -145,7 +145,13 @@ public class ConnectionTester {
         MediatorTryoutRequest mediatorTryoutRequest =
                 new MediatorTryoutRequest(apiPath, position.getLine(), position.getCharacter(),
                         "{}", null);
-        return tryOutHandler.handleIsolatedTryOut(tempProjectPath.toString(), mediatorTryoutRequest, false);
+        try {
+            return runtimePool.execute(
+                    handler -> handler.handleIsolatedTryOut(tempProjectPath, mediatorTryoutRequest, false));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new MediatorTryoutInfo(TryOutConstants.TRYOUT_FAILURE_MESSAGE);
+        }
     }
 
     private void createLocalEntryFile(Path tempProjectPath, String localEntryXml, String localEntryKey)
@@ -25,17 +25,27 @@ import org.eclipse.lemminx.customservice.synapse.connectors.entity.ConnectorActi
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Holds the connectors loaded for the project.
+ * <p>
+ * The connectors are kept in an immutable snapshot with hash indexes by name, display name, artifact ID and operation
+ * tag, so that the lookups done for every connector element while building the syntax tree do not scan the connector
+ * list. Updates build a new snapshot and swap it in, hence lookups never block and never see a partially updated
+ * holder.
+ */
 public class ConnectorHolder {
 
-    private static List<Connector> connectors;
-    private List<File> connectorZips;
     private static ConnectorHolder instance;
+    private volatile Snapshot snapshot = new Snapshot(Collections.emptyList());
+    private List<File> connectorZips;
 
     private ConnectorHolder() {
 
-        this.connectors = new ArrayList<>();
     }
 
     public static synchronized ConnectorHolder getInstance() {
@@ -46,34 +56,59 @@ public class ConnectorHolder {
         return instance;
     }
 
-    public void addConnector(Connector connector) {
+    public synchronized void addConnector(Connector connector) {
 
+        List<Connector> connectors = new ArrayList<>(snapshot.connectors);
         connectors.add(connector);
+        snapshot = new Snapshot(connectors);
+    }
+
+    /**
+     * Replaces all the connectors with the given connectors.
+     *
+     * @param connectors connectors to hold
+     */
+    public synchronized void setConnectors(List<Connector> connectors) {
+
+        snapshot = new Snapshot(new ArrayList<>(connectors));
     }
 
     public boolean exists(String connectorName) {
 
-        for (Connector connector : connectors) {
-            if (connector.getName().equalsIgnoreCase(connectorName)) {
-                return true;
-            }
-        }
-        return false;
+        return connectorName != null && snapshot.connectorsByName.containsKey(toKey(connectorName));
     }
 
     public List<Connector> getConnectors() {
 
-        return Collections.unmodifiableList(connectors);
+        return snapshot.connectors;
     }
 
+    /**
+     * Returns the connector with the given name or display name.
+     *
+     * @param name name or display name of the connector
+     * @return the connector, or null if there is no such connector
+     */
     public Connector getConnector(String name) {
 
-        for (Connector connector : connectors) {
-            if (isConnectorMatched(name, connector)) {
-                return connector;
-            }
+        if (name == null) {
+            return null;
         }
-        return null;
+        return snapshot.connectorsByNameOrDisplayName.get(toKey(name));
+    }
+
+    /**
+     * Returns the connector with the given artifact ID.
+     *
+     * @param artifactId maven artifact ID of the connector
+     * @return the connector, or null if there is no such connector
+     */
+    public Connector getConnectorByArtifactId(String artifactId) {
+
+        if (artifactId == null) {
+            return null;
+        }
+        return snapshot.connectorsByArtifactId.get(toKey(artifactId));
     }
 
     /**
@@ -84,49 +119,45 @@ public class ConnectorHolder {
      */
     public ConnectorAction getConnectorAction(String operationTag) {
 
-        if (StringUtils.isEmpty(operationTag) || !operationTag.contains(".")) {
+        if (StringUtils.isEmpty(operationTag)) {
             return null;
         }
-        String connectorName = operationTag.split("\\.")[0];
-        String actionName = operationTag.split("\\.")[1];
-        Connector connector = getConnector(connectorName);
-        if (connector == null) {
+        int separator = operationTag.indexOf('.');
+        if (separator < 0) {
             return null;
         }
-        return connector.getAction(actionName);
+        int actionEnd = operationTag.indexOf('.', separator + 1);
+        String actionName = actionEnd < 0 ? operationTag.substring(separator + 1) :
+                operationTag.substring(separator + 1, actionEnd);
+        return snapshot.actions.get(toKey(operationTag.substring(0, separator)) + "." + actionName);
     }
 
-    private boolean isConnectorMatched(String name, Connector connector) {
+    /**
+     * Returns whether the given tag is the tag of an operation of a loaded connector.
+     *
+     * @param name xml tag name
+     * @return true if the tag is a connector operation tag
+     */
+    public static Boolean isValidConnector(String name) {
 
-        return connector.getName().equalsIgnoreCase(name) ||
-                (connector.getDisplayName() != null && connector.getDisplayName().equalsIgnoreCase(name));
+        return getInstance().isOperation(name);
     }
 
-    public static Boolean isValidConnector(String name) {
+    private boolean isOperation(String name) {
 
-        String connectorName = name.split("\\.")[0];
-        for (Connector connector : connectors) {
-            if (connector.getName().equalsIgnoreCase(connectorName)) {
-                for (ConnectorAction action : connector.getActions()) {
-                    String tag = action.getTag();
-                    if (tag != null && tag.equalsIgnoreCase(name)) {
-                        return Boolean.TRUE;
-                    }
-                }
-            }
-        }
-        return Boolean.FALSE;
+        return name != null && snapshot.operationTags.containsKey(toKey(name));
     }
 
-    public void removeConnector(String connectorName) {
+    public synchronized void removeConnector(String connectorName) {
 
-        if (connectorName != null) {
-            for (Connector connector : connectors) {
-                if (connector.getName().equalsIgnoreCase(connectorName)) {
-                    connectors.remove(connector);
-                    break;
-                }
-            }
+        if (connectorName == null) {
+            return;
+        }
+        Connector connector = snapshot.connectorsByName.get(toKey(connectorName));
+        if (connector != null) {
+            List<Connector> connectors = new ArrayList<>(snapshot.connectors);
+            connectors.remove(connector);
+            snapshot = new Snapshot(connectors);
         }
     }
 
@@ -140,8 +171,59 @@ public class ConnectorHolder {
         this.connectorZips = connectorZips;
     }
 
-    public void clearConnectors() {
+    public synchronized void clearConnectors() {
+
+        snapshot = new Snapshot(Collections.emptyList());
+    }
+
+    private static String toKey(String name) {
 
-        connectors.clear();
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Immutable view of the connectors with their lookup indexes. Where several connectors share a key the first
+     * connector wins, as with a scan of the connector list.
+     */
+    private static class Snapshot {
+
+        private final List<Connector> connectors;
+        private final Map<String, Connector> connectorsByName = new HashMap<>();
+        private final Map<String, Connector> connectorsByNameOrDisplayName = new HashMap<>();
+        private final Map<String, Connector> connectorsByArtifactId = new HashMap<>();
+        private final Map<String, ConnectorAction> actions = new HashMap<>();
+        private final Map<String, ConnectorAction> operationTags = new HashMap<>();
+
+        Snapshot(List<Connector> connectors) {
+
+            this.connectors = Collections.unmodifiableList(connectors);
+            for (Connector connector : connectors) {
+                List<String> connectorKeys = new ArrayList<>();
+                if (connector.getName() != null) {
+                    connectorKeys.add(toKey(connector.getName()));
+                    connectorsByName.putIfAbsent(toKey(connector.getName()), connector);
+                }
+                if (connector.getDisplayName() != null) {
+                    connectorKeys.add(toKey(connector.getDisplayName()));
+                }
+                connectorKeys.removeIf(key -> connectorsByNameOrDisplayName.putIfAbsent(key, connector) != null);
+                if (connector.getArtifactId() != null) {
+                    connectorsByArtifactId.putIfAbsent(toKey(connector.getArtifactId()), connector);
+                }
+                if (connector.getActions() == null) {
+                    continue;
+                }
+                for (ConnectorAction action : connector.getActions()) {
+                    for (String connectorKey : connectorKeys) {
+                        actions.putIfAbsent(connectorKey + "." + action.getName(), action);
+                    }
+                    String tag = action.getTag();
+                    if (tag != null && connector.getName() != null &&
+                            toKey(tag).startsWith(toKey(connector.getName()) + ".")) {
+                        operationTags.putIfAbsent(toKey(tag), action);
+                    }
+                }
+            }
+        }
     }
 }
@@ -37,19 +37,56 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/**
+ * Reads the extracted connectors.
+ * <p>
+ * A connector is read in two tiers. The connector descriptor, the operations and their parameters are read when the
+ * connector is loaded, since they are needed to list the connectors and to validate the connector operations. The UI
+ * schemas, the output schemas and the connection schemas are read on the first access to them through
+ * {@link Connector#loadDetails()}, since a session usually uses only a few of the loaded connectors. When the size of
+ * the detail files read for the loaded connectors exceeds the limit configured with the
+ * {@value #DETAILS_CACHE_SIZE_PROPERTY} system property (in megabytes), the details of the connectors loaded first are
+ * unloaded.
+ */
 public class ConnectorReader {
 
     private static final Logger log = Logger.getLogger(ConnectorReader.class.getName());
+    public static final String DETAILS_CACHE_SIZE_PROPERTY = "synapse.connector.details.cache.size.mb";
+    private static final long DEFAULT_DETAILS_CACHE_SIZE_MB = 16;
     private static final Pattern ARTIFACT_VERSION_REGEX = Pattern.compile("(.+)-(\\d+\\.\\d+\\.\\d+(-SNAPSHOT)?)");
-    private HashMap<String, List<String>> allowedConnectionTypesMap = new HashMap<>();
+    private final Map<String, Map<String, String>> ballerinaModules = new ConcurrentHashMap<>();
     private static final String BALLERINA_PACKAGE_NAME = "io.ballerina.stdlib.mi";
     private static final List<String> EXCLUDED_AGENT_TOOLS = List.of("ai.chat", "ai.ragChat", "ai.agent");
+    private final long maxDetailsSize;
+    private final LinkedHashMap<Connector, Long> loadedDetails = new LinkedHashMap<>();
+    private long loadedDetailsSize;
+
+    public ConnectorReader() {
+
+        this(Long.getLong(DETAILS_CACHE_SIZE_PROPERTY, DEFAULT_DETAILS_CACHE_SIZE_MB) * 1024 * 1024);
+    }
+
+    /**
+     * Creates a reader which keeps the details of the loaded connectors up to the given size.
+     *
+     * @param maxDetailsSize maximum size in bytes of the detail files of the loaded connectors
+     */
+    public ConnectorReader(long maxDetailsSize) {
+
+        this.maxDetailsSize = maxDetailsSize;
+    }
 
     public Connector readConnector(String connectorPath, String projectUri) {
 
@@ -81,9 +118,8 @@ public class ConnectorReader {
                     connector.setIconPath(connectorPath + File.separator + "icon");
                     connector.setUiSchemaPath(connectorPath + File.separator + "uischema");
                     connector.setOutputSchemaPath(connectorPath + File.separator + "outputschema");
-                    populateAllowedConnectionTypesMap(connector);
                     populateConnectorActions(connector, componentElement);
-                    populateConnectionUiSchema(connector);
+                    connector.setDetailsLoader(this::readConnectorDetails);
                 } catch (Exception e) {
                     log.log(Level.SEVERE, "Error reading connector file", e);
                 }
@@ -94,25 +130,36 @@ public class ConnectorReader {
 
     private String getBallerinaModulePath(String moduleName, String ballerinaFolder) {
 
+        // The Ballerina modules are indexed once and the folder is walked again only for an unknown module
+        Map<String, String> modules = ballerinaModules.get(ballerinaFolder);
+        String modulePath = modules != null ? modules.get(moduleName) : null;
+        if (modulePath != null && Files.isRegularFile(Path.of(modulePath, "Ballerina.toml"))) {
+            return modulePath;
+        }
+        modules = indexBallerinaModules(ballerinaFolder);
+        ballerinaModules.put(ballerinaFolder, modules);
+        return modules.getOrDefault(moduleName, StringUtils.EMPTY);
+    }
+
+    private Map<String, String> indexBallerinaModules(String ballerinaFolder) {
+
+        Map<String, String> modules = new HashMap<>();
         List<String> ballerinaTomlPaths = new ArrayList<>();
-        try {
-            Files.walk(Paths.get(ballerinaFolder))
-                    .filter(path -> Files.isRegularFile(path) && path.getFileName().toString().equals("Ballerina.toml"))
+        try (Stream<Path> paths = Files.walk(Paths.get(ballerinaFolder))) {
+            paths.filter(path -> Files.isRegularFile(path) && path.getFileName().toString().equals("Ballerina.toml"))
                     .forEach(path -> ballerinaTomlPaths.add(path.toString()));
-            for (String path : ballerinaTomlPaths) {
-                try {
-                    if (moduleName.equals(readBallerinaToml(path))) {
-                        return Paths.get(path).getParent().toString();
-                    }
-                } catch (IOException e) {
-                    log.log(Level.SEVERE, "Error occurred while reading Ballerina.toml file.", e);
-                }
-            }
-            return StringUtils.EMPTY;
         } catch (IOException e) {
             log.log(Level.WARNING, "Ballerina folder not found in the project.", e);
-            return StringUtils.EMPTY;
+            return modules;
         }
+        for (String path : ballerinaTomlPaths) {
+            try {
+                modules.putIfAbsent(readBallerinaToml(path), Paths.get(path).getParent().toString());
+            } catch (IOException e) {
+                log.log(Level.SEVERE, "Error occurred while reading Ballerina.toml file.", e);
+            }
+        }
+        return modules;
     }
 
     private String readBallerinaToml(String path) throws IOException {
@@ -141,31 +188,8 @@ public class ConnectorReader {
         return StringUtils.EMPTY;
     }
 
-    private void populateAllowedConnectionTypesMap(Connector connector) {
-
-        String uiSchemaPath = connector.getUiSchemaPath();
-        File uiSchemaFolder = new File(uiSchemaPath);
-        if (uiSchemaFolder.exists()) {
-            File[] files = uiSchemaFolder.listFiles();
-            if (files != null) {
-                for (File file : files) {
-                    try {
-                        String schema = Utils.readFile(file);
-                        JsonObject uiJson = Utils.getJsonObject(schema);
-                        JsonElement operation = uiJson.get("operationName");
-                        if (operation != null) {
-                            String operationName = operation.getAsString();
-                            getAllowedConnectionTypes(uiJson, operationName);
-                        }
-                    } catch (IOException e) {
-                        log.log(Level.SEVERE, "Error while reading connector ui schema file.", e);
-                    }
-                }
-            }
-        }
-    }
-
-    private void getAllowedConnectionTypes(JsonObject uiJson, String operationName) {
+    private void getAllowedConnectionTypes(JsonObject uiJson, String operationName,
+                                           Map<String, List<String>> allowedConnectionTypesMap) {
 
         JsonArray elements = getElements(uiJson);
         if (elements != null) {
@@ -185,7 +209,8 @@ public class ConnectorReader {
                             break;
                         }
                     } else if ("attributeGroup".equalsIgnoreCase(type)) {
-                        getAllowedConnectionTypes(element.getAsJsonObject(), operationName);
+                        getAllowedConnectionTypes(element.getAsJsonObject(), operationName,
+                                allowedConnectionTypesMap);
                     }
                 }
             }
@@ -220,28 +245,110 @@ public class ConnectorReader {
 
         List<String> dependencies = getDependencies(componentElement);
         readDependencies(connector, dependencies);
-        readUISchema(connector);
-        readOutputSchema(connector);
     }
 
-    private void readUISchema(Connector connector) {
+    /**
+     * Reads the UI schemas and the output schemas of the given connector and generates the missing UI schemas.
+     *
+     * @param connector connector to read the details
+     */
+    private void readConnectorDetails(Connector connector) {
 
-        addUISchemasFromConnector(connector);
-        generateUISchemasIfNeeded(connector);
+        long start = System.nanoTime();
+        long detailsSize = 0;
+        try {
+            detailsSize = readUISchemas(connector);
+            generateUISchemasIfNeeded(connector);
+            detailsSize += readOutputSchema(connector);
+        } catch (RuntimeException e) {
+            log.log(Level.SEVERE, "Error while reading the details of the " + connector.getName() + " connector", e);
+        }
+        connector.setDetailsSize(detailsSize);
+        log.log(Level.FINE, String.format("Loaded the details of the %s connector (%d bytes) in %d ms",
+                connector.getName(), detailsSize, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+        // Unloaded after the lock of the cache is released. The evicted connectors are not being loaded, hence
+        // waiting for their locks does not deadlock with the loading of another connector.
+        for (Connector evictedConnector : recordLoadedDetails(connector, detailsSize)) {
+            log.log(Level.FINE, "Unloading the details of the " + evictedConnector.getName() + " connector");
+            evictedConnector.unloadDetails();
+        }
     }
 
-    private void addUISchemasFromConnector(Connector connector) {
-
-        String uiSchemaPath = connector.getUiSchemaPath();
-        File uiSchemaFolder = new File(uiSchemaPath);
-        if (uiSchemaFolder.exists()) {
-            File[] files = uiSchemaFolder.listFiles();
-            if (files != null) {
-                for (File file : files) {
-                    processUISchemaFile(file, connector);
+    /**
+     * Records the size of the loaded details of the given connector and returns the connectors to unload to keep the
+     * loaded details within the limit.
+     *
+     * @param connector   connector whose details are loaded
+     * @param detailsSize size of the loaded details
+     * @return connectors whose details must be unloaded
+     */
+    private List<Connector> recordLoadedDetails(Connector connector, long detailsSize) {
+
+        List<Connector> evictedConnectors = new ArrayList<>();
+        synchronized (loadedDetails) {
+            Long previousSize = loadedDetails.put(connector, detailsSize);
+            loadedDetailsSize += detailsSize - (previousSize != null ? previousSize : 0);
+            Iterator<Map.Entry<Connector, Long>> iterator = loadedDetails.entrySet().iterator();
+            while (loadedDetailsSize > maxDetailsSize && iterator.hasNext()) {
+                Map.Entry<Connector, Long> eldest = iterator.next();
+                if (eldest.getKey() == connector) {
+                    break;
                 }
+                loadedDetailsSize -= eldest.getValue();
+                iterator.remove();
+                evictedConnectors.add(eldest.getKey());
+            }
+        }
+        return evictedConnectors;
+    }
+
+    /**
+     * Reads each UI schema file of the given connector once and assigns it to its operation or connection.
+     *
+     * @param connector connector to read the UI schemas
+     * @return total size of the read UI schema files
+     */
+    private long readUISchemas(Connector connector) {
+
+        long size = 0;
+        File[] files = new File(connector.getUiSchemaPath()).listFiles();
+        if (files == null) {
+            return size;
+        }
+        Map<String, List<String>> allowedConnectionTypesMap = new HashMap<>();
+        for (File file : files) {
+            JsonObject uiJson;
+            try {
+                uiJson = Utils.getJsonObject(Utils.readFile(file));
+                size += file.length();
+            } catch (IOException e) {
+                log.log(Level.SEVERE, "Error while reading connector ui schema file", e);
+                continue;
+            }
+            if (uiJson == null) {
+                continue;
+            }
+            JsonElement operation = uiJson.get(Constant.OPERATION_NAME);
+            String fileName = Utils.getFileName(file);
+            if (connector.getAction(fileName) != null) {
+                connector.addOperationUiSchema(fileName, file.getAbsolutePath());
+            } else if (operation != null) {
+                connector.addOperationUiSchema(operation.getAsString(), file.getAbsolutePath());
+            }
+            if (operation != null) {
+                getAllowedConnectionTypes(uiJson, operation.getAsString(), allowedConnectionTypesMap);
+            }
+            JsonElement connectionName = uiJson.get("connectionName");
+            if (connectionName != null) {
+                connector.addConnectionUiSchema(connectionName.getAsString().toUpperCase(), file.getAbsolutePath());
+            }
+        }
+        for (ConnectorAction action : connector.getActions()) {
+            if (allowedConnectionTypesMap.containsKey(action.getName())) {
+                action.setAllowedConnectionTypes(allowedConnectionTypesMap.get(action.getName()));
             }
         }
+        return size;
     }
 
     private void generateUISchemasIfNeeded(Connector connector) {
@@ -283,32 +390,9 @@ public class ConnectorReader {
         action.setUiSchemaPath(uiSchemaPath.toString());
     }
 
-    private void processUISchemaFile(File file, Connector connector) {
-
-        try {
-            String fileName = Utils.getFileName(file);
-            if (connector.getAction(fileName) != null) {
-                connector.addOperationUiSchema(fileName, file.getAbsolutePath());
-            } else {
-                JsonElement operation = getOperationNameFromUISchema(file);
-                if (operation != null) {
-                    connector.addOperationUiSchema(operation.getAsString(), file.getAbsolutePath());
-                }
-            }
-        } catch (IOException e) {
-            log.log(Level.SEVERE, "Error while reading connector ui schema file", e);
-        }
-    }
-
-    private JsonElement getOperationNameFromUISchema(File file) throws IOException {
-
-        String schema = Utils.readFile(file);
-        JsonObject uiJson = Utils.getJsonObject(schema);
-        return uiJson.get(Constant.OPERATION_NAME);
-    }
-
-    private void readOutputSchema(Connector connector) {
+    private long readOutputSchema(Connector connector) {
 
+        long size = 0;
         String outputSchemaPath = connector.getOutputSchemaPath();
         File outputSchemaFolder = new File(outputSchemaPath);
         if (outputSchemaFolder.exists()) {
@@ -318,43 +402,11 @@ public class ConnectorReader {
                     String fileName = file.getName();
                     String operationName = fileName.substring(0, fileName.indexOf("."));
                     connector.addOperationOutputSchema(operationName, file.getAbsolutePath());
+                    size += file.length();
                 }
             }
         }
-    }
-
-    private void populateConnectionUiSchema(Connector connector) {
-
-        File uiSchemaFolder = new File(connector.getUiSchemaPath());
-        if (uiSchemaFolder.exists()) {
-            File[] files = uiSchemaFolder.listFiles();
-            if (files != null) {
-                for (File file : files) {
-                    String connectionName = getConnectionSchemaName(file);
-                    if (connectionName != null) {
-                        connector.addConnectionUiSchema(connectionName.toUpperCase(), file.getAbsolutePath());
-                    }
-                }
-            }
-        }
-    }
-
-    private String getConnectionSchemaName(File file) {
-
-        String connectionName = null;
-        try {
-            String schema = Utils.readFile(file);
-            JsonObject uiJson = Utils.getJsonObject(schema);
-            if (uiJson != null) {
-                JsonElement connectionNameEle = uiJson.get("connectionName");
-                if (connectionNameEle != null) {
-                    connectionName = connectionNameEle.getAsString();
-                }
-            }
-        } catch (IOException e) {
-            log.log(Level.WARNING, "Error while reading connection ui schema file", e);
-        }
-        return connectionName;
+        return size;
     }
 
     private List<String> getDependencies(DOMNode connectorElement) {
@@ -426,9 +478,6 @@ public class ConnectorReader {
                     } else {
                         action.setHidden(Boolean.FALSE);
                     }
-                    if (allowedConnectionTypesMap.containsKey(action.getName())) {
-                        action.setAllowedConnectionTypes(allowedConnectionTypesMap.get(action.getName()));
-                    }
                     connector.addAction(action);
                 }
             }
@@ -22,6 +22,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class Connector {
 
@@ -38,6 +40,9 @@ public class Connector {
     private String uiSchemaPath;
     private String outputSchemaPath;
     private String ballerinaModulePath;
+    private transient Consumer<Connector> detailsLoader;
+    private transient boolean isDetailsLoaded;
+    private transient long detailsSize;
 
     public Connector() {
 
@@ -97,6 +102,7 @@ public class Connector {
 
     public void addAction(ConnectorAction action) {
 
+        action.setConnector(this);
         actions.add(action);
     }
 
@@ -117,6 +123,7 @@ public class Connector {
 
     public void setActions(List<ConnectorAction> actions) {
 
+        actions.forEach(action -> action.setConnector(this));
         this.actions = actions;
     }
 
@@ -127,7 +134,7 @@ public class Connector {
 
     public Map<String, String> getConnectionUiSchema() {
 
-        return connectionUiSchema;
+        return readDetails(() -> connectionUiSchema);
     }
 
     public void setConnectionUiSchema(Map<String, String> connectionUiSchema) {
@@ -216,4 +223,77 @@ public class Connector {
     public void setBallerinaModulePath(String ballerinaModulePath) {
         this.ballerinaModulePath = ballerinaModulePath;
     }
+
+    /**
+     * Sets the loader of the connector details which are not needed to list the connector and its operations, such as
+     * the UI schemas and the output schemas. The details are loaded on the first access.
+     *
+     * @param detailsLoader loader which populates the details of the given connector
+     */
+    public void setDetailsLoader(Consumer<Connector> detailsLoader) {
+
+        this.detailsLoader = detailsLoader;
+    }
+
+    /**
+     * Loads the connector details if they are not loaded yet.
+     */
+    public synchronized void loadDetails() {
+
+        if (isDetailsLoaded || detailsLoader == null) {
+            return;
+        }
+        // Marked before loading, since the loader reads the details through the accessors of this connector
+        isDetailsLoaded = true;
+        // A new map is filled, since the previous one may still be serialized to the client
+        connectionUiSchema = new HashMap<>();
+        detailsLoader.accept(this);
+    }
+
+    /**
+     * Drops the loaded connector details, so that they are loaded again on the next access.
+     */
+    public synchronized void unloadDetails() {
+
+        if (!isDetailsLoaded) {
+            return;
+        }
+        isDetailsLoaded = false;
+        connectionUiSchema = new HashMap<>();
+        actions.forEach(ConnectorAction::unloadDetails);
+        detailsSize = 0;
+    }
+
+    /**
+     * Reads the connector details with the given reader, so that they are not unloaded while they are read.
+     *
+     * @param reader reader of the details
+     * @param <T>    type of the details
+     * @return details returned by the reader
+     */
+    synchronized <T> T readDetails(Supplier<T> reader) {
+
+        loadDetails();
+        return reader.get();
+    }
+
+    public synchronized boolean isDetailsLoaded() {
+
+        return isDetailsLoaded;
+    }
+
+    /**
+     * Returns the size in bytes of the files read to load the connector details.
+     *
+     * @return size of the loaded details
+     */
+    public long getDetailsSize() {
+
+        return detailsSize;
+    }
+
+    public void setDetailsSize(long detailsSize) {
+
+        this.detailsSize = detailsSize;
+    }
 }
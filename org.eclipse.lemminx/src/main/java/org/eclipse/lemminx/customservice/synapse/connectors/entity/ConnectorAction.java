@@ -31,6 +31,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class ConnectorAction {
 
@@ -47,6 +48,7 @@ public class ConnectorAction {
     private String groupName;
     private boolean supportsResponseModel; // Represents whether the operation supports response model or not
     private boolean canActAsAgentTool;
+    private transient Connector connector;
 
     public ConnectorAction() {
 
@@ -112,7 +114,7 @@ public class ConnectorAction {
 
     public List<String> getAllowedConnectionTypes() {
 
-        return Collections.unmodifiableList(allowedConnectionTypes);
+        return readDetails(() -> Collections.unmodifiableList(allowedConnectionTypes));
     }
 
     public void setAllowedConnectionTypes(List<String> allowedConnectionTypes) {
@@ -122,7 +124,7 @@ public class ConnectorAction {
 
     public String getUiSchemaPath() {
 
-        return uiSchemaPath;
+        return readDetails(() -> uiSchemaPath);
     }
 
     public void setUiSchemaPath(String uiSchemaPath) {
@@ -193,14 +195,16 @@ public class ConnectorAction {
 
     public Property getOutputSchema() {
 
-        if (outputSchema == null) {
-            try {
-                loadOutputSchema();
-            } catch (IOException e) {
-                //Do nothing
+        return readDetails(() -> {
+            if (outputSchema == null) {
+                try {
+                    loadOutputSchema();
+                } catch (IOException e) {
+                    //Do nothing
+                }
             }
-        }
-        return outputSchema != null ? outputSchema.deepCopy() : null;
+            return outputSchema != null ? outputSchema.deepCopy() : null;
+        });
     }
 
     public String getGroupName() {
@@ -232,4 +236,25 @@ public class ConnectorAction {
 
         this.canActAsAgentTool = canActAsAgentTool;
     }
+
+    void setConnector(Connector connector) {
+
+        this.connector = connector;
+    }
+
+    /**
+     * Drops the details read by {@link Connector#loadDetails()}, so that they are read again on the next access.
+     */
+    void unloadDetails() {
+
+        allowedConnectionTypes = new ArrayList<>();
+        uiSchemaPath = null;
+        outputSchemaPath = null;
+        outputSchema = null;
+    }
+
+    private <T> T readDetails(Supplier<T> reader) {
+
+        return connector != null ? connector.readDetails(reader) : reader.get();
+    }
 }
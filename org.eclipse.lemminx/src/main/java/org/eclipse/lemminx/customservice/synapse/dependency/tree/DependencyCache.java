@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.customservice.synapse.dependency.tree;
+
+import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.Dependency;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.eclipse.lsp4j.FileChangeType;
+import org.eclipse.lsp4j.FileEvent;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Project scoped cache of the dependency subtrees of referable artifacts (sequences, endpoints, templates and message
+ * stores). An entry is keyed by the artifact path and is only returned when the content hash of the artifact is
+ * unchanged. Since a subtree embeds the subtrees of the artifacts it refers, an entry is also dropped when any file in
+ * its subtree changes.
+ */
+public class DependencyCache {
+
+    private static final Map<String, DependencyCache> caches = new ConcurrentHashMap<>();
+    private final Map<String, CachedDependency> dependencies = new ConcurrentHashMap<>();
+
+    private DependencyCache() {
+
+    }
+
+    /**
+     * Returns the dependency cache of the given project.
+     *
+     * @param projectPath project path
+     * @return dependency cache of the project
+     */
+    public static DependencyCache getInstance(String projectPath) {
+
+        return caches.computeIfAbsent(normalize(projectPath), key -> new DependencyCache());
+    }
+
+    /**
+     * Removes the dependency cache of the given project.
+     *
+     * @param projectPath project path
+     */
+    public static void dispose(String projectPath) {
+
+        if (projectPath != null) {
+            caches.remove(normalize(projectPath));
+        }
+    }
+
+    /**
+     * Returns the cached dependency of the given artifact.
+     *
+     * @param path absolute path of the artifact
+     * @param hash hash of the current content of the artifact
+     * @return cached dependency or null if the artifact is not cached or modified after it was cached
+     */
+    public Dependency get(String path, String hash) {
+
+        CachedDependency cachedDependency = dependencies.get(path);
+        if (cachedDependency != null && cachedDependency.hash.equals(hash)) {
+            return cachedDependency.dependency;
+        }
+        return null;
+    }
+
+    public void put(String path, String hash, Dependency dependency) {
+
+        if (path != null && hash != null && dependency != null) {
+            Set<String> paths = new HashSet<>();
+            collectPaths(dependency, paths);
+            dependencies.put(path, new CachedDependency(hash, dependency, paths));
+        }
+    }
+
+    /**
+     * Removes the cached subtrees which contain the given file or any file inside the given folder.
+     *
+     * @param path absolute path of the changed file or folder
+     */
+    public void invalidate(String path) {
+
+        String folderPrefix = path.endsWith(File.separator) ? path : path + File.separator;
+        dependencies.values().removeIf(cachedDependency -> cachedDependency.paths.stream().anyMatch(
+                dependencyPath -> dependencyPath.equals(path) || dependencyPath.startsWith(folderPrefix)));
+    }
+
+    /**
+     * Updates the cache according to the given watched file event. Created or deleted files can change how the
+     * artifact keys are resolved, hence the whole cache is cleared for them.
+     *
+     * @param event file event
+     */
+    public void handleFileEvent(FileEvent event) {
+
+        if (event.getType() == FileChangeType.Changed) {
+            String path = Utils.getAbsolutePath(event.getUri());
+            if (path != null) {
+                invalidate(path);
+            }
+        } else {
+            clear();
+        }
+    }
+
+    public void clear() {
+
+        dependencies.clear();
+    }
+
+    private void collectPaths(Dependency dependency, Set<String> paths) {
+
+        if (dependency.getPath() != null && !paths.add(dependency.getPath())) {
+            return;
+        }
+        for (Dependency child : dependency.getDependencyList()) {
+            collectPaths(child, paths);
+        }
+    }
+
+    private static String normalize(String projectPath) {
+
+        return Path.of(projectPath).toAbsolutePath().normalize().toString();
+    }
+
+    private static class CachedDependency {
+
+        private final String hash;
+        private final Dependency dependency;
+        private final Set<String> paths;
+
+        CachedDependency(String hash, Dependency dependency, Set<String> paths) {
+
+            this.hash = hash;
+            this.dependency = dependency;
+            this.paths = paths;
+        }
+    }
+}
@@ -21,15 +21,21 @@ package org.eclipse.lemminx.customservice.synapse.dependency.tree;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.Dependency;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 public class DependencyLookUp {
 
     private final Map<String, Dependency> dependencyMap;
+    private final Set<String> visiting;
+    private final Set<String> incomplete;
 
     public DependencyLookUp() {
 
         dependencyMap = new HashMap<>();
+        visiting = new HashSet<>();
+        incomplete = new HashSet<>();
     }
 
     public void addDependency(String path, Dependency dependency) {
@@ -43,4 +49,40 @@ public class DependencyLookUp {
 
         return dependencyMap.get(path);
     }
+
+    /**
+     * Marks the given artifact as being visited.
+     *
+     * @param path path of the artifact
+     * @return false if the artifact is already being visited, i.e. the artifact refers itself
+     */
+    public boolean startVisit(String path) {
+
+        return visiting.add(path);
+    }
+
+    public void endVisit(String path) {
+
+        visiting.remove(path);
+    }
+
+    /**
+     * Marks the artifacts which are being visited as incomplete. Called when a cyclic reference is cut, or when a
+     * subtree which was cut is reused, since the subtrees of all the artifacts being visited embed the cut subtree.
+     */
+    public void markVisitingIncomplete() {
+
+        incomplete.addAll(visiting);
+    }
+
+    /**
+     * Returns whether the subtree of the given artifact is fully resolved, i.e. it was not cut at a cyclic reference.
+     *
+     * @param path path of the artifact
+     * @return true if the subtree of the artifact is fully resolved
+     */
+    public boolean isComplete(String path) {
+
+        return !incomplete.contains(path);
+    }
 }
@@ -20,6 +20,7 @@ package org.eclipse.lemminx.customservice.synapse.dependency.tree;
 
 import org.eclipse.lemminx.customservice.synapse.AbstractMediatorVisitor;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.Dependency;
+import org.eclipse.lemminx.customservice.synapse.dependency.tree.visitor.AbstractDependencyVisitor;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.visitor.EndpointVisitor;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.visitor.MediatorDependencyVisitor;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.visitor.MessageStoreVisitor;
@@ -35,9 +36,12 @@ import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -57,14 +61,8 @@ public class DependencyVisitorUtils {
 
         String inSequencePath = DependencyVisitorUtils.getDependencyPath(sequenceName, "sequences", projectPath);
         if (inSequencePath != null) {
-            Dependency dependency = dependencyLookUp.getDependency(sequenceName);
-            if (dependency != null) {
-                return dependency;
-            }
-            SequenceVisitor sequenceVisitor = new SequenceVisitor(projectPath, dependencyLookUp);
-            sequenceVisitor.visit(inSequencePath);
-            return new Dependency(sequenceName, ArtifactType.SEQUENCE, inSequencePath,
-                    sequenceVisitor.getDependencyTree().getDependencyList());
+            return visitArtifact(sequenceName, ArtifactType.SEQUENCE, inSequencePath, projectPath, dependencyLookUp,
+                    () -> new SequenceVisitor(projectPath, dependencyLookUp));
         }
         return null;
     }
@@ -139,21 +137,16 @@ public class DependencyVisitorUtils {
                                            DependencyLookUp dependencyLookUp) {
 
         String endpointKey = endpoint.getKey();
-        EndpointVisitor endpointVisitor = new EndpointVisitor(projectPath, dependencyLookUp);
         if (endpointKey != null) {
             String endpointPath = DependencyVisitorUtils.getDependencyPath(endpointKey, "endpoints", projectPath);
             if (endpointPath != null) {
-                Dependency dependency = dependencyLookUp.getDependency(endpointPath);
-                if (dependency != null) {
-                    return dependency;
-                }
-                endpointVisitor.visit(endpointPath);
-                return new Dependency(endpointKey, ArtifactType.ENDPOINT, endpointPath,
-                        endpointVisitor.getDependencyTree().getDependencyList());
+                return visitArtifact(endpointKey, ArtifactType.ENDPOINT, endpointPath, projectPath, dependencyLookUp,
+                        () -> new EndpointVisitor(projectPath, dependencyLookUp));
             }
         } else {
             UUID uuid = UUID.randomUUID();
             String anonymousEPName = "AnonymousEndpoint_" + uuid;
+            EndpointVisitor endpointVisitor = new EndpointVisitor(projectPath, dependencyLookUp);
             endpointVisitor.visit(endpoint);
             return new Dependency(anonymousEPName, ArtifactType.ENDPOINT, null,
                     endpointVisitor.getDependencyTree().getDependencyList());
@@ -173,14 +166,8 @@ public class DependencyVisitorUtils {
 
         String endpointPath = DependencyVisitorUtils.getDependencyPath(endpoint, "endpoints", projectPath);
         if (endpointPath != null) {
-            Dependency dependency = dependencyLookUp.getDependency(endpointPath);
-            if (dependency != null) {
-                return dependency;
-            }
-            EndpointVisitor endpointVisitor = new EndpointVisitor(projectPath, dependencyLookUp);
-            endpointVisitor.visit(endpointPath);
-            return new Dependency(endpoint, ArtifactType.ENDPOINT, endpointPath,
-                    endpointVisitor.getDependencyTree().getDependencyList());
+            return visitArtifact(endpoint, ArtifactType.ENDPOINT, endpointPath, projectPath, dependencyLookUp,
+                    () -> new EndpointVisitor(projectPath, dependencyLookUp));
         }
         return null;
     }
@@ -197,14 +184,8 @@ public class DependencyVisitorUtils {
 
         String templatePath = DependencyVisitorUtils.getDependencyPath(template, "templates", projectPath);
         if (templatePath != null) {
-            Dependency dependency = dependencyLookUp.getDependency(templatePath);
-            if (dependency != null) {
-                return dependency;
-            }
-            TemplateVisitor templateVisitor = new TemplateVisitor(projectPath, dependencyLookUp);
-            templateVisitor.visit(templatePath);
-            return new Dependency(template, ArtifactType.TEMPLATE, templatePath,
-                    templateVisitor.getDependencyTree().getDependencyList());
+            return visitArtifact(template, ArtifactType.TEMPLATE, templatePath, projectPath, dependencyLookUp,
+                    () -> new TemplateVisitor(projectPath, dependencyLookUp));
         }
         return null;
     }
@@ -240,15 +221,62 @@ public class DependencyVisitorUtils {
 
         String path = getDependencyPath(messageStore, "message-stores", projectPath);
         if (path != null) {
-            Dependency dependency = dependencyLookUp.getDependency(path);
-            if (dependency != null) {
-                return dependency;
-            }
-            MessageStoreVisitor messageStoreVisitor = new MessageStoreVisitor(projectPath, dependencyLookUp);
-            messageStoreVisitor.visit(path);
-            return new Dependency(messageStore, ArtifactType.MESSAGE_STORE, path,
-                    messageStoreVisitor.getDependencyTree().getDependencyList());
+            return visitArtifact(messageStore, ArtifactType.MESSAGE_STORE, path, projectPath, dependencyLookUp,
+                    () -> new MessageStoreVisitor(projectPath, dependencyLookUp));
         }
         return null;
     }
+
+    /**
+     * Returns the dependency of the given artifact. The dependency is taken from the lookup table of the current scan
+     * or from the project {@link DependencyCache} if the artifact content is unchanged, and the artifact is only
+     * visited if both miss. An artifact which is already being visited (i.e. a cyclic reference) is returned without
+     * its dependencies. The subtrees which are cut at a cyclic reference are only kept for the current scan and are
+     * not added to the project cache, since they depend on where the scan entered the cycle.
+     *
+     * @param name             The key of the artifact.
+     * @param type             The type of the artifact.
+     * @param path             The path of the artifact.
+     * @param projectPath      The project path.
+     * @param dependencyLookUp The lookup table for already visited nodes.
+     * @param visitorSupplier  Supplier of the visitor to visit the artifact.
+     * @return The dependency of the artifact.
+     */
+    private static Dependency visitArtifact(String name, ArtifactType type, String path, String projectPath,
+                                            DependencyLookUp dependencyLookUp,
+                                            Supplier<AbstractDependencyVisitor> visitorSupplier) {
+
+        Dependency dependency = dependencyLookUp.getDependency(path);
+        if (dependency != null) {
+            if (!dependencyLookUp.isComplete(path)) {
+                dependencyLookUp.markVisitingIncomplete();
+            }
+            return dependency;
+        }
+        if (!dependencyLookUp.startVisit(path)) {
+            dependencyLookUp.markVisitingIncomplete();
+            return new Dependency(name, type, path);
+        }
+        try {
+            String content = Files.readString(Path.of(path));
+            String hash = Utils.getHash(content);
+            DependencyCache dependencyCache = DependencyCache.getInstance(projectPath);
+            dependency = dependencyCache.get(path, hash);
+            if (dependency == null) {
+                AbstractDependencyVisitor visitor = visitorSupplier.get();
+                visitor.visitContent(content);
+                dependency = new Dependency(name, type, path, visitor.getDependencyTree().getDependencyList());
+                if (dependencyLookUp.isComplete(path)) {
+                    dependencyCache.put(path, hash, dependency);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error while reading the artifact file: " + path, e);
+            dependency = new Dependency(name, type, path);
+        } finally {
+            dependencyLookUp.endVisit(path);
+        }
+        dependencyLookUp.addDependency(path, dependency);
+        return dependency;
+    }
 }
@@ -23,34 +23,56 @@ import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.Dependency
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.DependencyTree;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.Entrypoint;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.OverviewModel;
+import org.eclipse.lemminx.customservice.synapse.executor.RequestExecutor;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.NewProjectResourceFinder;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.ArtifactResource;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.RequestedResource;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.Resource;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.ResourceResponse;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 public class OverviewModelGenerator {
 
-    private static int connectionId = 1;
+    private static final Logger LOGGER = Logger.getLogger(OverviewModelGenerator.class.getName());
 
     /**
-     * Generate the overview model for the project
+     * Generate the overview model for the project, analyzing the entrypoints on the calling thread.
      *
      * @param projectPath absolute path of the project
      *
      * @return overview model for the project
      */
     public static OverviewModel getOverviewModel(String projectPath) {
-        List<DependencyTree> dependencyTreeList = new ArrayList<>();
+
+        return getOverviewModel(projectPath, Runnable::run, RequestExecutor.NOT_CANCELLABLE);
+    }
+
+    /**
+     * Generate the overview model for the project. The entrypoints are analyzed in parallel on the given executor and
+     * the results are merged in the order of the entrypoints, hence the generated model is the same for every call.
+     *
+     * @param projectPath      absolute path of the project
+     * @param analysisExecutor executor to analyze the entrypoints
+     * @param cancelChecker    cancel checker of the request, checked before analyzing each entrypoint
+     *
+     * @return overview model for the project
+     */
+    public static OverviewModel getOverviewModel(String projectPath, Executor analysisExecutor,
+                                                 CancelChecker cancelChecker) {
         List<String> types = List.of(Constant.API, Constant.TASK, Constant.INBOUND_DASH_ENDPOINT);
         List<RequestedResource> requiredResources = new ArrayList<>();
         for (String type : types) {
@@ -58,14 +80,40 @@ public class OverviewModelGenerator {
         }
         NewProjectResourceFinder newProjectResourceFinder = new NewProjectResourceFinder();
         ResourceResponse response = newProjectResourceFinder.getAvailableResources(projectPath, Either.forRight(requiredResources));
-        for (Resource resource : response.getResources()) {
-            DependencyScanner dependencyScanner = new DependencyScanner(projectPath);
-            DependencyTree dependencyTree = dependencyScanner.analyzeArtifact(((ArtifactResource) resource).getAbsolutePath());
-            dependencyTreeList.add(dependencyTree);
-        }
+        cancelChecker.checkCanceled();
+        List<String> artifactPaths = response.getResources().stream()
+                .map(resource -> ((ArtifactResource) resource).getAbsolutePath()).collect(Collectors.toList());
+        List<DependencyTree> dependencyTreeList =
+                analyzeArtifacts(projectPath, artifactPaths, analysisExecutor, cancelChecker);
         return convertDataToOverviewModel(Paths.get(projectPath).getFileName().toString(), dependencyTreeList);
     }
 
+    /**
+     * Analyze the given artifacts on the given executor
+     *
+     * @param projectPath absolute path of the project
+     * @param artifactPaths absolute paths of the artifacts to analyze
+     * @param analysisExecutor executor to analyze the artifacts
+     * @param cancelChecker cancel checker of the request
+     *
+     * @return dependency trees of the artifacts in the order of the given paths
+     */
+    private static List<DependencyTree> analyzeArtifacts(String projectPath, List<String> artifactPaths,
+                                                         Executor analysisExecutor, CancelChecker cancelChecker) {
+        DependencyScanner dependencyScanner = new DependencyScanner(projectPath);
+        try {
+            return RequestExecutor.map(analysisExecutor, artifactPaths, dependencyScanner::analyzeArtifact,
+                    cancelChecker);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.log(Level.WARNING, "Interrupted while analyzing the artifacts of the project: " + projectPath, e);
+            return Collections.emptyList();
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.SEVERE, "Error occurred while analyzing the artifacts of the project: " + projectPath, e);
+        }
+        return artifactPaths.stream().map(dependencyScanner::analyzeArtifact).collect(Collectors.toList());
+    }
+
     /**
      * Convert dependency trees of artifacts to the overview model
      *
@@ -93,7 +141,6 @@ public class OverviewModelGenerator {
             entrypoints.add(new Entrypoint(String.valueOf(entrypointId++), dependencyTree.getName(), entrypointType, dependencyTree.getPath(),
                     new ArrayList<>(), sortedConnectionIds.stream().map(String::valueOf).collect(Collectors.toList())));
         }
-        connectionId = 1;
         return new OverviewModel(projectName, entrypoints, connections);
     }
 
@@ -110,7 +157,7 @@ public class OverviewModelGenerator {
         for (Dependency dependency : dependencyList) {
             if (dependency.getType().name().equals(Constant.CONNECTION_UPPERCASE)) {
                 if (!connectionMap.containsKey(dependency.getName())) {
-                    String newConnectionId = String.valueOf(connectionId++);
+                    String newConnectionId = String.valueOf(connections.size() + 1);
                     connections.add(new Connection(newConnectionId, dependency.getName(), dependency.getPath()));
                     connectionMap.put(dependency.getName(), newConnectionId);
                 }
@@ -25,6 +25,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
+/**
+ * Dependency of an artifact. Instances are immutable since the same subtree is shared between the dependency trees of
+ * all the artifacts referring it.
+ */
 public class Dependency {
 
     private final String name;
@@ -42,7 +46,7 @@ public class Dependency {
         this.name = name;
         this.type = type;
         this.path = path;
-        this.dependencyList = new ArrayList<>(dependencyList);
+        this.dependencyList = Collections.unmodifiableList(new ArrayList<>(dependencyList));
     }
 
     public String getName() {
@@ -62,12 +66,7 @@ public class Dependency {
 
     public List<Dependency> getDependencyList() {
 
-        return Collections.unmodifiableList(dependencyList);
-    }
-
-    public void addDependency(Dependency dependency) {
-
-        this.dependencyList.add(dependency);
+        return dependencyList;
     }
 
     @Override
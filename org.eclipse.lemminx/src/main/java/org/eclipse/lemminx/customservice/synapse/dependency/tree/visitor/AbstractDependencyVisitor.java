@@ -56,15 +56,30 @@ public abstract class AbstractDependencyVisitor {
 
         try {
             DOMDocument document = Utils.getDOMDocument(new File(artifactPath));
-            if (document != null) {
-                STNode node = SyntaxTreeGenerator.buildTree(document.getDocumentElement());
-                visit(node);
-            }
+            visit(document);
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, "Error while reading the artifact file", e);
         }
     }
 
+    /**
+     * Visit the already read artifact content and build the dependency tree.
+     *
+     * @param content content of the artifact
+     */
+    public final void visitContent(String content) {
+
+        visit(Utils.getDOMDocument(content));
+    }
+
+    private void visit(DOMDocument document) {
+
+        if (document != null && document.getDocumentElement() != null) {
+            STNode node = SyntaxTreeGenerator.buildTree(document.getDocumentElement());
+            visit(node);
+        }
+    }
+
     public abstract void visit(STNode node);
 
     protected void addDependency(Dependency dependency) {
@@ -126,7 +126,7 @@ public class EndpointVisitor extends AbstractDependencyVisitor {
             case TEMPLATE_ENDPOINT:
                 String template = endpoint.getTemplate();
                 if (template != null) {
-                    addDependency(DependencyVisitorUtils.visitTemplate(projectPath, template, dependencyLookUp));
+                    addDependency(DependencyVisitorUtils.visitTemplate(template, projectPath, dependencyLookUp));
                 }
                 break;
             case WSDL_ENDPOINT:
@@ -53,7 +53,7 @@ public class MessageProcessorVisitor extends AbstractDependencyVisitor {
 
         if (messageProcessor.getTargetEndpoint() != null) {
             Dependency dependency =
-                    DependencyVisitorUtils.visitEndpoint(projectPath, messageProcessor.getTargetEndpoint(),
+                    DependencyVisitorUtils.visitEndpoint(messageProcessor.getTargetEndpoint(), projectPath,
                             dependencyLookUp);
             addDependency(dependency);
         }
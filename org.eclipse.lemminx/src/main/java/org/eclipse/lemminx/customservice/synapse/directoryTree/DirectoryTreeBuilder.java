@@ -18,12 +18,10 @@
 
 package org.eclipse.lemminx.customservice.synapse.directoryTree;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.google.gson.JsonParser;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
 import org.eclipse.lemminx.customservice.synapse.directoryTree.node.APINode;
 import org.eclipse.lemminx.customservice.synapse.directoryTree.node.APIResource;
 import org.eclipse.lemminx.customservice.synapse.directoryTree.node.AdvancedNode;
@@ -36,6 +34,7 @@ import org.eclipse.lemminx.customservice.synapse.directoryTree.node.SequenceNode
 import org.eclipse.lemminx.customservice.synapse.directoryTree.node.TestFolder;
 import org.eclipse.lemminx.customservice.synapse.directoryTree.legacyBuilder.LegacyDirectoryTreeBuilder;
 import org.eclipse.lemminx.customservice.synapse.directoryTree.utils.DirectoryTreeUtils;
+import org.eclipse.lemminx.customservice.synapse.executor.RequestExecutor;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeGenerator;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.MessageProcessor;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.MessageStore;
@@ -48,23 +47,36 @@ import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.dom.DOMElement;
 import org.eclipse.lemminx.dom.DOMNode;
+import org.eclipse.lsp4j.FileEvent;
 import org.eclipse.lsp4j.WorkspaceFolder;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.net.URLDecoder;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 public class DirectoryTreeBuilder {
 
@@ -73,15 +85,54 @@ public class DirectoryTreeBuilder {
     private static final String WSO2MI = "wso2mi";
     private static final String RESOURCES = "resources";
     private static final String JAVA = "java";
-    private static String projectPath;
-    private static String mainSequence;
+    private static final String CONNECTION = "Connection";
+    // Adds the node of an artifact type to the tree. The keys are the types returned by getType
+    private static final Map<String, BiConsumer<IntegrationDirectoryTree, Node>> TREE_SINKS = Map.ofEntries(
+            Map.entry("Api", IntegrationDirectoryTree::addApi),
+            Map.entry("Endpoint", IntegrationDirectoryTree::addEndpoint),
+            Map.entry("InboundEndpoint", IntegrationDirectoryTree::addInboundEndpoint),
+            Map.entry("LocalEntry", IntegrationDirectoryTree::addLocalEntry),
+            Map.entry("MessageProcessor", IntegrationDirectoryTree::addMessageProcessor),
+            Map.entry("MessageStore", IntegrationDirectoryTree::addMessageStore),
+            Map.entry("ProxyService", IntegrationDirectoryTree::addProxyService),
+            Map.entry("Sequence", IntegrationDirectoryTree::addSequence),
+            Map.entry("Task", IntegrationDirectoryTree::addTask),
+            Map.entry("Template", IntegrationDirectoryTree::addTemplate),
+            Map.entry("DataService", IntegrationDirectoryTree::addDataService),
+            Map.entry("DataSource", IntegrationDirectoryTree::addDataSource),
+            Map.entry(CONNECTION, IntegrationDirectoryTree::addConnection));
+    private static final Map<String, DirectoryTreeBuilder> builders = new ConcurrentHashMap<>();
+    private final String projectPath;
+    private final Map<String, CachedNode> nodes = new ConcurrentHashMap<>();
+    private volatile long pomLastModified = -1;
+    private String mainSequence;
+
+    private DirectoryTreeBuilder(String projectPath) {
+
+        this.projectPath = projectPath;
+    }
 
     public static DirectoryMapResponse buildDirectoryTree(WorkspaceFolder projectFolder) {
 
+        return buildDirectoryTree(projectFolder, Runnable::run, RequestExecutor.NOT_CANCELLABLE);
+    }
+
+    /**
+     * Builds the directory tree of the project, analyzing the changed artifacts in parallel on the given executor.
+     *
+     * @param projectFolder    project folder
+     * @param analysisExecutor executor to analyze the artifacts
+     * @param cancelChecker    cancel checker of the request, checked while walking the folders and the artifacts
+     * @return directory tree of the project
+     */
+    public static DirectoryMapResponse buildDirectoryTree(WorkspaceFolder projectFolder, Executor analysisExecutor,
+                                                          CancelChecker cancelChecker) {
+
         //Support old project structure
         if (DirectoryTreeUtils.isLegacyProject(projectFolder)) {
             return LegacyDirectoryTreeBuilder.buildDirectoryTree(projectFolder);
         }
+        String projectPath = null;
         try {
             String encodedPath = projectFolder.getUri();
             if (encodedPath.startsWith(Constant.FILE_PREFIX)) {
@@ -93,23 +144,81 @@ public class DirectoryTreeBuilder {
         }
         Tree directoryTree = null;
         if (projectPath != null) {
-            String projectType = DirectoryTreeUtils.getProjectType(projectPath);
-            if (Constant.INTEGRATION_PROJECT.equalsIgnoreCase(projectType)) {
-                updateMainSequence();
-                directoryTree = new IntegrationDirectoryTree(projectPath, projectType);
-                analyzeIntegrationProject((IntegrationDirectoryTree) directoryTree);
-                ((IntegrationDirectoryTree) directoryTree).sort();
-            } else if (Constant.DOCKER_PROJECT.equalsIgnoreCase(projectType) || Constant.KUBERNETES_PROJECT.
-                    equalsIgnoreCase(projectType)) {
-                directoryTree = new DistributionDirectoryTree(projectPath, projectType);
-                analyzeDistributionProject((DistributionDirectoryTree) directoryTree);
-            }
+            directoryTree = getBuilder(projectPath).build(analysisExecutor, cancelChecker);
         }
 
         DirectoryMapResponse directoryMapResponse = new DirectoryMapResponse(directoryTree);
         return directoryMapResponse;
     }
 
+    /**
+     * Updates the cached nodes of the projects according to the given watched file event.
+     *
+     * @param event file event
+     */
+    public static void handleFileEvent(FileEvent event) {
+
+        String path = Utils.getAbsolutePath(event.getUri());
+        if (path != null) {
+            for (DirectoryTreeBuilder builder : builders.values()) {
+                builder.invalidate(path);
+            }
+        }
+    }
+
+    /**
+     * Removes the cached tree model of the given project.
+     *
+     * @param projectPath project path
+     */
+    public static void dispose(String projectPath) {
+
+        if (projectPath != null) {
+            builders.remove(Path.of(projectPath).toAbsolutePath().normalize().toString());
+        }
+    }
+
+    private static DirectoryTreeBuilder getBuilder(String projectPath) {
+
+        return builders.computeIfAbsent(Path.of(projectPath).toAbsolutePath().normalize().toString(),
+                key -> new DirectoryTreeBuilder(projectPath));
+    }
+
+    /**
+     * Builds the directory tree of the project. The folders are listed on every build, but the artifact nodes are
+     * reused for the files which are not modified after they were analyzed.
+     *
+     * @param analysisExecutor executor to analyze the artifacts
+     * @param cancelChecker    cancel checker of the request
+     * @return directory tree of the project
+     */
+    private synchronized Tree build(Executor analysisExecutor, CancelChecker cancelChecker) {
+
+        String projectType = DirectoryTreeUtils.getProjectType(projectPath);
+        if (Constant.INTEGRATION_PROJECT.equalsIgnoreCase(projectType)) {
+            updateMainSequence();
+            IntegrationDirectoryTree directoryTree = new IntegrationDirectoryTree(projectPath, projectType);
+            analyzeIntegrationProject(directoryTree, analysisExecutor, cancelChecker);
+            directoryTree.sort();
+            return directoryTree;
+        } else if (Constant.DOCKER_PROJECT.equalsIgnoreCase(projectType) || Constant.KUBERNETES_PROJECT.
+                equalsIgnoreCase(projectType)) {
+            DistributionDirectoryTree directoryTree = new DistributionDirectoryTree(projectPath, projectType);
+            analyzeDistributionProject(directoryTree);
+            return directoryTree;
+        }
+        return null;
+    }
+
+    private void invalidate(String path) {
+
+        String folderPrefix = path.endsWith(File.separator) ? path : path + File.separator;
+        nodes.keySet().removeIf(nodePath -> nodePath.equals(path) || nodePath.startsWith(folderPrefix));
+        if (Path.of(path).endsWith(Constant.POM)) {
+            pomLastModified = -1;
+        }
+    }
+
     /**
      * Generate model for the project explorer
      *
@@ -118,124 +227,187 @@ public class DirectoryTreeBuilder {
      * @return project explorer structure
      */
     public static DirectoryMapResponse getProjectExplorerModel(WorkspaceFolder projectFolder) {
-        DirectoryMapResponse directoryMap = buildDirectoryTree(projectFolder);
+        return getProjectExplorerModel(projectFolder, Runnable::run, RequestExecutor.NOT_CANCELLABLE);
+    }
+
+    /**
+     * Generate model for the project explorer
+     *
+     * @param projectFolder project folder path
+     * @param analysisExecutor executor to analyze the artifacts
+     * @param cancelChecker cancel checker of the request
+     *
+     * @return project explorer structure
+     */
+    public static DirectoryMapResponse getProjectExplorerModel(WorkspaceFolder projectFolder,
+                                                               Executor analysisExecutor,
+                                                               CancelChecker cancelChecker) {
+        DirectoryMapResponse directoryMap = buildDirectoryTree(projectFolder, analysisExecutor, cancelChecker);
         if (directoryMap.getDirectoryMap() == null) {
             LOGGER.log(Level.SEVERE, "Error occurred while building directory tree.");
             return null;
         }
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode root = mapper.readTree(directoryMap.getDirectoryMap().getAsJsonObject().toString());
-            JsonNode artifacts = root.path(Constant.SRC).path(MAIN).path(WSO2MI).path(Constant.ARTIFACTS);
-            JsonNode resources = root.path(Constant.SRC).path(MAIN).path(WSO2MI).path(Constant.RESOURCES);
-            ObjectNode newArtifacts = mapper.createObjectNode();
-
-            newArtifacts.set("APIs", artifacts.path(Constant.APIS));
-            newArtifacts.set("Event Integrations", artifacts.path(Constant.INBOUNDENDPOINTS));
-            newArtifacts.set("Automations", artifacts.path(Constant.TASKS));
-            newArtifacts.set("Data Services", artifacts.path(Constant.DATA_SERVICES));
-
-            ObjectNode otherArtifacts = newArtifacts.putObject("Other Artifacts");
-            otherArtifacts.set("Sequences", artifacts.path(Constant.SEQUENCES));
-            otherArtifacts.set("Connections", artifacts.path(Constant.CONNECTIONS));
-            otherArtifacts.set("Data Sources", artifacts.path(Constant.DATA_SOURCES));
-
-            ArrayNode classMediatorArray = mapper.createArrayNode();
-            JsonNode mediatorFolders = root.path(Constant.SRC).path(MAIN).path(JAVA).path(Constant.FOLDERS);
-            extractClassMediators(mediatorFolders, classMediatorArray);
-            otherArtifacts.set("Class Mediators", classMediatorArray);
-
-            ArrayNode ballerinaModulesArray = mapper.createArrayNode();
-            JsonNode moduleFolders = root.path(Constant.SRC).path(MAIN).path(Constant.BALLERINA).path(Constant.FOLDERS);
-            extractBallerinaModules(moduleFolders, ballerinaModulesArray);
-            otherArtifacts.set("Ballerina Modules", ballerinaModulesArray);
-
-            otherArtifacts.set("Endpoints", artifacts.path(Constant.ENDPOINTS));
-            otherArtifacts.set("Proxy Services", artifacts.path(Constant.PROXYSERVICES));
-            otherArtifacts.set("Message Stores", artifacts.path(Constant.MESSAGE_STORES));
-            otherArtifacts.set("Message Processors", artifacts.path(Constant.MESSAGE_PROCESSORS));
-            otherArtifacts.set("Local Entries", artifacts.path(Constant.LOCALENTRIES));
-            otherArtifacts.set("Templates", artifacts.path(Constant.TEMPLATES));
-
-            JsonNode registryFolders = root.path(Constant.SRC).path(MAIN).path(WSO2MI).path(Constant.RESOURCES)
-                    .path(Constant.REGISTRY).path(Constant.GOV).path(Constant.FOLDERS);
-            JsonNode newResources = resources.path(Constant.NEW_RESOURCES);
-            JsonNode newResourcesFolders = newResources.path(Constant.FOLDERS);
-            newArtifacts.set("Resources", newResources);
-
-            ArrayNode dataMapperConfigs = getDataMapperConfigs(mapper, registryFolders, newResourcesFolders);
-
-            if (dataMapperConfigs.isEmpty()) {
-                otherArtifacts.set("Data Mappers", mapper.createArrayNode());
-            } else {
-                otherArtifacts.set("Data Mappers", dataMapperConfigs);
-            }
-
-            ((ObjectNode) root.path(Constant.SRC).path(MAIN).path(WSO2MI)).set(Constant.ARTIFACTS, newArtifacts);
-            ObjectMapper objectMapper = new ObjectMapper();
-            String jsonNodeAsString = objectMapper.writeValueAsString(root);
-            directoryMap.setDirectoryMap(JsonParser.parseString(jsonNodeAsString));
+            // The explorer model is reshaped in place, since the response owns a fresh copy of the tree
+            toProjectExplorerModel(directoryMap.getDirectoryMap().getAsJsonObject());
             return directoryMap;
-
-        } catch (JsonProcessingException e) {
+        } catch (IllegalStateException e) {
             LOGGER.log(Level.SEVERE, "Error occurred while building the project explorer directory tree.", e);
             return null;
         }
     }
 
-    private static ArrayNode getDataMapperConfigs(ObjectMapper mapper, JsonNode registryFolders, JsonNode newResourcesFolders) {
+    /**
+     * Reshapes the given directory tree into the project explorer model, grouping the artifacts as shown in the
+     * explorer.
+     *
+     * @param root directory tree of the project, which is modified in place
+     * @return the given tree reshaped into the project explorer model
+     * @throws IllegalStateException if the tree does not have the expected structure
+     */
+    public static JsonObject toProjectExplorerModel(JsonObject root) {
+
+        JsonElement artifacts = getMember(root, Constant.SRC, MAIN, WSO2MI, Constant.ARTIFACTS);
+        JsonElement resources = getMember(root, Constant.SRC, MAIN, WSO2MI, Constant.RESOURCES);
+        JsonObject newArtifacts = new JsonObject();
+
+        newArtifacts.add("APIs", getMember(artifacts, Constant.APIS));
+        newArtifacts.add("Event Integrations", getMember(artifacts, Constant.INBOUNDENDPOINTS));
+        newArtifacts.add("Automations", getMember(artifacts, Constant.TASKS));
+        newArtifacts.add("Data Services", getMember(artifacts, Constant.DATA_SERVICES));
+
+        JsonObject otherArtifacts = new JsonObject();
+        newArtifacts.add("Other Artifacts", otherArtifacts);
+        otherArtifacts.add("Sequences", getMember(artifacts, Constant.SEQUENCES));
+        otherArtifacts.add("Connections", getMember(artifacts, Constant.CONNECTIONS));
+        otherArtifacts.add("Data Sources", getMember(artifacts, Constant.DATA_SOURCES));
+
+        JsonArray classMediatorArray = new JsonArray();
+        JsonElement mediatorFolders = getMember(root, Constant.SRC, MAIN, JAVA, Constant.FOLDERS);
+        extractClassMediators(mediatorFolders, classMediatorArray);
+        otherArtifacts.add("Class Mediators", classMediatorArray);
+
+        JsonArray ballerinaModulesArray = new JsonArray();
+        JsonElement moduleFolders = getMember(root, Constant.SRC, MAIN, Constant.BALLERINA, Constant.FOLDERS);
+        extractBallerinaModules(moduleFolders, ballerinaModulesArray);
+        otherArtifacts.add("Ballerina Modules", ballerinaModulesArray);
+
+        otherArtifacts.add("Endpoints", getMember(artifacts, Constant.ENDPOINTS));
+        otherArtifacts.add("Proxy Services", getMember(artifacts, Constant.PROXYSERVICES));
+        otherArtifacts.add("Message Stores", getMember(artifacts, Constant.MESSAGE_STORES));
+        otherArtifacts.add("Message Processors", getMember(artifacts, Constant.MESSAGE_PROCESSORS));
+        otherArtifacts.add("Local Entries", getMember(artifacts, Constant.LOCALENTRIES));
+        otherArtifacts.add("Templates", getMember(artifacts, Constant.TEMPLATES));
+
+        JsonElement registryFolders = getMember(resources, Constant.REGISTRY, Constant.GOV, Constant.FOLDERS);
+        JsonElement newResources = getMember(resources, Constant.NEW_RESOURCES);
+        JsonElement newResourcesFolders = getMember(newResources, Constant.FOLDERS);
+        newArtifacts.add("Resources", newResources);
+
+        JsonArray dataMapperConfigs = getDataMapperConfigs(registryFolders, newResourcesFolders);
+        otherArtifacts.add("Data Mappers", dataMapperConfigs);
+
+        getMember(root, Constant.SRC, MAIN, WSO2MI).getAsJsonObject().add(Constant.ARTIFACTS, newArtifacts);
+        return root;
+    }
 
-        ArrayNode dataMappersNode = mapper.createArrayNode();
-        for (JsonNode resourceFolder : newResourcesFolders) {
-            if (Constant.DATA_MAPPER.equals(resourceFolder.path(Constant.NAME).asText())) {
-                dataMappersNode.addAll((ArrayNode) resourceFolder.path(Constant.FOLDERS));
-                break;
-            }
+    private static JsonArray getDataMapperConfigs(JsonElement registryFolders, JsonElement newResourcesFolders) {
+
+        JsonArray dataMappersNode = new JsonArray();
+        addDataMapperConfigs(newResourcesFolders, dataMappersNode);
+        addDataMapperConfigs(registryFolders, dataMappersNode);
+        return dataMappersNode;
+    }
+
+    private static void addDataMapperConfigs(JsonElement resourceFolders, JsonArray dataMappersNode) {
+
+        if (!resourceFolders.isJsonArray()) {
+            return;
         }
-        for (JsonNode registryFolder : registryFolders) {
-            if (Constant.DATA_MAPPER.equals(registryFolder.path(Constant.NAME).asText())) {
-                dataMappersNode.addAll((ArrayNode) registryFolder.path(Constant.FOLDERS));
+        for (JsonElement resourceFolder : resourceFolders.getAsJsonArray()) {
+            JsonElement name = getMember(resourceFolder, Constant.NAME);
+            if (name.isJsonPrimitive() && Constant.DATA_MAPPER.equals(name.getAsString())) {
+                dataMappersNode.addAll(getMember(resourceFolder, Constant.FOLDERS).getAsJsonArray());
                 break;
             }
         }
-        return dataMappersNode;
     }
 
-    public static List<String> getProjectIdentifiers(WorkspaceFolder projectFolder, List<String> filePaths) {
+    public static List<String> getProjectIdentifiers(WorkspaceFolder projectFolder, List<String> filePaths,
+                                                     CancelChecker cancelChecker) {
 
         List<String> result = new ArrayList<>();
-        DirectoryMapResponse directoryMap = buildDirectoryTree(projectFolder);
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode root = mapper.readTree(directoryMap.getDirectoryMap().getAsJsonObject().toString());
-            JsonNode artifacts = root.path(Constant.SRC).path(MAIN).path(WSO2MI).path(Constant.ARTIFACTS);
-            artifacts.fields().forEachRemaining(entry -> {
-                String artifactType = entry.getKey();
-                JsonNode artifactEntries = entry.getValue();
-                if (artifactEntries.isArray()) {
-                    for (JsonNode artifactEntryNode: artifactEntries) {
-                        String path = artifactEntryNode.path(Constant.PATH).asText();
-                        if (filePaths.contains(path)) {
-                            result.add(artifactType + File.separator +
-                                    path.substring(path.lastIndexOf(File.separator) + 1).split("\\.")[0]);
-                        }
+        DirectoryMapResponse directoryMap = buildDirectoryTree(projectFolder, Runnable::run, cancelChecker);
+        if (directoryMap.getDirectoryMap() == null) {
+            return Collections.emptyList();
+        }
+        JsonElement artifacts = getMember(directoryMap.getDirectoryMap(), Constant.SRC, MAIN, WSO2MI,
+                Constant.ARTIFACTS);
+        if (!artifacts.isJsonObject()) {
+            return Collections.emptyList();
+        }
+        for (Map.Entry<String, JsonElement> entry : artifacts.getAsJsonObject().entrySet()) {
+            String artifactType = entry.getKey();
+            JsonElement artifactEntries = entry.getValue();
+            if (artifactEntries.isJsonArray()) {
+                for (JsonElement artifactEntryNode : artifactEntries.getAsJsonArray()) {
+                    JsonElement pathElement = getMember(artifactEntryNode, Constant.PATH);
+                    if (!pathElement.isJsonPrimitive()) {
+                        continue;
+                    }
+                    String path = pathElement.getAsString();
+                    if (filePaths.contains(path)) {
+                        result.add(artifactType + File.separator +
+                                path.substring(path.lastIndexOf(File.separator) + 1).split("\\.")[0]);
                     }
                 }
-            });
-            return result;
-        } catch (Exception ex) {
-            return Collections.emptyList();
+            }
         }
+        return result;
     }
 
-    private static void updateMainSequence() {
+    /**
+     * Returns the member at the given path of nested json objects.
+     *
+     * @param element json element to start from
+     * @param names   member names of the path
+     * @return the member or {@link JsonNull#INSTANCE} if the path does not exist
+     */
+    private static JsonElement getMember(JsonElement element, String... names) {
+
+        JsonElement current = element;
+        for (String name : names) {
+            if (current == null || !current.isJsonObject()) {
+                return JsonNull.INSTANCE;
+            }
+            current = current.getAsJsonObject().get(name);
+        }
+        return current != null ? current : JsonNull.INSTANCE;
+    }
+
+    private void updateMainSequence() {
 
-        mainSequence = null;
         Path pomPath = Path.of(projectPath, "pom.xml");
         File pomFile = pomPath.toFile();
+        long lastModified = pomFile.lastModified();
+        if (lastModified == pomLastModified) {
+            return;
+        }
+        pomLastModified = lastModified;
+        String previousMainSequence = mainSequence;
+        mainSequence = null;
+        updateMainSequence(pomFile);
+        if (!Objects.equals(previousMainSequence, mainSequence)) {
+            // Sequence nodes carry the main sequence flag
+            nodes.clear();
+        }
+    }
+
+    private void updateMainSequence(File pomFile) {
+
         if (pomFile.exists()) {
             try {
-                DOMDocument pom = Utils.getDOMDocument(pomFile);
+                DOMDocument pom = Utils.getDOMDocumentFromDisk(pomFile);
                 DOMNode profiles = Utils.getChildNodeByName(pom.getDocumentElement(), Constant.PROFILES);
                 List<DOMNode> profileList = profiles.getChildren();
                 profileList.forEach(profile -> {
@@ -257,16 +429,19 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void analyzeIntegrationProject(IntegrationDirectoryTree directoryTree) {
+    private void analyzeIntegrationProject(IntegrationDirectoryTree directoryTree, Executor analysisExecutor,
+                                           CancelChecker cancelChecker) {
 
-        analyzeArtifacts(directoryTree);
+        analyzeArtifacts(directoryTree, analysisExecutor, cancelChecker);
+        cancelChecker.checkCanceled();
         analyzeResources(directoryTree);
+        cancelChecker.checkCanceled();
         analyzeJavaProjects(directoryTree);
         analyzeBallerinaProjects(directoryTree);
         analyzeTestsFolder(directoryTree);
     }
 
-    private static void analyzeDistributionProject(DistributionDirectoryTree directoryTree) {
+    private void analyzeDistributionProject(DistributionDirectoryTree directoryTree) {
 
         File folder = new File(projectPath);
         if (folder != null && folder.exists() && !folder.isHidden()) {
@@ -278,68 +453,115 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void analyzeArtifacts(IntegrationDirectoryTree directoryTree) {
-
-        String artifactsPath = projectPath + File.separator + Constant.SRC + File.separator + MAIN
-                + File.separator + WSO2MI + File.separator + "artifacts";
-        File folder = new File(artifactsPath);
-        File[] listOfFiles = folder.listFiles(File::isDirectory);
-        if (listOfFiles != null) {
-            for (File subFolder : listOfFiles) {
-                try {
-                    if (subFolder.isDirectory()) {
-                        String type = getType(subFolder.getName());
-                        analyzeByType(directoryTree, subFolder, type);
-                    }
-                } catch (SecurityException e) {
-                    LOGGER.log(Level.WARNING, "No read access to the file.", e);
-                }
+    private void analyzeArtifacts(IntegrationDirectoryTree directoryTree, Executor analysisExecutor,
+                                  CancelChecker cancelChecker) {
+
+        Path artifactsPath = Path.of(projectPath, Constant.SRC, MAIN, WSO2MI, "artifacts");
+        List<ArtifactFile> artifactFiles = listArtifactFiles(artifactsPath, cancelChecker);
+        List<Node> components = createEsbComponents(artifactFiles, analysisExecutor, cancelChecker);
+        for (int i = 0; i < components.size(); i++) {
+            Node component = components.get(i);
+            if (component != null) {
+                String type = component instanceof ConnectionNode ? CONNECTION : artifactFiles.get(i).type;
+                addToTree(directoryTree, type, component);
             }
         }
     }
 
-    private static String getType(String name) {
+    /**
+     * Lists the artifact files in the type folders of the artifacts folder together with their attributes.
+     *
+     * @param artifactsPath path of the artifacts folder
+     * @param cancelChecker cancel checker of the request, checked for every type folder
+     * @return artifact files
+     */
+    private static List<ArtifactFile> listArtifactFiles(Path artifactsPath, CancelChecker cancelChecker) {
 
-        String name1 = Utils.removeHyphen(name);
-        name1 = Utils.pluralToSingular(name1);
-        name1 = name1.substring(0, 1).toUpperCase() + name1.substring(1);
-        return name1;
-    }
+        List<ArtifactFile> artifactFiles = new ArrayList<>();
+        if (!Files.isDirectory(artifactsPath)) {
+            return artifactFiles;
+        }
+        try {
+            Files.walkFileTree(artifactsPath, EnumSet.of(FileVisitOption.FOLLOW_LINKS), 2,
+                    new SimpleFileVisitor<>() {
 
-    private static void analyzeByType(IntegrationDirectoryTree directoryTree, File folder, String type) {
+                        private String type;
 
-        try {
-            File[] listOfFiles = folder.listFiles();
-            if (listOfFiles != null) {
-                for (File file : listOfFiles) {
-                    if (file.isFile() && !file.isHidden()) {
-                        String name = file.getName();
-                        String path = file.getAbsolutePath();
-                        Node advancedComponent = createEsbComponent(type, name, path);
-                        if (advancedComponent != null) {
-                            try {
-                                String methodName;
-                                if (advancedComponent instanceof ConnectionNode) {
-                                    methodName = "addConnection";
-                                } else {
-                                    methodName = "add" + type;
-                                }
-                                Method method = directoryTree.getClass().getMethod(methodName, Node.class);
-                                method.invoke(directoryTree, advancedComponent);
-                            } catch (NoSuchMethodException | IllegalArgumentException | IllegalAccessException |
-                                     InvocationTargetException e) {
-                                LOGGER.log(Level.WARNING, "Error while trying to execute method.", e);
+                        @Override
+                        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+
+                            cancelChecker.checkCanceled();
+                            if (!dir.equals(artifactsPath)) {
+                                type = getType(dir.getFileName().toString());
                             }
+                            return FileVisitResult.CONTINUE;
                         }
-                    }
-                }
-            }
-        } catch (SecurityException e) {
-            LOGGER.log(Level.WARNING, "No read access to the file.", e);
+
+                        @Override
+                        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+
+                            // Files directly in the artifacts folder do not belong to any type
+                            if (attrs.isRegularFile() && !artifactsPath.equals(file.getParent()) &&
+                                    !Files.isHidden(file)) {
+                                artifactFiles.add(new ArtifactFile(file.toFile(), type, attrs.lastModifiedTime()
+                                        .toMillis(), attrs.size()));
+                            }
+                            return FileVisitResult.CONTINUE;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFileFailed(Path file, IOException e) {
+
+                            LOGGER.log(Level.WARNING, "No read access to the file.", e);
+                            return FileVisitResult.CONTINUE;
+                        }
+                    });
+        } catch (IOException | SecurityException e) {
+            LOGGER.log(Level.WARNING, "Error while reading the artifacts folder.", e);
+        }
+        return artifactFiles;
+    }
+
+    /**
+     * Creates the nodes of the given artifact files in parallel. The nodes are returned in the order of the files.
+     *
+     * @param artifactFiles    artifact files
+     * @param analysisExecutor executor to analyze the artifact files
+     * @param cancelChecker    cancel checker of the request
+     * @return nodes of the artifact files
+     */
+    private List<Node> createEsbComponents(List<ArtifactFile> artifactFiles, Executor analysisExecutor,
+                                           CancelChecker cancelChecker) {
+
+        try {
+            return RequestExecutor.map(analysisExecutor, artifactFiles, this::getEsbComponent, cancelChecker);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.log(Level.WARNING, "Interrupted while analyzing the artifacts of the project: " + projectPath, e);
+            return Collections.emptyList();
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.SEVERE, "Error occurred while analyzing the artifacts of the project: " + projectPath, e);
         }
+        return artifactFiles.stream().map(this::getEsbComponent).collect(Collectors.toList());
+    }
+
+    private static void addToTree(IntegrationDirectoryTree directoryTree, String type, Node node) {
+
+        BiConsumer<IntegrationDirectoryTree, Node> treeSink = TREE_SINKS.get(type);
+        if (treeSink != null) {
+            treeSink.accept(directoryTree, node);
+        }
+    }
+
+    private static String getType(String name) {
+
+        String name1 = Utils.removeHyphen(name);
+        name1 = Utils.pluralToSingular(name1);
+        name1 = name1.substring(0, 1).toUpperCase() + name1.substring(1);
+        return name1;
     }
 
-    private static void analyzeResources(IntegrationDirectoryTree directoryTree) {
+    private void analyzeResources(IntegrationDirectoryTree directoryTree) {
 
         analyzeRegistryResources(directoryTree);
         analyzeConnectorResources(directoryTree);
@@ -347,7 +569,7 @@ public class DirectoryTreeBuilder {
         analyzeNewResources(directoryTree);
     }
 
-    private static void analyzeNewResources(IntegrationDirectoryTree directoryTree) {
+    private void analyzeNewResources(IntegrationDirectoryTree directoryTree) {
 
         String registryPath = projectPath + File.separator + Constant.SRC + File.separator +
                 MAIN + File.separator + WSO2MI + File.separator + RESOURCES;
@@ -362,13 +584,13 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void analyzeRegistryResources(IntegrationDirectoryTree directoryTree) {
+    private void analyzeRegistryResources(IntegrationDirectoryTree directoryTree) {
 
         analyzeRegistryByType(directoryTree, Constant.GOV);
         analyzeRegistryByType(directoryTree, Constant.CONF);
     }
 
-    private static void analyzeRegistryByType(IntegrationDirectoryTree directoryTree, String type) {
+    private void analyzeRegistryByType(IntegrationDirectoryTree directoryTree, String type) {
 
         String registryPath = projectPath + File.separator + Constant.SRC + File.separator +
                 MAIN + File.separator + WSO2MI + File.separator + RESOURCES +
@@ -388,7 +610,7 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void analyzeConnectorResources(IntegrationDirectoryTree directoryTree) {
+    private void analyzeConnectorResources(IntegrationDirectoryTree directoryTree) {
 
         String connectorPath = projectPath + File.separator + Constant.SRC + File.separator + MAIN
                 + File.separator + WSO2MI + File.separator + RESOURCES + File.separator + "connectors";
@@ -406,7 +628,7 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void analyzeMetadataResources(IntegrationDirectoryTree directoryTree) {
+    private void analyzeMetadataResources(IntegrationDirectoryTree directoryTree) {
 
         String metadataPath = projectPath + File.separator + Constant.SRC + File.separator + MAIN +
                 File.separator + WSO2MI + File.separator + RESOURCES +
@@ -425,7 +647,7 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void analyzeJavaProjects(IntegrationDirectoryTree directoryTree) {
+    private void analyzeJavaProjects(IntegrationDirectoryTree directoryTree) {
 
         String javaPath =
                 projectPath + File.separator + Constant.SRC + File.separator + MAIN +
@@ -441,7 +663,7 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void analyzeBallerinaProjects(IntegrationDirectoryTree directoryTree) {
+    private void analyzeBallerinaProjects(IntegrationDirectoryTree directoryTree) {
 
         String ballerinaPath = projectPath + File.separator + Constant.SRC + File.separator + MAIN +
                         File.separator + Constant.BALLERINA;
@@ -454,7 +676,7 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void analyzeTestsFolder(IntegrationDirectoryTree directoryTree) {
+    private void analyzeTestsFolder(IntegrationDirectoryTree directoryTree) {
 
         TestFolder testFolder = new TestFolder();
         String testsPath = projectPath + File.separator + Constant.SRC + File.separator + "test";
@@ -463,7 +685,7 @@ public class DirectoryTreeBuilder {
         directoryTree.setTests(testFolder);
     }
 
-    private static void analyzeSubTestFolder(String testPath, String testName, Consumer<FolderNode> setter) {
+    private void analyzeSubTestFolder(String testPath, String testName, Consumer<FolderNode> setter) {
 
         File subFolder = new File(testPath + File.separator + testName);
         if (subFolder != null && subFolder.exists() && !subFolder.isHidden()) {
@@ -474,7 +696,7 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void traverseFolder(FolderNode folderNode, IntegrationDirectoryTree directoryTree) {
+    private void traverseFolder(FolderNode folderNode, IntegrationDirectoryTree directoryTree) {
 
         File[] listOfFiles = folderNode.listFiles();
         for (File file : listOfFiles) {
@@ -503,33 +725,44 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void addResourceToIntegrationTree(IntegrationDirectoryTree directoryTree, String path) {
+    private void addResourceToIntegrationTree(IntegrationDirectoryTree directoryTree, String path) {
 
         if (path.endsWith(".xml")) {
-            try {
-                File file = new File(path);
-                DOMDocument domDocument = Utils.getDOMDocument(file);
-                DOMElement rootElement = Utils.getRootElementFromConfigXml(domDocument);
-
-                if (rootElement != null) {
-                    String type = rootElement.getNodeName();
-                    String name = file.getName();
-                    type = getType(type);
-                    Node regNode = createRegistryNode(name, type, path);
-                    String methodName = "add" + type;
-                    Method method = directoryTree.getClass().getMethod
-                            (methodName, Node.class);
-                    method.invoke(directoryTree, regNode);
+            File file = new File(path);
+            CachedNode cachedNode = nodes.get(path);
+            if (cachedNode == null || !cachedNode.isValid(file)) {
+                cachedNode = createRegistryResourceNode(file);
+                if (cachedNode == null) {
+                    return;
                 }
-            } catch (IOException e) {
-                LOGGER.log(Level.WARNING, "Error while reading file content", e);
-            } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-                LOGGER.log(Level.WARNING, "Error while trying to execute method.", e);
+                nodes.put(path, cachedNode);
+            }
+            if (cachedNode.node != null) {
+                addToTree(directoryTree, cachedNode.type, cachedNode.node);
             }
         }
     }
 
-    private static Node createRegistryNode(String name, String type, String path) {
+    private CachedNode createRegistryResourceNode(File file) {
+
+        long lastModified = file.lastModified();
+        long size = file.length();
+        try {
+            DOMDocument domDocument = Utils.getDOMDocumentFromDisk(file);
+            DOMElement rootElement = Utils.getRootElementFromConfigXml(domDocument);
+            if (rootElement == null) {
+                return new CachedNode(lastModified, size, null, null);
+            }
+            String type = getType(rootElement.getNodeName());
+            Node regNode = createRegistryNode(file.getName(), type, file.getAbsolutePath());
+            return new CachedNode(lastModified, size, type, regNode);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Error while reading file content", e);
+        }
+        return null;
+    }
+
+    private Node createRegistryNode(String name, String type, String path) {
 
         StringBuilder key = new StringBuilder();
         if (path.contains(Constant.GOV)) {
@@ -546,7 +779,20 @@ public class DirectoryTreeBuilder {
         return registry;
     }
 
-    private static Node createEsbComponent(String type, String name, String path) {
+    private Node getEsbComponent(ArtifactFile artifactFile) {
+
+        String path = artifactFile.file.getAbsolutePath();
+        CachedNode cachedNode = nodes.get(path);
+        if (cachedNode != null && cachedNode.isValid(artifactFile.lastModified, artifactFile.size) &&
+                artifactFile.type.equals(cachedNode.type)) {
+            return cachedNode.node;
+        }
+        Node node = createEsbComponent(artifactFile.type, artifactFile.file.getName(), path);
+        nodes.put(path, new CachedNode(artifactFile.lastModified, artifactFile.size, artifactFile.type, node));
+        return node;
+    }
+
+    private Node createEsbComponent(String type, String name, String path) {
 
         String artifactName;
         String nodeType = Utils.addUnderscoreBetweenWords(type).toUpperCase();
@@ -577,7 +823,7 @@ public class DirectoryTreeBuilder {
 
         File file = new File(path);
         try {
-            DOMDocument domDocument = Utils.getDOMDocument(file);
+            DOMDocument domDocument = Utils.getDOMDocumentFromDisk(file);
             STNode stNode = SyntaxTreeGenerator.buildTree(domDocument.getDocumentElement());
             switch (type) {
                 case "Endpoint":
@@ -611,7 +857,7 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static AdvancedNode createAdvancedEsbComponent(Node component, String type, String path) {
+    private AdvancedNode createAdvancedEsbComponent(Node component, String type, String path) {
 
         AdvancedNode advancedNode;
         switch (type.toLowerCase()) {
@@ -635,7 +881,7 @@ public class DirectoryTreeBuilder {
         if (file.isFile() && !file.isHidden()) {
             DOMDocument domDocument = null;
             try {
-                domDocument = Utils.getDOMDocument(file);
+                domDocument = Utils.getDOMDocumentFromDisk(file);
             } catch (IOException e) {
                 LOGGER.log(Level.WARNING, "Error while reading file content", e);
             }
@@ -651,7 +897,7 @@ public class DirectoryTreeBuilder {
 
         File file = new File(path);
         try {
-            DOMDocument domDocument = Utils.getDOMDocument(file);
+            DOMDocument domDocument = Utils.getDOMDocumentFromDisk(file);
             if (domDocument != null) {
                 DOMElement rootElement = domDocument.getDocumentElement();
                 String key = rootElement.getAttribute(Constant.KEY);
@@ -694,7 +940,7 @@ public class DirectoryTreeBuilder {
         File file = new File(path);
         DOMDocument domDocument = null;
         try {
-            domDocument = Utils.getDOMDocument(file);
+            domDocument = Utils.getDOMDocumentFromDisk(file);
             DOMNode node = Utils.getChildNodeByName(domDocument, Constant.API);
             if (node != null) {
                 String context = node.getAttribute(Constant.CONTEXT);
@@ -709,7 +955,7 @@ public class DirectoryTreeBuilder {
     private static String getArtifactName(String type, String path) throws IOException {
 
         File file = new File(path);
-        DOMDocument domDocument = Utils.getDOMDocument(file);
+        DOMDocument domDocument = Utils.getDOMDocumentFromDisk(file);
 
         String tag = getArtifactTag(type);
 
@@ -775,27 +1021,77 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void extractClassMediators(JsonNode mediatorFolders, ArrayNode classMediatorArray) {
-        for (JsonNode classMediatorFolder : mediatorFolders) {
-            if (classMediatorFolder.has(Constant.FILES)) {
-                classMediatorArray.addAll((ArrayNode) classMediatorFolder.path(Constant.FILES));
+    private static void extractClassMediators(JsonElement mediatorFolders, JsonArray classMediatorArray) {
+        if (!mediatorFolders.isJsonArray()) {
+            return;
+        }
+        for (JsonElement classMediatorFolder : mediatorFolders.getAsJsonArray()) {
+            JsonElement files = getMember(classMediatorFolder, Constant.FILES);
+            if (files.isJsonArray()) {
+                classMediatorArray.addAll(files.getAsJsonArray());
             }
+            extractClassMediators(getMember(classMediatorFolder, Constant.FOLDERS), classMediatorArray);
+        }
+    }
 
-            if (classMediatorFolder.has(Constant.FOLDERS)) {
-                extractClassMediators(classMediatorFolder.path(Constant.FOLDERS), classMediatorArray);
+    private static void extractBallerinaModules(JsonElement moduleFolders, JsonArray ballerinaModuleArray) {
+        if (!moduleFolders.isJsonArray()) {
+            return;
+        }
+        for (JsonElement ballerinaModuleFolder : moduleFolders.getAsJsonArray()) {
+            JsonElement files = getMember(ballerinaModuleFolder, Constant.FILES);
+            if (files.isJsonArray()) {
+                ballerinaModuleArray.addAll(files.getAsJsonArray());
             }
+            extractBallerinaModules(getMember(ballerinaModuleFolder, Constant.FOLDERS), ballerinaModuleArray);
         }
     }
 
-    private static void extractBallerinaModules(JsonNode moduleFolders, ArrayNode ballerinaModuleArray) {
-        for (JsonNode ballerinaModuleFolder : moduleFolders) {
-            if (ballerinaModuleFolder.has(Constant.FILES)) {
-                ballerinaModuleArray.addAll((ArrayNode) ballerinaModuleFolder.path(Constant.FILES));
-            }
+    /**
+     * Node of an artifact file together with the file attributes it was created from.
+     */
+    private static class CachedNode {
 
-            if (ballerinaModuleFolder.has(Constant.FOLDERS)) {
-                extractBallerinaModules(ballerinaModuleFolder.path(Constant.FOLDERS), ballerinaModuleArray);
-            }
+        private final long lastModified;
+        private final long size;
+        private final String type;
+        private final Node node;
+
+        CachedNode(long lastModified, long size, String type, Node node) {
+
+            this.lastModified = lastModified;
+            this.size = size;
+            this.type = type;
+            this.node = node;
+        }
+
+        private boolean isValid(File file) {
+
+            return isValid(file.lastModified(), file.length());
+        }
+
+        private boolean isValid(long lastModified, long size) {
+
+            return this.lastModified == lastModified && this.size == size;
+        }
+    }
+
+    /**
+     * File in a type folder of the artifacts folder.
+     */
+    private static class ArtifactFile {
+
+        private final File file;
+        private final String type;
+        private final long lastModified;
+        private final long size;
+
+        ArtifactFile(File file, String type, long lastModified, long size) {
+
+            this.file = file;
+            this.type = type;
+            this.lastModified = lastModified;
+            this.size = size;
         }
     }
 }
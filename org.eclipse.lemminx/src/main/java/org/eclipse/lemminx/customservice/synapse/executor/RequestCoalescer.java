@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.customservice.synapse.executor;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Shares the result of identical custom requests. A request with the same key as an in-flight or an already completed
+ * request gets the result of that request instead of computing it again. A result is kept until a watched file under
+ * one of the folders it depends on changes. Without file change events a result can not be invalidated, so the
+ * requests are computed every time once the coalescer is disabled.
+ */
+public class RequestCoalescer {
+
+    private final Map<String, CachedRequest<?>> requests = new ConcurrentHashMap<>();
+    private volatile boolean isEnabled = true;
+
+    /**
+     * Returns the shared result of the request with the given key, computing it if there is no such request.
+     *
+     * @param key        key identifying identical requests
+     * @param dependsOn  folders or files the result depends on
+     * @param computable computes the result
+     * @param <R>        result type
+     * @return future of the result. Cancelling the returned future does not cancel the shared computation
+     */
+    @SuppressWarnings("unchecked")
+    public <R> CompletableFuture<R> compute(String key, List<Path> dependsOn,
+                                            Supplier<CompletableFuture<R>> computable) {
+
+        if (!isEnabled) {
+            return computable.get();
+        }
+        CachedRequest<?>[] created = new CachedRequest<?>[1];
+        CachedRequest<R> request = (CachedRequest<R>) requests.computeIfAbsent(key,
+                k -> created[0] = new CachedRequest<>(computable.get(), dependsOn));
+        if (request == created[0]) {
+            // Failed or cancelled results are not shared with the later requests
+            request.future.whenComplete((result, error) -> {
+                if (error != null) {
+                    requests.remove(key, request);
+                }
+            });
+        }
+        return request.future.thenApply(Function.identity());
+    }
+
+    /**
+     * Drops the results which depend on the given changed file or folder.
+     *
+     * @param changedPath absolute path of the changed file or folder
+     */
+    public void invalidate(String changedPath) {
+
+        Path path = Path.of(changedPath).toAbsolutePath().normalize();
+        requests.values().removeIf(request -> request.dependsOn(path));
+    }
+
+    public void invalidateAll() {
+
+        requests.clear();
+    }
+
+    /**
+     * Enables or disables sharing the results. The client must report the file changes for the results to be shared.
+     *
+     * @param isEnabled whether the results are shared
+     */
+    public void setEnabled(boolean isEnabled) {
+
+        this.isEnabled = isEnabled;
+        if (!isEnabled) {
+            requests.clear();
+        }
+    }
+
+    private static class CachedRequest<R> {
+
+        private final CompletableFuture<R> future;
+        private final List<Path> dependencies;
+
+        CachedRequest(CompletableFuture<R> future, List<Path> dependencies) {
+
+            this.future = future;
+            this.dependencies = dependencies;
+        }
+
+        private boolean dependsOn(Path changedPath) {
+
+            for (Path dependency : dependencies) {
+                Path normalizedDependency = dependency.toAbsolutePath().normalize();
+                if (changedPath.startsWith(normalizedDependency) || normalizedDependency.startsWith(changedPath)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
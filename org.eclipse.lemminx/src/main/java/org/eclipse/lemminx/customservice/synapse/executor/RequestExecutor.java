@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.customservice.synapse.executor;
+
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Executes the custom requests of the Synapse language service outside the JSON-RPC message thread.
+ * <p>
+ * Requests are executed on one of three pools according to the kind of work they do, so that a slow file walk or a
+ * database call does not delay the CPU bound requests of the editor and vice versa. The pool sizes can be configured
+ * with the {@value #IO_THREADS_PROPERTY}, {@value #CPU_THREADS_PROPERTY} and {@value #PROCESS_THREADS_PROPERTY} system
+ * properties. Requests which modify the project files run one after another on a single writer thread, so that two
+ * updates of the same file do not interleave.
+ */
+public class RequestExecutor {
+
+    public static final String IO_THREADS_PROPERTY = "synapse.executor.io.threads";
+    public static final String CPU_THREADS_PROPERTY = "synapse.executor.cpu.threads";
+    public static final String PROCESS_THREADS_PROPERTY = "synapse.executor.process.threads";
+    /**
+     * Cancel checker of the work which is not done for a cancellable request.
+     */
+    public static final CancelChecker NOT_CANCELLABLE = () -> {
+    };
+    private static final int CPU_COUNT = Runtime.getRuntime().availableProcessors();
+    private static final int DEFAULT_IO_THREADS = Math.max(4, CPU_COUNT);
+    private static final int DEFAULT_CPU_THREADS = Math.max(2, CPU_COUNT - 1);
+    private static final int DEFAULT_PROCESS_THREADS = 2;
+
+    private final ExecutorService ioExecutor;
+    private final ExecutorService cpuExecutor;
+    private final ExecutorService processExecutor;
+    private final ExecutorService writeExecutor;
+    private final Map<String, CompletableFuture<?>> latestRequests = new ConcurrentHashMap<>();
+
+    /**
+     * Kind of the work done by a request.
+     */
+    public enum Pool {
+        /**
+         * File system, network and database access.
+         */
+        IO,
+        /**
+         * Parsing and model generation.
+         */
+        CPU,
+        /**
+         * Work which waits on an external process such as the MI runtime or a maven build.
+         */
+        PROCESS,
+        /**
+         * Updates of the project files, such as the pom, the config files and the drivers, executed in order.
+         */
+        WRITE
+    }
+
+    public RequestExecutor() {
+
+        this(Integer.getInteger(IO_THREADS_PROPERTY, DEFAULT_IO_THREADS),
+                Integer.getInteger(CPU_THREADS_PROPERTY, DEFAULT_CPU_THREADS),
+                Integer.getInteger(PROCESS_THREADS_PROPERTY, DEFAULT_PROCESS_THREADS));
+    }
+
+    public RequestExecutor(int ioThreads, int cpuThreads, int processThreads) {
+
+        this.ioExecutor = Executors.newFixedThreadPool(Math.max(1, ioThreads), new RequestThreadFactory("io"));
+        this.cpuExecutor = Executors.newFixedThreadPool(Math.max(1, cpuThreads), new RequestThreadFactory("cpu"));
+        this.processExecutor =
+                Executors.newFixedThreadPool(Math.max(1, processThreads), new RequestThreadFactory("process"));
+        this.writeExecutor = Executors.newSingleThreadExecutor(new RequestThreadFactory("write"));
+    }
+
+    /**
+     * Executes the given task on the given pool. The task is skipped if the request is cancelled before it starts,
+     * and the task can check for the cancellation while running with the given {@link CancelChecker}.
+     *
+     * @param pool pool to execute the task
+     * @param task task to execute
+     * @param <R>  result type
+     * @return future of the task result
+     */
+    public <R> CompletableFuture<R> compute(Pool pool, Function<CancelChecker, R> task) {
+
+        return CompletableFutures.computeAsync(getExecutor(pool), cancelChecker -> {
+            cancelChecker.checkCanceled();
+            return task.apply(cancelChecker);
+        });
+    }
+
+    /**
+     * Executes the given task on the given pool once the given dependency completes. Cancelling the returned future
+     * before the dependency completes skips the task.
+     *
+     * @param dependency future which must complete before the task starts
+     * @param pool       pool to execute the task
+     * @param task       task to execute
+     * @param <R>        result type
+     * @return future of the task result
+     */
+    public <R> CompletableFuture<R> compute(CompletableFuture<?> dependency, Pool pool,
+                                            Function<CancelChecker, R> task) {
+
+        if (dependency.isDone()) {
+            return compute(pool, task);
+        }
+        CompletableFuture<R> result = new CompletableFuture<>();
+        dependency.whenComplete((ignored, dependencyError) -> {
+            if (result.isDone()) {
+                return;
+            }
+            CompletableFuture<R> computation = compute(pool, task);
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) {
+                    computation.cancel(true);
+                }
+            });
+            computation.whenComplete((value, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+            });
+        });
+        return result;
+    }
+
+    /**
+     * Executes the given task on the given pool and cancels the previous request with the same key if it is still
+     * running, since its result is superseded by this request.
+     *
+     * @param requestKey key identifying the requests which supersede each other
+     * @param pool       pool to execute the task
+     * @param task       task to execute
+     * @param <R>        result type
+     * @return future of the task result
+     */
+    public <R> CompletableFuture<R> computeLatest(String requestKey, Pool pool, Function<CancelChecker, R> task) {
+
+        CompletableFuture<R> future = compute(pool, task);
+        CompletableFuture<?> previous = latestRequests.put(requestKey, future);
+        if (previous != null) {
+            previous.cancel(true);
+        }
+        future.whenComplete((result, error) -> latestRequests.remove(requestKey, future));
+        return future;
+    }
+
+    /**
+     * Applies the given function to the given items in parallel on the given executor. The calling thread runs the
+     * items which the executor has not started yet, so that the call completes even when it is made from a task of the
+     * same executor while all of its threads are busy.
+     *
+     * @param executor executor to run the items
+     * @param items    items to apply the function
+     * @param function function to apply
+     * @param <T>      item type
+     * @param <R>      result type
+     * @return results in the order of the items
+     * @throws InterruptedException  if the thread is interrupted while waiting for the results
+     * @throws ExecutionException    if the function fails for an item
+     * @throws CancellationException if the function is cancelled for an item
+     */
+    public static <T, R> List<R> map(Executor executor, List<T> items, Function<? super T, ? extends R> function)
+            throws InterruptedException, ExecutionException {
+
+        List<FutureTask<R>> tasks = new ArrayList<>(items.size());
+        for (T item : items) {
+            tasks.add(new FutureTask<>(() -> function.apply(item)));
+        }
+        try {
+            for (FutureTask<R> task : tasks) {
+                executor.execute(task);
+            }
+        } catch (RejectedExecutionException e) {
+            // The remaining items are run by the calling thread
+        }
+        // Runs from the last item, as the executor starts from the first item
+        for (int i = tasks.size() - 1; i >= 0; i--) {
+            tasks.get(i).run();
+        }
+        List<R> results = new ArrayList<>(tasks.size());
+        for (FutureTask<R> task : tasks) {
+            try {
+                results.add(task.get());
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof CancellationException) {
+                    throw (CancellationException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Applies the given function to the given items in parallel on the given executor, skipping the items which are
+     * not started yet once the request is cancelled.
+     *
+     * @param executor      executor to run the items
+     * @param items         items to apply the function
+     * @param function      function to apply
+     * @param cancelChecker cancel checker of the request
+     * @param <T>           item type
+     * @param <R>           result type
+     * @return results in the order of the items
+     * @throws InterruptedException  if the thread is interrupted while waiting for the results
+     * @throws ExecutionException    if the function fails for an item
+     * @throws CancellationException if the request is cancelled
+     */
+    public static <T, R> List<R> map(Executor executor, List<T> items, Function<? super T, ? extends R> function,
+                                     CancelChecker cancelChecker) throws InterruptedException, ExecutionException {
+
+        return map(executor, items, item -> {
+            cancelChecker.checkCanceled();
+            return function.apply(item);
+        });
+    }
+
+    public ExecutorService getExecutor(Pool pool) {
+
+        switch (pool) {
+            case CPU:
+                return cpuExecutor;
+            case PROCESS:
+                return processExecutor;
+            case WRITE:
+                return writeExecutor;
+            default:
+                return ioExecutor;
+        }
+    }
+
+    public void shutdown() {
+
+        latestRequests.values().forEach(future -> future.cancel(true));
+        latestRequests.clear();
+        ioExecutor.shutdownNow();
+        cpuExecutor.shutdownNow();
+        processExecutor.shutdownNow();
+        writeExecutor.shutdownNow();
+    }
+
+    private static class RequestThreadFactory implements ThreadFactory {
+
+        private final String poolName;
+        private final AtomicInteger threadCount = new AtomicInteger(1);
+
+        RequestThreadFactory(String poolName) {
+
+            this.poolName = poolName;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, "synapse-" + poolName + "-" + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.customservice.synapse.executor;
+
+import org.eclipse.lemminx.customservice.SynapseLanguageClientAPI;
+import org.eclipse.lemminx.customservice.synapse.StartupStageNotification;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Tracks the startup of the Synapse language service.
+ * <p>
+ * Only the work needed to answer the initialize request runs on the critical path. The rest of the startup runs in
+ * background stages, and the requests which depend on a stage wait for it with {@link #whenReady(Stage...)}. The client
+ * is notified as each stage completes. The duration of each startup phase and the time taken for the first response
+ * of the tracked requests are logged and kept, so that the time to the first completion can be followed.
+ */
+public class StartupStages {
+
+    private static final Logger LOGGER = Logger.getLogger(StartupStages.class.getName());
+
+    private final long startTime = System.nanoTime();
+    private final Map<Stage, CompletableFuture<Void>> stages = new EnumMap<>(Stage.class);
+    private final Map<String, Long> timings = Collections.synchronizedMap(new LinkedHashMap<>());
+    private volatile SynapseLanguageClientAPI languageClient;
+
+    /**
+     * Background startup stage.
+     */
+    public enum Stage {
+        /**
+         * Downloading, extracting and loading the connectors and the inbound connectors.
+         */
+        CONNECTORS,
+        /**
+         * Building the mediator list and the connection schemas.
+         */
+        MEDIATORS,
+        /**
+         * Loading the project libraries and creating the mediator tryout handlers.
+         */
+        TRYOUT,
+        /**
+         * Indexing the project artifacts.
+         */
+        ARTIFACT_INDEX
+    }
+
+    public StartupStages() {
+
+        for (Stage stage : Stage.values()) {
+            stages.put(stage, new CompletableFuture<>());
+        }
+    }
+
+    public void setLanguageClient(SynapseLanguageClientAPI languageClient) {
+
+        this.languageClient = languageClient;
+    }
+
+    /**
+     * Runs the given stage on the given executor once its dependencies are ready. The stage is marked as ready even if
+     * it fails, so that the waiting requests are not blocked forever.
+     *
+     * @param stage        stage to run
+     * @param executor     executor to run the stage
+     * @param task         work of the stage
+     * @param dependencies stages which must be ready before this stage starts
+     * @return future which completes when the stage is ready
+     */
+    public CompletableFuture<Void> start(Stage stage, Executor executor, Runnable task, Stage... dependencies) {
+
+        CompletableFuture<Void> stageFuture = stages.get(stage);
+        whenReady(dependencies).thenRunAsync(() -> {
+            long stageStart = System.nanoTime();
+            boolean isSuccess = true;
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                isSuccess = false;
+                LOGGER.log(Level.SEVERE, "Error while running the startup stage: " + stage, e);
+            } finally {
+                long duration = recordPhase(stage.name(), stageStart);
+                notifyClient(stage, isSuccess, duration);
+                stageFuture.complete(null);
+            }
+        }, executor).exceptionally(error -> {
+            LOGGER.log(Level.SEVERE, "Could not start the startup stage: " + stage, error);
+            stageFuture.complete(null);
+            return null;
+        });
+        return stageFuture;
+    }
+
+    /**
+     * Marks the given stages as ready without running them, for the stages which do not apply to the workspace. The
+     * requests which depend on them run with whatever state is available instead of waiting forever.
+     *
+     * @param skippedStages stages to skip
+     */
+    public void skip(Stage... skippedStages) {
+
+        for (Stage stage : skippedStages) {
+            if (stages.get(stage).complete(null)) {
+                LOGGER.log(Level.INFO, "Skipped the startup stage: " + stage);
+                notifyClient(stage, false, 0);
+            }
+        }
+    }
+
+    /**
+     * Returns a future which completes when all the given stages are ready.
+     *
+     * @param dependencies stages to wait for
+     * @return future which completes when the stages are ready
+     */
+    public CompletableFuture<Void> whenReady(Stage... dependencies) {
+
+        return CompletableFuture.allOf(Arrays.stream(dependencies).map(stages::get)
+                .toArray(CompletableFuture[]::new));
+    }
+
+    public boolean isReady(Stage stage) {
+
+        return stages.get(stage).isDone();
+    }
+
+    /**
+     * Records the duration of a startup phase which started at the given time.
+     *
+     * @param phase     name of the phase
+     * @param phaseStart start time of the phase from {@link System#nanoTime()}
+     * @return duration of the phase in milliseconds
+     */
+    public long recordPhase(String phase, long phaseStart) {
+
+        long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - phaseStart);
+        timings.put(phase, duration);
+        LOGGER.log(Level.INFO, String.format("Startup phase %s took %d ms (%d ms since start)", phase, duration,
+                getElapsedTime()));
+        return duration;
+    }
+
+    /**
+     * Records the time from the start of the language service to the first response of the given request.
+     *
+     * @param request name of the request
+     */
+    public void recordFirstResponse(String request) {
+
+        String phase = "first " + request;
+        if (timings.containsKey(phase)) {
+            return;
+        }
+        long elapsed = getElapsedTime();
+        if (timings.putIfAbsent(phase, elapsed) == null) {
+            LOGGER.log(Level.INFO, String.format("First %s response after %d ms", request, elapsed));
+        }
+    }
+
+    /**
+     * Returns the recorded startup timings in milliseconds.
+     *
+     * @return timings by phase
+     */
+    public Map<String, Long> getTimings() {
+
+        synchronized (timings) {
+            return new LinkedHashMap<>(timings);
+        }
+    }
+
+    private long getElapsedTime() {
+
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    }
+
+    private void notifyClient(Stage stage, boolean isSuccess, long duration) {
+
+        SynapseLanguageClientAPI client = languageClient;
+        if (client != null) {
+            client.startupStageStatus(new StartupStageNotification(stage.name(), isSuccess, duration,
+                    getElapsedTime()));
+        }
+    }
+}
@@ -63,6 +63,10 @@ public class ExpressionCompletionsProvider {
             Pattern.quote("file:" + File.separator + File.separator) + "(.+?)" +
                     Pattern.quote(Path.of("src", "main", "wso2mi").toString()) + ".*");
     private static final String EXPRESSION_REGEX = "\\$\\{([^}]*)}?$";
+    private static final int MAX_CACHED_DOCUMENTS = 16;
+    private static final int MAX_CACHED_POSITIONS = 64;
+    private static final TryoutInfoCache tryoutInfoCache =
+            new TryoutInfoCache(MAX_CACHED_DOCUMENTS, MAX_CACHED_POSITIONS);
     private static String projectPath;
 
     private ExpressionCompletionsProvider() {
@@ -121,15 +125,50 @@ public class ExpressionCompletionsProvider {
         return response;
     }
 
-    private static MediatorTryoutInfo getMediatorProperties(ICompletionRequest request, boolean isNewMediator) {
+    /**
+     * Clears the cached mediator properties. The properties depend on files other than the document, such as the
+     * tryout payloads and the config properties, hence the cache is cleared on any change in the project.
+     */
+    public static void clearCache() {
 
-        if (request.getXMLDocument() == null) {
+        tryoutInfoCache.clear();
+    }
+
+    private static MediatorTryoutInfo getMediatorProperties(ICompletionRequest request, boolean isNewMediator)
+            throws BadLocationException {
+
+        DOMDocument document = request.getXMLDocument();
+        if (document == null) {
             return null;
         }
+        String documentUri = Utils.getAbsolutePath(document.getDocumentURI());
+        int mediatorOffset = getMediatorOffset(document, request.getPosition(), isNewMediator);
+        return tryoutInfoCache.get(documentUri, document.getTextDocument().getVersion(), mediatorOffset, isNewMediator,
+                () -> getMediatorProperties(request, documentUri, isNewMediator));
+    }
+
+    /**
+     * Returns the start offset of the mediator at the given position. For a new mediator, returns the start offset of
+     * the mediator after which it is added, since the properties do not depend on the exact position of the new
+     * mediator between its siblings.
+     */
+    private static int getMediatorOffset(DOMDocument document, Position position, boolean isNewMediator)
+            throws BadLocationException {
+
+        int offset = document.offsetAt(position);
+        if (!isNewMediator) {
+            return document.findNodeAt(offset).getStart();
+        }
+        Position mediatorPosition = ExpressionCompletionUtils.getMediatorPosition(document, position);
+        return mediatorPosition != null ? document.offsetAt(mediatorPosition) : offset;
+    }
+
+    private static MediatorTryoutInfo getMediatorProperties(ICompletionRequest request, String documentUri,
+                                                            boolean isNewMediator) {
+
         String projectPath = getProjectPath(request.getXMLDocument().getDocumentURI());
         ServerLessTryoutHandler serverLessTryoutHandler = new ServerLessTryoutHandler(projectPath);
 
-        String documentUri = Utils.getAbsolutePath(request.getXMLDocument().getDocumentURI());
         String payload = ExpressionCompletionUtils.getInputPayload(projectPath, documentUri, request.getPosition());
 
         // Add a dummy mediator if the current mediator is a new mediator
@@ -148,6 +187,9 @@ public class ExpressionCompletionsProvider {
         MediatorTryoutRequest propertyRequest =
                 new MediatorTryoutRequest(documentUri, line, column, payload, editArray);
         MediatorTryoutInfo info = serverLessTryoutHandler.handle(propertyRequest);
+        if (info == null) {
+            return null;
+        }
         List<Property> configs = ExpressionCompletionUtils.getConfigs(projectPath);
         info.setInputConfigs(configs);
         info.setOutputConfigs(configs);
@@ -205,7 +247,8 @@ public class ExpressionCompletionsProvider {
     }
 
     private static void processCompletions(ICompletionRequest request, ICompletionResponse response,
-                                           ExpressionCompletionContext segment, boolean isNewMediator) {
+                                           ExpressionCompletionContext segment, boolean isNewMediator)
+            throws BadLocationException {
 
         if (ExpressionCompletionType.ROOT_LEVEL.equals(segment.getType())) {
             String filterText = segment.getSegment().isEmpty() ? StringUtils.EMPTY :
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.customservice.synapse.expression;
+
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutInfo;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Caches the mediator properties computed for the expression completions, by the document version and the start offset
+ * of the mediator, so that all the completion requests inside a mediator share the same properties.
+ * <p>
+ * The properties of a document are dropped when it is requested with a different version. Documents which are not open
+ * in the editor keep the same version, hence the cache must be cleared when a file of the project changes. The least
+ * recently used documents, and the least recently used mediators of each document, are evicted when the given limits
+ * are exceeded.
+ */
+public class TryoutInfoCache {
+
+    private final int maxPositions;
+    private final Map<String, CachedDocument> documents;
+
+    public TryoutInfoCache(int maxDocuments, int maxPositions) {
+
+        this.maxPositions = maxPositions;
+        this.documents = new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedDocument> eldest) {
+
+                return size() > maxDocuments;
+            }
+        };
+    }
+
+    /**
+     * Returns the properties of the given mediator of the given document, computing them if they are not cached. The
+     * properties are not cached if they cannot be computed.
+     *
+     * @param documentUri    path of the document
+     * @param version        current version of the document
+     * @param mediatorOffset start offset of the mediator, or of the mediator after which a new mediator is added
+     * @param isNewMediator  whether the properties are requested for a new mediator
+     * @param supplier       computes the mediator properties
+     * @return mediator properties, or null if they cannot be computed
+     */
+    public MediatorTryoutInfo get(String documentUri, int version, int mediatorOffset, boolean isNewMediator,
+                                  Supplier<MediatorTryoutInfo> supplier) {
+
+        String positionKey = mediatorOffset + ":" + isNewMediator;
+        CachedDocument cachedDocument;
+        MediatorTryoutInfo info;
+        synchronized (documents) {
+            cachedDocument = documents.get(documentUri);
+            if (cachedDocument == null || cachedDocument.version != version) {
+                cachedDocument = new CachedDocument(version, maxPositions);
+                documents.put(documentUri, cachedDocument);
+            }
+            info = cachedDocument.tryoutInfos.get(positionKey);
+        }
+        if (info == null) {
+            info = supplier.get();
+            if (info != null) {
+                synchronized (documents) {
+                    cachedDocument.tryoutInfos.put(positionKey, info);
+                }
+            }
+        }
+        return info;
+    }
+
+    public void clear() {
+
+        synchronized (documents) {
+            documents.clear();
+        }
+    }
+
+    /**
+     * Mediator properties computed for a version of a document, by the mediator start offset.
+     */
+    private static class CachedDocument {
+
+        private final int version;
+        private final Map<String, MediatorTryoutInfo> tryoutInfos;
+
+        CachedDocument(int version, int maxPositions) {
+
+            this.version = version;
+            this.tryoutInfos = new LinkedHashMap<>(16, 0.75f, true) {
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, MediatorTryoutInfo> eldest) {
+
+                    return size() > maxPositions;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,617 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.customservice.synapse.index;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.eclipse.lemminx.dom.DOMAttr;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMElement;
+import org.eclipse.lemminx.dom.DOMNode;
+import org.eclipse.lsp4j.FileChangeType;
+import org.eclipse.lsp4j.FileEvent;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory index of the Synapse artifacts and XML registry resources of a project.
+ * <p>
+ * The index is built once when the language server is initialized and kept up to date from the watched file events
+ * and the edits of the open documents. Resource finders and config finders query this index instead of listing and
+ * parsing the project files on every request.
+ * <p>
+ * Along with the outgoing references of each artifact, the index maintains the reverse reference graph from a key to
+ * the artifacts referring it, so that usages of a resource can be looked up without analyzing the project. A snapshot
+ * of the index is persisted in the .metadata folder of the project and is reused for the files which are not modified
+ * since the snapshot was written.
+ */
+public class ArtifactIndex {
+
+    private static final Logger LOGGER = Logger.getLogger(ArtifactIndex.class.getName());
+    private static final Map<String, ArtifactIndex> indexes = new ConcurrentHashMap<>();
+    private static final String DBS = "dbs";
+    private static final String META = ".meta";
+    private static final String METADATA = ".metadata";
+    private static final String SNAPSHOT_FILE = "artifact-index.json";
+    // Last modified time of the entries indexed from the unsaved content of an open document
+    private static final long UNSAVED = -1;
+    private static final Type SNAPSHOT_TYPE = new TypeToken<List<IndexedArtifact>>() {
+    }.getType();
+
+    // Attributes which hold the key of another artifact or registry resource
+    private static final Set<String> referenceAttributes = Set.of(Constant.KEY, "sequence", "inSequence",
+            "outSequence", "faultSequence", "onError", "onAccept", "onReject", "target", "configKey", "config",
+            "messageStore", "targetEndpoint", "publishSwagger", "inputSchema", "outputSchema", "schema",
+            "serviceName", "endpoint", "policy", "inboundPolicy", "outboundPolicy", "template");
+
+    private final Path projectPath;
+    private final Path artifactsPath;
+    private final Path resourcesPath;
+    private final Map<String, IndexedArtifact> artifacts;
+    private final Map<String, Set<String>> referrers;
+    // Paths of the indexed artifacts by their folder, which is the artifact type in the artifacts folder
+    private final Map<Path, Set<String>> folders;
+    private final Path snapshotPath;
+    private volatile boolean ready;
+
+    private ArtifactIndex(String projectPath) {
+
+        this.projectPath = Path.of(projectPath).toAbsolutePath().normalize();
+        this.artifactsPath = this.projectPath.resolve(Path.of(Constant.SRC, Constant.MAIN, Constant.WSO2MI,
+                Constant.ARTIFACTS));
+        this.resourcesPath = this.projectPath.resolve(Path.of(Constant.SRC, Constant.MAIN, Constant.WSO2MI,
+                Constant.RESOURCES));
+        this.artifacts = new ConcurrentHashMap<>();
+        this.referrers = new ConcurrentHashMap<>();
+        this.folders = new ConcurrentHashMap<>();
+        this.snapshotPath = this.projectPath.resolve(METADATA).resolve(SNAPSHOT_FILE);
+    }
+
+    /**
+     * Creates and registers the index for the given project. The index is built before returning.
+     *
+     * @param projectPath project path
+     * @return artifact index of the project
+     */
+    public static ArtifactIndex init(String projectPath) {
+
+        ArtifactIndex index = new ArtifactIndex(projectPath);
+        indexes.put(index.projectPath.toString(), index);
+        index.build();
+        return index;
+    }
+
+    /**
+     * Returns the index of the given project if it is already built.
+     *
+     * @param projectPath project path
+     * @return artifact index or null if the project is not indexed
+     */
+    public static ArtifactIndex getInstance(String projectPath) {
+
+        if (projectPath == null) {
+            return null;
+        }
+        ArtifactIndex index = indexes.get(Path.of(projectPath).toAbsolutePath().normalize().toString());
+        return index != null && index.ready ? index : null;
+    }
+
+    /**
+     * Returns the built index which covers the given file or folder.
+     *
+     * @param path absolute path of a file or a folder inside a project
+     * @return artifact index or null if the path is not inside an indexed project
+     */
+    public static ArtifactIndex forPath(String path) {
+
+        if (path == null) {
+            return null;
+        }
+        Path normalizedPath = Path.of(path).toAbsolutePath().normalize();
+        for (ArtifactIndex index : indexes.values()) {
+            if (index.ready && index.isIndexed(normalizedPath)) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the indexed entry of the given file.
+     *
+     * @param file artifact file
+     * @return indexed artifact or null if the file is not indexed
+     */
+    public static IndexedArtifact lookup(File file) {
+
+        ArtifactIndex index = forPath(file.getAbsolutePath());
+        return index != null ? index.get(file.getAbsolutePath()) : null;
+    }
+
+    /**
+     * Removes the index of the given project.
+     *
+     * @param projectPath project path
+     */
+    public static void dispose(String projectPath) {
+
+        if (projectPath != null) {
+            ArtifactIndex index = indexes.remove(Path.of(projectPath).toAbsolutePath().normalize().toString());
+            if (index != null && index.ready) {
+                index.saveSnapshot();
+            }
+        }
+    }
+
+    /**
+     * Walks the artifacts and resources folders of the project and indexes every artifact. Entries of the persisted
+     * snapshot are reused for the files which are not modified after the snapshot was written.
+     */
+    public synchronized void build() {
+
+        artifacts.clear();
+        referrers.clear();
+        folders.clear();
+        Map<String, IndexedArtifact> snapshot = loadSnapshot();
+        indexFolder(artifactsPath, snapshot);
+        indexFolder(resourcesPath, snapshot);
+        ready = true;
+        saveSnapshot();
+        LOGGER.log(Level.FINE, "Indexed " + artifacts.size() + " artifacts in " + projectPath);
+    }
+
+    public boolean isReady() {
+
+        return ready;
+    }
+
+    public String getProjectPath() {
+
+        return projectPath.toString();
+    }
+
+    /**
+     * Returns the indexed entry of the given file. If the file is modified on the disk after it is indexed, it is
+     * re-indexed.
+     *
+     * @param path absolute path of the file
+     * @return indexed artifact or null if the file is not indexed
+     */
+    public IndexedArtifact get(String path) {
+
+        String normalizedPath = normalize(path);
+        IndexedArtifact artifact = artifacts.get(normalizedPath);
+        if (artifact != null && artifact.getLastModified() != UNSAVED &&
+                artifact.getLastModified() != new File(normalizedPath).lastModified()) {
+            artifact = update(normalizedPath);
+        }
+        return artifact;
+    }
+
+    /**
+     * Returns the artifacts which are directly inside the given folder, ordered by the file path.
+     *
+     * @param folder folder path
+     * @return artifacts in the folder
+     */
+    public List<IndexedArtifact> getArtifacts(Path folder) {
+
+        Set<String> paths = folders.get(folder.toAbsolutePath().normalize());
+        if (paths == null) {
+            return Collections.emptyList();
+        }
+        return paths.stream()
+                .map(artifacts::get)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(IndexedArtifact::getPath))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns all the artifacts in the artifacts folder of the project, ordered by the file path.
+     *
+     * @return artifacts of the project
+     */
+    public List<IndexedArtifact> getAllArtifacts() {
+
+        String artifactsFolder = artifactsPath.toString();
+        return artifacts.values().stream()
+                .filter(artifact -> artifact.getPath().startsWith(artifactsFolder))
+                .sorted(Comparator.comparing(IndexedArtifact::getPath))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the artifacts which refer the given key, ordered by the file path.
+     *
+     * @param key key of an artifact or a registry resource
+     * @return paths of the referring artifacts
+     */
+    public List<String> getReferrers(String key) {
+
+        Set<String> paths = referrers.get(key);
+        if (paths == null) {
+            return Collections.emptyList();
+        }
+        return paths.stream().sorted().collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the artifacts in the artifacts folder which refer the given key, ordered by the file path. The registry
+     * resources which refer the key are not included.
+     *
+     * @param key key of an artifact or a registry resource
+     * @return paths of the referring artifacts
+     */
+    public List<String> getArtifactReferrers(String key) {
+
+        return getReferrers(key).stream()
+                .filter(path -> Path.of(path).startsWith(artifactsPath))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Finds the path of the artifact with the given key inside the given folder.
+     *
+     * @param folder folder to search in
+     * @param key    name or key of the artifact
+     * @return absolute path of the artifact or null if not found
+     */
+    public String findArtifactPath(Path folder, String key) {
+
+        for (IndexedArtifact artifact : getArtifacts(folder)) {
+            if (key.equals(artifact.getKey())) {
+                return artifact.getPath();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Updates the index according to the given watched file event.
+     *
+     * @param event file event
+     */
+    public void handleFileEvent(FileEvent event) {
+
+        String path = Utils.getAbsolutePath(event.getUri());
+        if (path == null || !isIndexed(Path.of(path).toAbsolutePath().normalize())) {
+            return;
+        }
+        if (event.getType() == FileChangeType.Deleted) {
+            remove(path);
+        } else if (new File(path).isDirectory()) {
+            indexFolder(Path.of(path), Collections.emptyMap());
+        } else {
+            update(path);
+        }
+    }
+
+    /**
+     * Re-indexes the given file by reading it from the disk.
+     *
+     * @param path absolute path of the file
+     * @return the indexed artifact or null if the file cannot be indexed
+     */
+    public IndexedArtifact update(String path) {
+
+        String normalizedPath = normalize(path);
+        File file = new File(normalizedPath);
+        if (!file.isFile() || !isIndexable(file.toPath())) {
+            remove(normalizedPath);
+            return null;
+        }
+        try {
+            DOMDocument document = Utils.getDOMDocumentFromDisk(file);
+            return update(normalizedPath, document, file.lastModified());
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Error while indexing the artifact: " + normalizedPath, e);
+            remove(normalizedPath);
+        }
+        return null;
+    }
+
+    /**
+     * Re-indexes the given open document using its in-memory content.
+     *
+     * @param document the edited document
+     */
+    public void update(DOMDocument document) {
+
+        String path = Utils.getAbsolutePath(document.getDocumentURI());
+        if (path == null) {
+            return;
+        }
+        String normalizedPath = normalize(path);
+        Path filePath = Path.of(normalizedPath);
+        if (isIndexed(filePath) && isIndexable(filePath)) {
+            update(normalizedPath, document, UNSAVED);
+        }
+    }
+
+    /**
+     * Removes the given file, or all the files inside the given folder, from the index.
+     *
+     * @param path absolute path of a file or a folder
+     */
+    public synchronized void remove(String path) {
+
+        String normalizedPath = normalize(path);
+        String folderPrefix = normalizedPath + File.separator;
+        List<String> removedPaths = artifacts.keySet().stream()
+                .filter(artifactPath -> artifactPath.equals(normalizedPath) || artifactPath.startsWith(folderPrefix))
+                .collect(Collectors.toList());
+        for (String removedPath : removedPaths) {
+            removeReferences(artifacts.remove(removedPath));
+            Path folder = Path.of(removedPath).getParent();
+            Set<String> paths = folders.get(folder);
+            if (paths != null) {
+                paths.remove(removedPath);
+                if (paths.isEmpty()) {
+                    folders.remove(folder);
+                }
+            }
+        }
+    }
+
+    /**
+     * Re-indexes the given closed document from the disk if it is indexed from its unsaved content, which is discarded
+     * when the document is closed without saving.
+     *
+     * @param uri URI of the closed document
+     */
+    public void revert(String uri) {
+
+        String path = Utils.getAbsolutePath(uri);
+        if (path == null) {
+            return;
+        }
+        String normalizedPath = normalize(path);
+        IndexedArtifact artifact = artifacts.get(normalizedPath);
+        if (artifact != null && artifact.getLastModified() == UNSAVED) {
+            update(normalizedPath);
+        }
+    }
+
+    private IndexedArtifact update(String path, DOMDocument document, long lastModified) {
+
+        return put(createIndexedArtifact(path, document, lastModified));
+    }
+
+    private synchronized IndexedArtifact put(IndexedArtifact artifact) {
+
+        removeReferences(artifacts.put(artifact.getPath(), artifact));
+        folders.computeIfAbsent(Path.of(artifact.getPath()).getParent(), folder -> ConcurrentHashMap.newKeySet())
+                .add(artifact.getPath());
+        for (String reference : artifact.getReferences()) {
+            referrers.computeIfAbsent(reference, key -> ConcurrentHashMap.newKeySet()).add(artifact.getPath());
+        }
+        return artifact;
+    }
+
+    private void removeReferences(IndexedArtifact artifact) {
+
+        if (artifact == null) {
+            return;
+        }
+        for (String reference : artifact.getReferences()) {
+            Set<String> paths = referrers.get(reference);
+            if (paths != null) {
+                paths.remove(artifact.getPath());
+                if (paths.isEmpty()) {
+                    referrers.remove(reference);
+                }
+            }
+        }
+    }
+
+    private Map<String, IndexedArtifact> loadSnapshot() {
+
+        Map<String, IndexedArtifact> snapshot = new HashMap<>();
+        if (!Files.exists(snapshotPath)) {
+            return snapshot;
+        }
+        try {
+            List<IndexedArtifact> entries = new Gson().fromJson(Files.readString(snapshotPath), SNAPSHOT_TYPE);
+            if (entries != null) {
+                for (IndexedArtifact entry : entries) {
+                    if (entry.getPath() != null && entry.getChildTags() != null && entry.getReferences() != null) {
+                        snapshot.put(entry.getPath(), new IndexedArtifact(entry.getPath(), entry.getType(),
+                                entry.getRootTag(), entry.getName(), entry.getKey(),
+                                new ArrayList<>(entry.getChildTags()), new HashSet<>(entry.getReferences()),
+                                entry.getLastModified()));
+                    }
+                }
+            }
+        } catch (IOException | JsonSyntaxException e) {
+            LOGGER.log(Level.WARNING, "Ignoring the unreadable artifact index snapshot: " + snapshotPath, e);
+            snapshot.clear();
+        }
+        return snapshot;
+    }
+
+    private void saveSnapshot() {
+
+        if (!Files.isDirectory(artifactsPath)) {
+            return;
+        }
+        List<IndexedArtifact> entries = artifacts.values().stream()
+                .sorted(Comparator.comparing(IndexedArtifact::getPath))
+                .collect(Collectors.toList());
+        try {
+            Files.createDirectories(snapshotPath.getParent());
+            Files.writeString(snapshotPath, new Gson().toJson(entries, SNAPSHOT_TYPE), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Error while writing the artifact index snapshot: " + snapshotPath, e);
+        }
+    }
+
+    private void indexFolder(Path folder, Map<String, IndexedArtifact> snapshot) {
+
+        if (!Files.isDirectory(folder)) {
+            return;
+        }
+        try {
+            Files.walkFileTree(folder, new SimpleFileVisitor<>() {
+
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+
+                    return META.equals(dir.getFileName().toString()) ? FileVisitResult.SKIP_SUBTREE :
+                            FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+
+                    if (attrs.isRegularFile() && isIndexable(file)) {
+                        IndexedArtifact cached = snapshot.get(file.toString());
+                        if (cached != null && cached.getLastModified() == attrs.lastModifiedTime().toMillis()) {
+                            put(cached);
+                        } else {
+                            update(file.toString());
+                        }
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Error while indexing the folder: " + folder, e);
+        }
+    }
+
+    private IndexedArtifact createIndexedArtifact(String path, DOMDocument document, long lastModified) {
+
+        File file = new File(path);
+        String type = getType(file.toPath());
+        DOMElement rootElement = document != null ? Utils.getRootElement(document) : null;
+        if (rootElement == null) {
+            return new IndexedArtifact(path, type, null, null, null, List.of(), Set.of(), lastModified);
+        }
+        String name = Utils.getArtifactName(rootElement);
+        String key;
+        if (file.toPath().startsWith(resourcesPath)) {
+            key = Utils.deriveResourceKeyFromFilePath(path);
+        } else if (rootElement.hasAttribute(Constant.NAME)) {
+            key = rootElement.getAttribute(Constant.NAME);
+        } else {
+            key = rootElement.getAttribute(Constant.KEY);
+        }
+        List<String> childTags = new ArrayList<>();
+        for (DOMNode child : rootElement.getChildren()) {
+            if (child instanceof DOMElement) {
+                childTags.add(child.getNodeName());
+            }
+        }
+        Set<String> references = new HashSet<>();
+        collectReferences(rootElement, references);
+        references.remove(key);
+        return new IndexedArtifact(path, type, rootElement.getNodeName(), name, key, childTags, references,
+                lastModified);
+    }
+
+    private void collectReferences(DOMElement element, Set<String> references) {
+
+        List<DOMAttr> attributes = element.getAttributeNodes();
+        if (attributes != null) {
+            for (DOMAttr attribute : attributes) {
+                String value = attribute.getValue();
+                if (value != null && !value.isEmpty() && !Utils.isExpression(value) &&
+                        (referenceAttributes.contains(attribute.getName()) || isResourceKey(value))) {
+                    references.add(value);
+                }
+            }
+        }
+        for (DOMNode child : element.getChildren()) {
+            if (child instanceof DOMElement) {
+                collectReferences((DOMElement) child, references);
+            } else if (child.isText()) {
+                String text = child.getTextContent();
+                if (text != null && isResourceKey(text.trim())) {
+                    references.add(text.trim());
+                }
+            }
+        }
+    }
+
+    private boolean isResourceKey(String value) {
+
+        return value.startsWith(Constant.GOV_REGISTRY_PREFIX.toString()) ||
+                value.startsWith(Constant.CONF_REGISTRY_PREFIX.toString()) ||
+                value.startsWith(Constant.RESOURCES + ":");
+    }
+
+    private String getType(Path file) {
+
+        Path base = file.startsWith(artifactsPath) ? artifactsPath : resourcesPath;
+        Path relativePath = base.relativize(file);
+        if (base == resourcesPath || relativePath.getNameCount() < 2) {
+            return Constant.RESOURCES;
+        }
+        return relativePath.getName(0).toString();
+    }
+
+    private boolean isIndexed(Path path) {
+
+        return path.startsWith(artifactsPath) || path.startsWith(resourcesPath);
+    }
+
+    private boolean isIndexable(Path file) {
+
+        File artifactFile = file.toFile();
+        if (artifactFile.isHidden() || Utils.isRegistryPropertiesFile(artifactFile)) {
+            return false;
+        }
+        String extension = Utils.getFileExtension(artifactFile);
+        if (file.startsWith(artifactsPath)) {
+            return Constant.XML.equalsIgnoreCase(extension) || DBS.equalsIgnoreCase(extension);
+        }
+        return file.startsWith(resourcesPath) && Constant.XML.equalsIgnoreCase(extension) &&
+                !file.endsWith(Path.of(Constant.ARTIFACT_XML)) && !file.toString().contains(File.separator + META);
+    }
+
+    private String normalize(String path) {
+
+        return Path.of(path).toAbsolutePath().normalize().toString();
+    }
+}
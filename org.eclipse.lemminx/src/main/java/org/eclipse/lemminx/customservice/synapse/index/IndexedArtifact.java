@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.customservice.synapse.index;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable summary of a single Synapse artifact held in the {@link ArtifactIndex}.
+ */
+public class IndexedArtifact {
+
+    private final String path;
+    private final String type;
+    private final String rootTag;
+    private final String name;
+    private final String key;
+    private final List<String> childTags;
+    private final Set<String> references;
+    private final long lastModified;
+
+    public IndexedArtifact(String path, String type, String rootTag, String name, String key, List<String> childTags,
+                           Set<String> references, long lastModified) {
+
+        this.path = path;
+        this.type = type;
+        this.rootTag = rootTag;
+        this.name = name;
+        this.key = key;
+        this.childTags = Collections.unmodifiableList(childTags);
+        this.references = Collections.unmodifiableSet(references);
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Returns the absolute path of the artifact file.
+     *
+     * @return absolute path of the artifact
+     */
+    public String getPath() {
+
+        return path;
+    }
+
+    /**
+     * Returns the folder the artifact is located in (eg: apis, sequences, resources).
+     *
+     * @return artifact type folder
+     */
+    public String getType() {
+
+        return type;
+    }
+
+    public String getRootTag() {
+
+        return rootTag;
+    }
+
+    /**
+     * Returns the display name of the artifact. For APIs, the version is appended to the name.
+     *
+     * @return artifact name
+     */
+    public String getName() {
+
+        return name;
+    }
+
+    /**
+     * Returns the key which other artifacts use to refer this artifact. This is the name or key attribute for
+     * artifacts and the registry key for registry resources.
+     *
+     * @return artifact key
+     */
+    public String getKey() {
+
+        return key;
+    }
+
+    public List<String> getChildTags() {
+
+        return childTags;
+    }
+
+    public String getFirstChildTag() {
+
+        return childTags.isEmpty() ? null : childTags.get(0);
+    }
+
+    public boolean hasChildTag(String tag) {
+
+        return childTags.stream().anyMatch(tag::equalsIgnoreCase);
+    }
+
+    /**
+     * Returns the keys of the artifacts and resources referred by this artifact.
+     *
+     * @return outgoing references
+     */
+    public Set<String> getReferences() {
+
+        return references;
+    }
+
+    /**
+     * Returns the last modified time of the file when it was indexed, or -1 if the artifact is indexed from the unsaved
+     * content of an open document.
+     *
+     * @return last modified time
+     */
+    public long getLastModified() {
+
+        return lastModified;
+    }
+
+    @Override
+    public String toString() {
+
+        return "IndexedArtifact{" +
+                "path='" + path + '\'' +
+                ", type='" + type + '\'' +
+                ", rootTag='" + rootTag + '\'' +
+                ", name='" + name + '\'' +
+                ", key='" + key + '\'' +
+                '}';
+    }
+}
@@ -28,10 +28,19 @@ public class TryOutConstants {
     public static final int DEFAULT_DEBUGGER_EVENT_PORT = 9006;
     public static final int DEFAULT_SERVER_PORT = 8290;
     public static final int DEFAULT_SERVER_INBOUND_PORT = 9201;
+    public static final int DEFAULT_MANAGEMENT_API_PORT = 9164;
 
     public static final Path TEMP_FOLDER_PATH = Path.of(System.getProperty("user.home"), ".wso2-mi", "tryout");
     public static final Path CAPP_CACHE_LOCATION =
             Path.of(System.getProperty("user.home") + "/.wso2-mi/tryout_capp_cache");
+    public static final Path DEPLOYMENT_MANIFEST_LOCATION =
+            Path.of(System.getProperty("user.home"), ".wso2-mi", "tryout_deployment_manifests");
+    public static final Path CAPP_FINGERPRINT_LOCATION =
+            Path.of(System.getProperty("user.home"), ".wso2-mi", "tryout_capp_fingerprints");
+    public static final Path TRYOUT_PROJECTS_LOCATION =
+            Path.of(System.getProperty("user.home"), ".wso2-mi", "tryout_projects");
+    public static final Path TRYOUT_RUNTIMES_LOCATION =
+            Path.of(System.getProperty("user.home"), ".wso2-mi", "tryout_runtimes");
     public static final Path API_RELATIVE_PATH = Path.of("src", "main", "wso2mi", "artifacts", "apis");
     public static final String SYNAPSE_PROPERTIES = "synapse-properties";
     public static final String AXIS2_PROPERTIES = "axis2-properties";
@@ -35,6 +35,7 @@ import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorIn
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutRequest;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.Params;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.Property;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.server.SyncManifest;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeGenerator;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.NamedSequence;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
@@ -63,7 +64,9 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -75,6 +78,7 @@ public class TryOutUtils {
             UNWANTED_ARTIFACTS = List.of("inbound-endpoints", "message-processors", "proxy-services", "tasks");
     private static final String SOAP_ENVELOPE_URI = "http://schemas.xmlsoap.org/soap/envelope/";
     private static final String BODY = "Body";
+    private static final Map<Path, SyncManifest> SNAPSHOT_MANIFESTS = new ConcurrentHashMap<>();
 
     private TryOutUtils() {
 
@@ -122,6 +126,9 @@ public class TryOutUtils {
 
     /**
      * This method is used to clone and preprocess the project.
+     * <p>
+     * The clone is kept in sync with the project, hence only the files changed since the previous try-out are copied.
+     * The edits are applied on the clone of the edited file, which is copied again on the next try-out.
      *
      * @param projectUri the project URI
      * @param request   the tryout request
@@ -133,42 +140,26 @@ public class TryOutUtils {
             throws IOException {
 
         Path projectPath = Path.of(projectUri);
-        Utils.copyFolder(projectPath, tempFolder, null);
-        removeUnwantedFiles(tempFolder);
+        SyncManifest manifest = SNAPSHOT_MANIFESTS.computeIfAbsent(tempFolder, folder -> new SyncManifest());
+        manifest.sync(projectPath, tempFolder, TryOutUtils::isWantedFile, true);
         Path editFilePath = TryOutUtils.relativizeAndResolvePath(projectPath, Path.of(request.getFile()), tempFolder);
+        manifest.invalidate(editFilePath);
         removeBelowMediators(editFilePath, new Position(request.getLine(), request.getColumn()));
         doEdits(request.getEdits(), editFilePath);         // Apply the edits from user
         return editFilePath;
     }
 
-    private static void removeUnwantedFiles(Path tempFolder) {
-
-        removeUnwantedArtifacts(tempFolder);
-        removeTargetFolder(tempFolder);
-    }
+    private static boolean isWantedFile(Path relativePath) {
 
-    private static void removeUnwantedArtifacts(Path tempFolder) {
-
-        Path targetPath = tempFolder.resolve(TryOutConstants.PROJECT_ARTIFACT_PATH);
+        if (relativePath.startsWith(Constant.TARGET)) {
+            return false;
+        }
         for (String artifact : UNWANTED_ARTIFACTS) {
-            Path artifactPath = targetPath.resolve(artifact);
-            if (artifactPath.toFile().exists()) {
-                try {
-                    Utils.deleteDirectory(artifactPath);
-                } catch (IOException e) {
-                    // Ignore
-                }
+            if (relativePath.startsWith(TryOutConstants.PROJECT_ARTIFACT_PATH.resolve(artifact))) {
+                return false;
             }
         }
-    }
-
-    private static void removeTargetFolder(Path tempFolder) {
-
-        try {
-            Utils.deleteDirectory(tempFolder.resolve(Constant.TARGET));
-        } catch (IOException e) {
-            // Ignore
-        }
+        return true;
     }
 
     private static void removeBelowMediators(Path editFilePath, Position position) throws IOException {
@@ -265,10 +256,27 @@ public class TryOutUtils {
     public static void doEdits(Edit[] edits, Path editFilePath) throws IOException {
 
         if (edits != null && edits.length > 0) {
+            String fileContent = Files.readString(editFilePath);
+            Files.writeString(editFilePath, applyEdits(fileContent, edits));
+        }
+    }
+
+    /**
+     * This method is used to apply the edits to the given content in memory.
+     *
+     * @param content the content to be edited
+     * @param edits   the edits to be applied in order
+     * @return the edited content
+     */
+    public static String applyEdits(String content, Edit[] edits) {
+
+        String newContent = content;
+        if (edits != null) {
             for (Edit edit : edits) {
-                doEdit(edit, editFilePath);
+                newContent = editContent(newContent, edit.getRange(), edit.getText());
             }
         }
+        return newContent;
     }
 
     /**
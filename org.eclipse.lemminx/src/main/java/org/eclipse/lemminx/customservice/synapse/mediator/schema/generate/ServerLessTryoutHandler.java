@@ -19,6 +19,7 @@
 package org.eclipse.lemminx.customservice.synapse.mediator.schema.generate;
 
 import com.google.gson.JsonPrimitive;
+import org.eclipse.lemminx.commons.TextDocument;
 import org.eclipse.lemminx.customservice.synapse.mediator.TryOutUtils;
 import org.eclipse.lemminx.customservice.synapse.mediator.schema.generate.visitor.SchemaVisitor;
 import org.eclipse.lemminx.customservice.synapse.mediator.schema.generate.visitor.SchemaVisitorFactory;
@@ -29,15 +30,13 @@ import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeGenerator;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Path;
 
 public class ServerLessTryoutHandler {
 
-    Path TEMP_FOLDER = Path.of(System.getProperty("user.home"), ".wso2-mi", "expression-temp");
-    private static final String TEMP_FILE_NAME = "temp.xml";
     private final String projectUri;
 
     public ServerLessTryoutHandler(String projectUri) {
@@ -48,16 +47,16 @@ public class ServerLessTryoutHandler {
     public MediatorTryoutInfo handle(MediatorTryoutRequest request) {
 
         try {
-            String filePath = request.getFile();
+            File file = new File(request.getFile());
+            DOMDocument domDocument = Utils.getDOMDocument(file);
             if (request.getEdits() != null) {
-                String documentUri = request.getFile();
-                Utils.copyFile(documentUri, TEMP_FOLDER.toString(), TEMP_FILE_NAME);
-                filePath = TEMP_FOLDER.resolve(TEMP_FILE_NAME).toString();
-                TryOutUtils.doEdits(request.getEdits(), Path.of(filePath));
-                request = new MediatorTryoutRequest(filePath, request.getLine(), request.getColumn() + 1,
+                // Apply the edits on a copy of the content, so that the concurrent requests do not share any file
+                String editedContent = TryOutUtils.applyEdits(domDocument.getText(), request.getEdits());
+                TextDocument editedDocument = new TextDocument(editedContent, file.toURI().toString());
+                domDocument = DOMParser.getInstance().parse(editedDocument, null);
+                request = new MediatorTryoutRequest(request.getFile(), request.getLine(), request.getColumn() + 1,
                         request.getInputPayload(), null);
             }
-            DOMDocument domDocument = Utils.getDOMDocument(new File(filePath));
             STNode node = SyntaxTreeGenerator.buildTree(domDocument.getDocumentElement());
             MediatorTryoutInfo mediatorTryoutInfo = createInitialMediatorTryoutInfo(request);
             if (node != null) {
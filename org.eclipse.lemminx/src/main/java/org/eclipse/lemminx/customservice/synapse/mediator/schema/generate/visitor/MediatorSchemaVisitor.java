@@ -192,7 +192,7 @@ public class MediatorSchemaVisitor extends AbstractMediatorVisitor {
             try {
                 String path =
                         ConfigFinder.findEsbComponentPath(node.getFormat().getKey(), Constant.RESOURCE, projectPath);
-                String regContent = org.eclipse.lemminx.customservice.synapse.utils.Utils.readFile(new File(path));
+                String regContent = SequenceSummaryCache.getResourceContent(new File(path));
                 info.setOutputPayload(new JsonPrimitive(regContent));
             } catch (IOException e) {
                 info.setOutputPayload(new JsonPrimitive(StringUtils.EMPTY));
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.customservice.synapse.mediator.schema.generate.visitor;
+
+import com.google.gson.Gson;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorInfo;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutInfo;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.Property;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Caches the effect of visiting a referenced sequence or sequence template on the mediator tryout info.
+ * <p>
+ * A summary is keyed by the artifact path, the modified time and size of the artifact file, the position being visited
+ * and the values of the input and output state before the visit, so an unchanged sequence reached with the same state
+ * is not interpreted again. The key is built without serializing the state or hashing the artifact content, as it is
+ * computed on every visit. As a sequence may call other sequences or refer to registry resources, the summaries are
+ * dropped whenever a project file changes.
+ */
+public class SequenceSummaryCache {
+
+    private static final int MAX_SUMMARIES = 512;
+    private static final int MAX_RESOURCES = 128;
+    private static final Gson GSON = new Gson();
+    private static final Map<Key, Summary> summaries = new LinkedHashMap<>(16, 0.75f, true) {
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Summary> eldest) {
+
+            return size() > MAX_SUMMARIES;
+        }
+    };
+    private static final Map<String, Resource> resources = new LinkedHashMap<>(16, 0.75f, true) {
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Resource> eldest) {
+
+            return size() > MAX_RESOURCES;
+        }
+    };
+
+    /**
+     * Applies the effect of visiting the given artifact on the mediator tryout info. The effect is taken from the cache
+     * if the artifact has been visited with the same state before, otherwise the given visit is run and its effect is
+     * cached.
+     *
+     * @param artifactPath path of the referenced artifact
+     * @param positionKey  key of the position being visited
+     * @param info         mediator tryout info to update
+     * @param visit        visits the artifact and updates the mediator tryout info
+     */
+    public static void visit(String artifactPath, String positionKey, MediatorTryoutInfo info, Runnable visit) {
+
+        Key key;
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(Path.of(artifactPath), BasicFileAttributes.class);
+            key = new Key(artifactPath, attributes.lastModifiedTime().toMillis(), attributes.size(), positionKey,
+                    getState(info));
+        } catch (IOException e) {
+            visit.run();
+            return;
+        }
+        Summary summary;
+        synchronized (summaries) {
+            summary = summaries.get(key);
+        }
+        if (summary != null) {
+            info.setInput(GSON.fromJson(summary.input, MediatorInfo.class));
+            info.setOutput(GSON.fromJson(summary.output, MediatorInfo.class));
+            return;
+        }
+        visit.run();
+        if (info.getError() == null) {
+            summary = new Summary(GSON.toJson(info.getInput()), GSON.toJson(info.getOutput()));
+            synchronized (summaries) {
+                summaries.put(key, summary);
+            }
+        }
+    }
+
+    /**
+     * Returns the content of the given registry resource, reading it again only if the file has changed.
+     *
+     * @param file registry resource file
+     * @return content of the file
+     * @throws IOException if the file cannot be read
+     */
+    public static String getResourceContent(File file) throws IOException {
+
+        Path path = file.toPath().toAbsolutePath().normalize();
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        String key = path.toString();
+        Resource resource;
+        synchronized (resources) {
+            resource = resources.get(key);
+        }
+        if (resource != null && resource.lastModified == attributes.lastModifiedTime().toMillis() &&
+                resource.size == attributes.size()) {
+            return resource.content;
+        }
+        String content = Utils.readFile(file);
+        synchronized (resources) {
+            resources.put(key, new Resource(content, attributes.lastModifiedTime().toMillis(), attributes.size()));
+        }
+        return content;
+    }
+
+    public static void clear() {
+
+        synchronized (summaries) {
+            summaries.clear();
+        }
+        synchronized (resources) {
+            resources.clear();
+        }
+    }
+
+    /**
+     * Collects the values of the input and output state, with the size of each list, so that two states are equal only
+     * if their values are equal. The values are immutable, so they are referenced rather than copied.
+     */
+    private static List<Object> getState(MediatorTryoutInfo info) {
+
+        List<Object> state = new ArrayList<>();
+        addState(info.getInput(), state);
+        addState(info.getOutput(), state);
+        return state;
+    }
+
+    private static void addState(MediatorInfo mediatorInfo, List<Object> state) {
+
+        if (mediatorInfo == null) {
+            state.add(null);
+            return;
+        }
+        state.add(mediatorInfo.getPayload());
+        addProperties(mediatorInfo.getVariables(), state);
+        addProperties(mediatorInfo.getHeaders(), state);
+        addProperties(mediatorInfo.getConfigs(), state);
+        if (mediatorInfo.getProperties() != null) {
+            addProperties(mediatorInfo.getSynapse(), state);
+            addProperties(mediatorInfo.getAxis2(), state);
+            addProperties(mediatorInfo.getAxis2Client(), state);
+            addProperties(mediatorInfo.getAxis2Transport(), state);
+            addProperties(mediatorInfo.getAxis2Operation(), state);
+        }
+        if (mediatorInfo.getParams() != null) {
+            addProperties(mediatorInfo.getParams().getQueryParams(), state);
+            addProperties(mediatorInfo.getParams().getPathParams(), state);
+            addProperties(mediatorInfo.getParams().getFunctionParams(), state);
+        }
+    }
+
+    private static void addProperties(List<Property> properties, List<Object> state) {
+
+        if (properties == null) {
+            state.add(-1);
+            return;
+        }
+        state.add(properties.size());
+        for (Property property : properties) {
+            state.add(property.getKey());
+            state.add(property.getValue());
+            state.add(property.getDescription());
+            addProperties(property.getProperties(), state);
+        }
+    }
+
+    private static class Key {
+
+        private final String artifactPath;
+        private final long lastModified;
+        private final long size;
+        private final String positionKey;
+        private final List<Object> state;
+        private final int hashCode;
+
+        Key(String artifactPath, long lastModified, long size, String positionKey, List<Object> state) {
+
+            this.artifactPath = artifactPath;
+            this.lastModified = lastModified;
+            this.size = size;
+            this.positionKey = positionKey;
+            this.state = state;
+            this.hashCode = Objects.hash(artifactPath, lastModified, size, positionKey, state);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) obj;
+            return lastModified == key.lastModified && size == key.size && hashCode == key.hashCode &&
+                    artifactPath.equals(key.artifactPath) && Objects.equals(positionKey, key.positionKey) &&
+                    state.equals(key.state);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return hashCode;
+        }
+    }
+
+    private static class Summary {
+
+        private final String input;
+        private final String output;
+
+        Summary(String input, String output) {
+
+            this.input = input;
+            this.output = output;
+        }
+    }
+
+    private static class Resource {
+
+        private final String content;
+        private final long lastModified;
+        private final long size;
+
+        Resource(String content, long lastModified, long size) {
+
+            this.content = content;
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+    }
+
+    private SequenceSummaryCache() {
+
+    }
+}
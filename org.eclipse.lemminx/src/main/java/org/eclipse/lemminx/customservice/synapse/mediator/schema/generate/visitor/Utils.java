@@ -248,11 +248,13 @@ public class Utils {
             if (sequencePath != null) {
                 DOMDocument domDocument =
                         org.eclipse.lemminx.customservice.synapse.utils.Utils.getDOMDocument(new File(sequencePath));
-                NamedSequence sequence =
-                        (NamedSequence) SyntaxTreeGenerator.buildTree(domDocument.getDocumentElement());
-                if (sequence != null) {
-                    visitMediators(projectPath, sequence.getMediatorList(), info, position, false);
-                }
+                SequenceSummaryCache.visit(sequencePath, getPositionKey(position), info, () -> {
+                    NamedSequence sequence =
+                            (NamedSequence) SyntaxTreeGenerator.buildTree(domDocument.getDocumentElement());
+                    if (sequence != null) {
+                        visitMediators(projectPath, sequence.getMediatorList(), info, position, false);
+                    }
+                });
             }
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, String.format("Error while visiting named sequence: %s", key), e);
@@ -276,17 +278,24 @@ public class Utils {
             if (sequencePath != null) {
                 DOMDocument domDocument =
                         org.eclipse.lemminx.customservice.synapse.utils.Utils.getDOMDocument(new File(sequencePath));
-                NamedSequence sequence =
-                        ((Template) SyntaxTreeGenerator.buildTree(domDocument.getDocumentElement())).getSequence();
-                if (sequence != null) {
-                    visitMediators(projectPath, sequence.getMediatorList(), info, position, false);
-                }
+                SequenceSummaryCache.visit(sequencePath, getPositionKey(position), info, () -> {
+                    NamedSequence sequence =
+                            ((Template) SyntaxTreeGenerator.buildTree(domDocument.getDocumentElement())).getSequence();
+                    if (sequence != null) {
+                        visitMediators(projectPath, sequence.getMediatorList(), info, position, false);
+                    }
+                });
             }
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, String.format("Error while visiting sequence template: %s", target), e);
         }
     }
 
+    private static String getPositionKey(Position position) {
+
+        return position.getLine() + ":" + position.getCharacter();
+    }
+
     public static String getIterateContent(MediatorTryoutInfo info, String collectionToIterate) {
 
         if (StringUtils.isEmpty(collectionToIterate)) {
@@ -414,9 +423,13 @@ public class Utils {
             if (document == null) {
                 return;
             }
-            NamedSequence sequenceNode = (NamedSequence) SyntaxTreeGenerator.buildTree(document.getDocumentElement());
-            SequenceVisitor sequenceVisitor = new SequenceVisitor(projectPath);
-            sequenceVisitor.visit(sequenceNode, info, request);
+            String positionKey = getPositionKey(new Position(request.getLine(), request.getColumn()));
+            SequenceSummaryCache.visit(seqPath, positionKey, info, () -> {
+                NamedSequence sequenceNode =
+                        (NamedSequence) SyntaxTreeGenerator.buildTree(document.getDocumentElement());
+                SequenceVisitor sequenceVisitor = new SequenceVisitor(projectPath);
+                sequenceVisitor.visit(sequenceNode, info, request);
+            });
         }
     }
 
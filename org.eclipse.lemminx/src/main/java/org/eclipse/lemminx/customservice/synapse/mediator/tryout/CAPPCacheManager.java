@@ -25,9 +25,11 @@ import org.apache.maven.shared.invoker.Invoker;
 import org.apache.maven.shared.invoker.MavenInvocationException;
 import org.eclipse.lemminx.customservice.synapse.mediator.TryOutConstants;
 import org.eclipse.lemminx.customservice.synapse.mediator.TryOutUtils;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.FingerprintManifest.Fingerprint;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.ArtifactDeploymentException;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.eclipse.lsp4j.FileEvent;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -36,18 +38,20 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.attribute.BasicFileAttributes;
-import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Stream;
+import java.util.stream.Collectors;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -56,19 +60,33 @@ import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 
+/**
+ * Builds and caches the dependency CAPPs deployed with the try-out artifacts.
+ * <p>
+ * The source files of each CAPP are fingerprinted when it is built, and the fingerprints are saved per project. A CAPP
+ * is rebuilt only when the fingerprints of its source files change. The changed files are reported by a watcher of the
+ * project sources and by the watched file events of the client, so that only those files are read. Before a validation
+ * the watcher is waited on until the changes made so far are reported. The sources are scanned once per session, and on
+ * every validation where the platform does not report the file system events or the watcher does not catch up in time.
+ * A change to existing resources is repacked into the resources CAPP without building the project.
+ */
 public class CAPPCacheManager {
 
     private static final Logger LOGGER = Logger.getLogger(CAPPCacheManager.class.getName());
     private static final Path TRYOUT_CAPP_BUILD_TEMP =
             Path.of(System.getProperty("user.home")).resolve(".wso2-mi").resolve("tryout_capp_build_temp");
+    private static final long EVENT_TIMEOUT = 2000;
+    private static final Map<String, ProjectCAPPState> PROJECT_STATES = new ConcurrentHashMap<>();
     private static ExecutorService executor;
 
-    public static void init() {
+    public static synchronized void init() {
 
-        executor = Executors.newFixedThreadPool(4);
+        if (executor == null || executor.isShutdown()) {
+            executor = Executors.newFixedThreadPool(4);
+        }
     }
 
-    public static void validateCAPPCache(String projectUri) throws ArtifactDeploymentException {
+    public static synchronized void validateCAPPCache(String projectUri) throws ArtifactDeploymentException {
 
         TRYOUT_CAPP_BUILD_TEMP.toFile().mkdirs();
         validateAllCAPPs(projectUri);
@@ -91,9 +109,10 @@ public class CAPPCacheManager {
     private static void validateAllCAPPs(String projectUri) {
 
         try {
-            Future<?> future1 = executor.submit(() -> validateConnectorAndClassMediatorCAPP(projectUri));
-            Future<?> future2 = executor.submit(() -> validateDataMapperCAPP(projectUri));
-            Future<?> future3 = executor.submit(() -> validateResourcesCAPP(projectUri));
+            boolean isReported = getProjectState(projectUri).watcher.awaitEvents(EVENT_TIMEOUT);
+            Future<?> future1 = executor.submit(() -> validateConnectorAndClassMediatorCAPP(projectUri, isReported));
+            Future<?> future2 = executor.submit(() -> validateDataMapperCAPP(projectUri, isReported));
+            Future<?> future3 = executor.submit(() -> validateResourcesCAPP(projectUri, isReported));
 
             // Wait for completion
             future1.get();
@@ -107,68 +126,112 @@ public class CAPPCacheManager {
         }
     }
 
-    private static void validateDataMapperCAPP(String projectUri) {
+    private static void validateDataMapperCAPP(String projectUri, boolean isReported) {
 
         String dataMapperPath =
                 TryOutConstants.PROJECT_RESOURCES_RELATIVE_PATH.resolve(Constant.DATA_MAPPER).toString();
         String artifactXmlPath =
                 TryOutConstants.PROJECT_RESOURCES_RELATIVE_PATH.resolve(Constant.ARTIFACT_XML).toString();
         List<String> includePaths = List.of(dataMapperPath, artifactXmlPath);
-        validateCAPPByType(projectUri, includePaths, CAPPType.DATA_MAPPER);
+        validateCAPPByType(projectUri, includePaths, CAPPType.DATA_MAPPER, isReported);
     }
 
-    private static void validateConnectorAndClassMediatorCAPP(String projectUri) {
+    private static void validateConnectorAndClassMediatorCAPP(String projectUri, boolean isReported) {
 
         String connectorPath = TryOutConstants.PROJECT_RESOURCES_RELATIVE_PATH.resolve(Constant.CONNECTORS).toString();
         String classMediatorPath = Path.of(Constant.SRC).resolve(Constant.MAIN).resolve("java").toString();
         List<String> includePaths = List.of(classMediatorPath, connectorPath);
-        validateCAPPByType(projectUri, includePaths, CAPPType.CONNECTOR_AND_CLASS_MEDIATOR);
+        validateCAPPByType(projectUri, includePaths, CAPPType.CONNECTOR_AND_CLASS_MEDIATOR, isReported);
     }
 
-    private static void validateResourcesCAPP(String projectUri) {
+    private static void validateResourcesCAPP(String projectUri, boolean isReported) {
 
-        String resourcesPath = TryOutConstants.PROJECT_RESOURCES_RELATIVE_PATH.toString();
+        Path resourcesPath = TryOutConstants.PROJECT_RESOURCES_RELATIVE_PATH;
         List<String> includePaths = new ArrayList<>();
-        File resourcesFolder = new File(resourcesPath);
+        File resourcesFolder = Path.of(projectUri).resolve(resourcesPath).toFile();
         File[] resourcesFolders = resourcesFolder.listFiles();
         if (resourcesFolders != null) {
             for (File file : resourcesFolders) {
                 if (!"datamapper".equals(file.getName()) && !"connectors".equals(file.getName()) &&
                         !"api-definitions".equals(file.getName())) {
-                    includePaths.add(file.getPath());
+                    includePaths.add(resourcesPath.resolve(file.getName()).toString());
                 }
             }
         }
-        validateCAPPByType(projectUri, includePaths, CAPPType.RESOURCES);
+        validateCAPPByType(projectUri, includePaths, CAPPType.RESOURCES, isReported);
     }
 
-    private static void validateCAPPByType(String projectUri, List<String> includePaths, CAPPType cappType) {
+    /**
+     * Validates the CAPP of the given type, rebuilding it if its source files are changed.
+     *
+     * @param projectUri   project path
+     * @param includePaths source files and folders of the CAPP, relative to the project folder
+     * @param cappType     CAPP type
+     * @param isReported   whether the changes made before the validation are reported by the watcher
+     */
+    private static void validateCAPPByType(String projectUri, List<String> includePaths, CAPPType cappType,
+                                           boolean isReported) {
 
+        Path projectPath = Path.of(projectUri);
+        List<Path> includes = includePaths.stream().map(Path::of).collect(Collectors.toList());
+        ProjectCAPPState projectState = getProjectState(projectUri);
+        CAPPState state = projectState.cappStates.get(cappType);
         try {
-            if (!isValidCache(projectUri, includePaths, cappType)) {
-                LOGGER.info(cappType.name() + " CAPP cache is invalid. Rebuilding the CAPP.");
+            Path cappPath = getCappPath(projectUri, cappType);
+            List<Path> changedPaths = state.drainChangedPaths();
+            Map<String, Fingerprint> snapshot = null;
+            Set<String> changedFiles;
+            if (cappPath != null && state.isVerified && isReported) {
+                changedFiles = state.manifest.check(projectPath, includes, changedPaths);
+            } else {
+                snapshot = state.manifest.scan(projectPath, includes);
+                changedFiles = state.manifest.diff(snapshot);
+            }
+            if (cappPath != null && changedFiles.isEmpty()) {
+                if (snapshot != null) {
+                    state.manifest.update(snapshot);
+                }
+                state.isVerified = true;
+                return;
+            }
+            // Scanned again after a failed rebuild, since the changed paths are already drained
+            state.isVerified = false;
+            LOGGER.info(String.format("%s CAPP cache is invalid with %d changed files. Rebuilding the CAPP.",
+                    cappType.name(), changedFiles.size()));
+            if (snapshot == null) {
+                snapshot = state.manifest.scan(projectPath, includes);
+            }
+            boolean isRepacked = cappType == CAPPType.RESOURCES && cappPath != null &&
+                    ResourcesCAPPRepacker.repack(projectPath, cappPath, state.manifest, changedFiles,
+                            TRYOUT_CAPP_BUILD_TEMP);
+            if (!isRepacked) {
                 buildDependencyCAPP(projectUri, includePaths, cappType);
             }
+            state.manifest.update(snapshot);
+            state.isVerified = true;
         } catch (IOException | ArtifactDeploymentException e) {
             LOGGER.log(Level.SEVERE, String.format("Error validating %s CAPP cache", cappType.name()), e);
         }
     }
 
-    private static boolean isValidCache(String projectUri, List<String> includePaths, CAPPType cappType)
-            throws IOException {
-
-        Path projectPath = Path.of(projectUri);
-        Path capppath = getCappPath(projectUri, cappType);
-        if (capppath == null) {
-            return Boolean.FALSE;
+    /**
+     * Records the given watched file event of the given project, so that the CAPPs built from the file are validated.
+     *
+     * @param projectUri project path
+     * @param event      file event
+     */
+    public static void handleFileEvent(String projectUri, FileEvent event) {
+
+        ProjectCAPPState projectState = PROJECT_STATES.get(projectUri);
+        String path = Utils.getAbsolutePath(event.getUri());
+        if (projectState != null && path != null) {
+            projectState.markChanged(Path.of(path));
         }
-        FileTime cappCreatedTime = Files.getLastModifiedTime(capppath);
-        for (String includePath : includePaths) {
-            if (checkFileChanges(projectPath.resolve(includePath), cappCreatedTime)) {
-                return Boolean.FALSE;
-            }
-        }
-        return Boolean.TRUE;
+    }
+
+    private static ProjectCAPPState getProjectState(String projectUri) {
+
+        return PROJECT_STATES.computeIfAbsent(projectUri, ProjectCAPPState::new);
     }
 
     private static Path getCappPath(String projectUri, CAPPType cappType) {
@@ -190,40 +253,6 @@ public class CAPPCacheManager {
         return null;
     }
 
-    private static boolean checkFileChanges(Path pathToCheck, FileTime cappCreatedTime) {
-
-        try {
-            if (!Files.exists(pathToCheck)) {
-                return Boolean.FALSE;
-            }
-
-            if (!Files.isDirectory(pathToCheck)) {
-                FileTime lastModifiedTime = Files.getLastModifiedTime(pathToCheck);
-                return lastModifiedTime.compareTo(cappCreatedTime) > 0;
-            }
-
-            // Walk through all files in the directory and its subdirectories
-            try (Stream<Path> walk = Files.walk(pathToCheck)) {
-                return walk
-                        .filter(Files::isRegularFile)
-                        .anyMatch(file -> {
-                            try {
-                                FileTime lastModifiedTime =
-                                        Files.readAttributes(file, BasicFileAttributes.class).lastModifiedTime();
-                                return lastModifiedTime.compareTo(cappCreatedTime) > 0;
-                            } catch (IOException e) {
-                                LOGGER.log(Level.SEVERE, String.format("Error reading file attributes for: %s", file),
-                                        e);
-                                return Boolean.TRUE;
-                            }
-                        });
-            }
-        } catch (IOException e) {
-            LOGGER.log(Level.SEVERE, String.format("Error walking directory: %s", pathToCheck), e);
-            return Boolean.TRUE;
-        }
-    }
-
     private static void buildDependencyCAPP(String projectUri, List<String> includePaths, CAPPType cappType)
             throws IOException, ArtifactDeploymentException {
 
@@ -320,11 +349,13 @@ public class CAPPCacheManager {
         return TryOutUtils.findCAPP(targetPath);
     }
 
-    public static void shutdown() {
+    public static synchronized void shutdown() {
 
         if (executor != null && !executor.isTerminated()) {
             executor.shutdown();
         }
+        PROJECT_STATES.values().forEach(projectState -> projectState.watcher.stop());
+        PROJECT_STATES.clear();
     }
 
     private enum CAPPType {
@@ -334,4 +365,52 @@ public class CAPPCacheManager {
         CONNECTOR_AND_CLASS_MEDIATOR,
         RESOURCES
     }
+
+    private static class ProjectCAPPState {
+
+        private final Map<CAPPType, CAPPState> cappStates = new EnumMap<>(CAPPType.class);
+        private final SourceChangeWatcher watcher;
+
+        ProjectCAPPState(String projectUri) {
+
+            Path fingerprintFolder = TryOutConstants.CAPP_FINGERPRINT_LOCATION.resolve(Utils.getHash(projectUri));
+            for (CAPPType cappType : CAPPType.values()) {
+                cappStates.put(cappType, new CAPPState(
+                        new FingerprintManifest(fingerprintFolder.resolve(cappType.name().toLowerCase() + ".manifest"))));
+            }
+            watcher = new SourceChangeWatcher(Path.of(projectUri).resolve(Constant.SRC).resolve(Constant.MAIN),
+                    this::markChanged, this::markUnverified);
+            watcher.start();
+        }
+
+        private void markChanged(Path path) {
+
+            cappStates.values().forEach(state -> state.changedPaths.add(path));
+        }
+
+        private void markUnverified() {
+
+            cappStates.values().forEach(state -> state.isVerified = false);
+        }
+    }
+
+    private static class CAPPState {
+
+        private final FingerprintManifest manifest;
+        private final Set<Path> changedPaths = ConcurrentHashMap.newKeySet();
+        // Whether the fingerprints are checked against a full scan of the sources in this session
+        private volatile boolean isVerified = false;
+
+        CAPPState(FingerprintManifest manifest) {
+
+            this.manifest = manifest;
+        }
+
+        private List<Path> drainChangedPaths() {
+
+            List<Path> drainedPaths = new ArrayList<>(changedPaths);
+            changedPaths.removeAll(drainedPaths);
+            return drainedPaths;
+        }
+    }
 }
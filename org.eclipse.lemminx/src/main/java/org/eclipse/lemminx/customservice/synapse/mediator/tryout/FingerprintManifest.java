@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.customservice.synapse.mediator.tryout;
+
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Fingerprints of the source files of a dependency CAPP, as of its last build.
+ * <p>
+ * Each file is recorded with its path relative to the project, its size, its modification time and the SHA-256 of its
+ * content. A file with the recorded size and modification time is not read again, so a full scan reads only the
+ * changed files, and the files reported by a file watcher can be checked without scanning the project. The manifest is
+ * saved to a file, so that it is reused across sessions.
+ */
+public class FingerprintManifest {
+
+    private static final Logger LOGGER = Logger.getLogger(FingerprintManifest.class.getName());
+
+    private final Path manifestFile;
+    private final Map<String, Fingerprint> entries = new HashMap<>();
+
+    public FingerprintManifest(Path manifestFile) {
+
+        this.manifestFile = manifestFile;
+        load();
+    }
+
+    /**
+     * Fingerprints the files under the given paths.
+     *
+     * @param root         project folder
+     * @param includePaths included files and folders, relative to the project folder
+     * @return fingerprints by the path relative to the project folder
+     * @throws IOException if a file cannot be read
+     */
+    public synchronized Map<String, Fingerprint> scan(Path root, List<Path> includePaths) throws IOException {
+
+        Map<String, Fingerprint> snapshot = new HashMap<>();
+        for (Path includePath : includePaths) {
+            Path path = root.resolve(includePath);
+            if (!Files.exists(path)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.walk(path)) {
+                for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                    String relativePath = root.relativize(file).toString();
+                    snapshot.put(relativePath, fingerprint(file, entries.get(relativePath)));
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns the files which are added, removed or changed in the given snapshot.
+     *
+     * @param snapshot fingerprints of the current files
+     * @return paths of the changed files, relative to the project folder
+     */
+    public synchronized Set<String> diff(Map<String, Fingerprint> snapshot) {
+
+        Set<String> changedFiles = new HashSet<>();
+        snapshot.forEach((path, fingerprint) -> {
+            Fingerprint entry = entries.get(path);
+            if (entry == null || !entry.sha256.equals(fingerprint.sha256)) {
+                changedFiles.add(path);
+            }
+        });
+        for (String path : entries.keySet()) {
+            if (!snapshot.containsKey(path)) {
+                changedFiles.add(path);
+            }
+        }
+        return changedFiles;
+    }
+
+    /**
+     * Returns the files which are added, removed or changed among the given changed paths. A changed folder is
+     * checked with all its files.
+     *
+     * @param root         project folder
+     * @param includePaths included files and folders, relative to the project folder
+     * @param changedPaths absolute paths of the changed files and folders
+     * @return paths of the changed files, relative to the project folder
+     * @throws IOException if a file cannot be read
+     */
+    public synchronized Set<String> check(Path root, List<Path> includePaths, Collection<Path> changedPaths)
+            throws IOException {
+
+        Set<String> changedFiles = new HashSet<>();
+        boolean isModified = false;
+        for (Path changedPath : changedPaths) {
+            if (!changedPath.startsWith(root)) {
+                continue;
+            }
+            Path relativePath = root.relativize(changedPath);
+            if (!isIncluded(relativePath, includePaths) && !containsIncludedPath(relativePath, includePaths)) {
+                continue;
+            }
+            Set<String> existingFiles = new HashSet<>();
+            if (Files.exists(changedPath)) {
+                try (Stream<Path> files = Files.walk(changedPath)) {
+                    for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                        Path fileRelativePath = root.relativize(file);
+                        if (!isIncluded(fileRelativePath, includePaths)) {
+                            continue;
+                        }
+                        String path = fileRelativePath.toString();
+                        existingFiles.add(path);
+                        Fingerprint entry = entries.get(path);
+                        Fingerprint fingerprint = fingerprint(file, entry);
+                        if (entry == null || !entry.sha256.equals(fingerprint.sha256)) {
+                            changedFiles.add(path);
+                        } else if (!entry.equals(fingerprint)) {
+                            // Touched without changing the content
+                            entries.put(path, fingerprint);
+                            isModified = true;
+                        }
+                    }
+                }
+            }
+            String prefix = relativePath.toString();
+            for (String path : entries.keySet()) {
+                if (!existingFiles.contains(path) && isUnder(path, prefix) && !Files.isRegularFile(root.resolve(path))) {
+                    changedFiles.add(path);
+                }
+            }
+        }
+        if (isModified) {
+            save();
+        }
+        return changedFiles;
+    }
+
+    /**
+     * Replaces the fingerprints with the given snapshot.
+     *
+     * @param snapshot fingerprints of the files the CAPP is built from
+     */
+    public synchronized void update(Map<String, Fingerprint> snapshot) {
+
+        if (!entries.equals(snapshot)) {
+            entries.clear();
+            entries.putAll(snapshot);
+            save();
+        }
+    }
+
+    /**
+     * Returns the recorded SHA-256 of the given file.
+     *
+     * @param relativePath path relative to the project folder
+     * @return SHA-256, or null if the file is not recorded
+     */
+    public synchronized String getSha256(String relativePath) {
+
+        Fingerprint entry = entries.get(relativePath);
+        return entry != null ? entry.sha256 : null;
+    }
+
+    private static Fingerprint fingerprint(Path file, Fingerprint entry) throws IOException {
+
+        long size = Files.size(file);
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        if (entry != null && entry.size == size && entry.lastModified == lastModified) {
+            return entry;
+        }
+        return new Fingerprint(Utils.getSha256(Files.newInputStream(file)), size, lastModified);
+    }
+
+    private static boolean isIncluded(Path relativePath, List<Path> includePaths) {
+
+        for (Path includePath : includePaths) {
+            if (relativePath.startsWith(includePath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsIncludedPath(Path relativePath, List<Path> includePaths) {
+
+        for (Path includePath : includePaths) {
+            if (includePath.startsWith(relativePath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isUnder(String path, String folder) {
+
+        return path.equals(folder) || Path.of(path).startsWith(folder);
+    }
+
+    private void load() {
+
+        if (!Files.isRegularFile(manifestFile)) {
+            return;
+        }
+        try {
+            for (String line : Files.readAllLines(manifestFile)) {
+                String[] parts = line.split(" ", 4);
+                if (parts.length == 4) {
+                    entries.put(parts[3], new Fingerprint(parts[0], Long.parseLong(parts[1]),
+                            Long.parseLong(parts[2])));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            LOGGER.log(Level.WARNING, "Error while reading the CAPP fingerprints: " + manifestFile, e);
+            entries.clear();
+        }
+    }
+
+    private void save() {
+
+        StringBuilder manifest = new StringBuilder();
+        for (Map.Entry<String, Fingerprint> entry : entries.entrySet()) {
+            Fingerprint value = entry.getValue();
+            manifest.append(value.sha256).append(' ').append(value.size).append(' ').append(value.lastModified)
+                    .append(' ').append(entry.getKey()).append('\n');
+        }
+        try {
+            Files.createDirectories(manifestFile.getParent());
+            Files.writeString(manifestFile, manifest.toString());
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Error while saving the CAPP fingerprints: " + manifestFile, e);
+        }
+    }
+
+    public static class Fingerprint {
+
+        private final String sha256;
+        private final long size;
+        private final long lastModified;
+
+        Fingerprint(String sha256, long size, long lastModified) {
+
+            this.sha256 = sha256;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+
+            if (!(other instanceof Fingerprint)) {
+                return false;
+            }
+            Fingerprint fingerprint = (Fingerprint) other;
+            return size == fingerprint.size && lastModified == fingerprint.lastModified &&
+                    sha256.equals(fingerprint.sha256);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return sha256.hashCode();
+        }
+    }
+}
@@ -21,6 +21,7 @@ package org.eclipse.lemminx.customservice.synapse.mediator.tryout;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.DependencyLookUp;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.Dependency;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.visitor.MediatorDependencyVisitor;
+import org.eclipse.lemminx.customservice.synapse.mediator.TryOutConstants;
 import org.eclipse.lemminx.customservice.synapse.mediator.TryOutUtils;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.InvalidConfigurationException;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutInfo;
@@ -44,11 +45,11 @@ public class IsolatedTryOutHandler {
 
     private static final Logger LOGGER = Logger.getLogger(IsolatedTryOutHandler.class.getName());
     private String projectRoot;
-    private final TryOutHandler tryOutHandler;
+    private final TryOutRuntimePool runtimePool;
 
-    public IsolatedTryOutHandler(TryOutHandler tryOutHandler, String projectRoot) {
+    public IsolatedTryOutHandler(TryOutRuntimePool runtimePool, String projectRoot) {
 
-        this.tryOutHandler = tryOutHandler;
+        this.runtimePool = runtimePool;
         this.projectRoot = projectRoot;
     }
 
@@ -74,13 +75,23 @@ public class IsolatedTryOutHandler {
                     new MediatorTryoutRequest(tryoutApi, position.getLine(), position.getCharacter(),
                             request.getInputPayload(), null);
             mediatorTryoutRequest.setMediatorInfo(request.getMediatorInfo());
-            return tryOutHandler.handleIsolatedTryOut(tempProjectPath, mediatorTryoutRequest, false);
+            return runtimePool.execute(
+                    handler -> handler.handleIsolatedTryOut(tempProjectPath, mediatorTryoutRequest, false));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new MediatorTryoutInfo(TryOutConstants.TRYOUT_FAILURE_MESSAGE);
         } catch (InvalidConfigurationException e) {
             LOGGER.log(Level.SEVERE, "Error while creating the API for the mediator tryout", e);
             return new MediatorTryoutInfo("Error while creating the API for the mediator");
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, "Error while copying the dependencies for tryout", e);
             return new MediatorTryoutInfo("Error while copying the dependencies");
+        } finally {
+            try {
+                Utils.deleteDirectory(Path.of(tempProjectPath));
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Error while deleting the temp project directory", e);
+            }
         }
     }
 
@@ -0,0 +1,135 @@
+/*
+ *   Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *   WSO2 LLC. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing,
+ *   software distributed under the License is distributed on an
+ *   "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *   KIND, either express or implied.  See the License for the
+ *   specific language governing permissions and limitations
+ *   under the License.
+ */
+
+package org.eclipse.lemminx.customservice.synapse.mediator.tryout;
+
+import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Replaces the changed resources in the resources CAPP without building the project. Only the changes to the content
+ * of the existing resources are repacked, since the added or removed resources and the changes to the registry
+ * metadata need the CAPP descriptors to be generated again. A resource is matched to its CAPP entry by its name and
+ * its content as of the last build.
+ */
+public class ResourcesCAPPRepacker {
+
+    private static final Logger LOGGER = Logger.getLogger(ResourcesCAPPRepacker.class.getName());
+
+    private ResourcesCAPPRepacker() {
+
+    }
+
+    /**
+     * Replaces the entries of the given changed resources in the resources CAPP.
+     *
+     * @param projectPath  project folder
+     * @param cappPath     resources CAPP
+     * @param manifest     fingerprints of the resources as of the last build
+     * @param changedFiles changed resources, relative to the project folder
+     * @param tempFolder   folder of the repacked CAPP until it replaces the given CAPP
+     * @return true if the CAPP is repacked
+     */
+    public static boolean repack(Path projectPath, Path cappPath, FingerprintManifest manifest,
+                                 Set<String> changedFiles, Path tempFolder) {
+
+        Map<String, Path> replacements = new HashMap<>();
+        Path repackedCapp = null;
+        try {
+            try (ZipFile capp = new ZipFile(cappPath.toFile())) {
+                for (String changedFile : changedFiles) {
+                    Path file = projectPath.resolve(changedFile);
+                    String previousSha256 = manifest.getSha256(changedFile);
+                    if (previousSha256 == null || !Files.isRegularFile(file) ||
+                            Constant.ARTIFACT_XML.equals(file.getFileName().toString())) {
+                        return false;
+                    }
+                    String entryName = findCAPPEntry(capp, file.getFileName().toString(), previousSha256);
+                    if (entryName == null || replacements.containsKey(entryName)) {
+                        return false;
+                    }
+                    replacements.put(entryName, file);
+                }
+                repackedCapp = Files.createTempFile(tempFolder, cappPath.getFileName().toString(), null);
+                try (ZipOutputStream outputStream = new ZipOutputStream(Files.newOutputStream(repackedCapp))) {
+                    Enumeration<? extends ZipEntry> entries = capp.entries();
+                    while (entries.hasMoreElements()) {
+                        ZipEntry entry = entries.nextElement();
+                        outputStream.putNextEntry(new ZipEntry(entry.getName()));
+                        Path replacement = replacements.get(entry.getName());
+                        try (InputStream inputStream = replacement != null ? Files.newInputStream(replacement) :
+                                capp.getInputStream(entry)) {
+                            inputStream.transferTo(outputStream);
+                        }
+                        outputStream.closeEntry();
+                    }
+                }
+            }
+            Files.move(repackedCapp, cappPath, StandardCopyOption.REPLACE_EXISTING);
+            LOGGER.info(String.format("Repacked %d changed resources into the resources CAPP", replacements.size()));
+            return true;
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Error repacking the resources CAPP", e);
+            return false;
+        } finally {
+            if (repackedCapp != null) {
+                try {
+                    Files.deleteIfExists(repackedCapp);
+                } catch (IOException e) {
+                    LOGGER.log(Level.FINE, "Error deleting the repacked CAPP", e);
+                }
+            }
+        }
+    }
+
+    private static String findCAPPEntry(ZipFile capp, String fileName, String sha256) throws IOException {
+
+        String entryName = null;
+        Enumeration<? extends ZipEntry> entries = capp.entries();
+        while (entries.hasMoreElements()) {
+            ZipEntry entry = entries.nextElement();
+            if (entry.isDirectory() ||
+                    !(entry.getName().equals(fileName) || entry.getName().endsWith("/" + fileName))) {
+                continue;
+            }
+            if (sha256.equals(Utils.getSha256(capp.getInputStream(entry)))) {
+                if (entryName != null) {
+                    // The same resource is packed more than once
+                    return null;
+                }
+                entryName = entry.getName();
+            }
+        }
+        return entryName;
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.customservice.synapse.mediator.tryout;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * Watches a folder and its sub folders, and reports each created, modified or deleted file or folder.
+ * <p>
+ * The watcher is event driven only when the platform reports the file system events. Where the watch service polls
+ * the file system, as on macOS, a change is reported seconds after it is made, so {@link #isEventDriven()} returns
+ * false and the changes must be found by scanning the folder.
+ * <p>
+ * The events of a change are delivered shortly after the change is made. {@link #awaitEvents(long)} creates a marker
+ * file in a folder watched by the same watch service and waits for its event, so that the changes made before the call
+ * are reported when it returns.
+ */
+public class SourceChangeWatcher {
+
+    private static final Logger LOGGER = Logger.getLogger(SourceChangeWatcher.class.getName());
+    private static final String MARKER_PREFIX = "marker-";
+
+    private final Path folder;
+    private final Consumer<Path> changeListener;
+    private final Runnable overflowListener;
+    private final Map<WatchKey, Path> watchedFolders = new ConcurrentHashMap<>();
+    private final Object markerLock = new Object();
+    private long requestedMarker = 0;
+    private long reportedMarker = 0;
+    private volatile Path markerFolder;
+    private volatile WatchKey markerKey;
+    private volatile WatchService watchService;
+    private volatile Thread watcherThread;
+    private volatile boolean isEventDriven = false;
+
+    /**
+     * Creates a watcher of the given folder.
+     *
+     * @param folder           folder to watch
+     * @param changeListener   listener called with each changed file or folder
+     * @param overflowListener listener called when some changes are lost
+     */
+    public SourceChangeWatcher(Path folder, Consumer<Path> changeListener, Runnable overflowListener) {
+
+        this.folder = folder;
+        this.changeListener = changeListener;
+        this.overflowListener = overflowListener;
+    }
+
+    public synchronized void start() {
+
+        if (watcherThread != null || !Files.isDirectory(folder)) {
+            return;
+        }
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            registerAll(folder);
+            markerFolder = Files.createTempDirectory("source-change-watcher");
+            markerKey = markerFolder.register(watchService, ENTRY_CREATE);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not watch the folder: " + folder, e);
+            closeWatchService();
+            deleteMarkerFolder();
+            return;
+        }
+        isEventDriven = !watchService.getClass().getSimpleName().startsWith("Polling");
+        watcherThread = new Thread(this::watch, "source-change-watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+    }
+
+    public synchronized void stop() {
+
+        Thread thread = watcherThread;
+        watcherThread = null;
+        isEventDriven = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        closeWatchService();
+        watchedFolders.clear();
+        deleteMarkerFolder();
+        synchronized (markerLock) {
+            markerLock.notifyAll();
+        }
+    }
+
+    /**
+     * Returns whether the changes are reported as they are made.
+     *
+     * @return true if the watcher is started on a platform which reports the file system events
+     */
+    public boolean isEventDriven() {
+
+        return isEventDriven && watcherThread != null;
+    }
+
+    /**
+     * Waits until the changes made before this call are reported to the change listener.
+     *
+     * @param timeout timeout in milliseconds
+     * @return true if the changes are reported, false if the watcher is not event driven or the timeout elapses
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public boolean awaitEvents(long timeout) throws InterruptedException {
+
+        Path folder = markerFolder;
+        if (!isEventDriven() || folder == null) {
+            return false;
+        }
+        long marker;
+        synchronized (markerLock) {
+            marker = ++requestedMarker;
+        }
+        Path markerFile = folder.resolve(MARKER_PREFIX + marker);
+        try {
+            Files.createFile(markerFile);
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Could not create the watcher marker: " + markerFile, e);
+            return false;
+        }
+        try {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+            synchronized (markerLock) {
+                while (reportedMarker < marker) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0 || !isEventDriven()) {
+                        return false;
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(markerLock, remaining);
+                }
+            }
+            return true;
+        } finally {
+            try {
+                Files.deleteIfExists(markerFile);
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Could not delete the watcher marker: " + markerFile, e);
+            }
+        }
+    }
+
+    private void watch() {
+
+        while (watcherThread == Thread.currentThread()) {
+            try {
+                WatchKey key = watchService.take();
+                if (key == markerKey) {
+                    onMarker(key);
+                } else {
+                    processEvents(key);
+                }
+                if (!key.reset()) {
+                    watchedFolders.remove(key);
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            } catch (IOException e) {
+                // The changes under the folder which could not be watched are no longer reported
+                LOGGER.log(Level.WARNING, "Error while watching the folder: " + folder, e);
+                isEventDriven = false;
+                overflowListener.run();
+            }
+        }
+    }
+
+    private void processEvents(WatchKey key) throws IOException {
+
+        Path watchedFolder = watchedFolders.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW || watchedFolder == null) {
+                overflowListener.run();
+                continue;
+            }
+            Path changedPath = watchedFolder.resolve((Path) event.context());
+            if (event.kind() == ENTRY_CREATE && Files.isDirectory(changedPath)) {
+                registerAll(changedPath);
+            }
+            changeListener.accept(changedPath);
+        }
+    }
+
+    private void onMarker(WatchKey key) throws IOException {
+
+        long marker = 0;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                continue;
+            }
+            String name = event.context().toString();
+            if (name.startsWith(MARKER_PREFIX)) {
+                marker = Math.max(marker, Long.parseLong(name.substring(MARKER_PREFIX.length())));
+            }
+        }
+        if (marker == 0) {
+            return;
+        }
+        // The events read before the marker may be queued on the keys of other folders, which are not taken yet
+        for (WatchKey watchedKey : watchedFolders.keySet()) {
+            processEvents(watchedKey);
+        }
+        synchronized (markerLock) {
+            reportedMarker = Math.max(reportedMarker, marker);
+            markerLock.notifyAll();
+        }
+    }
+
+    private void registerAll(Path root) throws IOException {
+
+        try (Stream<Path> folders = Files.walk(root)) {
+            for (Path subFolder : (Iterable<Path>) folders.filter(Files::isDirectory)::iterator) {
+                WatchKey key = subFolder.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+                watchedFolders.put(key, subFolder);
+            }
+        }
+    }
+
+    private void deleteMarkerFolder() {
+
+        Path folder = markerFolder;
+        markerFolder = null;
+        markerKey = null;
+        if (folder != null) {
+            try (Stream<Path> files = Files.list(folder)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.deleteIfExists(file);
+                }
+                Files.deleteIfExists(folder);
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Could not delete the watcher marker folder: " + folder, e);
+            }
+        }
+    }
+
+    private void closeWatchService() {
+
+        WatchService service = watchService;
+        watchService = null;
+        if (service != null) {
+            try {
+                service.close();
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Error while closing the folder watcher", e);
+            }
+        }
+    }
+}
@@ -38,6 +38,7 @@ import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTr
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutRequest;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.NoBreakpointHitException;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.Property;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.TryOutMetrics.Phase;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.server.MIServer;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeGenerator;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.NamedSequence;
@@ -66,11 +67,14 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import static org.eclipse.lemminx.customservice.synapse.mediator.TryOutConstants.TEMP_FOLDER_PATH;
-
 public class TryOutHandler {
 
     private static final Logger LOGGER = Logger.getLogger(TryOutHandler.class.getName());
@@ -78,9 +82,11 @@ public class TryOutHandler {
             "synapse-configs", "default", "sequences", "fault.xml");
     private static final String MI_HOST = TryOutConstants.LOCALHOST;
     private static final int BREAKPOINT_HIT_TIMEOUT = 10000; // Timeout to wait for the breakpoint hit
-    private final Object lock;
     private final String projectUri;
     private final MIServer server;
+    // Folder where the project is cloned for the try-out
+    private final Path projectCloneFolder;
+    private final TryOutMetrics metrics;
     private DebugCommandClient commandClient;
     private DebugEventClient eventClient;
     private BreakpointEventProcessor breakpointEventProcessor;
@@ -92,19 +98,33 @@ public class TryOutHandler {
 
     public TryOutHandler(String projectUri, String miServerPath) {
 
+        this(projectUri, new MIServer(Path.of(miServerPath), projectUri),
+                TryOutConstants.TRYOUT_PROJECTS_LOCATION.resolve(Utils.getHash(projectUri)));
+    }
+
+    /**
+     * Creates a handler which runs the try-outs on the given server.
+     *
+     * @param projectUri         project path
+     * @param server             MI server to run the try-outs
+     * @param projectCloneFolder folder to clone the project, which must not be shared with other handlers
+     */
+    public TryOutHandler(String projectUri, MIServer server, Path projectCloneFolder) {
+
         this.projectUri = projectUri;
-        this.lock = new Object();
-        server = new MIServer(Path.of(miServerPath), projectUri);
+        this.server = server;
+        this.projectCloneFolder = projectCloneFolder;
         activeBreakpoints = new ArrayList<>();
+        metrics = new TryOutMetrics();
     }
 
     public synchronized void init() {
 
         CAPPCacheManager.init();
         server.startServer();
-        commandClient = new DebugCommandClient();
-        breakpointEventProcessor = new BreakpointEventProcessor(commandClient, lock);
-        eventClient = new DebugEventClient(breakpointEventProcessor);
+        commandClient = new DebugCommandClient(server.getDebuggerCommandPort());
+        breakpointEventProcessor = new BreakpointEventProcessor(commandClient);
+        eventClient = new DebugEventClient(breakpointEventProcessor, server.getDebuggerEventPort());
         commandClient.connect();
         eventClient.connect();
         eventClient.start();
@@ -112,6 +132,17 @@ public class TryOutHandler {
         isFault = !eventClient.isConnected() || !commandClient.isConnected() || !server.isStarted();
     }
 
+    /**
+     * Starts the MI server of this handler unless it is already started or its ports are used by another server.
+     */
+    public synchronized void warmUp() {
+
+        if (!server.isStarted() && !server.isServerRunning()) {
+            LOGGER.info("Initializing the try-out feature");
+            init();
+        }
+    }
+
     /**
      * Executes the artifact that the mediator belongs to and returns the input and output info of the mediator.
      *
@@ -131,13 +162,17 @@ public class TryOutHandler {
         if (isFault) {
             return new MediatorTryoutInfo(TryOutConstants.TRYOUT_NOT_ACTIVATED_ERROR);
         }
+        MediatorTryoutInfo response;
         if (isCompleteTryOut(request)) {
-            return handleIsolatedTryOut(projectUri, request, true);
+            response = handleIsolatedTryOut(projectUri, request, true);
         } else if (isNewTryOut(request)) {
             boolean useSameCAPP = request.getTryoutId() != null;
-            return startTryOut(request, useSameCAPP);
+            response = startTryOut(request, useSameCAPP);
+        } else {
+            response = resumeTryOut(request);
         }
-        return resumeTryOut(request);
+        metrics.logSummary();
+        return response;
     }
 
     private boolean isCompleteTryOut(MediatorTryoutRequest request) {
@@ -166,7 +201,9 @@ public class TryOutHandler {
             if (!useSameCAPP) {
                 reset();
                 CAPPCacheManager.validateCAPPCache(projectUri);
-                Path editFilePath = TryOutUtils.cloneAndPreprocessProject(projectUri, request, TEMP_FOLDER_PATH);
+                long cloneStartTime = System.nanoTime();
+                Path editFilePath = TryOutUtils.cloneAndPreprocessProject(projectUri, request, projectCloneFolder);
+                metrics.record(Phase.CLONE, cloneStartTime);
                 boolean needStepOver = checkNeedStepOver(request, editFilePath);
 
                 String serviceUrl = null;
@@ -176,7 +213,7 @@ public class TryOutHandler {
                     serviceUrl = createApiForSequenceInvocation(request);
                     serviceMethod = TryOutConstants.POST;
                 }
-                server.deployProject(TEMP_FOLDER_PATH.toString(), request.getFile(), projectUri);
+                deployProject(projectCloneFolder.toString(), request.getFile());
 
                 // Get the mediator info
                 registerBreakpoints(request, editFilePath);
@@ -194,8 +231,7 @@ public class TryOutHandler {
             } else {
                 resumeTryOutAndDiscard(); // Clear the previous try-out
             }
-            sendRequest(currentInvocationInfo.getServiceUrl(), currentInvocationInfo.getMethod(),
-                    request.getContentType(), request.getInputPayload());
+            invoke(request);
             waitForMediatorInfo(currentInvocationInfo.isNeedStepOver(), false);
             if (breakpointEventProcessor.isFault()) {
                 return createFaultTryOutInfo();
@@ -247,6 +283,21 @@ public class TryOutHandler {
         }
     }
 
+    private void deployProject(String projectPath, String file) throws ArtifactDeploymentException {
+
+        long startTime = System.nanoTime();
+        server.deployProject(projectPath, file, projectUri);
+        metrics.record(Phase.DEPLOY, startTime);
+    }
+
+    private void invoke(MediatorTryoutRequest request) throws InvalidConfigurationException {
+
+        long startTime = System.nanoTime();
+        sendRequest(currentInvocationInfo.getServiceUrl(), currentInvocationInfo.getMethod(),
+                request.getContentType(), request.getInputPayload());
+        metrics.record(Phase.INVOKE, startTime);
+    }
+
     private void resumeTryOutAndDiscard() {
 
         try {
@@ -293,7 +344,7 @@ public class TryOutHandler {
             if (!useSameCAPP) {
                 CAPPCacheManager.validateCAPPCache(projectUri);
                 reset();
-                server.deployProject(projectPath, request.getFile(), projectUri);
+                deployProject(projectPath, request.getFile());
 
                 // Get the mediator info
                 registerBreakpoints(request, Path.of(request.getFile()));
@@ -302,8 +353,7 @@ public class TryOutHandler {
                         TryOutUtils.getInvocationInfo(Path.of(request.getFile()), request, activeBreakpoints, MI_HOST,
                                 server.getServerPort());
             }
-            sendRequest(currentInvocationInfo.getServiceUrl(), currentInvocationInfo.getMethod(),
-                    request.getContentType(), request.getInputPayload());
+            invoke(request);
             waitForMediatorInfo(true, false);
             if (breakpointEventProcessor.isFault()) {
                 return createFaultTryOutInfo();
@@ -469,24 +519,21 @@ public class TryOutHandler {
 
     private void waitForBreakpointHit(boolean forOutput) throws NoBreakpointHitException {
 
-        synchronized (lock) {
-            int count = 0;
-            boolean isDone = forOutput ? breakpointEventProcessor.isDone() : breakpointEventProcessor.isInputFetched();
-            while (!isDone) {
-                count++;
-                if (count > BREAKPOINT_HIT_TIMEOUT / 1000) {
-                    resumeTryOutAndDiscard();
-                    throw new NoBreakpointHitException(TryOutConstants.PAYLOAD_NOT_HIT_ERROR);
-                }
-                try {
-                    lock.wait(1000);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new NoBreakpointHitException(TryOutConstants.TRYOUT_FAILURE_MESSAGE, e);
-                }
-                isDone = forOutput ? breakpointEventProcessor.isDone() : breakpointEventProcessor.isInputFetched();
-            }
+        long startTime = System.nanoTime();
+        CompletableFuture<Void> breakpointHit =
+                forOutput ? breakpointEventProcessor.whenDone() : breakpointEventProcessor.whenInputFetched();
+        try {
+            breakpointHit.get(BREAKPOINT_HIT_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            resumeTryOutAndDiscard();
+            throw new NoBreakpointHitException(TryOutConstants.PAYLOAD_NOT_HIT_ERROR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NoBreakpointHitException(TryOutConstants.TRYOUT_FAILURE_MESSAGE, e);
+        } catch (ExecutionException | CancellationException e) {
+            throw new NoBreakpointHitException(TryOutConstants.TRYOUT_FAILURE_MESSAGE, e);
         }
+        metrics.record(Phase.BREAKPOINT_HIT, startTime);
     }
 
     private void cleanUp() {
@@ -523,7 +570,7 @@ public class TryOutHandler {
                         return null;
                 }
                 String apiContent = APISerializer.serializeAPI(api);
-                Path apiPath = Path.of(TEMP_FOLDER_PATH.toString()).resolve(TryOutConstants.API_RELATIVE_PATH)
+                Path apiPath = projectCloneFolder.resolve(TryOutConstants.API_RELATIVE_PATH)
                         .resolve(apiName + ".xml");
                 Utils.writeToFile(apiPath.toString(), apiContent);
                 return TryOutConstants.HTTP_PREFIX + TryOutConstants.LOCALHOST + ":" + server.getServerPort() + "/" +
@@ -614,12 +661,27 @@ public class TryOutHandler {
         clearBreakpoints();
         breakpointEventProcessor.reset();
         cleanUp();
-        try {
-            Utils.deleteDirectory(TEMP_FOLDER_PATH);
-            server.deleteDeployedFiles();
-        } catch (IOException e) {
-            LOGGER.log(Level.SEVERE, "Error while deleting the temp folder", e);
-        }
+        // The project clone and the deployed artifacts are kept, since the next try-out updates only the changed files
+    }
+
+    /**
+     * Returns the ID of the try-out which waits for the output of the mediator, if any.
+     *
+     * @return try-out ID, or null if no try-out is in progress
+     */
+    public String getCurrentTryoutID() {
+
+        return currentTryoutID;
+    }
+
+    public boolean isStarted() {
+
+        return server.isStarted();
+    }
+
+    public MIServer getServer() {
+
+        return server;
     }
 
     public boolean shutDown() {
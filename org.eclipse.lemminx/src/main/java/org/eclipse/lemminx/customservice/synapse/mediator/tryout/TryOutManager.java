@@ -28,17 +28,17 @@ import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTr
 
 public class TryOutManager {
 
-    private TryOutHandler tryOutHandler;
+    private TryOutRuntimePool runtimePool;
     private IsolatedTryOutHandler isolatedTryOutHandler;
     private ServerLessTryoutHandler serverLessTryoutHandler;
     private ConnectionTester connectionTester;
 
     public TryOutManager(String projectRoot, String miServerPath, ConnectorHolder connectorHolder) {
 
-        tryOutHandler = new TryOutHandler(projectRoot, miServerPath);
-        isolatedTryOutHandler = new IsolatedTryOutHandler(tryOutHandler, projectRoot);
+        runtimePool = new TryOutRuntimePool(projectRoot, miServerPath);
+        isolatedTryOutHandler = new IsolatedTryOutHandler(runtimePool, projectRoot);
         serverLessTryoutHandler = new ServerLessTryoutHandler(projectRoot);
-        connectionTester = new ConnectionTester(projectRoot, tryOutHandler, connectorHolder);
+        connectionTester = new ConnectionTester(projectRoot, runtimePool, connectorHolder);
     }
 
     public final MediatorTryoutInfo tryout(MediatorTryoutRequest request) {
@@ -46,7 +46,7 @@ public class TryOutManager {
         if (request.isIsolatedTryout()) {
             return isolatedTryOutHandler.tryOut(request);
         } else {
-            return tryOutHandler.handle(request);
+            return runtimePool.handle(request);
         }
     }
 
@@ -62,8 +62,7 @@ public class TryOutManager {
 
     public boolean shutdown() {
 
-        tryOutHandler.reset();
         CAPPCacheManager.shutdown();
-        return tryOutHandler.shutDown();
+        return runtimePool.shutdown();
     }
 }
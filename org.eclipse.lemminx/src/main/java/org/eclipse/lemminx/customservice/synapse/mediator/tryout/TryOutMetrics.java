@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.customservice.synapse.mediator.tryout;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Records the time taken by each phase of the mediator try-out.
+ * <p>
+ * Each phase keeps the number of runs with the last, total and maximum durations in milliseconds, so that the
+ * try-out latency can be followed per phase. The statistics are logged after each try-out request.
+ */
+public class TryOutMetrics {
+
+    private static final Logger LOGGER = Logger.getLogger(TryOutMetrics.class.getName());
+
+    private final Map<Phase, PhaseStats> stats = new EnumMap<>(Phase.class);
+
+    /**
+     * Try-out phase.
+     */
+    public enum Phase {
+        /**
+         * Cloning and preprocessing the project.
+         */
+        CLONE,
+        /**
+         * Copying the artifacts to the MI runtime and waiting for their deployment.
+         */
+        DEPLOY,
+        /**
+         * Invoking the service which runs the mediator.
+         */
+        INVOKE,
+        /**
+         * Waiting for the breakpoint of the mediator to be hit.
+         */
+        BREAKPOINT_HIT
+    }
+
+    /**
+     * Records the given phase which started at the given time.
+     *
+     * @param phase     try-out phase
+     * @param startTime start time of the phase from {@link System#nanoTime()}
+     * @return duration of the phase in milliseconds
+     */
+    public long record(Phase phase, long startTime) {
+
+        long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        synchronized (stats) {
+            stats.computeIfAbsent(phase, key -> new PhaseStats()).add(duration);
+        }
+        LOGGER.log(Level.INFO, String.format("Try-out phase %s completed in %d ms", phase, duration));
+        return duration;
+    }
+
+    /**
+     * Logs the statistics of each phase recorded so far.
+     */
+    public void logSummary() {
+
+        StringBuilder summary = new StringBuilder("Try-out phase statistics:");
+        synchronized (stats) {
+            if (stats.isEmpty()) {
+                return;
+            }
+            stats.forEach((phase, phaseStats) -> summary.append(String.format(
+                    " %s [count: %d, last: %d ms, average: %d ms, max: %d ms]", phase, phaseStats.count,
+                    phaseStats.lastDuration, phaseStats.getAverageDuration(), phaseStats.maxDuration)));
+        }
+        LOGGER.log(Level.INFO, summary.toString());
+    }
+
+    private static class PhaseStats {
+
+        private int count;
+        private long lastDuration;
+        private long totalDuration;
+        private long maxDuration;
+
+        private void add(long duration) {
+
+            count++;
+            lastDuration = duration;
+            totalDuration += duration;
+            maxDuration = Math.max(maxDuration, duration);
+        }
+
+        private long getAverageDuration() {
+
+            return count == 0 ? 0 : totalDuration / count;
+        }
+    }
+}
@@ -0,0 +1,403 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.customservice.synapse.mediator.tryout;
+
+import org.eclipse.lemminx.customservice.synapse.mediator.TryOutConstants;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutInfo;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutRequest;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.server.MIServer;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.server.SyncManifest;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Pool of MI runtimes which run the mediator try-outs.
+ * <p>
+ * Each runtime has its own try-out handler, debugger clients, project clone and MI home, and runs with its ports
+ * offset by {@value #PORT_OFFSET_STEP} from the previous runtime, so that the try-outs on different runtimes run at the
+ * same time without sharing any deployed artifact. The first runtime uses the configured MI home and the others use
+ * copies of it, which are kept in sync with it. A request runs on a free runtime, preferring the runtime which holds
+ * its try-out and then a started runtime, and waits when all the runtimes are busy. Once the first try-out succeeds,
+ * the other runtimes are started in the background so that the next concurrent try-outs do not wait for MI to boot,
+ * and the runtimes other than the first one are shut down when they are idle for longer than the idle timeout.
+ * <p>
+ * The pool size, the idle timeout in milliseconds and whether to start the runtimes with the language server are set
+ * with the {@value #POOL_SIZE_PROPERTY}, {@value #IDLE_TIMEOUT_PROPERTY} and {@value #PRESTART_PROPERTY} system
+ * properties. The pool holds a single runtime by default, since each runtime is a separate MI process.
+ */
+public class TryOutRuntimePool {
+
+    private static final Logger LOGGER = Logger.getLogger(TryOutRuntimePool.class.getName());
+    public static final String POOL_SIZE_PROPERTY = "synapse.tryout.pool.size";
+    public static final String IDLE_TIMEOUT_PROPERTY = "synapse.tryout.pool.idle.timeout";
+    public static final String PRESTART_PROPERTY = "synapse.tryout.pool.prestart";
+    private static final int DEFAULT_POOL_SIZE = 1;
+    private static final long DEFAULT_IDLE_TIMEOUT = TimeUnit.MINUTES.toMillis(10);
+    private static final int PORT_OFFSET_STEP = 10;
+    private static final List<Path> EXCLUDED_RUNTIME_PATHS =
+            List.of(Path.of("repository", "logs"), Path.of("tmp"), Path.of("wso2carbon.pid"));
+
+    private final List<PooledRuntime> runtimes = new ArrayList<>();
+    private final long idleTimeout;
+    private final ScheduledExecutorService evictionExecutor;
+    private boolean isWarmUpStarted = false;
+
+    public TryOutRuntimePool(String projectUri, String miServerPath) {
+
+        this(projectUri, miServerPath, Integer.getInteger(POOL_SIZE_PROPERTY, DEFAULT_POOL_SIZE),
+                Long.getLong(IDLE_TIMEOUT_PROPERTY, DEFAULT_IDLE_TIMEOUT));
+        if (Boolean.getBoolean(PRESTART_PROPERTY)) {
+            warmUp();
+        }
+    }
+
+    /**
+     * Creates a pool of the given number of runtimes.
+     *
+     * @param projectUri   project path
+     * @param miServerPath MI home of the first runtime
+     * @param size         number of runtimes
+     * @param idleTimeout  time in milliseconds after which an idle runtime other than the first one is shut down, or 0
+     *                     to keep the runtimes running
+     */
+    public TryOutRuntimePool(String projectUri, String miServerPath, int size, long idleTimeout) {
+
+        this(createHandlers(projectUri, miServerPath, size), idleTimeout);
+    }
+
+    /**
+     * Creates a pool of the given try-out handlers. The MI home of the first handler is copied to the MI homes of the
+     * other handlers before they run a request.
+     *
+     * @param handlers    try-out handlers of the runtimes
+     * @param idleTimeout time in milliseconds after which an idle runtime other than the first one is shut down, or 0
+     *                    to keep the runtimes running
+     */
+    public TryOutRuntimePool(List<TryOutHandler> handlers, long idleTimeout) {
+
+        for (TryOutHandler handler : handlers) {
+            runtimes.add(new PooledRuntime(runtimes.size(), handler.getServer(), handler));
+        }
+        this.idleTimeout = idleTimeout;
+        if (runtimes.size() > 1 && idleTimeout > 0) {
+            evictionExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "mi-runtime-pool-eviction");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = Math.max(1000, idleTimeout / 2);
+            evictionExecutor.scheduleWithFixedDelay(this::evictIdleRuntimes, interval, interval,
+                    TimeUnit.MILLISECONDS);
+        } else {
+            evictionExecutor = null;
+        }
+    }
+
+    private static List<TryOutHandler> createHandlers(String projectUri, String miServerPath, int size) {
+
+        Path serverPath = Path.of(miServerPath);
+        Path projectClones = TryOutConstants.TRYOUT_PROJECTS_LOCATION.resolve(Utils.getHash(projectUri));
+        Path runtimeCopies = TryOutConstants.TRYOUT_RUNTIMES_LOCATION
+                .resolve(Utils.getHash(serverPath.toAbsolutePath().toString()));
+        List<TryOutHandler> handlers = new ArrayList<>();
+        for (int index = 0; index < Math.max(1, size); index++) {
+            Path runtimePath = index == 0 ? serverPath : runtimeCopies.resolve(String.valueOf(index));
+            MIServer server = new MIServer(runtimePath, projectUri, index * PORT_OFFSET_STEP);
+            handlers.add(new TryOutHandler(projectUri, server, projectClones.resolve(String.valueOf(index))));
+        }
+        return handlers;
+    }
+
+    /**
+     * Runs the given try-out request on a runtime of the pool. A request which continues a try-out runs on the
+     * runtime which holds the try-out.
+     *
+     * @param request try-out request
+     * @return try-out info
+     */
+    public MediatorTryoutInfo handle(MediatorTryoutRequest request) {
+
+        boolean isContinuation = request.getTryoutId() != null || request.getMediatorInfo() != null;
+        try {
+            return execute(request.getTryoutId(), isContinuation, handler -> handler.handle(request),
+                    info -> info.getError() == null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new MediatorTryoutInfo(TryOutConstants.TRYOUT_FAILURE_MESSAGE);
+        }
+    }
+
+    /**
+     * Runs the given task on a runtime of the pool which does not hold a try-out, if there is one.
+     *
+     * @param task task to run with the try-out handler of the runtime
+     * @param <T>  result type
+     * @return result of the task
+     * @throws InterruptedException if the thread is interrupted while waiting for a runtime
+     */
+    public <T> T execute(Function<TryOutHandler, T> task) throws InterruptedException {
+
+        return execute(null, false, task, result -> true);
+    }
+
+    private <T> T execute(String tryoutId, boolean isContinuation, Function<TryOutHandler, T> task,
+                          Predicate<T> isSuccess) throws InterruptedException {
+
+        PooledRuntime runtime = acquire(tryoutId, isContinuation);
+        T result;
+        try {
+            prepareRuntime(runtime);
+            result = task.apply(runtime.handler);
+        } finally {
+            release(runtime);
+        }
+        if (runtimes.size() > 1 && isSuccess.test(result)) {
+            warmUp();
+        }
+        return result;
+    }
+
+    /**
+     * Starts the runtimes of the pool in the background, unless they are already being started.
+     */
+    public synchronized void warmUp() {
+
+        if (isWarmUpStarted || runtimes.size() == 1 && runtimes.get(0).handler.isStarted()) {
+            return;
+        }
+        isWarmUpStarted = true;
+        Thread thread = new Thread(this::startRuntimes, "mi-runtime-pool-warm-up");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Shuts down all the runtimes of the pool, waiting for the requests running on them to complete. The runtimes are
+     * started again by the next try-out.
+     *
+     * @return true if all the runtimes are shut down
+     */
+    public boolean shutdown() {
+
+        synchronized (this) {
+            isWarmUpStarted = false;
+        }
+        boolean isShutDown = true;
+        for (PooledRuntime runtime : runtimes) {
+            try {
+                acquire(runtime);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            try {
+                runtime.handler.reset();
+                isShutDown &= runtime.handler.shutDown();
+            } finally {
+                release(runtime);
+            }
+        }
+        return isShutDown;
+    }
+
+    public int getSize() {
+
+        return runtimes.size();
+    }
+
+    private synchronized PooledRuntime acquire(String tryoutId, boolean isContinuation) throws InterruptedException {
+
+        PooledRuntime runtime;
+        while ((runtime = select(tryoutId, isContinuation)) == null) {
+            wait();
+        }
+        runtime.isBusy = true;
+        return runtime;
+    }
+
+    private synchronized void acquire(PooledRuntime runtime) throws InterruptedException {
+
+        while (runtime.isBusy) {
+            wait();
+        }
+        runtime.isBusy = true;
+    }
+
+    private synchronized void release(PooledRuntime runtime) {
+
+        String tryoutId = runtime.handler.getCurrentTryoutID();
+        if (tryoutId != null) {
+            runtime.lastTryoutId = tryoutId;
+        }
+        runtime.lastUsedTime = System.nanoTime();
+        runtime.isBusy = false;
+        notifyAll();
+    }
+
+    private PooledRuntime select(String tryoutId, boolean isContinuation) {
+
+        if (tryoutId != null) {
+            for (PooledRuntime runtime : runtimes) {
+                if (tryoutId.equals(runtime.lastTryoutId)) {
+                    return runtime.isBusy ? null : runtime;
+                }
+            }
+        }
+        PooledRuntime selected = null;
+        for (PooledRuntime runtime : runtimes) {
+            if (runtime.isBusy) {
+                continue;
+            }
+            int rank = rank(runtime, isContinuation);
+            if (selected == null || rank < rank(selected, isContinuation) ||
+                    rank == rank(selected, isContinuation) && runtime.lastUsedTime > selected.lastUsedTime) {
+                selected = runtime;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Ranks a free runtime for a request, where a lower rank is preferred. A continuation prefers the runtime which
+     * holds a try-out, and the other requests prefer a started runtime which does not hold a try-out.
+     */
+    private static int rank(PooledRuntime runtime, boolean isContinuation) {
+
+        if (runtime.handler.getCurrentTryoutID() != null) {
+            return isContinuation ? 0 : 3;
+        }
+        return runtime.handler.isStarted() ? 1 : 2;
+    }
+
+    private void startRuntimes() {
+
+        for (PooledRuntime runtime : runtimes) {
+            if (!reserve(runtime, false)) {
+                continue;
+            }
+            try {
+                prepareRuntime(runtime);
+                runtime.handler.warmUp();
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, String.format("Error while starting the MI runtime %d", runtime.index), e);
+            } finally {
+                release(runtime);
+            }
+        }
+    }
+
+    private void evictIdleRuntimes() {
+
+        for (PooledRuntime runtime : runtimes.subList(1, runtimes.size())) {
+            if (!reserve(runtime, true)) {
+                continue;
+            }
+            try {
+                LOGGER.log(Level.INFO, String.format("Shutting down the idle MI runtime %d", runtime.index));
+                runtime.handler.reset();
+                runtime.handler.shutDown();
+            } finally {
+                release(runtime);
+            }
+        }
+    }
+
+    /**
+     * Reserves the given runtime to start it while the pool is warming up, or to shut it down if it is idle.
+     *
+     * @param runtime    runtime to reserve
+     * @param isEviction whether the runtime is reserved to shut it down
+     * @return true if the runtime is reserved
+     */
+    private synchronized boolean reserve(PooledRuntime runtime, boolean isEviction) {
+
+        if (runtime.isBusy || runtime.handler.isStarted() != isEviction || !isEviction && !isWarmUpStarted) {
+            return false;
+        }
+        if (isEviction && (runtime.handler.getCurrentTryoutID() != null ||
+                System.nanoTime() - runtime.lastUsedTime < TimeUnit.MILLISECONDS.toNanos(idleTimeout))) {
+            return false;
+        }
+        runtime.isBusy = true;
+        return true;
+    }
+
+    /**
+     * Copies the MI home of the first runtime to the MI home of the given runtime. Only the changed files are copied,
+     * and the logs, the temporary files and the artifacts deployed by the try-out are skipped.
+     */
+    private void prepareRuntime(PooledRuntime runtime) {
+
+        if (runtime.index == 0 || runtime.isPrepared) {
+            return;
+        }
+        MIServer baseServer = runtimes.get(0).server;
+        Path basePath = baseServer.getServerPath();
+        Path runtimePath = runtime.server.getServerPath();
+        SyncManifest manifest = new SyncManifest(runtimePath.resolveSibling(runtimePath.getFileName() + ".manifest"));
+        try {
+            int changes = manifest.sync(basePath, runtimePath, path -> isRuntimeFile(path) &&
+                    !baseServer.isDeployedFile(basePath.resolve(path)), false);
+            LOGGER.log(Level.INFO, String.format("Prepared the MI runtime %d with %d updated files", runtime.index,
+                    changes));
+            runtime.isPrepared = true;
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, String.format("Error while preparing the MI runtime %d", runtime.index), e);
+        }
+    }
+
+    private static boolean isRuntimeFile(Path relativePath) {
+
+        for (Path excludedPath : EXCLUDED_RUNTIME_PATHS) {
+            if (relativePath.startsWith(excludedPath)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class PooledRuntime {
+
+        private final int index;
+        private final MIServer server;
+        private final TryOutHandler handler;
+        private boolean isBusy = false;
+        private boolean isPrepared = false;
+        private long lastUsedTime = System.nanoTime();
+        private String lastTryoutId;
+
+        PooledRuntime(int index, MIServer server, TryOutHandler handler) {
+
+            this.index = index;
+            this.server = server;
+            this.handler = handler;
+        }
+    }
+}
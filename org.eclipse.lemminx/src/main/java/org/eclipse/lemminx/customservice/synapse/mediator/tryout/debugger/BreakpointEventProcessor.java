@@ -24,61 +24,96 @@ import org.eclipse.lemminx.customservice.synapse.debugger.entity.debuginfo.IDebu
 import org.eclipse.lemminx.customservice.synapse.mediator.TryOutConstants;
 import org.eclipse.lemminx.customservice.synapse.mediator.TryOutUtils;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+/**
+ * Collects the message context properties at the breakpoints hit by a try-out.
+ * <p>
+ * The first breakpoint hit gives the input of the mediator and the step over breakpoint gives its output. Each of them
+ * completes its own future, so that the try-out request waiting on it is woken up as soon as the properties are
+ * fetched. The futures are renewed by {@link #reset()} for the next try-out.
+ */
 public class BreakpointEventProcessor {
 
     private static final Logger LOGGER = Logger.getLogger(BreakpointEventProcessor.class.getName());
     private static final List<String>
             PROPERTY_CONTEXTS = List.of("synapse", "axis2", "axis2-client", "transport", "operation", "variable");
     private final DebugCommandClient commandClient;
-    private final Object lock;
-    private boolean isListeningForStepOver = false;
-    private boolean isInputFetched = false;
-    private boolean isDone = false;
-    private boolean isFault = false;
-    private List<String> inputResponse;
-    private List<String> outputResponse;
-    private IDebugInfo faultSequenceBreakpoint;
+    private volatile boolean isListeningForStepOver = false;
+    private volatile boolean isDone = false;
+    private volatile boolean isFault = false;
+    private volatile List<String> inputResponse;
+    private volatile List<String> outputResponse;
+    private volatile IDebugInfo faultSequenceBreakpoint;
+    private volatile CompletableFuture<Void> inputFuture = new CompletableFuture<>();
+    private volatile CompletableFuture<Void> outputFuture = new CompletableFuture<>();
 
-    public BreakpointEventProcessor(DebugCommandClient commandClient, Object lock) {
+    public BreakpointEventProcessor(DebugCommandClient commandClient) {
 
         this.commandClient = commandClient;
-
-        this.lock = lock;
     }
 
     public void process(JsonObject eventData) {
 
-        List<String> properties = getProperties();
         if (isDone) {
             return;
         }
-        if (TryOutUtils.isExpectedBreakpoint(eventData, faultSequenceBreakpoint)) {
+        List<String> properties = getProperties();
+        if (faultSequenceBreakpoint != null && TryOutUtils.isExpectedBreakpoint(eventData, faultSequenceBreakpoint)) {
             isFault = true;
             isDone = true;
         }
         if (!isListeningForStepOver) {
             inputResponse = Collections.unmodifiableList(properties);
-            synchronized (lock) {
-                isListeningForStepOver = true;
-                isInputFetched = true;
-                lock.notifyAll();
+            isListeningForStepOver = true;
+            inputFuture.complete(null);
+            if (isFault) {
+                outputFuture.complete(null);
             }
         } else {
             outputResponse = Collections.unmodifiableList(properties);
-            synchronized (lock) {
-                isDone = true;
-                isListeningForStepOver = false;
-                lock.notifyAll();
-            }
+            isDone = true;
+            isListeningForStepOver = false;
+            outputFuture.complete(null);
             commandClient.sendResumeCommand();
         }
     }
 
+    /**
+     * Returns a future which completes when the input properties of the mediator are fetched.
+     *
+     * @return future of the input breakpoint
+     */
+    public CompletableFuture<Void> whenInputFetched() {
+
+        return inputFuture;
+    }
+
+    /**
+     * Returns a future which completes when the output properties of the mediator are fetched, or when the fault
+     * sequence is hit.
+     *
+     * @return future of the step over breakpoint
+     */
+    public CompletableFuture<Void> whenDone() {
+
+        return outputFuture;
+    }
+
+    /**
+     * Fails the pending futures, since no more breakpoint events are received once the debugger is disconnected.
+     */
+    public void disconnect() {
+
+        IOException error = new IOException("The debugger is disconnected");
+        inputFuture.completeExceptionally(error);
+        outputFuture.completeExceptionally(error);
+    }
     private List<String> getProperties() {
 
         List<String> properties = new ArrayList<>();
@@ -138,16 +173,19 @@ public class BreakpointEventProcessor {
 
     public boolean isInputFetched() {
 
-        return isInputFetched;
+        return inputResponse != null;
     }
 
     public void reset() {
 
         isDone = false;
-        isInputFetched = false;
         isListeningForStepOver = false;
         inputResponse = null;
         outputResponse = null;
         isFault = false;
+        inputFuture.cancel(false);
+        outputFuture.cancel(false);
+        inputFuture = new CompletableFuture<>();
+        outputFuture = new CompletableFuture<>();
     }
 }
@@ -20,46 +20,74 @@ package org.eclipse.lemminx.customservice.synapse.mediator.tryout.debugger;
 
 import org.eclipse.lemminx.customservice.synapse.mediator.TryOutConstants;
 
-import java.io.BufferedOutputStream;
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.Socket;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+/**
+ * Sends the commands to the MI debugger over a non-blocking socket channel.
+ * <p>
+ * The debugger answers each command with a single line, so the commands are sent one at a time and each waits for its
+ * response up to {@value #RESPONSE_TIMEOUT} ms. A response which arrives after its timeout is discarded before the
+ * next command is sent.
+ */
 public class DebugCommandClient {
 
     private static final Logger LOGGER = Logger.getLogger(DebugCommandClient.class.getName());
 
     private static final String HOST = TryOutConstants.LOCALHOST;
-    private int port = TryOutConstants.DEFAULT_DEBUGGER_COMMAND_PORT;
-    private Socket socket;
+    private static final long RESPONSE_TIMEOUT = 5000;
+    private final int port;
+    private final LineReader lineReader = new LineReader();
+    private SocketChannel channel;
+    private Selector selector;
+
+    public DebugCommandClient() {
+
+        this(TryOutConstants.DEFAULT_DEBUGGER_COMMAND_PORT);
+    }
 
-    public void connect() {
+    public DebugCommandClient(int port) {
+
+        this.port = port;
+    }
+
+    public synchronized void connect() {
 
         try {
-            socket = new Socket(HOST, port);
-            socket.setSoTimeout(5000); // Set a timeout for reading from the socket
+            channel = SocketChannel.open(new InetSocketAddress(HOST, port));
+            channel.configureBlocking(false);
+            selector = Selector.open();
+            channel.register(selector, SelectionKey.OP_READ);
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, String.format("Failed to connect to the server using port: %d", port), e);
+            closeQuietly();
         }
     }
 
-    public String sendCommand(String message) {
-
+    /**
+     * Sends the given command and waits for its response.
+     *
+     * @param message command to send
+     * @return response of the debugger, or null if the command could not be sent or was not answered in time
+     */
+    public synchronized String sendCommand(String message) {
+
+        if (channel == null) {
+            LOGGER.log(Level.SEVERE, "Failed to send command, since the debugger is not connected");
+            return null;
+        }
         try {
-            var outputStream = new BufferedOutputStream(socket.getOutputStream());
-
-            message += "\n";
-
-            outputStream.write(message.getBytes(StandardCharsets.UTF_8));
-            outputStream.flush();
-
-            var inputStream =
-                    new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
-            return inputStream.readLine();
+            discardLateResponses();
+            long deadline = System.currentTimeMillis() + RESPONSE_TIMEOUT;
+            write(ByteBuffer.wrap((message + "\n").getBytes(StandardCharsets.UTF_8)), deadline);
+            return readResponse(deadline);
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, "Failed to send command", e);
         }
@@ -71,18 +99,89 @@ public class DebugCommandClient {
         sendCommand(TryOutConstants.RESUME_COMMAND);
     }
 
-    public boolean isConnected() {
+    public synchronized boolean isConnected() {
+
+        return channel != null && channel.isConnected();
+    }
+
+    public synchronized void close() throws IOException {
+
+        try {
+            if (selector != null) {
+                selector.close();
+            }
+        } finally {
+            selector = null;
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+        }
+    }
+
+    private void discardLateResponses() throws IOException {
+
+        // Responses of the commands which timed out must not be taken as the response of the next command
+        if (!lineReader.read(channel)) {
+            throw new IOException("Connection closed by the debugger");
+        }
+        String lateResponse;
+        while ((lateResponse = lineReader.nextLine()) != null) {
+            LOGGER.log(Level.FINE, "Discarding a late debugger response: " + lateResponse);
+        }
+    }
+
+    private void write(ByteBuffer buffer, long deadline) throws IOException {
+
+        channel.write(buffer);
+        if (!buffer.hasRemaining()) {
+            return;
+        }
+        // The send buffer is full, hence wait until the debugger reads the command
+        SelectionKey key = channel.keyFor(selector);
+        key.interestOps(SelectionKey.OP_WRITE);
+        try {
+            while (buffer.hasRemaining()) {
+                long timeout = deadline - System.currentTimeMillis();
+                if (timeout <= 0) {
+                    throw new IOException("Timed out while sending the command to the debugger");
+                }
+                if (selector.select(timeout) > 0) {
+                    selector.selectedKeys().clear();
+                    channel.write(buffer);
+                }
+            }
+        } finally {
+            key.interestOps(SelectionKey.OP_READ);
+        }
+    }
 
-        if (socket == null) {
-            return false;
+    private String readResponse(long deadline) throws IOException {
+
+        String response = lineReader.nextLine();
+        while (response == null) {
+            long timeout = deadline - System.currentTimeMillis();
+            if (timeout <= 0) {
+                LOGGER.log(Level.WARNING, "Timed out while waiting for the debugger response");
+                return null;
+            }
+            if (selector.select(timeout) > 0) {
+                selector.selectedKeys().clear();
+                if (!lineReader.read(channel)) {
+                    throw new IOException("Connection closed by the debugger");
+                }
+                response = lineReader.nextLine();
+            }
         }
-        return socket.isConnected();
+        return response;
     }
 
-    public void close() throws IOException {
+    private void closeQuietly() {
 
-        if (socket != null) {
-            socket.close();
+        try {
+            close();
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Error while closing the debugger connection", e);
         }
     }
 }
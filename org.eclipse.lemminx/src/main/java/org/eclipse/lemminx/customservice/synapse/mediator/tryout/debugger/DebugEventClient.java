@@ -19,120 +19,153 @@
 package org.eclipse.lemminx.customservice.synapse.mediator.tryout.debugger;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 import org.eclipse.lemminx.customservice.synapse.mediator.TryOutConstants;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.net.Socket;
-import java.nio.charset.StandardCharsets;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-public class DebugEventClient extends Thread {
+/**
+ * Receives the events of the MI debugger over a non-blocking socket channel.
+ * <p>
+ * A single event loop thread waits on a selector for the events and hands each breakpoint event to the
+ * {@link BreakpointEventProcessor} as soon as its line is complete, which completes the futures that the try-out
+ * requests wait on.
+ */
+public class DebugEventClient {
 
     private static final Logger LOGGER = Logger.getLogger(DebugEventClient.class.getName());
     private static final String HOST = TryOutConstants.LOCALHOST;
-    private int port = TryOutConstants.DEFAULT_DEBUGGER_EVENT_PORT;
-    private Socket socket;
-    private final BlockingQueue<String> eventQueue;
+    private static final Gson GSON = new Gson();
+    private final int port;
     private final BreakpointEventProcessor breakpointEventProcessor;
-    private boolean isDebuggerActive = false;
+    private final LineReader lineReader = new LineReader();
+    private SocketChannel channel;
+    private Selector selector;
+    private volatile Thread eventLoop;
 
     public DebugEventClient(BreakpointEventProcessor breakpointEventProcessor) {
 
-        this.eventQueue = new ArrayBlockingQueue<>(10);
+        this(breakpointEventProcessor, TryOutConstants.DEFAULT_DEBUGGER_EVENT_PORT);
+    }
+
+    public DebugEventClient(BreakpointEventProcessor breakpointEventProcessor, int port) {
+
+        this.port = port;
         this.breakpointEventProcessor = breakpointEventProcessor;
     }
 
-    public void connect() {
+    public synchronized void connect() {
 
         try {
-            socket = new Socket(HOST, port);
-            socket.setReceiveBufferSize(65536);
-            isDebuggerActive = true;
+            channel = SocketChannel.open(new InetSocketAddress(HOST, port));
+            channel.setOption(StandardSocketOptions.SO_RCVBUF, 65536);
+            channel.configureBlocking(false);
+            selector = Selector.open();
+            channel.register(selector, SelectionKey.OP_READ);
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, String.format("Failed to connect to the server using port: %d", port), e);
+            closeQuietly();
         }
     }
 
-    @Override
-    public void run() {
+    /**
+     * Starts the event loop, unless the client is not connected or the loop is already started.
+     */
+    public synchronized void start() {
 
-        Thread eventListener = new Thread(new DebugEventListener());
-        eventListener.start();
-        listenForEvent();
+        if (selector == null || eventLoop != null) {
+            return;
+        }
+        Selector eventSelector = selector;
+        SocketChannel eventChannel = channel;
+        eventLoop = new Thread(() -> listenForEvents(eventSelector, eventChannel), "mi-debug-event-loop");
+        eventLoop.setDaemon(true);
+        eventLoop.start();
     }
 
-    private void listenForEvent() {
+    private void listenForEvents(Selector eventSelector, SocketChannel eventChannel) {
 
-        while (isDebuggerActive) {
-            try {
-                String event = eventQueue.take();
-                Gson gson = new Gson();
-                JsonObject eventJson = gson.fromJson(event, JsonObject.class);
-                if (eventJson.has(TryOutConstants.EVENT) && eventJson.get(TryOutConstants.EVENT) != null &&
-                        TryOutConstants.BREAKPOINT.equals(eventJson.get(TryOutConstants.EVENT).getAsString())) {
-                    breakpointEventProcessor.process(eventJson);
+        try {
+            while (eventLoop == Thread.currentThread()) {
+                if (eventSelector.select() == 0) {
+                    continue;
+                }
+                eventSelector.selectedKeys().clear();
+                boolean isOpen = lineReader.read(eventChannel);
+                String event;
+                while ((event = lineReader.nextLine()) != null) {
+                    processEvent(event);
                 }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+                if (!isOpen) {
+                    LOGGER.log(Level.INFO, "The debugger closed the event connection");
+                    return;
+                }
+            }
+        } catch (ClosedSelectorException e) {
+            // The client is closed
+        } catch (IOException e) {
+            if (eventLoop == Thread.currentThread()) {
                 LOGGER.log(Level.SEVERE, "Failed to listen for events", e);
             }
+        } finally {
+            breakpointEventProcessor.disconnect();
         }
     }
 
-    public boolean isConnected() {
+    private void processEvent(String event) {
 
-        if (socket == null) {
-            return false;
+        if (event.isEmpty()) {
+            return;
+        }
+        try {
+            JsonObject eventJson = GSON.fromJson(event, JsonObject.class);
+            JsonElement eventType = eventJson != null ? eventJson.get(TryOutConstants.EVENT) : null;
+            if (eventType != null && !eventType.isJsonNull() &&
+                    TryOutConstants.BREAKPOINT.equals(eventType.getAsString())) {
+                breakpointEventProcessor.process(eventJson);
+            }
+        } catch (JsonParseException | IllegalStateException | UnsupportedOperationException e) {
+            LOGGER.log(Level.WARNING, "Invalid debugger event: " + event, e);
         }
-        return socket.isConnected();
     }
 
-    public void close() throws IOException {
+    public synchronized boolean isConnected() {
 
-        isDebuggerActive = false;
-        if (socket != null) {
-            socket.close();
-        }
+        return channel != null && channel.isConnected();
     }
 
-    private class DebugEventListener implements Runnable {
-
-        @Override
-        public void run() {
+    public synchronized void close() throws IOException {
 
-            while (isDebuggerActive) {
-                listen();
+        eventLoop = null;
+        try {
+            if (selector != null) {
+                selector.close();
+            }
+        } finally {
+            selector = null;
+            if (channel != null) {
+                channel.close();
+                channel = null;
             }
         }
+    }
 
-        public String listen() {
-
-            try {
-                InputStream inputStream = socket.getInputStream();
-                byte[] tempBuffer = new byte[1024];
-                StringBuilder buffer = new StringBuilder();
-                int bytesRead;
-
-                while ((bytesRead = inputStream.read(tempBuffer)) != -1) {
-                    String receivedData = new String(tempBuffer, 0, bytesRead, StandardCharsets.UTF_8);
-                    buffer.append(receivedData);
+    private void closeQuietly() {
 
-                    int delimiterIndex;
-                    while ((delimiterIndex = buffer.indexOf("\n")) != -1) {
-                        String event = buffer.substring(0, delimiterIndex).trim();
-                        buffer.delete(0, delimiterIndex + 1);
-                        eventQueue.offer(event);
-                    }
-                }
-            } catch (IOException e) {
-                LOGGER.log(Level.SEVERE, "Failed to listen for events", e);
-            }
-            return null;
+        try {
+            close();
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Error while closing the debugger connection", e);
         }
     }
 }
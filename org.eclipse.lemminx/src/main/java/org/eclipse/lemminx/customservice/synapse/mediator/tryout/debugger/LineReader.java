@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.customservice.synapse.mediator.tryout.debugger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Splits the bytes read from a channel into the newline delimited messages of the MI debugger protocol.
+ * <p>
+ * The lines are decoded only once they are complete, so that a multibyte character split between two reads is decoded
+ * correctly. When the buffer fills up, the complete lines in it are queued, and only a line longer than the buffer is
+ * moved out of it.
+ */
+public class LineReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final ByteArrayOutputStream partialLine = new ByteArrayOutputStream();
+    private final Deque<String> lines = new ArrayDeque<>();
+
+    /**
+     * Reads the available bytes from the given channel.
+     *
+     * @param channel channel to read
+     * @return false if the channel has reached the end of the stream
+     * @throws IOException if the channel cannot be read
+     */
+    public boolean read(ReadableByteChannel channel) throws IOException {
+
+        int bytesRead;
+        while ((bytesRead = channel.read(buffer)) > 0) {
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+        }
+        return bytesRead >= 0;
+    }
+
+    /**
+     * Returns the next complete line, without the line terminator.
+     *
+     * @return next line, or null if no complete line is read yet
+     */
+    public String nextLine() {
+
+        String line = lines.poll();
+        return line != null ? line : readLine();
+    }
+
+    private String readLine() {
+
+        buffer.flip();
+        try {
+            for (int i = buffer.position(); i < buffer.limit(); i++) {
+                if (buffer.get(i) == '\n') {
+                    int length = i - buffer.position();
+                    partialLine.write(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+                    buffer.position(i + 1);
+                    String line = partialLine.toString(StandardCharsets.UTF_8).trim();
+                    partialLine.reset();
+                    return line;
+                }
+            }
+            return null;
+        } finally {
+            buffer.compact();
+        }
+    }
+
+    private void drain() {
+
+        String line;
+        while ((line = readLine()) != null) {
+            lines.add(line);
+        }
+        if (!buffer.hasRemaining()) {
+            // The line does not fit the buffer, hence keep its start aside
+            buffer.flip();
+            partialLine.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.clear();
+        }
+    }
+}
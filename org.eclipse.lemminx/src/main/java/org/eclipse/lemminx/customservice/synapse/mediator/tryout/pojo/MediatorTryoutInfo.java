@@ -86,6 +86,16 @@ public class MediatorTryoutInfo {
         return null;
     }
 
+    public void setInput(MediatorInfo input) {
+
+        this.input = input;
+    }
+
+    public void setOutput(MediatorInfo output) {
+
+        this.output = output;
+    }
+
     public void setError(String error) {
 
         this.error = error;
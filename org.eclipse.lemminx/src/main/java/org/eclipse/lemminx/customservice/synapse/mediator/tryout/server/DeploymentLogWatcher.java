@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.customservice.synapse.mediator.tryout.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+/**
+ * Tails the MI server log to detect when the artifacts are deployed.
+ * <p>
+ * The log is read from the position where the watcher started, whenever the log folder reports a change or at least
+ * every {@value #POLL_INTERVAL} ms, since the watch service of some platforms only polls the file system. Each
+ * expected artifact is completed with true when the log reports that it is deployed or updated, and with false when
+ * the log reports that its deployment failed. Failures are logged with the file instead of the artifact name, so an
+ * artifact is also tracked by the name of its file.
+ */
+public class DeploymentLogWatcher {
+
+    private static final Logger LOGGER = Logger.getLogger(DeploymentLogWatcher.class.getName());
+    private static final long POLL_INTERVAL = 200;
+    private static final Pattern ARTIFACT_DEPLOYED_PATTERN =
+            Pattern.compile("named '([^']+)' has been (?:deployed|updated) from file");
+    private static final Pattern CAPP_DEPLOYED_PATTERN =
+            Pattern.compile("Successfully Deployed Carbon Application : (\\S+)");
+    private static final Pattern ARTIFACT_FAILED_PATTERN =
+            Pattern.compile("(?i)deployment from the file : (.+?) : Failed");
+    private static final Pattern CAPP_FAILED_PATTERN =
+            Pattern.compile("Error occurred while deploying the Carbon application:?\\s*(\\S+)");
+    private static final Pattern CAPP_VERSION_PATTERN = Pattern.compile("_\\d[\\w.-]*$");
+
+    private final Path logFile;
+    private final Map<String, CompletableFuture<Boolean>> expectedArtifacts = new ConcurrentHashMap<>();
+    private final Map<String, String> artifactFileNames = new ConcurrentHashMap<>();
+    private final StringBuilder partialLine = new StringBuilder();
+    private long position;
+    private volatile Thread watcherThread;
+    private volatile WatchService watchService;
+
+    public DeploymentLogWatcher(Path logFile) {
+
+        this.logFile = logFile;
+    }
+
+    /**
+     * Starts tailing the log from its current end.
+     */
+    public synchronized void start() {
+
+        if (watcherThread != null) {
+            return;
+        }
+        try {
+            position = Files.isRegularFile(logFile) ? Files.size(logFile) : 0;
+            Files.createDirectories(logFile.getParent());
+            watchService = FileSystems.getDefault().newWatchService();
+            logFile.getParent().register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not watch the server log: " + logFile, e);
+            watchService = null;
+        }
+        watcherThread = new Thread(this::watch, "mi-deployment-log-watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+    }
+
+    public synchronized void stop() {
+
+        Thread thread = watcherThread;
+        watcherThread = null;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        closeWatchService();
+        expectedArtifacts.values().forEach(future -> future.cancel(false));
+        expectedArtifacts.clear();
+        artifactFileNames.clear();
+    }
+
+    public boolean isActive() {
+
+        return watcherThread != null;
+    }
+
+    /**
+     * Returns a future which completes when the log reports the deployment of the given artifact. The expectation
+     * must be registered before the artifact is copied, so that the deployment is not missed.
+     *
+     * @param artifactName name of the artifact, or of the carbon application without the extension
+     * @return future completed with true when the artifact is deployed and with false when its deployment fails
+     */
+    public CompletableFuture<Boolean> expect(String artifactName) {
+
+        return expect(artifactName, null);
+    }
+
+    /**
+     * Returns a future which completes when the log reports the deployment of the given artifact, whose file may be
+     * named differently from the artifact.
+     *
+     * @param artifactName name of the artifact
+     * @param fileName     name of the artifact file, or null if the file is named after the artifact
+     * @return future completed with true when the artifact is deployed and with false when its deployment fails
+     */
+    public CompletableFuture<Boolean> expect(String artifactName, String fileName) {
+
+        CompletableFuture<Boolean> future = expectedArtifacts.computeIfAbsent(artifactName,
+                name -> new CompletableFuture<>());
+        if (fileName != null) {
+            artifactFileNames.put(fileName, artifactName);
+        }
+        future.whenComplete((deployed, error) -> {
+            expectedArtifacts.remove(artifactName, future);
+            if (fileName != null) {
+                artifactFileNames.remove(fileName, artifactName);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Removes the expectation of the given artifact.
+     *
+     * @param artifactName name of the artifact
+     */
+    public void cancel(String artifactName) {
+
+        CompletableFuture<Boolean> future = expectedArtifacts.remove(artifactName);
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
+    private void watch() {
+
+        while (watcherThread == Thread.currentThread()) {
+            try {
+                WatchService service = watchService;
+                if (service != null) {
+                    WatchKey key = service.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+                    if (key != null) {
+                        key.pollEvents();
+                        key.reset();
+                    }
+                } else {
+                    Thread.sleep(POLL_INTERVAL);
+                }
+                readNewLines();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Error while reading the server log", e);
+            }
+        }
+    }
+
+    private void readNewLines() throws IOException {
+
+        if (!Files.isRegularFile(logFile)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < position) {
+                // The log is rotated
+                position = 0;
+                partialLine.setLength(0);
+            }
+            if (size == position) {
+                return;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(size - position, 1024 * 1024));
+            channel.read(buffer, position);
+            buffer.flip();
+            position += buffer.limit();
+            partialLine.append(StandardCharsets.UTF_8.decode(buffer));
+        }
+        int lineEnd;
+        while ((lineEnd = partialLine.indexOf("\n")) >= 0) {
+            processLine(partialLine.substring(0, lineEnd));
+            partialLine.delete(0, lineEnd + 1);
+        }
+    }
+
+    private void processLine(String line) {
+
+        if (expectedArtifacts.isEmpty()) {
+            return;
+        }
+        Matcher matcher = ARTIFACT_DEPLOYED_PATTERN.matcher(line);
+        if (matcher.find()) {
+            complete(matcher.group(1), true);
+            return;
+        }
+        matcher = CAPP_DEPLOYED_PATTERN.matcher(line);
+        if (matcher.find()) {
+            // Carbon applications are logged with their version, while the file may be named without it
+            String cappName = matcher.group(1);
+            if (!complete(cappName, true)) {
+                complete(CAPP_VERSION_PATTERN.matcher(cappName).replaceFirst(""), true);
+            }
+            return;
+        }
+        matcher = ARTIFACT_FAILED_PATTERN.matcher(line);
+        if (!matcher.find()) {
+            matcher = CAPP_FAILED_PATTERN.matcher(line);
+            if (!matcher.find()) {
+                return;
+            }
+        }
+        // Failures are logged with the file path, which is resolved to the artifact expected from that file
+        String fileName;
+        try {
+            fileName = Path.of(matcher.group(1).trim()).getFileName().toString();
+        } catch (InvalidPathException e) {
+            LOGGER.log(Level.FINE, "Skipping the server log line with an invalid file path: " + line, e);
+            return;
+        }
+        String artifactName = artifactFileNames.get(fileName);
+        if (artifactName == null) {
+            int extensionIndex = fileName.lastIndexOf('.');
+            artifactName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        }
+        complete(artifactName, false);
+    }
+
+    private boolean complete(String artifactName, boolean isDeployed) {
+
+        CompletableFuture<Boolean> future = expectedArtifacts.get(artifactName);
+        if (future != null) {
+            future.complete(isDeployed);
+            return true;
+        }
+        return false;
+    }
+
+    private void closeWatchService() {
+
+        WatchService service = watchService;
+        watchService = null;
+        if (service != null) {
+            try {
+                service.close();
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Error while closing the server log watcher", e);
+            }
+        }
+    }
+}
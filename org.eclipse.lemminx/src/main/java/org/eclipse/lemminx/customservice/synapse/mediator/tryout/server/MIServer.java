@@ -41,9 +41,15 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
@@ -57,12 +63,23 @@ public class MIServer {
     private static final String HOT_DEPLOYMENT_INTERVAL = "1";
     private static final String ENTER_PASSWORD_REGEX = ".*Enter KeyStore and Private Key Password.*";
     private static final String SERVER_START_REGEX = ".*Listen on ports : Command \\d+ - Event \\d+.*";
+    private static final Path SERVER_LOG_PATH = Path.of("repository", "logs", "wso2carbon.log");
+    private static final String CAPP_EXTENSION = ".car";
+    private static final long LOG_EVENT_TIMEOUT = 5000;
+    private static final long DEPLOYMENT_TIMEOUT = 5000;
+    private static final long CAPP_DEPLOYMENT_TIMEOUT = 6000;
+    private static final long INITIAL_BACKOFF = 50;
+    private static final long MAX_BACKOFF = 1000;
     private Path serverPath;
+    private final int portOffset;
     private Process serverProcess;
 
     // Maps the artifact folder names to the corresponding folder names in the MI server.
     private static final HashMap<String, String> ARTIFACT_FOLDERS_MAP = new HashMap<>();
-    private final List<String> deployedFiles;
+    private SyncManifest deploymentManifest;
+    private DeploymentLogWatcher logWatcher;
+    // Set when the server log does not report the deployments, so that only the management API is used
+    private boolean isLogEventMissed = false;
     private boolean isStarted = false;
     private boolean isStarting = false;
     private String projectUri;
@@ -82,9 +99,37 @@ public class MIServer {
 
     public MIServer(Path serverPath, String projectUri) {
 
+        this(serverPath, projectUri, 0);
+    }
+
+    /**
+     * Creates a server which runs with the given offset added to all its ports, so that several servers can run at
+     * the same time.
+     *
+     * @param serverPath MI server path
+     * @param projectUri project path
+     * @param portOffset offset of the server ports
+     */
+    public MIServer(Path serverPath, String projectUri, int portOffset) {
+
         this.serverPath = serverPath;
+        this.portOffset = portOffset;
         this.projectUri = projectUri;
-        deployedFiles = new ArrayList<>();
+        this.deploymentManifest = createDeploymentManifest(serverPath);
+        this.logWatcher = new DeploymentLogWatcher(serverPath.resolve(SERVER_LOG_PATH));
+    }
+
+    /**
+     * Creates the manifest of the files deployed to the given server. The manifest is saved per server, so that the
+     * files deployed in a previous session are updated or removed instead of being copied again.
+     *
+     * @param serverPath MI server path
+     * @return deployment manifest
+     */
+    private static SyncManifest createDeploymentManifest(Path serverPath) {
+
+        return new SyncManifest(TryOutConstants.DEPLOYMENT_MANIFEST_LOCATION
+                .resolve(Utils.getHash(serverPath.toAbsolutePath().toString()) + ".manifest"));
     }
 
     public synchronized void startServer() {
@@ -97,6 +142,7 @@ public class MIServer {
             return;
         }
         try {
+            logWatcher.start();
             serverProcess = startServerProcess();
             handleKeystorePassword();
 
@@ -142,6 +188,9 @@ public class MIServer {
             // Unix-like systems
             processBuilder = new ProcessBuilder("./micro-integrator.sh", "-Desb.debug=true");
         }
+        if (portOffset > 0) {
+            processBuilder.command().add("-DportOffset=" + portOffset);
+        }
         Map<String, String> env = processBuilder.environment();
         env.put("JAVA_HOME", System.getProperty("java.home"));
         addUserDefinedEnvs(env);
@@ -205,6 +254,7 @@ public class MIServer {
 
     public boolean shutDown() {
 
+        logWatcher.stop();
         if (!isStarted) {
             return Boolean.TRUE;
         }
@@ -228,45 +278,135 @@ public class MIServer {
     public void deployProject(String tempProjectUri, String file, String projectUri)
             throws ArtifactDeploymentException {
 
-        copyToMI(tempProjectUri, projectUri);
-        waitForDeployment(Path.of(file));
+        Path filePath = Path.of(file);
+        ArtifactKey artifact = getArtifact(filePath);
+        // Registered before copying the artifacts, so that the deployment event is not missed
+        CompletableFuture<Boolean> deployment = artifact != null ?
+                logWatcher.expect(artifact.name, filePath.getFileName().toString()) : null;
+        try {
+            Set<String> changedFiles = copyToMI(tempProjectUri, projectUri);
+            if (artifact != null) {
+                waitForDeployment(artifact, deployment,
+                        changedFiles.contains(getArtifactRelativePath(filePath, projectUri)));
+            }
+        } finally {
+            if (artifact != null) {
+                logWatcher.cancel(artifact.name);
+            }
+        }
         LOGGER.log(Level.INFO, "Project deployed successfully");
     }
 
-    private void waitForDeployment(Path filePath) throws ArtifactDeploymentException {
+    /**
+     * Returns the path of the given file relative to the artifacts folder of the project, so that the artifacts of the
+     * same name in different folders are told apart.
+     *
+     * @param filePath   artifact file
+     * @param projectUri project path
+     * @return relative path of the artifact, or null if the file is not in the artifacts folder
+     */
+    private static String getArtifactRelativePath(Path filePath, String projectUri) {
+
+        Path artifactsPath = Path.of(projectUri).toAbsolutePath().normalize()
+                .resolve(TryOutConstants.PROJECT_ARTIFACT_PATH);
+        Path path = filePath.toAbsolutePath().normalize();
+        return path.startsWith(artifactsPath) ? artifactsPath.relativize(path).toString() : null;
+    }
+
+    private ArtifactKey getArtifact(Path filePath) throws ArtifactDeploymentException {
 
         try {
             DOMDocument document = Utils.getDOMDocument(filePath.toFile());
-            if (document != null) {
-                String resourceName;
-                DeployedArtifactType type;
-                STNode node = SyntaxTreeGenerator.buildTree(document.getDocumentElement());
-                if (node instanceof API) {
-                    resourceName = ((API) node).getName();
-                    type = DeployedArtifactType.APIS;
-                } else if (node instanceof NamedSequence) {
-                    resourceName = ((NamedSequence) node).getName();
-                    type = DeployedArtifactType.SEQUENCES;
-                } else {
-                    return;
-                }
-                int count = 0;
-                while (count < 5) {
-                    if (isDeployed(managementAPIClient, resourceName, type)) {
-                        return;
-                    }
-                    count++;
-                    Thread.sleep(1000);
-                }
+            if (document == null) {
+                return null;
+            }
+            STNode node = SyntaxTreeGenerator.buildTree(document.getDocumentElement());
+            if (node instanceof API) {
+                return new ArtifactKey(((API) node).getName(), DeployedArtifactType.APIS);
+            } else if (node instanceof NamedSequence) {
+                return new ArtifactKey(((NamedSequence) node).getName(), DeployedArtifactType.SEQUENCES);
+            }
+            return null;
+        } catch (IOException e) {
+            throw new ArtifactDeploymentException(TryOutConstants.TRYOUT_FAILURE_MESSAGE, e);
+        }
+    }
+
+    /**
+     * Waits until the given artifact is deployed. A changed artifact is awaited through the deployment event in the
+     * server log, since the management API still lists the previous version of an updated artifact. An unchanged
+     * artifact, or a changed artifact whose event is not logged, is checked through the management API.
+     */
+    private void waitForDeployment(ArtifactKey artifact, CompletableFuture<Boolean> deployment, boolean isChanged)
+            throws ArtifactDeploymentException {
+
+        try {
+            Boolean isDeployed = isChanged ? awaitLogEvent(deployment) : null;
+            if (Boolean.FALSE.equals(isDeployed)) {
                 throw new ArtifactDeploymentException(TryOutConstants.INVALID_ARTIFACT_ERROR);
             }
+            if (isDeployed == null) {
+                if (!awaitCondition(() -> isDeployed(artifact.name, artifact.type), DEPLOYMENT_TIMEOUT)) {
+                    throw new ArtifactDeploymentException(TryOutConstants.INVALID_ARTIFACT_ERROR);
+                }
+                onLogEventMissed(isChanged);
+            }
         } catch (IOException e) {
             throw new ArtifactDeploymentException(TryOutConstants.TRYOUT_FAILURE_MESSAGE, e);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new ArtifactDeploymentException(TryOutConstants.TRYOUT_FAILURE_MESSAGE, e);
         }
+    }
+
+    /**
+     * Waits for the given deployment event from the server log.
+     *
+     * @param deployment deployment event
+     * @return true if the artifact is deployed, false if its deployment failed, or null if the event is not logged
+     * @throws InterruptedException if the thread is interrupted
+     */
+    private Boolean awaitLogEvent(CompletableFuture<Boolean> deployment) throws InterruptedException {
+
+        if (isLogEventMissed || !logWatcher.isActive()) {
+            return null;
+        }
+        try {
+            return deployment.get(LOG_EVENT_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException | CancellationException e) {
+            return null;
+        }
+    }
+
+    private void onLogEventMissed(boolean isEventExpected) {
 
+        if (isEventExpected && !isLogEventMissed && logWatcher.isActive()) {
+            isLogEventMissed = true;
+            LOGGER.log(Level.INFO, "Deployment events are not found in the server log. " +
+                    "Using the management API to check the deployments.");
+        }
+    }
+
+    /**
+     * Checks the given condition with an exponential backoff until it holds or the timeout elapses.
+     *
+     * @param condition condition to check
+     * @param timeout   timeout in milliseconds
+     * @return true if the condition holds within the timeout
+     */
+    private static boolean awaitCondition(Condition condition, long timeout) throws IOException, InterruptedException {
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        long delay = INITIAL_BACKOFF;
+        while (!condition.check()) {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0) {
+                return false;
+            }
+            Thread.sleep(Math.min(delay, remaining));
+            delay = Math.min(delay * 2, MAX_BACKOFF);
+        }
+        return true;
     }
 
     private boolean isDeployed() throws IOException, InterruptedException {
@@ -275,31 +415,24 @@ public class MIServer {
         return deployedArtifacts != null && deployedArtifacts.size() > 0;
     }
 
-    private boolean isDeployed(ManagementAPIClient managementAPIClient, String resourceName, DeployedArtifactType type)
+    private boolean isDeployed(String resourceName, DeployedArtifactType type)
             throws InterruptedException, IOException {
 
-        int count = 0;
-        while (count < 10) {
-            count++;
-            List<ManagementAPIClient.DeployedArtifact> deployedArtifacts =
-                    managementAPIClient.getArtifacts(type);
-            if (deployedArtifacts != null) {
-                boolean res = deployedArtifacts.stream()
-                        .anyMatch(artifact -> artifact.getName().equals(resourceName));
-                if (res) {
-                    return Boolean.TRUE;
-                }
-                Thread.sleep(100);
-            }
-        }
-        return Boolean.FALSE;
+        List<ManagementAPIClient.DeployedArtifact> deployedArtifacts = managementAPIClient.getArtifacts(type);
+        return deployedArtifacts != null &&
+                deployedArtifacts.stream().anyMatch(artifact -> artifact.getName().equals(resourceName));
     }
 
-    private void copyToMI(String tempFolderPath, String projectUri) throws ArtifactDeploymentException {
+    /**
+     * Copies the changed dependency CAPPs and artifacts to the server.
+     *
+     * @return paths of the copied or deleted artifacts, relative to the artifacts folder
+     */
+    private Set<String> copyToMI(String tempFolderPath, String projectUri) throws ArtifactDeploymentException {
 
         try {
             copyDependencyCappToMI(projectUri);
-            copyArtifactsToMI(tempFolderPath);
+            return copyArtifactsToMI(tempFolderPath);
         } catch (IOException e) {
             throw new ArtifactDeploymentException("Error copying artifacts to MI", e);
         }
@@ -308,48 +441,94 @@ public class MIServer {
     private void copyDependencyCappToMI(String projectUri) throws ArtifactDeploymentException {
 
         Path targetPath = serverPath.resolve(TryOutConstants.MI_DEPLOYMENT_PATH);
+        String projectId = Utils.getHash(projectUri);
+        Path projectCAPPPath = TryOutConstants.CAPP_CACHE_LOCATION.resolve(projectId);
+        Map<String, CompletableFuture<Boolean>> deployments = new HashMap<>();
+        for (String cappName : getCAppNames(projectCAPPPath)) {
+            deployments.put(cappName, logWatcher.expect(cappName));
+        }
         try {
-            String projectId = Utils.getHash(projectUri);
-            Path projectCAPPPath = TryOutConstants.CAPP_CACHE_LOCATION.resolve(projectId);
-            if (Files.exists(projectCAPPPath)) {
-                for (File file : projectCAPPPath.toFile().listFiles()) {
-                    Utils.copyFile(file.toString(), targetPath.toString());
-                    deployedFiles.add(targetPath.resolve(file.getName()).toString());
-                }
-            }
-            waitForCAPPDeployment();
+            Set<String> changedCApps = new HashSet<>();
+            deploymentManifest.sync(projectCAPPPath, targetPath, path -> true, false,
+                    changedFile -> changedCApps.add(getCAppName(changedFile)));
+            deployments.keySet().retainAll(changedCApps);
+            waitForCAPPDeployment(deployments);
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, "Error copying the capp file to MI", e);
+        } finally {
+            getCAppNames(projectCAPPPath).forEach(logWatcher::cancel);
         }
     }
 
-    private void waitForCAPPDeployment() throws ArtifactDeploymentException {
+    private static List<String> getCAppNames(Path cappFolder) {
 
-        boolean isDeployed = false;
-        int count = 0;
-        while (!isDeployed && count <= 5) {
-            try {
-                Thread.sleep(1000);
-                isDeployed = isDeployed();
-                count++;
-            } catch (InterruptedException | IOException e) {
-                LOGGER.log(Level.SEVERE, "Error waiting for CAPP deployment", e);
+        List<String> cappNames = new ArrayList<>();
+        File[] files = cappFolder.toFile().listFiles();
+        if (files != null) {
+            for (File file : files) {
+                cappNames.add(getCAppName(file.toPath()));
             }
         }
-        if (!isDeployed) {
-            throw new ArtifactDeploymentException("Error waiting for CAPP deployment");
+        return cappNames;
+    }
+
+    private static String getCAppName(Path cappFile) {
+
+        String fileName = cappFile.getFileName().toString();
+        return fileName.endsWith(CAPP_EXTENSION) ?
+                fileName.substring(0, fileName.length() - CAPP_EXTENSION.length()) : fileName;
+    }
+
+    /**
+     * Waits until the given changed CAPPs are deployed, or until a CAPP is deployed if none changed.
+     *
+     * @param deployments deployment events of the changed CAPPs
+     */
+    private void waitForCAPPDeployment(Map<String, CompletableFuture<Boolean>> deployments)
+            throws ArtifactDeploymentException {
+
+        try {
+            if (!deployments.isEmpty()) {
+                CompletableFuture<Boolean> allDeployed =
+                        CompletableFuture.allOf(deployments.values().toArray(CompletableFuture[]::new))
+                                .thenApply(ignored -> deployments.values().stream().allMatch(CompletableFuture::join));
+                Boolean isDeployed = awaitLogEvent(allDeployed);
+                if (Boolean.TRUE.equals(isDeployed)) {
+                    return;
+                }
+                if (Boolean.FALSE.equals(isDeployed)) {
+                    throw new ArtifactDeploymentException("Error while deploying the dependency CAPPs");
+                }
+            }
+            if (!awaitCondition(this::isDeployed, CAPP_DEPLOYMENT_TIMEOUT)) {
+                throw new ArtifactDeploymentException("Error waiting for CAPP deployment");
+            }
+            onLogEventMissed(!deployments.isEmpty());
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error waiting for CAPP deployment", e);
+            throw new ArtifactDeploymentException("Error waiting for CAPP deployment", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ArtifactDeploymentException("Error waiting for CAPP deployment", e);
         }
     }
 
-    private void copyArtifactsToMI(String tempFolderPath) throws IOException {
+    private Set<String> copyArtifactsToMI(String tempFolderPath) throws IOException {
 
+        Set<String> changedFiles = new HashSet<>();
         String repositoryPath = serverPath.resolve(TryOutConstants.MI_REPOSITORY_PATH).toString();
         Path artifactPath = Path.of(tempFolderPath).resolve(TryOutConstants.PROJECT_ARTIFACT_PATH);
         for (Map.Entry<String, String> entry : ARTIFACT_FOLDERS_MAP.entrySet()) {
             Path sourcePath = artifactPath.resolve(entry.getKey());
             Path targetPath = Path.of(repositoryPath, entry.getValue());
-            Utils.copyFolder(sourcePath, targetPath, deployedFiles);
+            int changes = deploymentManifest.sync(sourcePath, targetPath, path -> true, false,
+                    changedFile -> changedFiles.add(
+                            Path.of(entry.getKey()).resolve(targetPath.relativize(changedFile)).toString()));
+            if (changes > 0) {
+                LOGGER.log(Level.FINE, String.format("Updated %d files in %s", changes, targetPath));
+            }
         }
+        return changedFiles;
     }
 
     private void copyRegistryResourcesToMI(String tempFolderPath) throws IOException {
@@ -361,38 +540,31 @@ public class MIServer {
         Path targetGovPath = serverPath.resolve(TryOutConstants.MI_GOV_PATH);
         Path targetConfPath = serverPath.resolve(TryOutConstants.MI_CONF_PATH);
 
-        Utils.copyFolder(govRegistryPath, targetGovPath, deployedFiles);
-        Utils.copyFolder(configRegistryPath, targetConfPath, deployedFiles);
+        deploymentManifest.sync(govRegistryPath, targetGovPath, path -> true, false);
+        deploymentManifest.sync(configRegistryPath, targetConfPath, path -> true, false);
     }
 
     public void deleteDeployedFiles() {
 
-        Iterator<String> iterator = deployedFiles.iterator();
-        while (iterator.hasNext()) {
-            File deployedFile = new File(iterator.next());
-            try {
-                if (deployedFile.exists()) {
-                    Files.delete(deployedFile.toPath());
-                }
-                iterator.remove();
-            } catch (IOException e) {
-                LOGGER.log(Level.SEVERE, String.format("Error while deleting the file: %s", deployedFile), e);
-            }
-        }
+        deploymentManifest.deleteAll();
     }
 
     public synchronized void waitForServerStartup() {
 
         long startTime = System.currentTimeMillis();
-
+        long delay = INITIAL_BACKOFF;
         while (System.currentTimeMillis() - startTime < SERVER_START_TIMEOUT) {
             try {
                 if (isServerRunning()) {
-                    managementAPIClient = new ManagementAPIClient();
-                    LOGGER.log(Level.INFO, "Server started successfully.");
+                    managementAPIClient =
+                            new ManagementAPIClient(TryOutConstants.DEFAULT_MANAGEMENT_API_PORT + portOffset);
+                    LOGGER.log(Level.INFO, String.format("Server started successfully in %d ms.",
+                            System.currentTimeMillis() - startTime));
                     return;
                 }
-                wait(2000);
+                // Woken up as soon as the server reports that it is started
+                wait(delay);
+                delay = Math.min(delay * 2, MAX_BACKOFF);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 LOGGER.log(Level.WARNING, "Server startup interrupted", e);
@@ -404,7 +576,8 @@ public class MIServer {
 
     public boolean isServerRunning() {
 
-        try (Socket socket = new Socket(TryOutConstants.LOCALHOST, TryOutConstants.DEFAULT_SERVER_INBOUND_PORT)) {
+        try (Socket socket = new Socket(TryOutConstants.LOCALHOST,
+                TryOutConstants.DEFAULT_SERVER_INBOUND_PORT + portOffset)) {
             return socket.isConnected();
         } catch (IOException e) {
             return false;
@@ -414,11 +587,37 @@ public class MIServer {
     public int getServerPort() {
 
         if (isStarted) {
-            return TryOutConstants.DEFAULT_SERVER_PORT;
+            return TryOutConstants.DEFAULT_SERVER_PORT + portOffset;
         }
         return -1;
     }
 
+    public int getDebuggerCommandPort() {
+
+        return TryOutConstants.DEFAULT_DEBUGGER_COMMAND_PORT + portOffset;
+    }
+
+    public int getDebuggerEventPort() {
+
+        return TryOutConstants.DEFAULT_DEBUGGER_EVENT_PORT + portOffset;
+    }
+
+    public int getPortOffset() {
+
+        return portOffset;
+    }
+
+    /**
+     * Returns whether the given file of the server is deployed by the try-out.
+     *
+     * @param file file of the server
+     * @return true if the file is deployed by the try-out
+     */
+    public boolean isDeployedFile(Path file) {
+
+        return deploymentManifest.isTracked(file);
+    }
+
     public boolean isStarted() {
 
         return isStarted;
@@ -426,7 +625,12 @@ public class MIServer {
 
     public void setServerPath(Path serverPath) {
 
-        this.serverPath = serverPath;
+        if (!serverPath.equals(this.serverPath)) {
+            this.serverPath = serverPath;
+            this.deploymentManifest = createDeploymentManifest(serverPath);
+            logWatcher.stop();
+            this.logWatcher = new DeploymentLogWatcher(serverPath.resolve(SERVER_LOG_PATH));
+        }
     }
 
     public Path getServerPath() {
@@ -438,4 +642,21 @@ public class MIServer {
 
         return isStarting;
     }
+
+    private interface Condition {
+
+        boolean check() throws IOException, InterruptedException;
+    }
+
+    private static class ArtifactKey {
+
+        private final String name;
+        private final DeployedArtifactType type;
+
+        ArtifactKey(String name, DeployedArtifactType type) {
+
+            this.name = name;
+            this.type = type;
+        }
+    }
 }
@@ -49,18 +49,23 @@ import javax.net.ssl.X509TrustManager;
 public class ManagementAPIClient {
 
     private static final Logger LOGGER = Logger.getLogger(ManagementAPIClient.class.getName());
-    private static final int DEFAULT_PORT = 9164;
     private static final String USERNAME = "admin";
     private static final String PASSWORD = "admin";
     private ObjectMapper objectMapper;
     private HttpClient client;
     private static final String HOST = TryOutConstants.LOCALHOST;
-    private int port = DEFAULT_PORT;
+    private final int port;
     private String accessToken;
     private boolean isRetried = false;
 
     public ManagementAPIClient() {
 
+        this(TryOutConstants.DEFAULT_MANAGEMENT_API_PORT);
+    }
+
+    public ManagementAPIClient(int port) {
+
+        this.port = port;
         try {
             objectMapper = new ObjectMapper();
             init();
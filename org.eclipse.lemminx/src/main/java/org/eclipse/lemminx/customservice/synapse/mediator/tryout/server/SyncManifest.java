@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.customservice.synapse.mediator.tryout.server;
+
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Keeps target folders in sync with source folders by copying only the changed files.
+ * <p>
+ * The manifest records each copied file with the size, the modification time and the SHA-256 of its source. A source
+ * file with the recorded size and modification time is not read again, and a source file with the recorded content is
+ * not copied again, so that an unchanged artifact is neither copied to nor redeployed in the MI runtime. The files
+ * which are no longer in the source are deleted from the target, and {@link #deleteAll()} deletes all the copied
+ * files. The manifest is saved to a file when a file is given, so that the files copied by a previous session are
+ * still tracked.
+ */
+public class SyncManifest {
+
+    private static final Logger LOGGER = Logger.getLogger(SyncManifest.class.getName());
+    private static final String DS_STORE = ".DS_Store";
+
+    private final Path manifestFile;
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    /**
+     * Creates a manifest which is kept in memory only.
+     */
+    public SyncManifest() {
+
+        this(null);
+    }
+
+    /**
+     * Creates a manifest which is saved to the given file.
+     *
+     * @param manifestFile file to save the manifest, or null to keep it in memory only
+     */
+    public SyncManifest(Path manifestFile) {
+
+        this.manifestFile = manifestFile;
+        load();
+    }
+
+    /**
+     * Synchronizes the given target folder with the given source folder.
+     *
+     * @param source          source folder
+     * @param target          target folder
+     * @param filter          filter of the source paths to synchronize, relative to the source folder
+     * @param deleteUntracked whether to delete the files in the target folder which are not in the source folder even
+     *                        if they were not copied by this manifest
+     * @return number of copied and deleted files
+     * @throws IOException if the folder cannot be synchronized
+     */
+    public int sync(Path source, Path target, Predicate<Path> filter, boolean deleteUntracked) throws IOException {
+
+        return sync(source, target, filter, deleteUntracked, changedFile -> {
+        });
+    }
+
+    /**
+     * Synchronizes the given target folder with the given source folder and reports each copied or deleted file.
+     *
+     * @param source          source folder
+     * @param target          target folder
+     * @param filter          filter of the source paths to synchronize, relative to the source folder
+     * @param deleteUntracked whether to delete the files in the target folder which are not in the source folder even
+     *                        if they were not copied by this manifest
+     * @param changeListener  listener called with each copied or deleted target file
+     * @return number of copied and deleted files
+     * @throws IOException if the folder cannot be synchronized
+     */
+    public synchronized int sync(Path source, Path target, Predicate<Path> filter, boolean deleteUntracked,
+                                 Consumer<Path> changeListener) throws IOException {
+
+        Set<String> syncedFiles = new HashSet<>();
+        int changes = 0;
+        if (Files.isDirectory(source)) {
+            List<Path> sourceFiles = new ArrayList<>();
+            try (Stream<Path> paths = Files.walk(source)) {
+                paths.filter(path -> !path.equals(source) && filter.test(source.relativize(path)))
+                        .filter(path -> Files.isRegularFile(path) && !DS_STORE.equals(path.getFileName().toString()))
+                        .forEach(sourceFiles::add);
+            }
+            for (Path sourceFile : sourceFiles) {
+                Path targetFile = target.resolve(source.relativize(sourceFile).toString());
+                syncedFiles.add(targetFile.toString());
+                if (copyIfChanged(sourceFile, targetFile)) {
+                    changeListener.accept(targetFile);
+                    changes++;
+                }
+            }
+        }
+        changes += deleteRemovedFiles(target, syncedFiles, changeListener);
+        if (deleteUntracked && Files.isDirectory(target)) {
+            changes += deleteUntrackedFiles(target, syncedFiles, changeListener);
+        }
+        save();
+        return changes;
+    }
+
+    /**
+     * Marks the given target file as changed, so that it is copied again on the next synchronization. This is used
+     * for the files which are edited in the target folder.
+     *
+     * @param targetFile target file
+     */
+    public synchronized void invalidate(Path targetFile) {
+
+        if (entries.remove(targetFile.toString()) != null) {
+            save();
+        }
+    }
+
+    /**
+     * Deletes all the files copied by this manifest.
+     */
+    public synchronized void deleteAll() {
+
+        Iterator<String> iterator = entries.keySet().iterator();
+        while (iterator.hasNext()) {
+            File copiedFile = new File(iterator.next());
+            try {
+                Files.deleteIfExists(copiedFile.toPath());
+                iterator.remove();
+            } catch (IOException e) {
+                LOGGER.log(Level.SEVERE, String.format("Error while deleting the file: %s", copiedFile), e);
+            }
+        }
+        save();
+    }
+
+    /**
+     * Returns whether the given target file was copied by this manifest.
+     *
+     * @param targetFile target file
+     * @return true if the file is tracked
+     */
+    public synchronized boolean isTracked(Path targetFile) {
+
+        return entries.containsKey(targetFile.toString());
+    }
+
+    public synchronized boolean isEmpty() {
+
+        return entries.isEmpty();
+    }
+
+    private boolean copyIfChanged(Path sourceFile, Path targetFile) throws IOException {
+
+        String key = targetFile.toString();
+        Entry entry = entries.get(key);
+        long size = Files.size(sourceFile);
+        long lastModified = Files.getLastModifiedTime(sourceFile).toMillis();
+        boolean targetExists = Files.isRegularFile(targetFile);
+        if (entry != null && targetExists && entry.size == size && entry.lastModified == lastModified) {
+            return false;
+        }
+        String sha256 = Utils.getSha256(Files.newInputStream(sourceFile));
+        if (entry != null && targetExists && entry.sha256.equals(sha256)) {
+            entries.put(key, new Entry(sha256, size, lastModified));
+            return false;
+        }
+        Files.createDirectories(targetFile.getParent());
+        Files.copy(sourceFile, targetFile, StandardCopyOption.REPLACE_EXISTING);
+        entries.put(key, new Entry(sha256, size, lastModified));
+        return true;
+    }
+
+    private int deleteRemovedFiles(Path target, Set<String> syncedFiles, Consumer<Path> changeListener) {
+
+        int deleted = 0;
+        String targetPrefix = target.toString() + File.separator;
+        Iterator<String> iterator = entries.keySet().iterator();
+        while (iterator.hasNext()) {
+            String copiedFile = iterator.next();
+            if (copiedFile.startsWith(targetPrefix) && !syncedFiles.contains(copiedFile)) {
+                try {
+                    Files.deleteIfExists(Path.of(copiedFile));
+                    iterator.remove();
+                    changeListener.accept(Path.of(copiedFile));
+                    deleted++;
+                } catch (IOException e) {
+                    LOGGER.log(Level.SEVERE, String.format("Error while deleting the file: %s", copiedFile), e);
+                }
+            }
+        }
+        return deleted;
+    }
+
+    private static int deleteUntrackedFiles(Path target, Set<String> syncedFiles, Consumer<Path> changeListener)
+            throws IOException {
+
+        List<Path> untrackedFiles = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(target)) {
+            paths.filter(path -> Files.isRegularFile(path) && !syncedFiles.contains(path.toString()))
+                    .forEach(untrackedFiles::add);
+        }
+        for (Path untrackedFile : untrackedFiles) {
+            Files.deleteIfExists(untrackedFile);
+            changeListener.accept(untrackedFile);
+        }
+        return untrackedFiles.size();
+    }
+
+    private void load() {
+
+        if (manifestFile == null || !Files.isRegularFile(manifestFile)) {
+            return;
+        }
+        try {
+            for (String line : Files.readAllLines(manifestFile)) {
+                String[] parts = line.split(" ", 4);
+                if (parts.length == 4) {
+                    entries.put(parts[3], new Entry(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2])));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            LOGGER.log(Level.WARNING, "Error while reading the deployment manifest: " + manifestFile, e);
+        }
+    }
+
+    private void save() {
+
+        if (manifestFile == null) {
+            return;
+        }
+        StringBuilder manifest = new StringBuilder();
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            Entry value = entry.getValue();
+            manifest.append(value.sha256).append(' ').append(value.size).append(' ').append(value.lastModified)
+                    .append(' ').append(entry.getKey()).append('\n');
+        }
+        try {
+            Files.createDirectories(manifestFile.getParent());
+            Files.writeString(manifestFile, manifest.toString());
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Error while saving the deployment manifest: " + manifestFile, e);
+        }
+    }
+
+    private static class Entry {
+
+        private final String sha256;
+        private final long size;
+        private final long lastModified;
+
+        Entry(String sha256, long size, long lastModified) {
+
+            this.sha256 = sha256;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+    }
+}
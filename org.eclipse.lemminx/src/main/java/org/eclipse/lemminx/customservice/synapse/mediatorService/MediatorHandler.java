@@ -50,13 +50,17 @@ import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import java.io.File;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.net.URI;
+import java.lang.reflect.Modifier;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -73,6 +77,7 @@ public class MediatorHandler {
     private JsonObject agentToolList;
     private Map<String, JsonObject> uiSchemaMap;
     private Map<String, Mustache> templateMap;
+    private volatile Map<String, MediatorProcessor> mediatorProcessors = Map.of();
     private ConnectorHolder connectorHolder;
     private boolean isInitialized;
     private Gson gson;
@@ -102,16 +107,17 @@ public class MediatorHandler {
                 + projectServerVersion.replace(".", "") + "/templates");
         this.uiSchemaMap = Utils.getUISchemaMap("org/eclipse/lemminx/mediators/"
                 + projectServerVersion.replace(".", "") + "/ui-schemas");
+        this.mediatorProcessors = createMediatorProcessors();
         this.isInitialized = true;
     }
 
     public JsonObject getSupportedMediators(TextDocumentIdentifier documentIdentifier, Position position) {
 
         try {
-            if (isRequestedForAgentTool(documentIdentifier.getUri(), position)) {
+            DOMDocument document = getDocument(documentIdentifier.getUri());
+            if (isRequestedForAgentTool(document, position)) {
                 return agentToolList;
             }
-            DOMDocument document = Utils.getDOMDocument(new File(new URI(documentIdentifier.getUri())));
             List<String> lastMediators = Arrays.asList("send", "drop", "loopback", "respond");
             List<String> iterateMediators = Arrays.asList("iterate", "foreach");
             int offset = document.offsetAt(position);
@@ -137,11 +143,11 @@ public class MediatorHandler {
         try {
             boolean isUpdate = !range.getEnd().equals(range.getStart());
             STNode node = null;
-            if (StringUtils.isNotEmpty(documentUri) && Files.exists(Path.of(documentUri))) {
-                node = getMediatorNodeAtPosition(Utils.getDOMDocument(new File(documentUri)), range.getStart(),
-                        isUpdate);
+            DOMDocument document = getDocument(documentUri);
+            if (document != null) {
+                node = getMediatorNodeAtPosition(document, range.getStart(), isUpdate);
             }
-            if (isRequestedForAgentTool(documentUri, range.getStart())) {
+            if (isRequestedForAgentTool(document, range.getStart())) {
                 return aiConnectorHandler.generateAgentToolConfig(documentUri, range, mediator, data, dirtyFields,
                         isUpdate);
             } else if (isAIConnector(node, mediator)) {
@@ -263,10 +269,48 @@ public class MediatorHandler {
 
     private SynapseConfigResponse generateMediatorSynapseConfig(STNode node, String mediator, Map<String, Object> data,
                                                                 List<String> dirtyFields,
-                                                                Range range)
-            throws ClassNotFoundException, NoSuchMethodException, InvocationTargetException, InstantiationException,
-            IllegalAccessException {
+                                                                Range range) throws InvocationTargetException {
 
+        MediatorProcessor mediatorProcessor = mediatorProcessors.get(mediator);
+        if (mediatorProcessor == null) {
+            return null;
+        }
+        if (!mediatorProcessor.mediatorClass.isInstance(node)) {
+            node = null;
+        }
+        Either<Map<String, Object>, Map<Range, Map<String, Object>>> processedData =
+                mediatorProcessor.process(data, node, dirtyFields);
+        if (processedData.isLeft()) {
+            StringWriter writer = new StringWriter();
+            String edit =
+                    mediatorProcessor.template.execute(writer, processedData.getLeft()).toString().trim();
+            TextEdit textEdit = new TextEdit(range, edit);
+            return new SynapseConfigResponse(textEdit);
+        } else {
+            Map<Range, Map<String, Object>> editsData = processedData.getRight();
+            SynapseConfigResponse edits = new SynapseConfigResponse();
+            for (Map.Entry<Range, Map<String, Object>> entry : editsData.entrySet()) {
+                StringWriter writer = new StringWriter();
+                String edit = mediatorProcessor.template.execute(writer, entry.getValue()).toString().trim();
+                TextEdit textEdit = new TextEdit(entry.getKey(), edit);
+                edits.addTextEdit(textEdit);
+            }
+            return edits;
+        }
+    }
+
+    /**
+     * Builds the table of the mediator processors from the mediator list, so that the processor of a mediator is
+     * resolved with a single lookup when generating the configuration.
+     *
+     * @return mediator processors by mediator tag
+     */
+    private Map<String, MediatorProcessor> createMediatorProcessors() {
+
+        Map<String, MediatorProcessor> processors = new HashMap<>();
+        if (mediatorList == null || templateMap == null) {
+            return processors;
+        }
         for (Map.Entry<String, JsonElement> entry : mediatorList.entrySet()) {
             if (Constant.AI.equalsIgnoreCase(entry.getKey())) {
                 // Skip AI mediators as that is handled by {@link AIConnectorHandler}
@@ -275,45 +319,25 @@ public class MediatorHandler {
             JsonArray mediatorsArray = getMediatorsArrayForCategory(entry.getValue());
             for (JsonElement mediatorElement : mediatorsArray) {
                 JsonObject mediatorObject = mediatorElement.getAsJsonObject();
-                if (mediator.equals(mediatorObject.get(Constant.TAG).getAsString())) {
-                    String mediatorClass = mediatorObject.get(Constant.MEDIATOR_CLASS).getAsString();
-                    String processingClass = mediatorObject.get(Constant.PROCESSING_CLASS).getAsString();
-                    String processingMethod = mediatorObject.get(Constant.STORE_METHOD).getAsString();
-                    Class<?> mediatorProcessor = Class.forName(processingClass);
-                    Object processorInstance = mediatorProcessor.getDeclaredConstructor().newInstance();
-                    Method processorMethod =
-                            mediatorProcessor.getMethod(processingMethod, Map.class, Class.forName(mediatorClass),
-                                    List.class);
-                    if (!Class.forName(mediatorClass).isInstance(node)) {
-                        node = null;
-                    }
-                    @SuppressWarnings("unchecked")
-                    Either<Map<String, Object>, Map<Range, Map<String, Object>>>
-                            processedData =
-                            (Either<Map<String, Object>, Map<Range, Map<String, Object>>>) processorMethod.invoke(
-                                    processorInstance, data, node, dirtyFields);
-                    if (processedData.isLeft()) {
-                        StringWriter writer = new StringWriter();
-                        String edit =
-                                templateMap.get(mediator).execute(writer, processedData.getLeft()).toString().trim();
-                        TextEdit textEdit = new TextEdit(range, edit);
-                        return new SynapseConfigResponse(textEdit);
-                    } else {
-                        Map<Range, Map<String, Object>> editsData = processedData.getRight();
-                        SynapseConfigResponse edits = new SynapseConfigResponse();
-                        for (Map.Entry<Range, Map<String, Object>> entry1 : editsData.entrySet()) {
-                            StringWriter writer = new StringWriter();
-                            String edit =
-                                    templateMap.get(mediator).execute(writer, entry1.getValue()).toString().trim();
-                            TextEdit textEdit = new TextEdit(entry1.getKey(), edit);
-                            edits.addTextEdit(textEdit);
-                        }
-                        return edits;
-                    }
+                JsonElement tag = mediatorObject.get(Constant.TAG);
+                JsonElement mediatorClass = mediatorObject.get(Constant.MEDIATOR_CLASS);
+                JsonElement processingClass = mediatorObject.get(Constant.PROCESSING_CLASS);
+                JsonElement processingMethod = mediatorObject.get(Constant.STORE_METHOD);
+                if (tag == null || mediatorClass == null || processingClass == null || processingMethod == null ||
+                        processors.containsKey(tag.getAsString())) {
+                    continue;
+                }
+                try {
+                    processors.put(tag.getAsString(), new MediatorProcessor(mediatorClass.getAsString(),
+                            processingClass.getAsString(), processingMethod.getAsString(),
+                            templateMap.get(tag.getAsString())));
+                } catch (ReflectiveOperationException e) {
+                    LOGGER.log(Level.WARNING, String.format("Failed to load the processor of the mediator: %s",
+                            tag.getAsString()), e);
                 }
             }
         }
-        return null;
+        return processors;
     }
 
     private JsonArray getMediatorsArrayForCategory(JsonElement value) {
@@ -335,8 +359,8 @@ public class MediatorHandler {
     public JsonObject getUISchemaWithValues(TextDocumentIdentifier documentIdentifier, Position position) {
 
         try {
-            DOMDocument document = Utils.getDOMDocumentFromPath(documentIdentifier.getUri());
-            if (isRequestedForAgentTool(documentIdentifier.getUri(), position)) {
+            DOMDocument document = getDocument(documentIdentifier.getUri());
+            if (isRequestedForAgentTool(document, position)) {
                 return aiConnectorHandler.getToolSchemaWithValues(document, position);
             }
             STNode node = getMediatorNodeAtPosition(document, position, Boolean.TRUE);
@@ -508,11 +532,19 @@ public class MediatorHandler {
             return false;
         }
         try {
-            String documentPath = Utils.getAbsolutePath(documentUri);
-            if (StringUtils.isEmpty(documentPath) || Files.notExists(Path.of(documentPath))) {
-                return false;
-            }
-            DOMDocument document = Utils.getDOMDocument(new File(documentPath));
+            return isRequestedForAgentTool(getDocument(documentUri), position);
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error occurred while checking if the tool schema is requested.", e);
+        }
+        return false;
+    }
+
+    private boolean isRequestedForAgentTool(DOMDocument document, Position position) {
+
+        if (document == null || position == null) {
+            return false;
+        }
+        try {
             int offset = document.offsetAt(position);
             DOMNode currentNode = document.findNodeAt(offset);
             if (isInsideAiAgent(currentNode)) {
@@ -524,6 +556,23 @@ public class MediatorHandler {
         return false;
     }
 
+    /**
+     * Returns the DOM document of the given document uri or path. The model of the editor is returned if the document
+     * is open, hence a document version is parsed only once for all the mediator requests.
+     *
+     * @param documentUri document uri or absolute path
+     * @return DOM document or null if the document does not exist
+     * @throws IOException if the document cannot be read
+     */
+    private DOMDocument getDocument(String documentUri) throws IOException {
+
+        String documentPath = Utils.getAbsolutePath(documentUri);
+        if (StringUtils.isEmpty(documentPath) || Files.notExists(Path.of(documentPath))) {
+            return null;
+        }
+        return Utils.getDOMDocument(new File(documentPath));
+    }
+
     private boolean isInsideAiAgent(DOMNode currentNode) {
 
         // Need to check for <ai.agent><tools><tool/></tools></ai.agent> structure
@@ -574,11 +623,22 @@ public class MediatorHandler {
         return isInitialized;
     }
 
+    /**
+     * Returns the processors of the mediators, which generate the configuration of a mediator from the form data.
+     *
+     * @return mediator processors by mediator tag
+     */
+    public Map<String, MediatorProcessor> getMediatorProcessors() {
+
+        return Collections.unmodifiableMap(mediatorProcessors);
+    }
+
     public void reloadMediatorList(String projectServerVersion) {
 
         try {
             this.mediatorList = Utils.getMediatorList(projectServerVersion, connectorHolder);
             this.agentToolList = Utils.getAgentToolList(mediatorList, connectorHolder);
+            this.mediatorProcessors = createMediatorProcessors();
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, "Failed to reload mediators.", e);
         }
@@ -594,4 +654,55 @@ public class MediatorHandler {
 
         return templateMap.get(key);
     }
+
+    /**
+     * Processor of a mediator bound to its store method and template.
+     */
+    public static class MediatorProcessor {
+
+        private static final MethodType PROCESS_TYPE =
+                MethodType.methodType(Either.class, Map.class, Object.class, List.class);
+
+        private final Class<?> mediatorClass;
+        private final MethodHandle processMethod;
+        private final Mustache template;
+
+        MediatorProcessor(String mediatorClass, String processingClass, String processingMethod, Mustache template)
+                throws ReflectiveOperationException {
+
+            this.mediatorClass = Class.forName(mediatorClass);
+            Class<?> processorClass = Class.forName(processingClass);
+            Method method = processorClass.getMethod(processingMethod, Map.class, this.mediatorClass, List.class);
+            MethodHandle methodHandle = MethodHandles.publicLookup().unreflect(method);
+            if (!Modifier.isStatic(method.getModifiers())) {
+                methodHandle = methodHandle.bindTo(processorClass.getDeclaredConstructor().newInstance());
+            }
+            this.processMethod = methodHandle.asType(PROCESS_TYPE);
+            this.template = template;
+        }
+
+        /**
+         * Processes the form data of the mediator.
+         *
+         * @param data        form data of the mediator
+         * @param node        node of the edited mediator, or null if the mediator is added
+         * @param dirtyFields fields changed in the form
+         * @return data of the template, or the data of the template by range for multiple edits
+         * @throws InvocationTargetException if the processor throws a checked exception
+         */
+        public Either<Map<String, Object>, Map<Range, Map<String, Object>>> process(Map<String, Object> data,
+                                                                                  STNode node,
+                                                                                  List<String> dirtyFields)
+                throws InvocationTargetException {
+
+            try {
+                return (Either<Map<String, Object>, Map<Range, Map<String, Object>>>) processMethod
+                        .invokeExact(data, (Object) node, dirtyFields);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+    }
 }
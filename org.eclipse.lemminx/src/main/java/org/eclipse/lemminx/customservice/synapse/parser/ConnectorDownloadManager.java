@@ -18,22 +18,24 @@
 
 package org.eclipse.lemminx.customservice.synapse.parser;
 
+import org.eclipse.lemminx.customservice.SynapseLanguageClientAPI;
+import org.eclipse.lemminx.customservice.synapse.ConnectorDownloadNotification;
 import org.eclipse.lemminx.customservice.synapse.mediator.TryOutConstants;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 
-import java.io.BufferedInputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
-import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -46,9 +48,37 @@ public class ConnectorDownloadManager {
 
     public static String downloadConnectors(String projectPath) {
 
+        return downloadConnectors(projectPath, null);
+    }
+
+    /**
+     * Downloads the connector dependencies of the given project which are not downloaded yet.
+     *
+     * @param projectPath    project path
+     * @param languageClient client to notify the progress of the downloads, or null
+     * @return status message of the downloads
+     */
+    public static String downloadConnectors(String projectPath, SynapseLanguageClientAPI languageClient) {
+
         String projectId = new File(projectPath).getName() + "_" + Utils.getHash(projectPath);
         File directory = Path.of(System.getProperty(Constant.USER_HOME), Constant.WSO2_MI, Constant.CONNECTORS,
                 projectId).toFile();
+        return downloadConnectors(projectPath, directory, new ConnectorDownloader(), languageClient);
+    }
+
+    /**
+     * Downloads the connector dependencies of the given project to the given directory. The connectors are downloaded
+     * in parallel, and the client is notified as each of them completes.
+     *
+     * @param projectPath    project path
+     * @param directory      directory to keep the downloaded and extracted connectors
+     * @param downloader     downloader to fetch the connectors from the repository
+     * @param languageClient client to notify the progress of the downloads, or null
+     * @return status message of the downloads
+     */
+    public static String downloadConnectors(String projectPath, File directory, ConnectorDownloader downloader,
+                                            SynapseLanguageClientAPI languageClient) {
+
         File downloadDirectory = Path.of(directory.getAbsolutePath(), Constant.DOWNLOADED).toFile();
         File extractDirectory = Path.of(directory.getAbsolutePath(), Constant.EXTRACTED).toFile();
 
@@ -67,26 +97,34 @@ public class ConnectorDownloadManager {
         List<DependencyDetails> dependencies = pomDetailsResponse.getDependenciesDetails().getConnectorDependencies();
         deleteRemovedConnectors(downloadDirectory, dependencies, projectPath);
         List<String> failedDependencies = new ArrayList<>();
-        for (DependencyDetails dependency : dependencies) {
+        if (!dependencies.isEmpty()) {
+            ExecutorService executor = Executors.newFixedThreadPool(
+                    Math.min(downloader.getDownloadThreads(), dependencies.size()));
+            AtomicInteger completed = new AtomicInteger();
+            List<Future<String>> results = new ArrayList<>();
+            for (DependencyDetails dependency : dependencies) {
+                results.add(executor.submit(() -> {
+                    String failedDependency = fetchDependency(dependency, downloadDirectory, downloader);
+                    notifyProgress(languageClient, dependency, failedDependency == null,
+                            completed.incrementAndGet(), dependencies.size());
+                    return failedDependency;
+                }));
+            }
             try {
-                File connector = Path.of(downloadDirectory.getAbsolutePath(),
-                        dependency.getArtifact() + "-" + dependency.getVersion() + Constant.ZIP_EXTENSION).toFile();
-                File existingArtifact = null;
-                if (connector.exists() && connector.isFile()) {
-                    LOGGER.log(Level.INFO, "Dependency already downloaded: " + connector.getName());
-                } else if ((existingArtifact = getDependencyFromLocalRepo(dependency.getGroupId(),
-                        dependency.getArtifact(), dependency.getVersion())) != null ) {
-                    LOGGER.log(Level.INFO, "Copying dependency from local repository: " + connector.getName());
-                    copyFile(existingArtifact, downloadDirectory);
-                } else {
-                    LOGGER.log(Level.INFO, "Downloading dependency: " + connector.getName());
-                    Utils.downloadConnector(dependency.getGroupId(), dependency.getArtifact(),
-                            dependency.getVersion(), downloadDirectory);
+                for (Future<String> result : results) {
+                    String failedDependency = result.get();
+                    if (failedDependency != null) {
+                        failedDependencies.add(failedDependency);
+                    }
                 }
-            } catch (Exception e) {
-                String failedDependency = dependency.getGroupId() + "-" + dependency.getArtifact() + "-" + dependency.getVersion();
-                LOGGER.log(Level.WARNING, "Error occurred while downloading dependency " + failedDependency + ": " + e.getMessage());
-                failedDependencies.add(failedDependency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return "Connector download was interrupted";
+            } catch (ExecutionException e) {
+                LOGGER.log(Level.SEVERE, "Error occurred while downloading connectors", e);
+                return "Error occurred while downloading connectors: " + e.getMessage();
+            } finally {
+                executor.shutdownNow();
             }
         }
         if (!failedDependencies.isEmpty()) {
@@ -96,6 +134,45 @@ public class ConnectorDownloadManager {
         return "Success";
     }
 
+    private static String fetchDependency(DependencyDetails dependency, File downloadDirectory,
+                                          ConnectorDownloader downloader) {
+
+        try {
+            File connector = Path.of(downloadDirectory.getAbsolutePath(),
+                    dependency.getArtifact() + "-" + dependency.getVersion() + Constant.ZIP_EXTENSION).toFile();
+            File existingArtifact = null;
+            if (connector.exists() && connector.isFile()) {
+                LOGGER.log(Level.INFO, "Dependency already downloaded: " + connector.getName());
+            } else if ((existingArtifact = getDependencyFromLocalRepo(dependency.getGroupId(),
+                    dependency.getArtifact(), dependency.getVersion())) != null ) {
+                LOGGER.log(Level.INFO, "Copying dependency from local repository: " + connector.getName());
+                copyFile(existingArtifact, downloadDirectory);
+            } else {
+                LOGGER.log(Level.INFO, "Downloading dependency: " + connector.getName());
+                downloader.download(dependency.getGroupId(), dependency.getArtifact(), dependency.getVersion(),
+                        downloadDirectory);
+            }
+            return null;
+        } catch (Exception e) {
+            String failedDependency = dependency.getGroupId() + "-" + dependency.getArtifact() + "-" + dependency.getVersion();
+            LOGGER.log(Level.WARNING, "Error occurred while downloading dependency " + failedDependency + ": " + e.getMessage());
+            return failedDependency;
+        }
+    }
+
+    private static void notifyProgress(SynapseLanguageClientAPI languageClient, DependencyDetails dependency,
+                                       boolean isSuccess, int completed, int total) {
+
+        if (languageClient == null) {
+            return;
+        }
+        String connector = dependency.getArtifact() + "-" + dependency.getVersion();
+        String message = isSuccess ? "Connector " + connector + " is available" :
+                "Failed to download connector " + connector;
+        languageClient.connectorDownloadStatus(
+                new ConnectorDownloadNotification(connector, isSuccess, message, completed, total));
+    }
+
     private static void deleteRemovedConnectors(File downloadDirectory, List<DependencyDetails> dependencies,
                                                 String projectPath) {
 
@@ -156,16 +233,16 @@ public class ConnectorDownloadManager {
         if (!destinationFolder.exists()) {
             destinationFolder.mkdirs();
         }
-        File destinationFile = Path.of(destinationFolder.getAbsolutePath(), source.getName()).toFile();
-        try (InputStream in = new FileInputStream(source); OutputStream out = new FileOutputStream(destinationFile)) {
-            byte[] buffer = new byte[1024];
-            int length;
-            while ((length = in.read(buffer)) > 0) {
-                out.write(buffer, 0, length);
-            }
-        } catch (Exception e) {
+        Path destinationFile = Path.of(destinationFolder.getAbsolutePath(), source.getName());
+        Path tempFile = Files.createTempFile(destinationFolder.toPath(), source.getName(), ".part");
+        try {
+            Files.copy(source.toPath(), tempFile, StandardCopyOption.REPLACE_EXISTING);
+            ConnectorDownloader.moveToTarget(tempFile, destinationFile);
+        } catch (IOException e) {
             LOGGER.log(Level.SEVERE, "Error occurred while copying dependency from local repository: " + e.getMessage());
             throw e;
+        } finally {
+            Files.deleteIfExists(tempFile);
         }
     }
 }
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.customservice.synapse.parser;
+
+import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Downloads the connector dependencies of a project from a maven repository.
+ * <p>
+ * The repository is {@value #DEFAULT_REPOSITORY_URL} unless another repository or mirror is configured with the
+ * {@value #REPOSITORY_URL_PROPERTY} system property. Both http and file URLs are supported. A downloaded artifact is
+ * verified against the {@code .sha1} checksum published next to it, and is written to a temporary file which is
+ * renamed to the artifact name only after the verification, so that an interrupted download never leaves a partial
+ * connector behind.
+ */
+public class ConnectorDownloader {
+
+    private static final Logger LOGGER = Logger.getLogger(ConnectorDownloader.class.getName());
+    public static final String REPOSITORY_URL_PROPERTY = "synapse.connector.repository.url";
+    public static final String DOWNLOAD_THREADS_PROPERTY = "synapse.connector.download.threads";
+    public static final String DEFAULT_REPOSITORY_URL = "https://maven.wso2.org/nexus/content/groups/public";
+    private static final int DEFAULT_DOWNLOAD_THREADS = 4;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_DELAY_MILLIS = 500;
+    private static final int CONNECT_TIMEOUT_MILLIS = 10000;
+    private static final int READ_TIMEOUT_MILLIS = 60000;
+    private static final long TRANSFER_SIZE = 1024 * 1024;
+    private static final String SHA1_EXTENSION = ".sha1";
+    private static final String PART_EXTENSION = ".part";
+
+    private final String repositoryUrl;
+    private final int downloadThreads;
+
+    public ConnectorDownloader() {
+
+        this(System.getProperty(REPOSITORY_URL_PROPERTY, DEFAULT_REPOSITORY_URL),
+                Integer.getInteger(DOWNLOAD_THREADS_PROPERTY, DEFAULT_DOWNLOAD_THREADS));
+    }
+
+    public ConnectorDownloader(String repositoryUrl, int downloadThreads) {
+
+        this.repositoryUrl = repositoryUrl.endsWith("/") ?
+                repositoryUrl.substring(0, repositoryUrl.length() - 1) : repositoryUrl;
+        this.downloadThreads = Math.max(1, downloadThreads);
+    }
+
+    /**
+     * Downloads the given connector to the given directory, retrying the failed transfers.
+     *
+     * @param groupId         group id of the connector
+     * @param artifactId      artifact id of the connector
+     * @param version         version of the connector
+     * @param targetDirectory directory to download the connector
+     * @return downloaded connector file
+     * @throws IOException if the connector is not available in the repository, or cannot be downloaded or verified
+     */
+    public File download(String groupId, String artifactId, String version, File targetDirectory)
+            throws IOException {
+
+        Files.createDirectories(targetDirectory.toPath());
+        String fileName = artifactId + "-" + version + Constant.ZIP_EXTENSION;
+        String artifactUrl = String.format("%s/%s/%s/%s/%s", repositoryUrl, groupId.replace(".", "/"), artifactId,
+                version, fileName);
+        Path target = targetDirectory.toPath().resolve(fileName);
+        IOException lastError = null;
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                downloadVerified(artifactUrl, target);
+                return target.toFile();
+            } catch (FileNotFoundException e) {
+                // The artifact is not in the repository, hence retrying will not help
+                throw e;
+            } catch (IOException e) {
+                lastError = e;
+                LOGGER.log(Level.WARNING, String.format("Attempt %d to download %s failed: %s", attempt, fileName,
+                        e.getMessage()));
+                waitBeforeRetry(attempt);
+            }
+        }
+        throw lastError;
+    }
+
+    public int getDownloadThreads() {
+
+        return downloadThreads;
+    }
+
+    private void downloadVerified(String artifactUrl, Path target) throws IOException {
+
+        String expectedChecksum = readChecksum(artifactUrl + SHA1_EXTENSION);
+        Path tempFile = Files.createTempFile(target.getParent(), target.getFileName().toString(), PART_EXTENSION);
+        try {
+            MessageDigest digest = getSha1Digest();
+            try (InputStream inputStream = new DigestInputStream(openStream(artifactUrl), digest);
+                 ReadableByteChannel source = Channels.newChannel(inputStream);
+                 FileChannel destination = FileChannel.open(tempFile, StandardOpenOption.WRITE,
+                         StandardOpenOption.TRUNCATE_EXISTING)) {
+                long position = 0;
+                long transferred;
+                while ((transferred = destination.transferFrom(source, position, TRANSFER_SIZE)) > 0) {
+                    position += transferred;
+                }
+            }
+            if (expectedChecksum != null) {
+                String actualChecksum = Utils.convertToHex(digest.digest());
+                if (!expectedChecksum.equalsIgnoreCase(actualChecksum)) {
+                    throw new IOException(String.format("Checksum mismatch for %s. Expected %s but found %s",
+                            artifactUrl, expectedChecksum, actualChecksum));
+                }
+            }
+            moveToTarget(tempFile, target);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private String readChecksum(String checksumUrl) throws IOException {
+
+        try (InputStream inputStream = openStream(checksumUrl)) {
+            String content = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).trim();
+            // The checksum file may contain the file name after the checksum
+            return content.isEmpty() ? null : content.split("\\s+")[0];
+        } catch (FileNotFoundException e) {
+            LOGGER.log(Level.WARNING, "Checksum is not available, skipping the verification: " + checksumUrl);
+            return null;
+        }
+    }
+
+    private InputStream openStream(String url) throws IOException {
+
+        URLConnection connection = new URL(url).openConnection();
+        connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+        connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+        return connection.getInputStream();
+    }
+
+    /**
+     * Moves the given file to the target atomically if the file system supports it.
+     *
+     * @param source file to move
+     * @param target target file
+     * @throws IOException if the file cannot be moved
+     */
+    static void moveToTarget(Path source, Path target) throws IOException {
+
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static MessageDigest getSha1Digest() throws IOException {
+
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("SHA-1 is not supported", e);
+        }
+    }
+
+    private static void waitBeforeRetry(int attempt) throws InterruptedIOException {
+
+        if (attempt == MAX_ATTEMPTS) {
+            return;
+        }
+        try {
+            Thread.sleep(RETRY_DELAY_MILLIS * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while downloading the connector");
+        }
+    }
+}
@@ -18,6 +18,8 @@
 
 package org.eclipse.lemminx.customservice.synapse.resourceFinder;
 
+import org.eclipse.lemminx.customservice.synapse.index.ArtifactIndex;
+import org.eclipse.lemminx.customservice.synapse.index.IndexedArtifact;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.ArtifactResource;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.RegistryResource;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.RequestedResource;
@@ -32,7 +34,6 @@ import org.eclipse.lemminx.customservice.synapse.utils.Constant;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.dom.DOMElement;
-import org.eclipse.lemminx.dom.DOMNode;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 
 import java.io.File;
@@ -114,12 +115,7 @@ public abstract class AbstractResourceFinder {
                 String resourceTypeFolder = getArtifactFolder(type);
                 if (resourceTypeFolder != null) {
                     Path resourceFolderPath = Path.of(artifactsPath.toString(), resourceTypeFolder);
-                    File folder = new File(resourceFolderPath.toString());
-                    File[] listOfFiles = folder.listFiles();
-                    if (listOfFiles != null) {
-                        List<Resource> resources1 = createResources(List.of(listOfFiles), type, ARTIFACTS);
-                        resources.addAll(resources1);
-                    }
+                    resources.addAll(createResources(resourceFolderPath, type, ARTIFACTS));
                 }
             }
         }
@@ -133,13 +129,7 @@ public abstract class AbstractResourceFinder {
 
         if (folder.exists()) {
             for (RequestedResource requestedResource : types) {
-                File[] listOfFiles = folder.listFiles();
-                if (listOfFiles != null) {
-                    List<Resource> resources1 = createResources(List.of(listOfFiles), requestedResource.type,
-                            LOCAL_ENTRY);
-                    resources.addAll(resources1);
-                }
-
+                resources.addAll(createResources(localEntryPath, requestedResource.type, LOCAL_ENTRY));
             }
         }
         return resources;
@@ -269,6 +259,18 @@ public abstract class AbstractResourceFinder {
 
     private Resource createResource(File file, HashMap<String, String> requestedTypeToXmlTagMap, String from) {
 
+        IndexedArtifact indexedArtifact = ArtifactIndex.lookup(file);
+        if (indexedArtifact != null) {
+            String type = indexedArtifact.getRootTag();
+            if (type != null && requestedTypeToXmlTagMap.containsValue(type)) {
+                if (ARTIFACTS.equals(from)) {
+                    return createArtifactResource(file, indexedArtifact.getName(), type, Boolean.FALSE);
+                } else if (REGISTRY.equals(from)) {
+                    return createRegistryResource(file, indexedArtifact.getName(), type);
+                }
+            }
+            return null;
+        }
         try {
             DOMDocument document = Utils.getDOMDocument(file);
             if (document != null && document.getDocumentElement() != null) {
@@ -277,10 +279,11 @@ public abstract class AbstractResourceFinder {
                     String type = rootElement.getNodeName();
                     if (type != null && requestedTypeToXmlTagMap.containsValue(type)) {
                         Resource resource = null;
+                        String name = Utils.getArtifactName(rootElement);
                         if (ARTIFACTS.equals(from)) {
-                            resource = createArtifactResource(file, rootElement, type, Boolean.FALSE);
+                            resource = createArtifactResource(file, name, type, Boolean.FALSE);
                         } else if (REGISTRY.equals(from)) {
-                            resource = createRegistryResource(file, rootElement, type);
+                            resource = createRegistryResource(file, name, type);
                         }
                         return resource;
                     }
@@ -292,40 +295,48 @@ public abstract class AbstractResourceFinder {
         return null;
     }
 
-    private List<Resource> createResources(List<File> files, String type, String from) {
+    private List<Resource> createResources(Path folder, String type, String from) {
 
         List<Resource> resources = new ArrayList<>();
-        for (File file : files) {
-            Resource resource = createResource(file, type, from);
-            if (resource != null) {
-                resources.add(resource);
+        ArtifactIndex index = ArtifactIndex.forPath(folder.toString());
+        if (index != null) {
+            for (IndexedArtifact indexedArtifact : index.getArtifacts(folder)) {
+                Resource resource = createResource(indexedArtifact, type, from);
+                if (resource != null) {
+                    resources.add(resource);
+                }
+            }
+            return resources;
+        }
+        File[] files = folder.toFile().listFiles();
+        if (files != null) {
+            for (File file : files) {
+                Resource resource = createResource(file, type, from);
+                if (resource != null) {
+                    resources.add(resource);
+                }
             }
         }
         return resources;
     }
 
+    private Resource createResource(IndexedArtifact indexedArtifact, String type, String from) {
+
+        String nodeName = getRootNodeName(type, from);
+        if (indexedArtifact.getRootTag() != null && indexedArtifact.getRootTag().equalsIgnoreCase(nodeName) &&
+                checkValid(indexedArtifact, type, from)) {
+            return createResource(new File(indexedArtifact.getPath()), indexedArtifact.getName(), type, from);
+        }
+        return null;
+    }
+
     private Resource createResource(File file, String type, String from) {
 
         try {
             DOMDocument document = Utils.getDOMDocument(file);
-            DOMElement rootElement;
-            String nodeName;
-            if (LOCAL_ENTRY.equals(from)) {
-                nodeName = Constant.LOCAL_ENTRY;
-            } else {
-                nodeName = typeToXmlTagMap.get(type);
-            }
-            rootElement = (DOMElement) Utils.getChildNodeByName(document, nodeName);
+            DOMElement rootElement = (DOMElement) Utils.getChildNodeByName(document, getRootNodeName(type, from));
             if (rootElement != null && checkValid(rootElement, type, from)) {
-                Resource resource = null;
-                if (ARTIFACTS.equals(from)) {
-                    resource = createArtifactResource(file, rootElement, type, Boolean.FALSE);
-                } else if (REGISTRY.equals(from)) {
-                    resource = createRegistryResource(file, rootElement, type);
-                } else if (LOCAL_ENTRY.equals(from)) {
-                    resource = createArtifactResource(file, rootElement, type, Boolean.TRUE);
-                }
-                return resource;
+                return createResource(file, Utils.getArtifactName(rootElement), type, from);
             }
         } catch (IOException e) {
             LOGGER.warning("Error while reading file: " + file.getName() + " to create resource object");
@@ -333,6 +344,27 @@ public abstract class AbstractResourceFinder {
         return null;
     }
 
+    private Resource createResource(File file, String name, String type, String from) {
+
+        Resource resource = null;
+        if (ARTIFACTS.equals(from)) {
+            resource = createArtifactResource(file, name, type, Boolean.FALSE);
+        } else if (REGISTRY.equals(from)) {
+            resource = createRegistryResource(file, name, type);
+        } else if (LOCAL_ENTRY.equals(from)) {
+            resource = createArtifactResource(file, name, type, Boolean.TRUE);
+        }
+        return resource;
+    }
+
+    private String getRootNodeName(String type, String from) {
+
+        if (LOCAL_ENTRY.equals(from)) {
+            return Constant.LOCAL_ENTRY;
+        }
+        return typeToXmlTagMap.get(type);
+    }
+
     private Resource createNonXmlResource(File file, String type, String registry) {
 
         Resource resource = new RegistryResource();
@@ -350,6 +382,22 @@ public abstract class AbstractResourceFinder {
         return resource;
     }
 
+    private boolean checkValid(IndexedArtifact indexedArtifact, String type, String from) {
+
+        if (LOCAL_ENTRY.equals(from)) {
+            String xmlTag = typeToXmlTagMap.containsKey(type) ? typeToXmlTagMap.get(type) : type;
+            return xmlTag.equals(indexedArtifact.getFirstChildTag());
+        } else if (Constant.TEMPLATE.equals(indexedArtifact.getRootTag())) {
+            if ("sequenceTemplate".equals(type)) {
+                return indexedArtifact.hasChildTag(Constant.SEQUENCE);
+            } else if ("endpointTemplate".equals(type)) {
+                return indexedArtifact.hasChildTag(Constant.ENDPOINT);
+            }
+            return false;
+        }
+        return true;
+    }
+
     private boolean checkValid(DOMElement rootElement, String type, String from) {
 
         String nodeName = rootElement.getNodeName();
@@ -378,10 +426,9 @@ public abstract class AbstractResourceFinder {
         return true;
     }
 
-    private Resource createArtifactResource(File file, DOMElement rootElement, String type, boolean isLocalEntry) {
+    private Resource createArtifactResource(File file, String name, String type, boolean isLocalEntry) {
 
         Resource artifact = new ArtifactResource();
-        String name = getArtifactName(rootElement);
         if (name != null) {
             artifact.setName(name);
             artifact.setType(Utils.addUnderscoreBetweenWords(type).toUpperCase());
@@ -394,10 +441,9 @@ public abstract class AbstractResourceFinder {
         return null;
     }
 
-    private Resource createRegistryResource(File file, DOMElement rootElement, String type) {
+    private Resource createRegistryResource(File file, String name, String type) {
 
         Resource registry = new RegistryResource();
-        String name = getArtifactName(rootElement);
         if (name == null) {
             name = file.getName();
         }
@@ -409,43 +455,4 @@ public abstract class AbstractResourceFinder {
         ((RegistryResource) registry).setRegistryKey(Utils.getRegistryKey(file));
         return registry;
     }
-
-    private String getArtifactName(DOMElement rootElement) {
-
-        if (isApiArtifact(rootElement)) {
-            return getApiArtifactName(rootElement);
-        } else {
-            return getNonApiArtifactName(rootElement);
-        }
-    }
-
-    private boolean isApiArtifact(DOMElement rootElement) {
-
-        return Constant.API.equalsIgnoreCase(rootElement.getNodeName());
-    }
-
-    private String getApiArtifactName(DOMElement rootElement) {
-
-        StringBuilder name = new StringBuilder();
-        name.append(rootElement.getAttribute(Constant.NAME));
-        if (rootElement.hasAttribute(Constant.VERSION)) {
-            name.append(":v").append(rootElement.getAttribute(Constant.VERSION));
-        }
-        return name.toString();
-    }
-
-    private String getNonApiArtifactName(DOMElement rootElement) {
-
-        if (rootElement.hasAttribute(Constant.NAME)) {
-            return rootElement.getAttribute(Constant.NAME);
-        } else if (rootElement.hasAttribute(Constant.KEY)) {
-            return rootElement.getAttribute(Constant.KEY);
-        } else {
-            DOMNode nameNode = Utils.getChildNodeByName(rootElement, Constant.NAME);
-            if (nameNode != null) {
-                return Utils.getInlineString(nameNode.getFirstChild());
-            }
-            return null;
-        }
-    }
 }
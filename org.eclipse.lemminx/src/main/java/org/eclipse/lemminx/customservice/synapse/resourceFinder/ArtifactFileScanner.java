@@ -18,6 +18,9 @@
 
 package org.eclipse.lemminx.customservice.synapse.resourceFinder;
 
+import org.eclipse.lemminx.customservice.synapse.executor.RequestExecutor;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
 import java.io.File;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -29,21 +32,32 @@ public class ArtifactFileScanner {
 
     public static List<String> scanArtifactFiles(String projectPath) {
 
-        return scanArtifactFiles(projectPath, false);
+        return scanArtifactFiles(projectPath, false, RequestExecutor.NOT_CANCELLABLE);
     }
 
-    public static List<String> scanArtifactFiles(String projectPath, boolean needFilePath) {
+    /**
+     * Lists the artifact files of the project, checking for the cancellation of the request in every folder.
+     *
+     * @param projectPath   project path
+     * @param needFilePath  whether to return the absolute paths of the files instead of the artifact names
+     * @param cancelChecker cancel checker of the request
+     * @return artifact names or absolute paths of the files
+     */
+    public static List<String> scanArtifactFiles(String projectPath, boolean needFilePath,
+                                                 CancelChecker cancelChecker) {
 
         List<String> artifactFiles = new ArrayList<>();
         if (projectPath != null) {
             String artifactPath = Path.of(projectPath, "src", "main", "wso2mi", "artifacts").toString();
-            traverseFiles(artifactPath, artifactFiles, needFilePath);
+            traverseFiles(artifactPath, artifactFiles, needFilePath, cancelChecker);
         }
         return artifactFiles;
     }
 
-    private static void traverseFiles(String projectPath, List<String> artifactFiles, boolean needFilePath) {
+    private static void traverseFiles(String projectPath, List<String> artifactFiles, boolean needFilePath,
+                                      CancelChecker cancelChecker) {
 
+        cancelChecker.checkCanceled();
         File folder = new File(projectPath);
         File[] listOfFiles = folder.listFiles();
         if (listOfFiles != null) {
@@ -56,7 +70,7 @@ public class ArtifactFileScanner {
                         artifactFiles.add(artifactFilePath);
                     }
                 } else if (file.isDirectory()) {
-                    traverseFiles(file.getAbsolutePath(), artifactFiles, needFilePath);
+                    traverseFiles(file.getAbsolutePath(), artifactFiles, needFilePath, cancelChecker);
                 }
             }
         }
@@ -18,6 +18,9 @@
 
 package org.eclipse.lemminx.customservice.synapse.resourceFinder;
 
+import org.eclipse.lemminx.customservice.synapse.executor.RequestExecutor;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
 import java.io.File;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -29,18 +32,31 @@ public class RegistryFileScanner {
 
     public static List<String> scanRegistryFiles(String path) {
 
+        return scanRegistryFiles(path, RequestExecutor.NOT_CANCELLABLE);
+    }
+
+    /**
+     * Lists the registry files of the project, checking for the cancellation of the request in every folder.
+     *
+     * @param path          project path
+     * @param cancelChecker cancel checker of the request
+     * @return registry paths of the files
+     */
+    public static List<String> scanRegistryFiles(String path, CancelChecker cancelChecker) {
+
         String registryPath = getRegistryPath(path);
         File folder = new File(registryPath);
         File[] listOfFiles = folder.listFiles();
         List<String> registryFiles = new ArrayList<>();
         if (listOfFiles != null) {
-            traverseFiles(listOfFiles, registryFiles);
+            traverseFiles(listOfFiles, registryFiles, cancelChecker);
         }
         return registryFiles;
     }
 
-    private static void traverseFiles(File[] listOfFiles, List<String> registryFiles) {
+    private static void traverseFiles(File[] listOfFiles, List<String> registryFiles, CancelChecker cancelChecker) {
 
+        cancelChecker.checkCanceled();
         for (File file : listOfFiles) {
             if (file.isFile() && !file.isHidden()) {
                 String regFilePath = extractRegistryFilePath(file);
@@ -49,7 +65,7 @@ public class RegistryFileScanner {
                 }
             } else if (file.isDirectory()) {
                 if (!".meta".equals(file.getName())) {
-                    traverseFiles(file.listFiles(), registryFiles);
+                    traverseFiles(file.listFiles(), registryFiles, cancelChecker);
                 }
             }
         }
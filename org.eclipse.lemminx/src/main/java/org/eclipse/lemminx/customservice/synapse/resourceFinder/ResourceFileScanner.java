@@ -18,7 +18,9 @@
 
 package org.eclipse.lemminx.customservice.synapse.resourceFinder;
 
+import org.eclipse.lemminx.customservice.synapse.executor.RequestExecutor;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 
 import java.io.File;
 import java.nio.file.Path;
@@ -31,18 +33,31 @@ public class ResourceFileScanner {
 
     public static List<String> scanResourceFiles(String path) {
 
+        return scanResourceFiles(path, RequestExecutor.NOT_CANCELLABLE);
+    }
+
+    /**
+     * Lists the resource files of the project, checking for the cancellation of the request in every folder.
+     *
+     * @param path          project path
+     * @param cancelChecker cancel checker of the request
+     * @return resource paths of the files
+     */
+    public static List<String> scanResourceFiles(String path, CancelChecker cancelChecker) {
+
         String resourcePath = getResourcePath(path);
         File folder = new File(resourcePath);
         File[] listOfFiles = folder.listFiles();
         List<String> resourceFiles = new ArrayList<>();
         if (listOfFiles != null) {
-            traverseFiles(listOfFiles, resourceFiles);
+            traverseFiles(listOfFiles, resourceFiles, cancelChecker);
         }
         return resourceFiles;
     }
 
-    private static void traverseFiles(File[] listOfFiles, List<String> resourceFiles) {
+    private static void traverseFiles(File[] listOfFiles, List<String> resourceFiles, CancelChecker cancelChecker) {
 
+        cancelChecker.checkCanceled();
         for (File file : listOfFiles) {
             if (file.isFile() && !file.isHidden()) {
                 String resourceFilePath = extractResourceFilePath(file);
@@ -51,7 +66,7 @@ public class ResourceFileScanner {
                 }
             } else if (file.isDirectory()) {
                 if (!".meta".equals(file.getName())) {
-                    traverseFiles(file.listFiles(), resourceFiles);
+                    traverseFiles(file.listFiles(), resourceFiles, cancelChecker);
                 }
             }
         }
@@ -27,8 +27,11 @@ import org.eclipse.lemminx.customservice.synapse.dependency.tree.DependencyScann
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.Dependency;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.DependencyTree;
 import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeBuilder;
+import org.eclipse.lemminx.customservice.synapse.executor.RequestExecutor;
+import org.eclipse.lemminx.customservice.synapse.index.ArtifactIndex;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 import org.eclipse.lsp4j.WorkspaceFolder;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 
 import java.util.ArrayList;
@@ -40,13 +43,26 @@ public class ResourceUsageFinder {
     public static List<String> findResourceUsages(String projectUri, String resourceFilePath,
                                                   ConnectorHolder connectorHolder, boolean isLegacyProject) {
 
+        return findResourceUsages(projectUri, resourceFilePath, connectorHolder, isLegacyProject,
+                RequestExecutor.NOT_CANCELLABLE);
+    }
+
+    public static List<String> findResourceUsages(String projectUri, String resourceFilePath,
+                                                  ConnectorHolder connectorHolder, boolean isLegacyProject,
+                                                  CancelChecker cancelChecker) {
+
         String derivedKey = Utils.deriveResourceKeyFromFilePath(resourceFilePath);
+        ArtifactIndex index = ArtifactIndex.getInstance(projectUri);
+        if (index != null) {
+            return index.getArtifactReferrers(derivedKey);
+        }
         List<String> resourceUsagesList = new ArrayList<>();
-        List<String> artifactFilePaths = ArtifactFileScanner.scanArtifactFiles(projectUri, true);
+        List<String> artifactFilePaths = ArtifactFileScanner.scanArtifactFiles(projectUri, true, cancelChecker);
 
         DependencyScanner dependencyScanner = new DependencyScanner(projectUri);
 
         for (String artifactFilePath : artifactFilePaths) {
+            cancelChecker.checkCanceled();
             DependencyTree artifactDependencyTree = dependencyScanner.analyzeArtifact(artifactFilePath);
             List<Dependency> dependencyList = artifactDependencyTree.getDependencyList();
             for (Dependency dependency : dependencyList) {
@@ -77,10 +93,13 @@ public class ResourceUsageFinder {
     }
 
     public static List<String> findResourceUsagesProjectIdentifiers(String projectUri, String resourceFilePath,
-                                                                    ConnectorHolder connectorHolder, boolean isLegacyProject) {
+                                                                    ConnectorHolder connectorHolder,
+                                                                    boolean isLegacyProject,
+                                                                    CancelChecker cancelChecker) {
 
-        List<String> resourceUsagesList = findResourceUsages(projectUri, resourceFilePath, connectorHolder, isLegacyProject);
+        List<String> resourceUsagesList = findResourceUsages(projectUri, resourceFilePath, connectorHolder,
+                isLegacyProject, cancelChecker);
         return DirectoryTreeBuilder.getProjectIdentifiers(new WorkspaceFolder(projectUri),
-                resourceUsagesList);
+                resourceUsagesList, cancelChecker);
     }
 }
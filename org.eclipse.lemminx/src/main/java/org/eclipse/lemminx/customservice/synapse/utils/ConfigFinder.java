@@ -18,6 +18,7 @@
 
 package org.eclipse.lemminx.customservice.synapse.utils;
 
+import org.eclipse.lemminx.customservice.synapse.index.ArtifactIndex;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.dom.DOMElement;
 
@@ -74,6 +75,10 @@ public class ConfigFinder {
 
     private static String searchInConfigs(String configPath, String key) throws IOException {
 
+        ArtifactIndex index = ArtifactIndex.forPath(configPath);
+        if (index != null) {
+            return index.findArtifactPath(Path.of(configPath), key);
+        }
         File folder = new File(configPath);
         File[] listOfFiles = folder.listFiles();
         if (listOfFiles != null) {
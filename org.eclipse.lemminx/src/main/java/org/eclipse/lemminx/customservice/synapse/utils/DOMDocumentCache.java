@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.customservice.synapse.utils;
+
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Shared cache of the parsed DOM documents of the project files.
+ * <p>
+ * A cached document is returned only while the modification time and the size of the file are the same as when it was
+ * parsed. The least recently used documents are evicted when the approximate memory retained by the cache exceeds the
+ * limit configured with the {@value #MAX_SIZE_PROPERTY} system property (in megabytes). The documents are cached by
+ * their real path, so that a file reached through a symbolic link is cached and invalidated once.
+ * <p>
+ * The returned documents are read-only. A cached document is shared by the concurrent requests, and an open document
+ * is the live model of the editor, hence neither must be modified.
+ */
+public class DOMDocumentCache {
+
+    public static final String MAX_SIZE_PROPERTY = "synapse.dom.cache.size.mb";
+    private static final long DEFAULT_MAX_SIZE_MB = 64;
+    // Approximate number of bytes retained by the text and the DOM nodes per character of a document
+    private static final int BYTES_PER_CHARACTER = 8;
+    private static final DOMDocumentCache instance =
+            new DOMDocumentCache(Long.getLong(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE_MB) * 1024 * 1024);
+
+    private final long maxSize;
+    private final LinkedHashMap<String, CachedDocument> documents = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private long size;
+    private volatile Function<Path, DOMDocument> openDocumentProvider;
+
+    /**
+     * Creates a cache which retains approximately the given number of bytes.
+     *
+     * @param maxSize maximum size of the cache in bytes
+     */
+    public DOMDocumentCache(long maxSize) {
+
+        this.maxSize = maxSize;
+    }
+
+    public static DOMDocumentCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Sets the provider of the documents which are open in the editor. The provider returns null for a file which is
+     * not open.
+     *
+     * @param openDocumentProvider provider of the open documents by absolute file path
+     */
+    public void setOpenDocumentProvider(Function<Path, DOMDocument> openDocumentProvider) {
+
+        this.openDocumentProvider = openDocumentProvider;
+    }
+
+    /**
+     * Returns the DOM document of the given file.
+     *
+     * @param file               file to parse
+     * @param preferOpenDocument whether to return the unsaved content of the file if it is open in the editor
+     * @return read-only DOM document of the file
+     * @throws IOException if the file cannot be read
+     */
+    public DOMDocument getDocument(File file, boolean preferOpenDocument) throws IOException {
+
+        Path path = file.toPath().toAbsolutePath().normalize();
+        Function<Path, DOMDocument> provider = openDocumentProvider;
+        if (preferOpenDocument && provider != null) {
+            DOMDocument openDocument = provider.apply(path);
+            if (openDocument != null) {
+                return openDocument;
+            }
+        }
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        String key = toRealPath(path).toString();
+        CachedDocument cachedDocument;
+        synchronized (this) {
+            cachedDocument = documents.get(key);
+        }
+        if (cachedDocument != null && cachedDocument.isValid(attributes)) {
+            hitCount.incrementAndGet();
+            return cachedDocument.document;
+        }
+        missCount.incrementAndGet();
+        String text = Files.readString(path);
+        TextDocument textDocument = new TextDocument(text, path.toUri().toString());
+        DOMDocument document = DOMParser.getInstance().parse(textDocument, null);
+        put(key, new CachedDocument(document, attributes.lastModifiedTime(), attributes.size(),
+                (long) text.length() * BYTES_PER_CHARACTER));
+        return document;
+    }
+
+    /**
+     * Removes the cached documents of the given file or the files inside the given folder.
+     *
+     * @param path absolute path of the changed file or folder
+     */
+    public synchronized void invalidate(String path) {
+
+        Path changedPath = toRealPath(Path.of(path));
+        Iterator<Map.Entry<String, CachedDocument>> iterator = documents.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, CachedDocument> entry = iterator.next();
+            if (Path.of(entry.getKey()).startsWith(changedPath)) {
+                size -= entry.getValue().size;
+                iterator.remove();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+
+        documents.clear();
+        size = 0;
+    }
+
+    public long getHitCount() {
+
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+
+        return evictionCount.get();
+    }
+
+    /**
+     * Returns the approximate number of bytes retained by the cached documents.
+     *
+     * @return size of the cache in bytes
+     */
+    public synchronized long getSize() {
+
+        return size;
+    }
+
+    /**
+     * Returns the real path of the given file. The real path of a deleted file is resolved from its closest existing
+     * parent folder.
+     *
+     * @param path path of the file
+     * @return real path of the file
+     */
+    private static Path toRealPath(Path path) {
+
+        Path absolutePath = path.toAbsolutePath().normalize();
+        try {
+            return absolutePath.toRealPath();
+        } catch (IOException e) {
+            Path parent = absolutePath.getParent();
+            return parent != null ? toRealPath(parent).resolve(absolutePath.getFileName()) : absolutePath;
+        }
+    }
+
+    private synchronized void put(String key, CachedDocument cachedDocument) {
+
+        if (cachedDocument.size > maxSize) {
+            return;
+        }
+        CachedDocument previous = documents.put(key, cachedDocument);
+        if (previous != null) {
+            size -= previous.size;
+        }
+        size += cachedDocument.size;
+        Iterator<CachedDocument> iterator = documents.values().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            CachedDocument eldest = iterator.next();
+            size -= eldest.size;
+            iterator.remove();
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    private static class CachedDocument {
+
+        private final DOMDocument document;
+        private final FileTime lastModified;
+        private final long fileSize;
+        private final long size;
+
+        CachedDocument(DOMDocument document, FileTime lastModified, long fileSize, long size) {
+
+            this.document = document;
+            this.lastModified = lastModified;
+            this.fileSize = fileSize;
+            this.size = size;
+        }
+
+        private boolean isValid(BasicFileAttributes attributes) {
+
+            return lastModified.equals(attributes.lastModifiedTime()) && fileSize == attributes.size();
+        }
+    }
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.customservice.synapse.utils;
+
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Content addressed cache of the extracted connector zips and schema folders.
+ * <p>
+ * An archive is identified by the SHA-256 of its content, and a folder inside a jar by the SHA-256 of the names, CRCs
+ * and sizes of its entries. Each archive is extracted once into a shared cache folder, which is reused across projects
+ * and restarts, and is then copied to the folders where it is used. A {@value #MANIFEST_FILE} file listing the
+ * extracted files with their sizes is kept in the cache folder and the target folders to validate them, and a
+ * {@value #FINGERPRINT_FILE} file in the target folder records the content it holds, so an unchanged archive is neither
+ * extracted nor copied again while an updated archive with the same name is. The sizes are checked only in the cache
+ * folder, since files such as the generated connector schema are rewritten in the target folders. A target folder is
+ * prepared in a staging folder of the cache and moved into place, so that another language server sharing the target
+ * never sees it partially copied.
+ */
+public class ExtractionCache {
+
+    private static final Logger LOGGER = Logger.getLogger(ExtractionCache.class.getName());
+    public static final String CACHE_DIR_PROPERTY = "synapse.extraction.cache.dir";
+    public static final String MANIFEST_FILE = ".manifest";
+    public static final String FINGERPRINT_FILE = ".fingerprint";
+    public static final String PROJECT_FILE = ".project";
+    private static final String STAGING_PREFIX = "staging-";
+    private static final String PREPARED_FOLDER = "prepared";
+    private static final String REPLACED_FOLDER = "replaced";
+    private static final String EXTRACTION_CACHE = "extraction-cache";
+    private static final ExtractionCache instance = new ExtractionCache(Path.of(System.getProperty(CACHE_DIR_PROPERTY,
+            Path.of(System.getProperty(Constant.USER_HOME), Constant.WSO2_MI, EXTRACTION_CACHE).toString())));
+
+    private final Path cacheDirectory;
+    private final Map<String, FileFingerprint> fingerprints = new ConcurrentHashMap<>();
+
+    public ExtractionCache(Path cacheDirectory) {
+
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    public static ExtractionCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Extracts the given zip to the given folder unless the folder already holds the content of the zip.
+     *
+     * @param zip          zip to extract
+     * @param targetFolder folder to extract the zip
+     * @return true if the folder is updated, false if it already holds the content of the zip
+     * @throws IOException if the zip cannot be extracted
+     */
+    public boolean extractZip(File zip, File targetFolder) throws IOException {
+
+        Utils.waitForDownload(zip);
+        String zipName = zip.getName().replace(Constant.ZIP_EXTENSION, "");
+        String fingerprint = getFileFingerprint(zip);
+        Path target = targetFolder.toPath();
+        if (isMaterialized(target, fingerprint)) {
+            return false;
+        }
+        Path cachedFolder = getCachedFolder(zipName + "-" + fingerprint,
+                folder -> Utils.extractDownloadedZip(zip, folder.toFile()));
+        materialize(cachedFolder, target, fingerprint);
+        return true;
+    }
+
+    /**
+     * Extracts the given folder of the given jar to the given folder unless the folder already holds the same content.
+     *
+     * @param jarFile         jar containing the folder
+     * @param resourceFolder  folder inside the jar
+     * @param targetDirectory folder to extract the content
+     * @return true if the folder is updated, false if it already holds the content
+     * @throws IOException if the folder cannot be extracted
+     */
+    public boolean extractJarFolder(JarFile jarFile, String resourceFolder, Path targetDirectory) throws IOException {
+
+        List<JarEntry> entries = new ArrayList<>();
+        MessageDigest digest = getSha256Digest();
+        jarFile.stream().filter(entry -> entry.getName().startsWith(resourceFolder) && !entry.isDirectory())
+                .forEach(entry -> {
+                    entries.add(entry);
+                    String entryInfo = entry.getName() + ":" + entry.getCrc() + ":" + entry.getSize() + "\n";
+                    digest.update(entryInfo.getBytes(StandardCharsets.UTF_8));
+                });
+        String fingerprint = Utils.convertToHex(digest.digest());
+        if (isMaterialized(targetDirectory, fingerprint)) {
+            return false;
+        }
+        String folderName = resourceFolder.substring(resourceFolder.lastIndexOf('/') + 1);
+        Path cachedFolder = getCachedFolder(folderName + "-" + fingerprint, folder -> {
+            for (JarEntry entry : entries) {
+                try (InputStream inputStream = jarFile.getInputStream(entry)) {
+                    Path targetFile = folder.resolve(entry.getName().substring(resourceFolder.length() + 1));
+                    Files.createDirectories(targetFile.getParent());
+                    Files.copy(inputStream, targetFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        });
+        materialize(cachedFolder, targetDirectory, fingerprint);
+        return true;
+    }
+
+    /**
+     * Returns whether the given folder holds the content with the given fingerprint.
+     *
+     * @param folder      extracted folder
+     * @param fingerprint fingerprint of the content
+     * @return true if the folder holds the content
+     */
+    public boolean isMaterialized(Path folder, String fingerprint) {
+
+        Path fingerprintFile = folder.resolve(FINGERPRINT_FILE);
+        try {
+            return Files.isRegularFile(fingerprintFile) &&
+                    fingerprint.equals(Files.readString(fingerprintFile).trim()) && isValid(folder, false);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private Path getCachedFolder(String key, Extractor extractor) throws IOException {
+
+        Path cachedFolder = cacheDirectory.resolve(key);
+        if (isValid(cachedFolder, true)) {
+            return cachedFolder;
+        }
+        Files.createDirectories(cacheDirectory);
+        Path tempFolder = Files.createTempDirectory(cacheDirectory, key);
+        try {
+            extractor.extract(tempFolder);
+            writeManifest(tempFolder);
+            FileUtils.deleteDirectory(cachedFolder.toFile());
+            try {
+                Files.move(tempFolder, cachedFolder, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFolder, cachedFolder);
+            }
+        } catch (FileAlreadyExistsException | DirectoryNotEmptyException e) {
+            // Extracted concurrently by another language server
+            LOGGER.log(Level.FINE, "Cache entry already extracted: " + key);
+        } finally {
+            FileUtils.deleteDirectory(tempFolder.toFile());
+        }
+        if (!isValid(cachedFolder, true)) {
+            throw new IOException("Failed to extract to the cache: " + key);
+        }
+        return cachedFolder;
+    }
+
+    /**
+     * Records the project which uses the given folder, and deletes the folders with the given prefix which are left
+     * behind by the projects that no longer exist, such as the folders of a moved or renamed project.
+     *
+     * @param folder      folder used by the project
+     * @param prefix      name prefix of the folders of the projects with the same name
+     * @param projectPath absolute path of the project
+     * @throws IOException if the project cannot be recorded
+     */
+    public static void deleteStaleProjectFolders(Path folder, String prefix, String projectPath) throws IOException {
+
+        Files.writeString(folder.resolve(PROJECT_FILE), projectPath);
+        try (Stream<Path> folders = Files.list(folder.toAbsolutePath().getParent())) {
+            for (Path projectFolder : (Iterable<Path>) folders::iterator) {
+                if (!projectFolder.equals(folder.toAbsolutePath()) &&
+                        projectFolder.getFileName().toString().startsWith(prefix) && isStale(projectFolder)) {
+                    LOGGER.log(Level.FINE, "Deleting the folder of a removed project: " + projectFolder);
+                    FileUtils.deleteDirectory(projectFolder.toFile());
+                }
+            }
+        }
+    }
+
+    private static boolean isStale(Path projectFolder) {
+
+        // A folder without a recorded project may be in the middle of its first extraction
+        Path projectFile = projectFolder.resolve(PROJECT_FILE);
+        try {
+            return Files.isRegularFile(projectFile) &&
+                    !Files.isDirectory(Path.of(Files.readString(projectFile).trim()));
+        } catch (IOException | InvalidPathException e) {
+            return false;
+        }
+    }
+
+    private void materialize(Path cachedFolder, Path target, String fingerprint) throws IOException {
+
+        Files.createDirectories(cacheDirectory);
+        Path stagingFolder = Files.createTempDirectory(cacheDirectory, STAGING_PREFIX);
+        Path preparedFolder = stagingFolder.resolve(PREPARED_FOLDER);
+        try {
+            FileUtils.copyDirectory(cachedFolder.toFile(), preparedFolder.toFile());
+            Files.writeString(preparedFolder.resolve(FINGERPRINT_FILE), fingerprint);
+            Files.createDirectories(target.toAbsolutePath().getParent());
+            try {
+                Files.move(target, stagingFolder.resolve(REPLACED_FOLDER), StandardCopyOption.ATOMIC_MOVE);
+            } catch (NoSuchFileException e) {
+                // Nothing to replace
+            } catch (AtomicMoveNotSupportedException e) {
+                FileUtils.deleteDirectory(target.toFile());
+            }
+            try {
+                Files.move(preparedFolder, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                // The cache is on another file system
+                FileUtils.copyDirectory(preparedFolder.toFile(), target.toFile());
+            } catch (FileAlreadyExistsException | DirectoryNotEmptyException e) {
+                // Materialized concurrently by another language server
+                LOGGER.log(Level.FINE, "Folder already materialized: " + target);
+            }
+        } finally {
+            FileUtils.deleteDirectory(stagingFolder.toFile());
+        }
+        if (!isMaterialized(target, fingerprint)) {
+            throw new IOException("Failed to materialize the folder: " + target);
+        }
+    }
+
+    private static void writeManifest(Path folder) throws IOException {
+
+        StringBuilder manifest = new StringBuilder();
+        try (Stream<Path> files = Files.walk(folder)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile).sorted()::iterator) {
+                manifest.append(Files.size(file)).append(' ')
+                        .append(folder.relativize(file).toString().replace(File.separatorChar, '/')).append('\n');
+            }
+        }
+        Files.writeString(folder.resolve(MANIFEST_FILE), manifest.toString());
+    }
+
+    private static boolean isValid(Path folder, boolean checkSizes) {
+
+        Path manifestFile = folder.resolve(MANIFEST_FILE);
+        if (!Files.isRegularFile(manifestFile)) {
+            return false;
+        }
+        try {
+            for (String line : Files.readAllLines(manifestFile)) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                int separator = line.indexOf(' ');
+                Path file = folder.resolve(line.substring(separator + 1));
+                if (!Files.isRegularFile(file) ||
+                        (checkSizes && Files.size(file) != Long.parseLong(line.substring(0, separator)))) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    private String getFileFingerprint(File file) throws IOException {
+
+        String key = file.getAbsolutePath();
+        long lastModified = file.lastModified();
+        long size = file.length();
+        FileFingerprint cached = fingerprints.get(key);
+        if (cached != null && cached.lastModified == lastModified && cached.size == size) {
+            return cached.sha256;
+        }
+        String sha256 = Utils.getSha256(Files.newInputStream(file.toPath()));
+        fingerprints.put(key, new FileFingerprint(lastModified, size, sha256));
+        return sha256;
+    }
+
+    private static MessageDigest getSha256Digest() throws IOException {
+
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("SHA-256 is not supported", e);
+        }
+    }
+
+    private interface Extractor {
+
+        void extract(Path folder) throws IOException;
+    }
+
+    private static class FileFingerprint {
+
+        private final long lastModified;
+        private final long size;
+        private final String sha256;
+
+        FileFingerprint(long lastModified, long size, String sha256) {
+
+            this.lastModified = lastModified;
+            this.size = size;
+            this.sha256 = sha256;
+        }
+    }
+}
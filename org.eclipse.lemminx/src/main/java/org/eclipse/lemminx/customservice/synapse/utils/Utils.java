@@ -45,7 +45,6 @@ import org.eclipse.lemminx.dom.DOMParser;
 import org.eclipse.lsp4j.InitializeParams;
 import org.w3c.dom.Node;
 
-import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.File;
@@ -55,6 +54,7 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.StringWriter;
 import java.lang.reflect.Method;
 import java.math.BigInteger;
@@ -71,14 +71,13 @@ import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -192,13 +191,28 @@ public class Utils {
         return getDOMDocument(file);
     }
 
+    /**
+     * Get the DOM document of the given file. The unsaved content is used if the file is open in the editor.
+     *
+     * @param file the file
+     * @return the DOM document of the file
+     * @throws IOException if the file cannot be read
+     */
     public static DOMDocument getDOMDocument(File file) throws IOException {
 
-        Path path = file.toPath();
-        String text = Files.readString(path);
-        TextDocument document = new TextDocument(text, path.toUri().toString());
-        DOMDocument domDocument = DOMParser.getInstance().parse(document, null);
-        return domDocument;
+        return DOMDocumentCache.getInstance().getDocument(file, true);
+    }
+
+    /**
+     * Get the DOM document of the saved content of the given file.
+     *
+     * @param file the file
+     * @return the DOM document of the file
+     * @throws IOException if the file cannot be read
+     */
+    public static DOMDocument getDOMDocumentFromDisk(File file) throws IOException {
+
+        return DOMDocumentCache.getInstance().getDocument(file, false);
     }
 
     /**
@@ -349,6 +363,11 @@ public class Utils {
     public static void extractZip(File zip, File extractTo) throws IOException {
 
         waitForDownload(zip);
+        extractDownloadedZip(zip, extractTo);
+    }
+
+    static void extractDownloadedZip(File zip, File extractTo) throws IOException {
+
         byte[] buffer = new byte[1024];
         ZipInputStream zis = new ZipInputStream(new FileInputStream(zip));
         ZipEntry zipEntry = zis.getNextEntry();
@@ -395,7 +414,7 @@ public class Utils {
 
     }
 
-    private static void waitForDownload(File file) {
+    static void waitForDownload(File file) {
 
         boolean isDownloaded = false;
         long fileSize = getFileSize(file);
@@ -511,11 +530,38 @@ public class Utils {
         return hash;
     }
 
-    private static String convertToHex(final byte[] messageDigest) {
+    /**
+     * Returns the SHA-256 of the content of the given stream as a hexadecimal string. The stream is closed.
+     *
+     * @param inputStream stream to read
+     * @return SHA-256 of the content
+     * @throws IOException if the stream cannot be read
+     */
+    public static String getSha256(InputStream inputStream) throws IOException {
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("SHA-256 is not supported", e);
+        }
+        try (InputStream digestStream = new DigestInputStream(inputStream, digest)) {
+            digestStream.transferTo(OutputStream.nullOutputStream());
+        }
+        return convertToHex(digest.digest());
+    }
+
+    /**
+     * Converts the given digest to a lower case hexadecimal string of two characters per byte.
+     *
+     * @param messageDigest digest to convert
+     * @return hexadecimal string of the digest
+     */
+    public static String convertToHex(final byte[] messageDigest) {
 
         BigInteger bigint = new BigInteger(1, messageDigest);
         String hexText = bigint.toString(16);
-        while (hexText.length() < 32) {
+        while (hexText.length() < messageDigest.length * 2) {
             hexText = "0".concat(hexText);
         }
         return hexText;
@@ -553,6 +599,35 @@ public class Utils {
         return null;
     }
 
+    /**
+     * Get the name of the artifact defined by the given root element. For APIs, the version is appended to the name.
+     *
+     * @param rootElement the root element of the artifact
+     * @return the name of the artifact
+     */
+    public static String getArtifactName(DOMElement rootElement) {
+
+        if (Constant.API.equalsIgnoreCase(rootElement.getNodeName())) {
+            StringBuilder name = new StringBuilder();
+            name.append(rootElement.getAttribute(Constant.NAME));
+            if (rootElement.hasAttribute(Constant.VERSION)) {
+                name.append(":v").append(rootElement.getAttribute(Constant.VERSION));
+            }
+            return name.toString();
+        }
+        if (rootElement.hasAttribute(Constant.NAME)) {
+            return rootElement.getAttribute(Constant.NAME);
+        } else if (rootElement.hasAttribute(Constant.KEY)) {
+            return rootElement.getAttribute(Constant.KEY);
+        } else {
+            DOMNode nameNode = getChildNodeByName(rootElement, Constant.NAME);
+            if (nameNode != null) {
+                return getInlineString(nameNode.getFirstChild());
+            }
+            return null;
+        }
+    }
+
     /**
      * Read the content of the given file
      *
@@ -940,10 +1015,21 @@ public class Utils {
         String version = getServerVersion(projectUri, Constant.DEFAULT_MI_VERSION);
         String versionFolder = version.replace(".", "");
         String schemasPath = "org/eclipse/lemminx/schemas/" + versionFolder;
-        File tempFolder = Files.createTempDirectory("synapse").toFile();
-        tempFolder.deleteOnExit();
-        extractJarFolder(schemasPath, tempFolder.toPath());
-        return tempFolder.toPath();
+        Path schemaFolder;
+        if (projectUri != null) {
+            // Kept per project as the connector schema is generated into it
+            String projectPrefix = new File(projectUri).getName() + "_";
+            schemaFolder = Path.of(System.getProperty(Constant.USER_HOME), Constant.WSO2_MI, Constant.SCHEMAS,
+                    projectPrefix + getHash(projectUri));
+            extractJarFolder(schemasPath, schemaFolder);
+            ExtractionCache.deleteStaleProjectFolders(schemaFolder, projectPrefix, projectUri);
+        } else {
+            File tempFolder = Files.createTempDirectory("synapse").toFile();
+            tempFolder.deleteOnExit();
+            schemaFolder = tempFolder.toPath();
+            extractJarFolder(schemasPath, schemaFolder);
+        }
+        return schemaFolder;
     }
 
     public static void extractJarFolder(String resourceFolder, Path targetDirectory)
@@ -961,19 +1047,7 @@ public class Utils {
             // Resource is inside a JAR
             String jarPath = extractJarPath(resourceURL);
             try (JarFile jarFile = new JarFile(Paths.get(jarPath).toFile())) {
-                Enumeration<JarEntry> entries = jarFile.entries();
-                while (entries.hasMoreElements()) {
-                    JarEntry entry = entries.nextElement();
-                    String entryName = entry.getName();
-                    if (entryName.startsWith(resourceFolder) && !entry.isDirectory()) {
-                        // Extract each file
-                        try (InputStream inputStream = jarFile.getInputStream(entry)) {
-                            Path targetFile = targetDirectory.resolve(entryName.substring(resourceFolder.length() + 1));
-                            Files.createDirectories(targetFile.getParent());
-                            Files.copy(inputStream, targetFile, StandardCopyOption.REPLACE_EXISTING);
-                        }
-                    }
-                }
+                ExtractionCache.getInstance().extractJarFolder(jarFile, resourceFolder, targetDirectory);
             }
         }
     }
@@ -1356,26 +1430,4 @@ public class Utils {
         }
         return sanitizedTag;
     }
-
-    public static void downloadConnector(String groupId, String artifactId, String version, File targetDirectory)
-            throws IOException {
-
-        if (!targetDirectory.exists()) {
-            targetDirectory.mkdirs();
-        }
-        String url = String.format("https://maven.wso2.org/nexus/content/groups/public/%s/%s/%s/%s-%s.zip",
-                groupId.replace(".", "/"), artifactId, version, artifactId, version);
-        File targetFile = new File(targetDirectory, artifactId + "-" + version + Constant.ZIP_EXTENSION);
-        try (BufferedInputStream in = new BufferedInputStream(new URL(url).openStream());
-             FileOutputStream fileOutputStream = new FileOutputStream(targetFile)) {
-            byte[] dataBuffer = new byte[1024];
-            int bytesRead;
-            while ((bytesRead = in.read(dataBuffer, 0, 1024)) != -1) {
-                fileOutputStream.write(dataBuffer, 0, bytesRead);
-            }
-        } catch (IOException e) {
-            logger.log(Level.SEVERE, "Error occurred while downloading dependency: " + e.getMessage());
-            throw e;
-        }
-    }
 }
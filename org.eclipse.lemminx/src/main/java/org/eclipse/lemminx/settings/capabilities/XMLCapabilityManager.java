@@ -202,11 +202,10 @@ public class XMLCapabilityManager {
 	}
 
 	private void registerWatchedFiles() {
-		List<FileSystemWatcher> watchers = new ArrayList<>(2);
-		watchers.add(new FileSystemWatcher(Either.forLeft("**/*.xsd")));
-		watchers.add(new FileSystemWatcher(Either.forLeft("**/*.dtd")));
-		watchers.add(new FileSystemWatcher(Either.forLeft("**/*.rng")));
-		watchers.add(new FileSystemWatcher(Either.forLeft("**/*.rnc")));
+		// Grammars, and every project file since the cached project models and the artifact index also depend on
+		// non XML artifacts such as data services (.dbs) and data mappers (.dmc)
+		List<FileSystemWatcher> watchers = new ArrayList<>(1);
+		watchers.add(new FileSystemWatcher(Either.forLeft("**/*")));
 		DidChangeWatchedFilesRegistrationOptions options = new DidChangeWatchedFilesRegistrationOptions(watchers);
 		registerCapability(WORKSPACE_WATCHED_FILES_ID, WORKSPACE_WATCHED_FILES, options);
 	}
@@ -17,7 +17,9 @@ import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.lemminx.customservice.ActionableNotification;
 import org.eclipse.lemminx.customservice.SynapseLanguageClientAPI;
+import org.eclipse.lemminx.customservice.synapse.ConnectorDownloadNotification;
 import org.eclipse.lemminx.customservice.synapse.ConnectorStatusNotification;
+import org.eclipse.lemminx.customservice.synapse.StartupStageNotification;
 import org.eclipse.lsp4j.ExecuteCommandParams;
 import org.eclipse.lsp4j.MessageActionItem;
 import org.eclipse.lsp4j.MessageParams;
@@ -120,4 +122,14 @@ public class MockXMLLanguageClient implements SynapseLanguageClientAPI {
 	public void removeConnectorStatus(ConnectorStatusNotification message) {
 
 	}
+
+	@Override
+	public void connectorDownloadStatus(ConnectorDownloadNotification message) {
+
+	}
+
+	@Override
+	public void startupStageStatus(StartupStageNotification message) {
+
+	}
 }
\ No newline at end of file
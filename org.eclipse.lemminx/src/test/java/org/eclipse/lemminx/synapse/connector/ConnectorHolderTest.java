@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.synapse.connector;
+
+import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorHolder;
+import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connector;
+import org.eclipse.lemminx.customservice.synapse.connectors.entity.ConnectorAction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConnectorHolderTest {
+
+    private final ConnectorHolder connectorHolder = ConnectorHolder.getInstance();
+
+    @AfterEach
+    void tearDown() {
+
+        connectorHolder.removeConnector("testRedis");
+        connectorHolder.removeConnector("testHttp");
+    }
+
+    @Test
+    public void testConnectorLookup() {
+
+        Connector connector = createConnector("testRedis", "Test Redis", "mi-connector-test-redis", "set");
+        connectorHolder.addConnector(connector);
+
+        assertTrue(connectorHolder.exists("TESTREDIS"));
+        assertFalse(connectorHolder.exists("Test Redis"));
+        assertSame(connector, connectorHolder.getConnector("testredis"));
+        assertSame(connector, connectorHolder.getConnector("test redis"));
+        assertSame(connector, connectorHolder.getConnectorByArtifactId("mi-connector-test-redis"));
+        assertNull(connectorHolder.getConnector("testHttp"));
+    }
+
+    @Test
+    public void testOperationLookup() {
+
+        Connector connector = createConnector("testRedis", "Test Redis", "mi-connector-test-redis", "set");
+        connectorHolder.addConnector(connector);
+
+        assertSame(connector.getAction("set"), connectorHolder.getConnectorAction("testRedis.set"));
+        assertSame(connector.getAction("set"), connectorHolder.getConnectorAction("Test Redis.set"));
+        assertNull(connectorHolder.getConnectorAction("testRedis.get"));
+        assertNull(connectorHolder.getConnectorAction("testRedis"));
+        assertTrue(ConnectorHolder.isValidConnector("TESTREDIS.SET"));
+        assertFalse(ConnectorHolder.isValidConnector("testRedis.get"));
+    }
+
+    @Test
+    public void testSnapshotIsNotAffectedByUpdates() {
+
+        connectorHolder.addConnector(createConnector("testRedis", null, "mi-connector-test-redis", "set"));
+        List<Connector> connectors = connectorHolder.getConnectors();
+
+        connectorHolder.addConnector(createConnector("testHttp", null, "mi-connector-test-http", "get"));
+        connectorHolder.removeConnector("testRedis");
+
+        assertTrue(connectors.stream().anyMatch(connector -> "testRedis".equals(connector.getName())));
+        assertFalse(connectors.stream().anyMatch(connector -> "testHttp".equals(connector.getName())));
+        assertFalse(connectorHolder.exists("testRedis"));
+        assertTrue(ConnectorHolder.isValidConnector("testHttp.get"));
+        assertFalse(ConnectorHolder.isValidConnector("testRedis.set"));
+    }
+
+    private static Connector createConnector(String name, String displayName, String artifactId, String actionName) {
+
+        Connector connector = new Connector();
+        connector.setName(name);
+        connector.setDisplayName(displayName);
+        connector.setArtifactId(artifactId);
+        ConnectorAction action = new ConnectorAction();
+        action.setName(actionName);
+        action.setTag(name + "." + actionName);
+        connector.addAction(action);
+        return connector;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.synapse.connector;
+
+import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorReader;
+import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connector;
+import org.eclipse.lemminx.customservice.synapse.connectors.entity.ConnectorAction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConnectorReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path connectorPath;
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        connectorPath = tempDir.resolve("mi-connector-test-1.0.0");
+        Files.createDirectories(connectorPath.resolve("operations"));
+        Files.createDirectories(connectorPath.resolve("uischema"));
+        Files.writeString(connectorPath.resolve("connector.xml"),
+                "<connector>\n" +
+                        "    <component name=\"test\" package=\"org.wso2.carbon.connector\">\n" +
+                        "        <dependency component=\"operations\"/>\n" +
+                        "    </component>\n" +
+                        "    <displayName>Test</displayName>\n" +
+                        "</connector>");
+        Files.writeString(connectorPath.resolve("operations").resolve("component.xml"),
+                "<component name=\"operations\" type=\"synapse/template\">\n" +
+                        "    <subComponents>\n" +
+                        "        <component name=\"get\">\n" +
+                        "            <file>get.xml</file>\n" +
+                        "            <description>Sends a GET request</description>\n" +
+                        "        </component>\n" +
+                        "        <component name=\"post\">\n" +
+                        "            <file>post.xml</file>\n" +
+                        "            <description>Sends a POST request</description>\n" +
+                        "        </component>\n" +
+                        "    </subComponents>\n" +
+                        "</component>");
+        Files.writeString(connectorPath.resolve("operations").resolve("get.xml"),
+                "<template name=\"get\" xmlns=\"http://ws.apache.org/ns/synapse\">\n" +
+                        "    <parameter name=\"url\" description=\"Request URL\"/>\n" +
+                        "    <sequence/>\n" +
+                        "</template>");
+        Files.writeString(connectorPath.resolve("operations").resolve("post.xml"),
+                "<template name=\"post\" xmlns=\"http://ws.apache.org/ns/synapse\">\n" +
+                        "    <parameter name=\"payload\" description=\"Request payload\"/>\n" +
+                        "    <sequence/>\n" +
+                        "</template>");
+        Files.writeString(connectorPath.resolve("uischema").resolve("get.json"),
+                "{\"operationName\": \"get\", \"elements\": [{\"type\": \"attribute\", \"value\": " +
+                        "{\"name\": \"configRef\", \"allowedConnectionTypes\": [\"HTTPS\"]}}]}");
+        Files.writeString(connectorPath.resolve("uischema").resolve("https.json"),
+                "{\"connectionName\": \"https\", \"elements\": []}");
+    }
+
+    @Test
+    public void testOperationsAreReadWithoutDetails() {
+
+        Connector connector = new ConnectorReader().readConnector(connectorPath.toString(), tempDir.toString());
+
+        assertNotNull(connector);
+        assertEquals("test", connector.getName());
+        assertEquals("Test", connector.getDisplayName());
+        assertEquals("mi-connector-test", connector.getArtifactId());
+        assertEquals("1.0.0", connector.getVersion());
+        assertEquals(2, connector.getActions().size());
+        assertEquals("url", connector.getAction("get").getParameters().get(0).getName());
+        assertFalse(connector.isDetailsLoaded());
+        assertFalse(Files.exists(connectorPath.resolve("uischema").resolve("post.json")));
+    }
+
+    @Test
+    public void testDetailsAreLoadedOnFirstAccess() {
+
+        Connector connector = new ConnectorReader().readConnector(connectorPath.toString(), tempDir.toString());
+        ConnectorAction getAction = connector.getAction("get");
+
+        assertEquals(List.of("HTTPS"), getAction.getAllowedConnectionTypes());
+        assertTrue(connector.isDetailsLoaded());
+        assertTrue(connector.getDetailsSize() > 0);
+        assertEquals(connectorPath.resolve("uischema").resolve("get.json").toString(),
+                getAction.getUiSchemaPath());
+        assertEquals(connectorPath.resolve("uischema").resolve("https.json").toString(),
+                connector.getConnectionUiSchema().get("HTTPS"));
+        assertTrue(Files.exists(connectorPath.resolve("uischema").resolve("post.json")));
+        assertEquals(connectorPath.resolve("uischema").resolve("post.json").toString(),
+                connector.getAction("post").getUiSchemaPath());
+    }
+
+    @Test
+    public void testDetailsAreUnloadedOverLimit() throws Exception {
+
+        Path otherConnectorPath = tempDir.resolve("mi-connector-other-1.0.0");
+        try (Stream<Path> files = Files.walk(connectorPath)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.copy(file, otherConnectorPath.resolve(connectorPath.relativize(file).toString()));
+            }
+        }
+        ConnectorReader reader = new ConnectorReader(1);
+        Connector connector = reader.readConnector(connectorPath.toString(), tempDir.toString());
+        Connector otherConnector = reader.readConnector(otherConnectorPath.toString(), tempDir.toString());
+
+        assertEquals(List.of("HTTPS"), connector.getAction("get").getAllowedConnectionTypes());
+        assertEquals(List.of("HTTPS"), otherConnector.getAction("get").getAllowedConnectionTypes());
+        assertFalse(connector.isDetailsLoaded());
+        assertTrue(otherConnector.isDetailsLoaded());
+
+        assertEquals(connectorPath.resolve("uischema").resolve("https.json").toString(),
+                connector.getConnectionUiSchema().get("HTTPS"));
+        assertTrue(connector.isDetailsLoaded());
+        assertFalse(otherConnector.isDetailsLoaded());
+    }
+}
@@ -18,50 +18,121 @@
 
 package org.eclipse.lemminx.synapse.connector.downloader;
 
+import org.eclipse.lemminx.customservice.SynapseLanguageClientAPI;
+import org.eclipse.lemminx.customservice.synapse.ConnectorDownloadNotification;
 import org.eclipse.lemminx.customservice.synapse.parser.ConnectorDownloadManager;
+import org.eclipse.lemminx.customservice.synapse.parser.ConnectorDownloader;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.eclipse.lemminx.uriresolver.FileServer;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.MockedStatic;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
-import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.any;
-import static org.mockito.Mockito.mockStatic;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class ConnectorDownloadManagerTest {
 
-    private ConnectorDownloadManager connectorDownloadManager;
-    private static MockedStatic<Utils> utilsMock;
+    private static final String GROUP_PATH = "org/wso2/integration/connector";
+    private static final String HTTP_CONNECTOR = "mi-connector-http-0.1.8.zip";
+    private static final String SQS_CONNECTOR = "mi-connector-amazonsqs-2.0.2.zip";
+
+    @TempDir
+    Path repository;
+
+    @TempDir
+    Path connectorsDirectory;
+
+    private FileServer server;
+    private ConnectorDownloader connectorDownloader;
+    private String projectPath;
 
     @BeforeEach
-    void setUp() {
-        connectorDownloadManager = new ConnectorDownloadManager();
-        utilsMock = mockStatic(Utils.class);
+    void setUp() throws Exception {
+
+        server = new FileServer(repository);
+        server.start();
+        connectorDownloader = new ConnectorDownloader(server.getUri("/"), 2);
+        String path = ConnectorDownloadManagerTest.class.getResource("/synapse/pom.parser/test_pom_parser").getPath();
+        projectPath = new File(path).getAbsolutePath();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+
+        server.stop();
     }
 
     @Test
-    void downloadConnectorsWithValidDependencies() {
-        String path = ConnectorDownloadManagerTest.class.getResource("/synapse/pom.parser/test_pom_parser").getPath();
-        String projectPath = new File(path).getAbsolutePath();
-        utilsMock.when(() -> Utils.downloadConnector(any(), any(), any(), any())).thenAnswer(invocationOnMock -> { return null; });
-        String result = connectorDownloadManager.downloadConnectors(projectPath);
-        utilsMock.close();
+    void downloadConnectorsWithValidDependencies() throws Exception {
+
+        byte[] httpConnector = publish("mi-connector-http", "0.1.8", HTTP_CONNECTOR, true);
+        publish("mi-connector-amazonsqs", "2.0.2", SQS_CONNECTOR, true);
+        SynapseLanguageClientAPI languageClient = mock(SynapseLanguageClientAPI.class);
+
+        String result = ConnectorDownloadManager.downloadConnectors(projectPath, connectorsDirectory.toFile(),
+                connectorDownloader, languageClient);
 
         assertEquals("Success", result);
+        Path downloadDirectory = connectorsDirectory.resolve("Downloaded");
+        assertArrayEquals(httpConnector, Files.readAllBytes(downloadDirectory.resolve(HTTP_CONNECTOR)));
+        assertTrue(Files.exists(downloadDirectory.resolve(SQS_CONNECTOR)));
+        try (var files = Files.list(downloadDirectory)) {
+            assertEquals(2, files.count());
+        }
+        verify(languageClient, times(2)).connectorDownloadStatus(any(ConnectorDownloadNotification.class));
     }
 
     @Test
     void downloadConnectorsWithInvalidDependencies() {
-        String path = ConnectorDownloadManagerTest.class.getResource("/synapse/pom.parser/test_pom_parser").getPath();
-        String projectPath = new File(path).getAbsolutePath();
-        utilsMock.when(() -> Utils.downloadConnector(any(), any(), any(), any())).thenThrow(new IOException());
-        String result = connectorDownloadManager.downloadConnectors(projectPath);
-        utilsMock.close();
+
+        String result = ConnectorDownloadManager.downloadConnectors(projectPath, connectorsDirectory.toFile(),
+                connectorDownloader, null);
 
         assertTrue(result.contains("Some connectors were not downloaded:"));
     }
+
+    @Test
+    void downloadConnectorWithChecksumMismatch() throws Exception {
+
+        publish("mi-connector-http", "0.1.8", HTTP_CONNECTOR, false);
+        publish("mi-connector-amazonsqs", "2.0.2", SQS_CONNECTOR, true);
+
+        String result = ConnectorDownloadManager.downloadConnectors(projectPath, connectorsDirectory.toFile(),
+                connectorDownloader, null);
+
+        assertTrue(result.contains("mi-connector-http-0.1.8"));
+        assertFalse(result.contains("mi-connector-amazonsqs"));
+        Path downloadDirectory = connectorsDirectory.resolve("Downloaded");
+        assertFalse(Files.exists(downloadDirectory.resolve(HTTP_CONNECTOR)));
+        try (var files = Files.list(downloadDirectory)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    private byte[] publish(String artifactId, String version, String fileName, boolean validChecksum)
+            throws Exception {
+
+        Path artifactDirectory = repository.resolve(GROUP_PATH).resolve(artifactId).resolve(version);
+        Files.createDirectories(artifactDirectory);
+        byte[] content = ("content of " + fileName).getBytes(StandardCharsets.UTF_8);
+        Files.write(artifactDirectory.resolve(fileName), content);
+        byte[] checksumContent = validChecksum ? content : new byte[0];
+        String checksum = Utils.convertToHex(MessageDigest.getInstance("SHA-1").digest(checksumContent));
+        Files.writeString(artifactDirectory.resolve(fileName + ".sha1"), checksum);
+        return content;
+    }
 }
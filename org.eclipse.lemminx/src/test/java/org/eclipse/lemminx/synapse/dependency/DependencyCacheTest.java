@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.synapse.dependency;
+
+import org.eclipse.lemminx.customservice.synapse.dependency.tree.ArtifactType;
+import org.eclipse.lemminx.customservice.synapse.dependency.tree.DependencyCache;
+import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.Dependency;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DependencyCacheTest {
+
+    private final String projectPath = Path.of(File.separator, "tmp", "dependency_cache_project").toString();
+    private final String sequencePath = Path.of(projectPath, "sequences", "mainSequence.xml").toString();
+    private final String endpointPath = Path.of(projectPath, "endpoints", "backend.xml").toString();
+    private DependencyCache dependencyCache;
+    private Dependency sequence;
+
+    @BeforeEach
+    void setUp() {
+
+        dependencyCache = DependencyCache.getInstance(projectPath);
+        Dependency endpoint = new Dependency("backend", ArtifactType.ENDPOINT, endpointPath);
+        sequence = new Dependency("mainSequence", ArtifactType.SEQUENCE, sequencePath, List.of(endpoint));
+        dependencyCache.put(sequencePath, "hash1", sequence);
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        DependencyCache.dispose(projectPath);
+    }
+
+    @Test
+    public void testCachedSubtreeIsShared() {
+
+        assertSame(sequence, dependencyCache.get(sequencePath, "hash1"));
+        assertSame(dependencyCache, DependencyCache.getInstance(projectPath));
+    }
+
+    @Test
+    public void testModifiedContentIsNotReturned() {
+
+        assertNull(dependencyCache.get(sequencePath, "hash2"));
+    }
+
+    @Test
+    public void testInvalidateReferredArtifact() {
+
+        dependencyCache.invalidate(endpointPath);
+
+        assertNull(dependencyCache.get(sequencePath, "hash1"));
+    }
+
+    @Test
+    public void testInvalidateUnrelatedArtifact() {
+
+        dependencyCache.invalidate(Path.of(projectPath, "endpoints", "other.xml").toString());
+
+        assertNotNull(dependencyCache.get(sequencePath, "hash1"));
+    }
+
+    @Test
+    public void testDependencyIsImmutable() {
+
+        assertThrows(UnsupportedOperationException.class, () -> sequence.getDependencyList().clear());
+    }
+}
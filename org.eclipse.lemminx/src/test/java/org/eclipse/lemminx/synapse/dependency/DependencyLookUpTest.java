@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.synapse.dependency;
+
+import org.eclipse.lemminx.customservice.synapse.dependency.tree.DependencyLookUp;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DependencyLookUpTest {
+
+    private final DependencyLookUp dependencyLookUp = new DependencyLookUp();
+
+    @Test
+    public void testArtifactsInCycleAreIncomplete() {
+
+        assertTrue(dependencyLookUp.startVisit("api.xml"));
+        assertTrue(dependencyLookUp.startVisit("a.xml"));
+        assertTrue(dependencyLookUp.startVisit("b.xml"));
+        assertFalse(dependencyLookUp.startVisit("a.xml"));
+        dependencyLookUp.markVisitingIncomplete();
+        dependencyLookUp.endVisit("b.xml");
+        dependencyLookUp.endVisit("a.xml");
+        dependencyLookUp.endVisit("api.xml");
+
+        assertFalse(dependencyLookUp.isComplete("a.xml"));
+        assertFalse(dependencyLookUp.isComplete("b.xml"));
+        assertFalse(dependencyLookUp.isComplete("api.xml"));
+    }
+
+    @Test
+    public void testArtifactsWithoutCycleAreComplete() {
+
+        assertTrue(dependencyLookUp.startVisit("a.xml"));
+        assertTrue(dependencyLookUp.startVisit("b.xml"));
+        dependencyLookUp.endVisit("b.xml");
+        assertTrue(dependencyLookUp.startVisit("c.xml"));
+        dependencyLookUp.endVisit("c.xml");
+        dependencyLookUp.endVisit("a.xml");
+
+        assertTrue(dependencyLookUp.isComplete("a.xml"));
+        assertTrue(dependencyLookUp.isComplete("b.xml"));
+        assertTrue(dependencyLookUp.isComplete("c.xml"));
+    }
+
+    @Test
+    public void testFinishedArtifactsAreNotMarkedByLaterCycle() {
+
+        assertTrue(dependencyLookUp.startVisit("a.xml"));
+        dependencyLookUp.endVisit("a.xml");
+        assertTrue(dependencyLookUp.startVisit("b.xml"));
+        assertFalse(dependencyLookUp.startVisit("b.xml"));
+        dependencyLookUp.markVisitingIncomplete();
+        dependencyLookUp.endVisit("b.xml");
+
+        assertTrue(dependencyLookUp.isComplete("a.xml"));
+        assertFalse(dependencyLookUp.isComplete("b.xml"));
+    }
+}
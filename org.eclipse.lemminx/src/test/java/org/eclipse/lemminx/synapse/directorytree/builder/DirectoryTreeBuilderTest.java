@@ -21,6 +21,7 @@ package org.eclipse.lemminx.synapse.directorytree.builder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorHolder;
 import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryMapResponse;
 import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeBuilder;
@@ -40,12 +41,10 @@ import static org.mockito.Mockito.mockStatic;
 
 public class DirectoryTreeBuilderTest {
 
-    private DirectoryTreeBuilder directoryTreeBuilder;
     private static MockedStatic<ConnectorHolder> connectorHolderMock;
 
     @BeforeEach
     void setUp() {
-        directoryTreeBuilder = new DirectoryTreeBuilder();
         connectorHolderMock = mockStatic(ConnectorHolder.class);
     }
 
@@ -97,6 +96,18 @@ public class DirectoryTreeBuilderTest {
         assertNull(result);
     }
 
+    @Test
+    void projectExplorerModelMatchesBaseline() throws Exception {
+        String path = DirectoryTreeBuilderTest.class.getResource("/synapse/directorytree.builder/explorer-model-tree.json").getPath();
+        JsonObject directoryTree = JsonParser.parseString(Files.readString(Paths.get(path))).getAsJsonObject();
+        // Generated by the Jackson based implementation, including the members missing from the directory tree
+        path = DirectoryTreeBuilderTest.class.getResource("/synapse/directorytree.builder/explorer-model-baseline.json").getPath();
+        String expectedResult = Files.readString(Paths.get(path));
+        connectorHolderMock.close();
+
+        assertEquals(expectedResult, DirectoryTreeBuilder.toProjectExplorerModel(directoryTree).toString());
+    }
+
     private static JsonObject sanitizeJson(JsonObject jsonObject) {
         JsonObject sanitizedJson = new JsonObject();
         for (String key : jsonObject.keySet()) {
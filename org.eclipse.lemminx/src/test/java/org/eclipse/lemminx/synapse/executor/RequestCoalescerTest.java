@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.synapse.executor;
+
+import org.eclipse.lemminx.customservice.synapse.executor.RequestCoalescer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class RequestCoalescerTest {
+
+    private final Path projectPath = Path.of("/tmp", "coalescer_project");
+    private final RequestCoalescer requestCoalescer = new RequestCoalescer();
+    private final AtomicInteger computeCount = new AtomicInteger();
+
+    @Test
+    public void testIdenticalRequestsShareResult() {
+
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CompletableFuture<String> first = compute(pending);
+        CompletableFuture<String> second = compute(pending);
+        pending.complete("result");
+
+        assertEquals("result", first.join());
+        assertEquals("result", second.join());
+        assertEquals(1, computeCount.get());
+    }
+
+    @Test
+    public void testCancellingCallerDoesNotCancelSharedRequest() {
+
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        compute(pending).cancel(true);
+
+        assertFalse(pending.isCancelled());
+    }
+
+    @Test
+    public void testInvalidateOnRelevantChange() {
+
+        compute(CompletableFuture.completedFuture("result"));
+        requestCoalescer.invalidate(projectPath.resolve("target").resolve("out.car").toString());
+        compute(CompletableFuture.completedFuture("result"));
+        assertEquals(1, computeCount.get());
+
+        requestCoalescer.invalidate(projectPath.resolve("src").resolve("main").resolve("api.xml").toString());
+        compute(CompletableFuture.completedFuture("result"));
+        assertEquals(2, computeCount.get());
+    }
+
+    @Test
+    public void testFailedRequestIsNotShared() {
+
+        compute(CompletableFuture.failedFuture(new IllegalStateException()));
+        compute(CompletableFuture.completedFuture("result"));
+
+        assertEquals(2, computeCount.get());
+    }
+
+    @Test
+    public void testDisabledCoalescerComputesEveryRequest() {
+
+        compute(CompletableFuture.completedFuture("result"));
+        requestCoalescer.setEnabled(false);
+        compute(CompletableFuture.completedFuture("result"));
+        compute(CompletableFuture.completedFuture("result"));
+
+        assertEquals(3, computeCount.get());
+    }
+
+    private CompletableFuture<String> compute(CompletableFuture<String> result) {
+
+        return requestCoalescer.compute("request", List.of(projectPath.resolve("src")), () -> {
+            computeCount.incrementAndGet();
+            return result;
+        });
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.synapse.executor;
+
+import org.eclipse.lemminx.customservice.synapse.executor.RequestExecutor;
+import org.eclipse.lemminx.customservice.synapse.executor.RequestExecutor.Pool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RequestExecutorTest {
+
+    private final RequestExecutor requestExecutor = new RequestExecutor(4, 4, 1);
+
+    @AfterEach
+    void tearDown() {
+
+        requestExecutor.shutdown();
+    }
+
+    @Test
+    public void testWritesRunOneAfterAnother() throws Exception {
+
+        AtomicInteger runningWrites = new AtomicInteger();
+        AtomicInteger maxRunningWrites = new AtomicInteger();
+        CompletableFuture<?>[] writes = new CompletableFuture[8];
+        for (int i = 0; i < writes.length; i++) {
+            writes[i] = requestExecutor.compute(Pool.WRITE, cancelChecker -> {
+                maxRunningWrites.accumulateAndGet(runningWrites.incrementAndGet(), Math::max);
+                sleep(20);
+                runningWrites.decrementAndGet();
+                return null;
+            });
+        }
+        CompletableFuture.allOf(writes).get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, maxRunningWrites.get());
+    }
+
+    @Test
+    public void testLatestRequestCancelsOnlyTheSameKey() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> first = requestExecutor.computeLatest("completion:a.xml", Pool.CPU,
+                cancelChecker -> await(release));
+        CompletableFuture<Boolean> otherDocument = requestExecutor.computeLatest("completion:b.xml", Pool.CPU,
+                cancelChecker -> await(release));
+        CompletableFuture<Boolean> second = requestExecutor.computeLatest("completion:a.xml", Pool.CPU,
+                cancelChecker -> true);
+
+        assertTrue(second.get(5, TimeUnit.SECONDS));
+        assertTrue(first.isCancelled());
+        assertFalse(otherDocument.isCancelled());
+        release.countDown();
+        assertTrue(otherDocument.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testMapCompletesFromTasksOfTheSamePool() throws Exception {
+
+        List<Integer> items = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+        List<Integer> expected = items.stream().map(item -> item * 2).collect(Collectors.toList());
+        // Every thread of the pool waits for the items, so the items are run by the calling threads
+        CompletableFuture<?>[] requests = new CompletableFuture[4];
+        for (int i = 0; i < requests.length; i++) {
+            requests[i] = requestExecutor.compute(Pool.CPU, cancelChecker -> map(items));
+        }
+        CompletableFuture.allOf(requests).get(5, TimeUnit.SECONDS);
+
+        for (CompletableFuture<?> request : requests) {
+            assertEquals(expected, request.get());
+        }
+    }
+
+    @Test
+    public void testCancelledRequestStopsMapping() throws Exception {
+
+        List<Integer> items = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        AtomicInteger mappedItems = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<List<Integer>> mapping = new CompletableFuture<>();
+        CompletableFuture<List<Integer>> request = requestExecutor.compute(Pool.IO, cancelChecker -> {
+            try {
+                mapping.complete(RequestExecutor.map(requestExecutor.getExecutor(Pool.CPU), items, item -> {
+                    mappedItems.incrementAndGet();
+                    started.countDown();
+                    sleep(10);
+                    return item;
+                }, cancelChecker));
+            } catch (Exception e) {
+                mapping.completeExceptionally(e);
+            }
+            return null;
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        request.cancel(true);
+
+        assertThrows(CancellationException.class, () -> mapping.get(5, TimeUnit.SECONDS));
+        assertTrue(mappedItems.get() < items.size());
+    }
+
+    private List<Integer> map(List<Integer> items) {
+
+        try {
+            return RequestExecutor.map(requestExecutor.getExecutor(Pool.CPU), items, item -> {
+                sleep(5);
+                return item * 2;
+            });
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean await(CountDownLatch latch) {
+
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(long millis) {
+
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.synapse.executor;
+
+import org.eclipse.lemminx.customservice.synapse.executor.RequestExecutor;
+import org.eclipse.lemminx.customservice.synapse.executor.RequestExecutor.Pool;
+import org.eclipse.lemminx.customservice.synapse.executor.StartupStages;
+import org.eclipse.lemminx.customservice.synapse.executor.StartupStages.Stage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StartupStagesTest {
+
+    private final StartupStages startupStages = new StartupStages();
+    private final RequestExecutor requestExecutor = new RequestExecutor(2, 2, 1);
+
+    @AfterEach
+    void tearDown() {
+
+        requestExecutor.shutdown();
+    }
+
+    @Test
+    public void testStageWaitsForDependencies() throws Exception {
+
+        List<Stage> completedStages = new CopyOnWriteArrayList<>();
+        CountDownLatch release = new CountDownLatch(1);
+        startupStages.start(Stage.CONNECTORS, requestExecutor.getExecutor(Pool.IO), () -> {
+            await(release);
+            completedStages.add(Stage.CONNECTORS);
+        });
+        CompletableFuture<Void> mediators = startupStages.start(Stage.MEDIATORS,
+                requestExecutor.getExecutor(Pool.CPU), () -> completedStages.add(Stage.MEDIATORS), Stage.CONNECTORS);
+
+        assertFalse(mediators.isDone());
+        release.countDown();
+        mediators.get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(Stage.CONNECTORS, Stage.MEDIATORS), completedStages);
+        assertTrue(startupStages.getTimings().containsKey(Stage.MEDIATORS.name()));
+    }
+
+    @Test
+    public void testRequestWaitsForStage() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        startupStages.start(Stage.CONNECTORS, requestExecutor.getExecutor(Pool.IO), () -> await(release));
+        CompletableFuture<Boolean> request = requestExecutor.compute(startupStages.whenReady(Stage.CONNECTORS),
+                Pool.CPU, cancelChecker -> startupStages.isReady(Stage.CONNECTORS));
+
+        assertFalse(request.isDone());
+        release.countDown();
+
+        assertTrue(request.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testFailedStageIsReady() throws Exception {
+
+        startupStages.start(Stage.TRYOUT, requestExecutor.getExecutor(Pool.IO), () -> {
+            throw new IllegalStateException();
+        }).get(5, TimeUnit.SECONDS);
+
+        assertTrue(startupStages.isReady(Stage.TRYOUT));
+    }
+
+    @Test
+    public void testRequestRunsAfterSkippedStage() throws Exception {
+
+        CompletableFuture<Boolean> request = requestExecutor.compute(
+                startupStages.whenReady(Stage.CONNECTORS, Stage.ARTIFACT_INDEX), Pool.CPU, cancelChecker -> true);
+
+        startupStages.skip(Stage.values());
+
+        assertTrue(request.get(5, TimeUnit.SECONDS));
+        for (Stage stage : Stage.values()) {
+            assertTrue(startupStages.isReady(stage));
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
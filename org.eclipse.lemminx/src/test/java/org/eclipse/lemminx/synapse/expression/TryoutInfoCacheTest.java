@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.synapse.expression;
+
+import org.eclipse.lemminx.customservice.synapse.expression.TryoutInfoCache;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class TryoutInfoCacheTest {
+
+    private final TryoutInfoCache cache = new TryoutInfoCache(2, 2);
+    private final AtomicInteger computations = new AtomicInteger();
+
+    @Test
+    public void testPropertiesAreReusedForSameMediator() {
+
+        MediatorTryoutInfo info = get("a.xml", 1, 10, false);
+
+        assertSame(info, get("a.xml", 1, 10, false));
+        assertEquals(1, computations.get());
+    }
+
+    @Test
+    public void testNewMediatorIsCachedSeparately() {
+
+        MediatorTryoutInfo info = get("a.xml", 1, 10, false);
+
+        assertNotSame(info, get("a.xml", 1, 10, true));
+        assertEquals(2, computations.get());
+    }
+
+    @Test
+    public void testPropertiesAreDroppedForNewDocumentVersion() {
+
+        MediatorTryoutInfo info = get("a.xml", 1, 10, false);
+
+        assertNotSame(info, get("a.xml", 2, 10, false));
+        get("a.xml", 1, 10, false);
+        assertEquals(3, computations.get());
+    }
+
+    @Test
+    public void testPropertiesAreDroppedOnClear() {
+
+        get("a.xml", 1, 10, false);
+        cache.clear();
+        get("a.xml", 1, 10, false);
+
+        assertEquals(2, computations.get());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntriesAreEvicted() {
+
+        get("a.xml", 1, 10, false);
+        get("a.xml", 1, 20, false);
+        get("a.xml", 1, 10, false);
+        get("a.xml", 1, 30, false);
+        get("a.xml", 1, 10, false);
+        assertEquals(3, computations.get());
+        get("a.xml", 1, 20, false);
+        assertEquals(4, computations.get());
+
+        get("b.xml", 1, 10, false);
+        get("c.xml", 1, 10, false);
+        get("a.xml", 1, 10, false);
+        assertEquals(7, computations.get());
+    }
+
+    @Test
+    public void testMissingPropertiesAreNotCached() {
+
+        assertNull(cache.get("a.xml", 1, 10, false, () -> {
+            computations.incrementAndGet();
+            return null;
+        }));
+        get("a.xml", 1, 10, false);
+
+        assertEquals(2, computations.get());
+    }
+
+    private MediatorTryoutInfo get(String documentUri, int version, int mediatorOffset, boolean isNewMediator) {
+
+        return cache.get(documentUri, version, mediatorOffset, isNewMediator, () -> {
+            computations.incrementAndGet();
+            return new MediatorTryoutInfo();
+        });
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.synapse.index;
+
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.customservice.synapse.index.ArtifactIndex;
+import org.eclipse.lemminx.customservice.synapse.index.IndexedArtifact;
+import org.eclipse.lemminx.customservice.synapse.resourceFinder.AbstractResourceFinder;
+import org.eclipse.lemminx.customservice.synapse.resourceFinder.ResourceFinderFactory;
+import org.eclipse.lemminx.customservice.synapse.resourceFinder.ResourceUsageFinder;
+import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.ResourceResponse;
+import org.eclipse.lemminx.customservice.synapse.utils.ConfigFinder;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.uriresolver.URIResolverExtensionManager;
+import org.eclipse.lsp4j.FileChangeType;
+import org.eclipse.lsp4j.FileEvent;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ArtifactIndexTest {
+
+    private static final String PROJECT_PATH = "/synapse/resource.finder/test_project";
+    private String projectPath;
+    private Path artifactsPath;
+    private ArtifactIndex index;
+
+    @BeforeEach
+    void setUp() {
+
+        String path = ArtifactIndexTest.class.getResource(PROJECT_PATH).getPath();
+        projectPath = new File(path).getAbsolutePath();
+        artifactsPath = Path.of(projectPath, "src", "main", "wso2mi", "artifacts");
+        index = ArtifactIndex.init(projectPath);
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        ArtifactIndex.dispose(projectPath);
+    }
+
+    @Test
+    public void testIndexedArtifact() {
+
+        IndexedArtifact api = index.get(artifactsPath.resolve(Path.of("apis", "testApi.xml")).toString());
+
+        assertNotNull(api);
+        assertEquals("apis", api.getType());
+        assertEquals("api", api.getRootTag());
+        assertEquals("testApi", api.getName());
+        assertTrue(api.getReferences().contains("HttpsCon"));
+    }
+
+    @Test
+    public void testLocalEntryArtifact() {
+
+        IndexedArtifact localEntry =
+                index.get(artifactsPath.resolve(Path.of("local-entries", "HttpsCon.xml")).toString());
+
+        assertNotNull(localEntry);
+        assertEquals("HttpsCon", localEntry.getKey());
+        assertEquals("http.init", localEntry.getFirstChildTag());
+    }
+
+    @Test
+    public void testResourceFinderUsesIndex() {
+
+        AbstractResourceFinder resourceFinder = ResourceFinderFactory.getResourceFinder(false);
+        ResourceResponse response = resourceFinder.getAvailableResources(projectPath, Either.forLeft("sequence"));
+
+        assertEquals(1, response.getResources().size());
+        assertEquals("testSequence1", response.getResources().get(0).getName());
+        assertEquals(1, response.getRegistryResources().size());
+    }
+
+    @Test
+    public void testConfigFinderUsesIndex() throws IOException {
+
+        String path = ConfigFinder.findEsbComponentPath("testEndpoint1", "endpoints", projectPath);
+
+        assertEquals(artifactsPath.resolve(Path.of("endpoints", "testEndpoint1.xml")).toString(), path);
+    }
+
+    @Test
+    public void testReferrers() {
+
+        String apiPath = artifactsPath.resolve(Path.of("apis", "testApi.xml")).toString();
+
+        assertEquals(List.of(apiPath), index.getReferrers("HttpsCon"));
+        assertTrue(index.getReferrers("unknownKey").isEmpty());
+    }
+
+    @Test
+    public void testReferrersUpdatedOnRemove() {
+
+        index.remove(artifactsPath.resolve("apis").toString());
+
+        assertTrue(index.getReferrers("HttpsCon").isEmpty());
+    }
+
+    @Test
+    public void testSnapshotReused() {
+
+        assertTrue(Files.exists(Path.of(projectPath, ".metadata", "artifact-index.json")));
+
+        ArtifactIndex.dispose(projectPath);
+        index = ArtifactIndex.init(projectPath);
+
+        assertEquals("testApi",
+                index.get(artifactsPath.resolve(Path.of("apis", "testApi.xml")).toString()).getName());
+    }
+
+    @Test
+    public void testRemoveFolder() {
+
+        Path endpointsPath = artifactsPath.resolve("endpoints");
+        index.remove(endpointsPath.toString());
+
+        assertTrue(index.getArtifacts(endpointsPath).isEmpty());
+        assertNull(index.get(endpointsPath.resolve("testEndpoint1.xml").toString()));
+    }
+
+    @Test
+    public void testUnsavedContentRevertedOnClose() throws IOException {
+
+        Path apiPath = artifactsPath.resolve(Path.of("apis", "testApi.xml"));
+        String editedContent = Files.readString(apiPath).replace("name=\"testApi\"", "name=\"editedApi\"");
+        index.update(parse(editedContent, apiPath));
+
+        assertEquals("editedApi", index.get(apiPath.toString()).getName());
+
+        index.revert(apiPath.toUri().toString());
+
+        assertEquals("testApi", index.get(apiPath.toString()).getName());
+    }
+
+    @Test
+    public void testUnsavedDocumentRemovedOnClose() throws IOException {
+
+        Path apisPath = artifactsPath.resolve("apis");
+        Path newApiPath = apisPath.resolve("newApi.xml");
+        String content = Files.readString(apisPath.resolve("testApi.xml")).replace("name=\"testApi\"",
+                "name=\"newApi\"");
+        index.update(parse(content, newApiPath));
+
+        assertEquals(2, index.getArtifacts(apisPath).size());
+
+        index.revert(newApiPath.toUri().toString());
+
+        assertEquals(1, index.getArtifacts(apisPath).size());
+        assertNull(index.get(newApiPath.toString()));
+    }
+
+    @Test
+    public void testResourceUsagesExcludeRegistryResources() {
+
+        String resourcesPath = Path.of(projectPath, "src", "main", "wso2mi", "resources").toString();
+        Path sequencePath = artifactsPath.resolve(Path.of("sequences", "usesJson.xml"));
+        Path registrySequencePath = Path.of(resourcesPath, "registry", "gov", "sequences", "usesJson.xml");
+        String content = "<sequence name=\"usesJson\" xmlns=\"http://ws.apache.org/ns/synapse\">\n" +
+                "    <xslt key=\"gov:json/test.json\"/>\n" +
+                "</sequence>";
+        index.update(parse(content, sequencePath));
+        index.update(parse(content, registrySequencePath));
+
+        try {
+            assertEquals(List.of(sequencePath.toString(), registrySequencePath.toString()),
+                    index.getReferrers("gov:json/test.json"));
+            assertEquals(List.of(sequencePath.toString()), ResourceUsageFinder.findResourceUsages(projectPath,
+                    Path.of(resourcesPath, "registry", "gov", "json", "test.json").toString(), null, false));
+        } finally {
+            index.revert(sequencePath.toUri().toString());
+            index.revert(registrySequencePath.toUri().toString());
+        }
+    }
+
+    @Test
+    public void testDataServiceUpdatedOnFileEvent() throws IOException {
+
+        Path dataServicePath = artifactsPath.resolve(Path.of("data-services", "eventService.dbs"));
+        String content = "<data name=\"eventService\" transports=\"http https\">\n" +
+                "    <config id=\"eventDatasource\"/>\n" +
+                "</data>";
+        try {
+            Files.writeString(dataServicePath, content);
+            index.handleFileEvent(new FileEvent(dataServicePath.toUri().toString(), FileChangeType.Created));
+
+            assertEquals("eventService", index.get(dataServicePath.toString()).getName());
+
+            Files.writeString(dataServicePath, content.replace("name=\"eventService\"", "name=\"changedService\""));
+            index.handleFileEvent(new FileEvent(dataServicePath.toUri().toString(), FileChangeType.Changed));
+
+            assertEquals("changedService", index.get(dataServicePath.toString()).getName());
+        } finally {
+            Files.deleteIfExists(dataServicePath);
+            index.handleFileEvent(new FileEvent(dataServicePath.toUri().toString(), FileChangeType.Deleted));
+        }
+        assertNull(index.get(dataServicePath.toString()));
+    }
+
+    private static DOMDocument parse(String content, Path path) {
+
+        TextDocument document = new TextDocument(content, path.toUri().toString());
+        return DOMParser.getInstance().parse(document, new URIResolverExtensionManager());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.synapse.mediator;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorHolder;
+import org.eclipse.lemminx.customservice.synapse.mediatorService.MediatorHandler;
+import org.eclipse.lemminx.customservice.synapse.mediatorService.MediatorHandler.MediatorProcessor;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class MediatorHandlerTest {
+
+    private static final String PROJECT_PATH = "/synapse/resource.finder/test_project";
+
+    @Test
+    public void testEveryMediatorProcessorIsInvoked430() throws Exception {
+
+        assertEveryMediatorProcessorIsInvoked("4.3.0");
+    }
+
+    @Test
+    public void testEveryMediatorProcessorIsInvoked440() throws Exception {
+
+        assertEveryMediatorProcessorIsInvoked("4.4.0");
+    }
+
+    private static void assertEveryMediatorProcessorIsInvoked(String serverVersion) throws Exception {
+
+        String projectPath = new File(MediatorHandlerTest.class.getResource(PROJECT_PATH).getPath()).getAbsolutePath();
+        MediatorHandler mediatorHandler = new MediatorHandler();
+        mediatorHandler.init(projectPath, serverVersion, ConnectorHolder.getInstance());
+        Map<String, String> processingClasses = getProcessingClasses(serverVersion);
+        Map<String, MediatorProcessor> processors = mediatorHandler.getMediatorProcessors();
+
+        assertEquals(processingClasses.keySet(), processors.keySet());
+        for (Map.Entry<String, MediatorProcessor> entry : processors.entrySet()) {
+            String processingClass = processingClasses.get(entry.getKey());
+            try {
+                entry.getValue().process(new HashMap<>(), null, new ArrayList<>());
+            } catch (WrongMethodTypeException e) {
+                fail("The processor of the mediator " + entry.getKey() + " is not invoked", e);
+            } catch (RuntimeException | InvocationTargetException e) {
+                // The processors are invoked without the form data, which some of them require
+                Throwable error = e instanceof InvocationTargetException ? e.getCause() : e;
+                assertTrue(Arrays.stream(error.getStackTrace())
+                                .anyMatch(element -> element.getClassName().startsWith(processingClass)),
+                        "The processor of the mediator " + entry.getKey() + " is not invoked");
+            }
+        }
+    }
+
+    private static Map<String, String> getProcessingClasses(String serverVersion) throws Exception {
+
+        Map<String, String> processingClasses = new HashMap<>();
+        try (InputStream inputStream = MediatorHandlerTest.class.getResourceAsStream(
+                "/org/eclipse/lemminx/mediators/mediators_" + serverVersion.replace(".", "") + ".json")) {
+            JsonObject mediatorList = JsonParser.parseReader(
+                    new InputStreamReader(inputStream, StandardCharsets.UTF_8)).getAsJsonObject();
+            for (Map.Entry<String, JsonElement> category : mediatorList.entrySet()) {
+                addProcessingClasses(category.getValue(), processingClasses);
+            }
+        }
+        return processingClasses;
+    }
+
+    private static void addProcessingClasses(JsonElement mediators, Map<String, String> processingClasses) {
+
+        if (!mediators.isJsonArray()) {
+            return;
+        }
+        for (JsonElement mediator : (JsonArray) mediators) {
+            JsonObject mediatorObject = mediator.getAsJsonObject();
+            if (mediatorObject.has("tag") && mediatorObject.has("processingClass") &&
+                    mediatorObject.has("storeMethod")) {
+                processingClasses.putIfAbsent(mediatorObject.get("tag").getAsString(),
+                        mediatorObject.get("processingClass").getAsString());
+            }
+        }
+    }
+}
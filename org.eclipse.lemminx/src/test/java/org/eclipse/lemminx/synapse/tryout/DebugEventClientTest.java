@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.synapse.tryout;
+
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.debugger.BreakpointEventProcessor;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.debugger.DebugCommandClient;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.debugger.DebugEventClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DebugEventClientTest {
+
+    private static final String BREAKPOINT_EVENT = "{\"event\":\"breakpoint\",\"sequence\":{}}\n";
+
+    private ServerSocket commandServer;
+    private ServerSocket eventServer;
+    private Socket eventSocket;
+    private DebugCommandClient commandClient;
+    private DebugEventClient eventClient;
+    private BreakpointEventProcessor processor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        commandServer = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        eventServer = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        Thread debugger = new Thread(this::answerCommands);
+        debugger.setDaemon(true);
+        debugger.start();
+
+        commandClient = new DebugCommandClient(commandServer.getLocalPort());
+        processor = new BreakpointEventProcessor(commandClient);
+        eventClient = new DebugEventClient(processor, eventServer.getLocalPort());
+        commandClient.connect();
+        eventClient.connect();
+        eventSocket = eventServer.accept();
+        eventClient.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+
+        eventClient.close();
+        commandClient.close();
+        eventSocket.close();
+        eventServer.close();
+        commandServer.close();
+    }
+
+    @Test
+    public void testCommandResponsesAreMatched() {
+
+        assertEquals("response-1", commandClient.sendCommand("{\"command\":\"get\"}"));
+        assertEquals("response-2", commandClient.sendCommand("{\"command\":\"get\"}"));
+    }
+
+    @Test
+    public void testBreakpointHitsCompleteFutures() throws Exception {
+
+        assertFalse(processor.whenInputFetched().isDone());
+
+        sendEvent(BREAKPOINT_EVENT);
+        processor.whenInputFetched().get(5, TimeUnit.SECONDS);
+
+        assertEquals(6, processor.getInputResponse().size());
+        assertFalse(processor.whenDone().isDone());
+
+        // The event split across writes is processed once its line is complete
+        sendEvent(BREAKPOINT_EVENT.substring(0, 10));
+        sendEvent(BREAKPOINT_EVENT.substring(10));
+        processor.whenDone().get(5, TimeUnit.SECONDS);
+
+        assertTrue(processor.isDone());
+        assertEquals(6, processor.getOutputResponse().size());
+    }
+
+    @Test
+    public void testResetRenewsFutures() throws Exception {
+
+        sendEvent(BREAKPOINT_EVENT);
+        processor.whenInputFetched().get(5, TimeUnit.SECONDS);
+
+        processor.reset();
+
+        assertFalse(processor.whenInputFetched().isDone());
+        assertFalse(processor.isInputFetched());
+        assertEquals(List.of(), processor.getInputResponse());
+    }
+
+    @Test
+    public void testDisconnectFailsPendingFutures() throws Exception {
+
+        eventSocket.close();
+
+        assertThrows(ExecutionException.class, () -> processor.whenInputFetched().get(5, TimeUnit.SECONDS));
+    }
+
+    private void sendEvent(String event) throws Exception {
+
+        OutputStream outputStream = eventSocket.getOutputStream();
+        outputStream.write(event.getBytes(StandardCharsets.UTF_8));
+        outputStream.flush();
+    }
+
+    private void answerCommands() {
+
+        try (Socket socket = commandServer.accept();
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter writer = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            int count = 0;
+            while (reader.readLine() != null) {
+                writer.print("response-" + ++count + "\n");
+                writer.flush();
+            }
+        } catch (Exception e) {
+            // The test is completed
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.synapse.tryout;
+
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.server.DeploymentLogWatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DeploymentLogWatcherTest {
+
+    @TempDir
+    Path tempDir;
+
+    private DeploymentLogWatcher watcher;
+
+    @AfterEach
+    void tearDown() {
+
+        if (watcher != null) {
+            watcher.stop();
+        }
+    }
+
+    @Test
+    public void testDeployedArtifactIsReported() throws Exception {
+
+        Path logFile = tempDir.resolve("logs").resolve("wso2carbon.log");
+        watcher = new DeploymentLogWatcher(logFile);
+        watcher.start();
+        CompletableFuture<Boolean> deployment = watcher.expect("TestAPI");
+
+        appendLine(logFile, "[2025-01-01 10:00:00,000]  INFO {API} - API named 'TestAPI' has been deployed " +
+                "from file : /mi/repository/deployment/server/synapse-configs/default/api/TestAPI.xml");
+
+        assertTrue(deployment.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testFailedCAppIsReported() throws Exception {
+
+        Path logFile = tempDir.resolve("wso2carbon.log");
+        watcher = new DeploymentLogWatcher(logFile);
+        watcher.start();
+        CompletableFuture<Boolean> deployment = watcher.expect("project_1.0.0");
+
+        appendLine(logFile, "[2025-01-01 10:00:00,000] ERROR {CappDeployer} - Error occurred while deploying the " +
+                "Carbon application: /mi/repository/deployment/server/carbonapps/project_1.0.0.car");
+
+        assertFalse(deployment.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testFailedArtifactIsReportedByFileName() throws Exception {
+
+        Path logFile = tempDir.resolve("wso2carbon.log");
+        watcher = new DeploymentLogWatcher(logFile);
+        watcher.start();
+        CompletableFuture<Boolean> deployment = watcher.expect("OrderAPI", "Foo.xml");
+
+        appendLine(logFile, "[2025-01-01 10:00:00,000] ERROR {SynapseDeployer} - API Deployment from the file : " +
+                "/mi/repository/deployment/server/synapse-configs/default/api/Foo.xml : Failed.");
+
+        assertFalse(deployment.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testExistingLogIsNotReported() throws Exception {
+
+        Path logFile = tempDir.resolve("wso2carbon.log");
+        appendLine(logFile, "Successfully Deployed Carbon Application : project_1.0.0 {super-tenant}");
+        watcher = new DeploymentLogWatcher(logFile);
+        watcher.start();
+        CompletableFuture<Boolean> deployment = watcher.expect("project_1.0.0");
+        CompletableFuture<Boolean> otherDeployment = watcher.expect("other_1.0.0");
+
+        appendLine(logFile, "Successfully Deployed Carbon Application : other_1.0.0 {super-tenant}");
+
+        assertTrue(otherDeployment.get(5, TimeUnit.SECONDS));
+        assertFalse(deployment.isDone());
+    }
+
+    @Test
+    public void testInvalidFilePathIsSkipped() throws Exception {
+
+        Path logFile = tempDir.resolve("wso2carbon.log");
+        watcher = new DeploymentLogWatcher(logFile);
+        watcher.start();
+        CompletableFuture<Boolean> deployment = watcher.expect("TestAPI");
+
+        appendLine(logFile, "ERROR {SynapseDeployer} - Deployment from the file : /mi/api/Test\u0000API.xml : Failed");
+        appendLine(logFile, "INFO {API} - API named 'TestAPI' has been deployed from file : /mi/api/TestAPI.xml");
+
+        assertTrue(deployment.get(5, TimeUnit.SECONDS));
+    }
+
+    private static void appendLine(Path logFile, String line) throws Exception {
+
+        Files.createDirectories(logFile.getParent());
+        Files.writeString(logFile, line + System.lineSeparator(), StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.synapse.tryout;
+
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.FingerprintManifest;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.FingerprintManifest.Fingerprint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FingerprintManifestTest {
+
+    private static final Path RESOURCES = Path.of("src", "main", "wso2mi", "resources");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testUnchangedFilesAreNotReported() throws Exception {
+
+        Path project = createProject();
+        FingerprintManifest manifest = createManifest(project);
+
+        Files.setLastModifiedTime(project.resolve(RESOURCES).resolve("a.xml"), FileTime.fromMillis(1000));
+
+        assertTrue(manifest.diff(manifest.scan(project, List.of(RESOURCES))).isEmpty());
+        assertTrue(manifest.check(project, List.of(RESOURCES),
+                List.of(project.resolve(RESOURCES).resolve("a.xml"))).isEmpty());
+    }
+
+    @Test
+    public void testChangedFilesAreReported() throws Exception {
+
+        Path project = createProject();
+        FingerprintManifest manifest = createManifest(project);
+
+        Files.writeString(project.resolve(RESOURCES).resolve("a.xml"), "<changed/>");
+        Files.delete(project.resolve(RESOURCES).resolve("b.json"));
+        Files.writeString(project.resolve(RESOURCES).resolve("c.json"), "{}");
+
+        Set<String> expected = Set.of(RESOURCES.resolve("a.xml").toString(), RESOURCES.resolve("b.json").toString(),
+                RESOURCES.resolve("c.json").toString());
+        assertEquals(expected, manifest.diff(manifest.scan(project, List.of(RESOURCES))));
+        assertEquals(expected, manifest.check(project, List.of(RESOURCES), List.of(project.resolve(RESOURCES))));
+    }
+
+    @Test
+    public void testOnlyIncludedChangesAreChecked() throws Exception {
+
+        Path project = createProject();
+        FingerprintManifest manifest = createManifest(project);
+        Path artifact = project.resolve("src").resolve("main").resolve("wso2mi").resolve("artifacts")
+                .resolve("api.xml");
+        Files.createDirectories(artifact.getParent());
+        Files.writeString(artifact, "<api/>");
+
+        assertTrue(manifest.check(project, List.of(RESOURCES), List.of(artifact, project.resolve("src"))).isEmpty());
+    }
+
+    @Test
+    public void testManifestIsSaved() throws Exception {
+
+        Path project = createProject();
+        createManifest(project);
+
+        FingerprintManifest manifest = new FingerprintManifest(tempDir.resolve("resources.manifest"));
+
+        assertTrue(manifest.diff(manifest.scan(project, List.of(RESOURCES))).isEmpty());
+    }
+
+    private Path createProject() throws Exception {
+
+        Path project = tempDir.resolve("project");
+        Files.createDirectories(project.resolve(RESOURCES));
+        Files.writeString(project.resolve(RESOURCES).resolve("a.xml"), "<a/>");
+        Files.writeString(project.resolve(RESOURCES).resolve("b.json"), "{\"b\": 1}");
+        return project;
+    }
+
+    private FingerprintManifest createManifest(Path project) throws Exception {
+
+        FingerprintManifest manifest = new FingerprintManifest(tempDir.resolve("resources.manifest"));
+        Map<String, Fingerprint> snapshot = manifest.scan(project, List.of(RESOURCES));
+        manifest.update(snapshot);
+        return manifest;
+    }
+}
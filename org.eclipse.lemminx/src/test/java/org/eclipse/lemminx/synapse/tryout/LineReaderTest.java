@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.synapse.tryout;
+
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.debugger.LineReader;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LineReaderTest {
+
+    @Test
+    public void testLineLongerThanBuffer() throws Exception {
+
+        char[] content = new char[100 * 1024];
+        Arrays.fill(content, 'a');
+        String longLine = new String(content);
+        ChunkedChannel channel = new ChunkedChannel(List.of(bytes(longLine + "\nshort\n")));
+        LineReader reader = new LineReader();
+
+        assertTrue(reader.read(channel));
+        assertEquals(longLine, reader.nextLine());
+        assertEquals("short", reader.nextLine());
+        assertNull(reader.nextLine());
+    }
+
+    @Test
+    public void testCompleteLinesAreKeptWhenBufferFills() throws Exception {
+
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            content.append("{\"event\":").append(i).append("}\n");
+        }
+        ChunkedChannel channel = new ChunkedChannel(List.of(bytes(content.toString())));
+        LineReader reader = new LineReader();
+
+        assertTrue(reader.read(channel));
+        for (int i = 0; i < 10000; i++) {
+            assertEquals("{\"event\":" + i + "}", reader.nextLine());
+        }
+        assertNull(reader.nextLine());
+    }
+
+    @Test
+    public void testMultibyteCharacterSplitBetweenReads() throws Exception {
+
+        String line = "{\"payload\":\"café €\"}";
+        byte[] content = bytes(line + "\n");
+        // Splits the three bytes of the euro sign
+        int split = content.length - 4;
+        ChunkedChannel channel = new ChunkedChannel(
+                List.of(Arrays.copyOfRange(content, 0, split), Arrays.copyOfRange(content, split, content.length)));
+        LineReader reader = new LineReader();
+
+        assertTrue(reader.read(channel));
+        assertNull(reader.nextLine());
+        assertTrue(reader.read(channel));
+        assertEquals(line, reader.nextLine());
+    }
+
+    @Test
+    public void testEndOfStream() throws Exception {
+
+        ChunkedChannel channel = new ChunkedChannel(List.of(bytes("last\n")));
+        LineReader reader = new LineReader();
+
+        assertTrue(reader.read(channel));
+        assertFalse(reader.read(channel));
+        assertEquals("last", reader.nextLine());
+    }
+
+    private static byte[] bytes(String content) {
+
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Channel which returns one chunk per read of the line reader, as a non-blocking channel returns the bytes which
+     * have arrived so far.
+     */
+    private static class ChunkedChannel implements ReadableByteChannel {
+
+        private final Deque<ByteBuffer> chunks = new ArrayDeque<>();
+        private boolean isChunkRead = false;
+
+        ChunkedChannel(List<byte[]> chunks) {
+
+            chunks.forEach(chunk -> this.chunks.add(ByteBuffer.wrap(chunk)));
+        }
+
+        @Override
+        public int read(ByteBuffer target) {
+
+            if (chunks.isEmpty()) {
+                return -1;
+            }
+            ByteBuffer chunk = chunks.peek();
+            if (isChunkRead && !chunk.hasRemaining()) {
+                chunks.poll();
+                isChunkRead = false;
+                return 0;
+            }
+            int length = Math.min(chunk.remaining(), target.remaining());
+            ByteBuffer slice = chunk.slice();
+            slice.limit(length);
+            target.put(slice);
+            chunk.position(chunk.position() + length);
+            isChunkRead = true;
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+
+            return true;
+        }
+
+        @Override
+        public void close() {
+
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.synapse.tryout;
+
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.FingerprintManifest;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.ResourcesCAPPRepacker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResourcesCAPPRepackerTest {
+
+    private static final Path RESOURCES = Path.of("src", "main", "wso2mi", "resources");
+    private static final String RESOURCE_ENTRY = "resources_1.0.0/resources/config.json";
+    private static final String DESCRIPTOR_ENTRY = "resources_1.0.0/artifact.xml";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testChangedResourceIsRepacked() throws Exception {
+
+        Path project = createProject();
+        Path capp = createCAPP();
+        FingerprintManifest manifest = createManifest(project);
+
+        Files.writeString(project.resolve(RESOURCES).resolve("config.json"), "{\"changed\": true}");
+        Set<String> changedFiles = manifest.diff(manifest.scan(project, List.of(RESOURCES)));
+
+        assertTrue(ResourcesCAPPRepacker.repack(project, capp, manifest, changedFiles, tempDir));
+        try (ZipFile repackedCapp = new ZipFile(capp.toFile())) {
+            assertEquals("{\"changed\": true}", readEntry(repackedCapp, RESOURCE_ENTRY));
+            assertEquals("<artifact/>", readEntry(repackedCapp, DESCRIPTOR_ENTRY));
+        }
+    }
+
+    @Test
+    public void testAddedResourceIsNotRepacked() throws Exception {
+
+        Path project = createProject();
+        Path capp = createCAPP();
+        FingerprintManifest manifest = createManifest(project);
+        byte[] content = Files.readAllBytes(capp);
+
+        Files.writeString(project.resolve(RESOURCES).resolve("added.json"), "{}");
+        Set<String> changedFiles = manifest.diff(manifest.scan(project, List.of(RESOURCES)));
+
+        assertFalse(ResourcesCAPPRepacker.repack(project, capp, manifest, changedFiles, tempDir));
+        assertArrayEquals(content, Files.readAllBytes(capp));
+    }
+
+    private Path createProject() throws Exception {
+
+        Path project = tempDir.resolve("project");
+        Files.createDirectories(project.resolve(RESOURCES));
+        Files.writeString(project.resolve(RESOURCES).resolve("config.json"), "{\"changed\": false}");
+        return project;
+    }
+
+    private Path createCAPP() throws Exception {
+
+        Path capp = tempDir.resolve("resources.car");
+        try (ZipOutputStream outputStream = new ZipOutputStream(Files.newOutputStream(capp))) {
+            outputStream.putNextEntry(new ZipEntry(DESCRIPTOR_ENTRY));
+            outputStream.write("<artifact/>".getBytes(StandardCharsets.UTF_8));
+            outputStream.closeEntry();
+            outputStream.putNextEntry(new ZipEntry(RESOURCE_ENTRY));
+            outputStream.write("{\"changed\": false}".getBytes(StandardCharsets.UTF_8));
+            outputStream.closeEntry();
+        }
+        return capp;
+    }
+
+    private FingerprintManifest createManifest(Path project) throws Exception {
+
+        FingerprintManifest manifest = new FingerprintManifest(tempDir.resolve("resources.manifest"));
+        manifest.update(manifest.scan(project, List.of(RESOURCES)));
+        return manifest;
+    }
+
+    private String readEntry(ZipFile capp, String entryName) throws Exception {
+
+        return new String(capp.getInputStream(capp.getEntry(entryName)).readAllBytes(), StandardCharsets.UTF_8);
+    }
+}
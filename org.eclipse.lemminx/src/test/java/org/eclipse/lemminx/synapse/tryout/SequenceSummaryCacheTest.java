@@ -0,0 +1,118 @@
+/*
+ *   Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ *   WSO2 LLC. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing,
+ *   software distributed under the License is distributed on an
+ *   "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *   KIND, either express or implied.  See the License for the
+ *   specific language governing permissions and limitations
+ *   under the License.
+ */
+
+package org.eclipse.lemminx.synapse.tryout;
+
+import org.eclipse.lemminx.customservice.synapse.mediator.schema.generate.visitor.SequenceSummaryCache;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorInfo;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutInfo;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SequenceSummaryCacheTest {
+
+    private static final String SEQUENCE = "<sequence name=\"testSequence\" xmlns=\"http://ws.apache.org/ns/synapse\"/>";
+
+    @TempDir
+    Path tempDir;
+
+    private Path sequencePath;
+    private final AtomicInteger visits = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        SequenceSummaryCache.clear();
+        sequencePath = tempDir.resolve("testSequence.xml");
+        Files.writeString(sequencePath, SEQUENCE);
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        SequenceSummaryCache.clear();
+    }
+
+    @Test
+    public void testSummaryIsReusedForSameState() {
+
+        visit(createInfo("value"));
+        MediatorTryoutInfo info = createInfo("value");
+        visit(info);
+
+        assertEquals(1, visits.get());
+        assertEquals("visited", info.getOutput().getVariables().get(1).getValue());
+    }
+
+    @Test
+    public void testSummaryIsNotReusedForDifferentState() {
+
+        visit(createInfo("value"));
+        visit(createInfo("otherValue"));
+
+        assertEquals(2, visits.get());
+    }
+
+    @Test
+    public void testSummaryIsNotReusedWhenSequenceChanges() throws Exception {
+
+        visit(createInfo("value"));
+        Files.writeString(sequencePath, SEQUENCE + System.lineSeparator());
+        visit(createInfo("value"));
+
+        assertEquals(2, visits.get());
+    }
+
+    @Test
+    public void testSummaryIsNotReusedAfterClear() {
+
+        visit(createInfo("value"));
+        SequenceSummaryCache.clear();
+        visit(createInfo("value"));
+
+        assertEquals(2, visits.get());
+    }
+
+    private void visit(MediatorTryoutInfo info) {
+
+        SequenceSummaryCache.visit(sequencePath.toString(), "1:4", info, () -> {
+            visits.incrementAndGet();
+            MediatorInfo output = info.getOutput();
+            output.addVariable(new Property("result", "visited"));
+            info.setOutput(output);
+        });
+    }
+
+    private static MediatorTryoutInfo createInfo(String value) {
+
+        MediatorInfo input = new MediatorInfo();
+        input.addVariable(new Property("name", value));
+        MediatorInfo output = new MediatorInfo();
+        output.addVariable(new Property("name", value));
+        return new MediatorTryoutInfo(input, output);
+    }
+}
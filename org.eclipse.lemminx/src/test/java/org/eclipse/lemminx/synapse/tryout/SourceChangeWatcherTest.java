@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.synapse.tryout;
+
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.SourceChangeWatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SourceChangeWatcherTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final Set<Path> changedPaths = ConcurrentHashMap.newKeySet();
+    private SourceChangeWatcher watcher;
+
+    @AfterEach
+    void tearDown() {
+
+        if (watcher != null) {
+            watcher.stop();
+        }
+    }
+
+    @Test
+    public void testChangesAreReportedWhenEventsAreAwaited() throws Exception {
+
+        Path folder = Files.createDirectories(tempDir.resolve("src").resolve("main"));
+        watcher = new SourceChangeWatcher(folder, changedPaths::add, () -> {
+        });
+        watcher.start();
+        if (!watcher.isEventDriven()) {
+            assertFalse(watcher.awaitEvents(100));
+            return;
+        }
+
+        for (int i = 0; i < 20; i++) {
+            Path subFolder = Files.createDirectories(folder.resolve("folder" + i % 4));
+            Path file = Files.writeString(subFolder.resolve("file" + i + ".xml"), "<a/>");
+
+            assertTrue(watcher.awaitEvents(5000));
+            // A file created with its folder is reported through the folder
+            assertTrue(changedPaths.stream().anyMatch(file::startsWith), "Not reported: " + file);
+        }
+    }
+
+    @Test
+    public void testEventsAreNotAwaitedAfterStop() throws Exception {
+
+        watcher = new SourceChangeWatcher(Files.createDirectories(tempDir.resolve("main")), changedPaths::add, () -> {
+        });
+        watcher.start();
+        watcher.stop();
+
+        assertFalse(watcher.awaitEvents(100));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.synapse.tryout;
+
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.server.SyncManifest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SyncManifestTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path source;
+    private Path target;
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        source = tempDir.resolve("source");
+        target = tempDir.resolve("target");
+        Files.createDirectories(source.resolve("apis"));
+        Files.writeString(source.resolve("apis").resolve("TestAPI.xml"), "<api/>");
+        Files.writeString(source.resolve("apis").resolve("OtherAPI.xml"), "<api name=\"other\"/>");
+    }
+
+    @Test
+    public void testOnlyChangedFilesAreCopied() throws Exception {
+
+        SyncManifest manifest = new SyncManifest();
+
+        assertEquals(2, manifest.sync(source, target, path -> true, false));
+        assertEquals(0, manifest.sync(source, target, path -> true, false));
+
+        Path testApi = source.resolve("apis").resolve("TestAPI.xml");
+        Files.setLastModifiedTime(testApi, FileTime.fromMillis(System.currentTimeMillis() + 10000));
+        assertEquals(0, manifest.sync(source, target, path -> true, false));
+
+        Files.writeString(testApi, "<api name=\"test\"/>");
+        assertEquals(1, manifest.sync(source, target, path -> true, false));
+        assertEquals("<api name=\"test\"/>", Files.readString(target.resolve("apis").resolve("TestAPI.xml")));
+    }
+
+    @Test
+    public void testRemovedFilesAreDeleted() throws Exception {
+
+        SyncManifest manifest = new SyncManifest();
+        Files.createDirectories(target);
+        Files.writeString(target.resolve("fault.xml"), "<sequence/>");
+        manifest.sync(source, target, path -> true, false);
+
+        Files.delete(source.resolve("apis").resolve("OtherAPI.xml"));
+
+        assertEquals(1, manifest.sync(source, target, path -> true, false));
+        assertFalse(Files.exists(target.resolve("apis").resolve("OtherAPI.xml")));
+        assertTrue(Files.exists(target.resolve("fault.xml")));
+
+        assertEquals(1, manifest.sync(source, target, path -> true, true));
+        assertFalse(Files.exists(target.resolve("fault.xml")));
+    }
+
+    @Test
+    public void testInvalidatedFileIsCopiedAgain() throws Exception {
+
+        SyncManifest manifest = new SyncManifest();
+        manifest.sync(source, target, path -> !path.endsWith("OtherAPI.xml"), false);
+        Path testApi = target.resolve("apis").resolve("TestAPI.xml");
+        Files.writeString(testApi, "<api name=\"edited\"/>");
+
+        manifest.invalidate(testApi);
+
+        assertEquals(1, manifest.sync(source, target, path -> !path.endsWith("OtherAPI.xml"), false));
+        assertEquals("<api/>", Files.readString(testApi));
+        assertFalse(Files.exists(target.resolve("apis").resolve("OtherAPI.xml")));
+    }
+
+    @Test
+    public void testManifestIsRestoredFromFile() throws Exception {
+
+        Path manifestFile = tempDir.resolve("deployment.manifest");
+        new SyncManifest(manifestFile).sync(source, target, path -> true, false);
+
+        SyncManifest manifest = new SyncManifest(manifestFile);
+
+        assertEquals(0, manifest.sync(source, target, path -> true, false));
+        manifest.deleteAll();
+        assertTrue(manifest.isEmpty());
+        assertFalse(Files.exists(target.resolve("apis").resolve("TestAPI.xml")));
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.synapse.tryout;
+
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.TryOutHandler;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.TryOutRuntimePool;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutInfo;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutRequest;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.server.MIServer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TryOutRuntimePoolTest {
+
+    private static final long TIMEOUT = TimeUnit.SECONDS.toMillis(5);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testContinuationRunsOnRuntimeHoldingTryout() throws Exception {
+
+        List<StubHandler> handlers = createHandlers(2);
+        handlers.forEach(handler -> handler.isStarted = true);
+        TryOutRuntimePool pool = new TryOutRuntimePool(new ArrayList<>(handlers), 0);
+
+        MediatorTryoutInfo first = pool.handle(createRequest(null));
+        MediatorTryoutInfo second = pool.handle(createRequest(null));
+        pool.handle(createRequest(first.getId()));
+
+        assertNotEquals(first.getId(), second.getId());
+        StubHandler firstHandler = handlers.get(first.getId().equals("tryout-0") ? 0 : 1);
+        assertEquals(2, firstHandler.handledRequests.get());
+    }
+
+    @Test
+    public void testStartedRuntimeIsPreferred() throws Exception {
+
+        List<StubHandler> handlers = createHandlers(3);
+        handlers.get(2).isStarted = true;
+        TryOutRuntimePool pool = new TryOutRuntimePool(new ArrayList<>(handlers), 0);
+
+        assertSame(handlers.get(2), pool.execute(handler -> handler));
+    }
+
+    @Test
+    public void testRequestWaitsForBusyRuntime() throws Exception {
+
+        TryOutRuntimePool pool = new TryOutRuntimePool(new ArrayList<>(createHandlers(1)), 0);
+        CountDownLatch isRunning = new CountDownLatch(1);
+        CountDownLatch isReleased = new CountDownLatch(1);
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> execute(pool, isRunning, isReleased));
+        assertTrue(isRunning.await(TIMEOUT, TimeUnit.MILLISECONDS));
+
+        CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(() -> execute(pool, new CountDownLatch(1),
+                new CountDownLatch(0)));
+        Thread.sleep(200);
+        assertFalse(second.isDone());
+
+        isReleased.countDown();
+        first.get(TIMEOUT, TimeUnit.MILLISECONDS);
+        assertTrue(second.get(TIMEOUT, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testOtherRuntimesAreStartedAfterSuccessfulTryout() throws Exception {
+
+        List<StubHandler> handlers = createHandlers(2);
+        handlers.get(0).isStarted = true;
+        handlers.get(0).error = "Failed";
+        TryOutRuntimePool pool = new TryOutRuntimePool(new ArrayList<>(handlers), 0);
+
+        pool.handle(createRequest(null));
+        Thread.sleep(200);
+        assertFalse(handlers.get(1).isStarted);
+
+        handlers.get(0).error = null;
+        pool.handle(createRequest(null));
+        assertTrue(waitFor(() -> handlers.get(1).isStarted));
+    }
+
+    @Test
+    public void testIdleRuntimeIsShutDown() throws Exception {
+
+        List<StubHandler> handlers = createHandlers(2);
+        handlers.get(0).isStarted = true;
+        handlers.get(1).isStarted = true;
+        new TryOutRuntimePool(new ArrayList<>(handlers), 100);
+
+        assertTrue(waitFor(() -> !handlers.get(1).isStarted));
+        assertTrue(handlers.get(0).isStarted);
+    }
+
+    @Test
+    public void testShutdownWaitsForRunningRequest() throws Exception {
+
+        List<StubHandler> handlers = createHandlers(1);
+        handlers.get(0).isStarted = true;
+        TryOutRuntimePool pool = new TryOutRuntimePool(new ArrayList<>(handlers), 0);
+        CountDownLatch isRunning = new CountDownLatch(1);
+        CountDownLatch isReleased = new CountDownLatch(1);
+        CompletableFuture<Boolean> request =
+                CompletableFuture.supplyAsync(() -> execute(pool, isRunning, isReleased));
+        assertTrue(isRunning.await(TIMEOUT, TimeUnit.MILLISECONDS));
+
+        CompletableFuture<Boolean> shutdown = CompletableFuture.supplyAsync(pool::shutdown);
+        Thread.sleep(200);
+        assertFalse(shutdown.isDone());
+        assertTrue(handlers.get(0).isStarted);
+
+        isReleased.countDown();
+        assertTrue(request.get(TIMEOUT, TimeUnit.MILLISECONDS));
+        assertTrue(shutdown.get(TIMEOUT, TimeUnit.MILLISECONDS));
+        assertFalse(handlers.get(0).isStarted);
+    }
+
+    private List<StubHandler> createHandlers(int size) throws Exception {
+
+        List<StubHandler> handlers = new ArrayList<>();
+        for (int index = 0; index < size; index++) {
+            Path serverPath = Files.createDirectories(tempDir.resolve("mi-" + index));
+            handlers.add(new StubHandler(index, serverPath));
+        }
+        return handlers;
+    }
+
+    private static MediatorTryoutRequest createRequest(String tryoutId) {
+
+        MediatorTryoutRequest request = new MediatorTryoutRequest("api.xml", 1, 1, "{}", null);
+        request.setTryoutId(tryoutId);
+        return request;
+    }
+
+    private static boolean execute(TryOutRuntimePool pool, CountDownLatch isRunning, CountDownLatch isReleased) {
+
+        try {
+            return pool.execute(handler -> {
+                isRunning.countDown();
+                try {
+                    return isReleased.await(TIMEOUT, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean waitFor(BooleanSupplier condition) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                return false;
+            }
+            Thread.sleep(20);
+        }
+        return true;
+    }
+
+    /**
+     * Try-out handler which holds a try-out per request without starting an MI server.
+     */
+    private static class StubHandler extends TryOutHandler {
+
+        private final int index;
+        private final AtomicInteger handledRequests = new AtomicInteger();
+        private volatile boolean isStarted = false;
+        private volatile String tryoutId;
+        private volatile String error;
+
+        StubHandler(int index, Path serverPath) {
+
+            super("project", new MIServer(serverPath, "project", 0), serverPath.resolveSibling("clone-" + index));
+            this.index = index;
+        }
+
+        @Override
+        public MediatorTryoutInfo handle(MediatorTryoutRequest request) {
+
+            handledRequests.incrementAndGet();
+            isStarted = true;
+            if (error != null) {
+                return new MediatorTryoutInfo(error);
+            }
+            tryoutId = "tryout-" + index;
+            MediatorTryoutInfo info = new MediatorTryoutInfo();
+            info.setId(tryoutId);
+            return info;
+        }
+
+        @Override
+        public void warmUp() {
+
+            isStarted = true;
+        }
+
+        @Override
+        public String getCurrentTryoutID() {
+
+            return tryoutId;
+        }
+
+        @Override
+        public boolean isStarted() {
+
+            return isStarted;
+        }
+
+        @Override
+        protected void reset() {
+
+            tryoutId = null;
+        }
+
+        @Override
+        public boolean shutDown() {
+
+            isStarted = false;
+            return true;
+        }
+    }
+}
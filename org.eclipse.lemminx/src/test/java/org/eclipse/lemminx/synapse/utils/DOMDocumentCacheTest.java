@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.synapse.utils;
+
+import org.eclipse.lemminx.customservice.synapse.utils.DOMDocumentCache;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class DOMDocumentCacheTest {
+
+    private static final String SEQUENCE = "<sequence name=\"testSequence\" xmlns=\"http://ws.apache.org/ns/synapse\"/>";
+
+    @TempDir
+    Path projectPath;
+
+    @Test
+    public void testUnmodifiedFileIsParsedOnce() throws Exception {
+
+        DOMDocumentCache cache = new DOMDocumentCache(1024 * 1024);
+        File file = createFile("sequence.xml", SEQUENCE);
+
+        DOMDocument first = cache.getDocument(file, false);
+        DOMDocument second = cache.getDocument(file, false);
+
+        assertSame(first, second);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testModifiedFileIsParsedAgain() throws Exception {
+
+        DOMDocumentCache cache = new DOMDocumentCache(1024 * 1024);
+        File file = createFile("sequence.xml", SEQUENCE);
+        DOMDocument first = cache.getDocument(file, false);
+
+        Files.writeString(file.toPath(), SEQUENCE.replace("testSequence", "modifiedSequence"));
+        DOMDocument second = cache.getDocument(file, false);
+
+        assertNotSame(first, second);
+        assertEquals("modifiedSequence", second.getDocumentElement().getAttribute("name"));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedDocumentIsEvicted() throws Exception {
+
+        // Large enough for a single document only
+        DOMDocumentCache cache = new DOMDocumentCache(SEQUENCE.length() * 10L);
+        File first = createFile("first.xml", SEQUENCE);
+        File second = createFile("second.xml", SEQUENCE);
+
+        DOMDocument firstDocument = cache.getDocument(first, false);
+        cache.getDocument(second, false);
+
+        assertEquals(1, cache.getEvictionCount());
+        assertNotSame(firstDocument, cache.getDocument(first, false));
+    }
+
+    @Test
+    public void testOpenDocumentIsPreferred() throws Exception {
+
+        DOMDocumentCache cache = new DOMDocumentCache(1024 * 1024);
+        File file = createFile("sequence.xml", SEQUENCE);
+        DOMDocument openDocument = cache.getDocument(createFile("open.xml", SEQUENCE), false);
+        cache.setOpenDocumentProvider(path -> path.equals(file.toPath()) ? openDocument : null);
+
+        assertSame(openDocument, cache.getDocument(file, true));
+        assertNotSame(openDocument, cache.getDocument(file, false));
+    }
+
+    @Test
+    public void testSymbolicLinkIsCachedWithItsTarget() throws Exception {
+
+        // Large enough for a single document only
+        DOMDocumentCache cache = new DOMDocumentCache(SEQUENCE.length() * 10L);
+        File file = createFile("sequence.xml", SEQUENCE);
+        File link = Files.createSymbolicLink(projectPath.resolve("link.xml"), file.toPath()).toFile();
+
+        DOMDocument document = cache.getDocument(file, false);
+
+        assertSame(document, cache.getDocument(link, false));
+        assertEquals(0, cache.getEvictionCount());
+        assertEquals(SEQUENCE.length() * 8L, cache.getSize());
+
+        cache.getDocument(createFile("other.xml", SEQUENCE), false);
+
+        assertEquals(1, cache.getEvictionCount());
+        assertNotSame(document, cache.getDocument(link, false));
+    }
+
+    @Test
+    public void testInvalidateThroughSymbolicLink() throws Exception {
+
+        DOMDocumentCache cache = new DOMDocumentCache(1024 * 1024);
+        Path folder = Files.createDirectory(projectPath.resolve("sequences"));
+        Path linkedFolder = Files.createSymbolicLink(projectPath.resolve("linked"), folder);
+        Files.writeString(folder.resolve("sequence.xml"), SEQUENCE);
+        File file = linkedFolder.resolve("sequence.xml").toFile();
+        DOMDocument document = cache.getDocument(file, false);
+
+        cache.invalidate(file.getPath());
+
+        assertNotSame(document, cache.getDocument(file, false));
+
+        Files.delete(folder.resolve("sequence.xml"));
+        cache.invalidate(file.getPath());
+
+        assertEquals(0L, cache.getSize());
+    }
+
+    private File createFile(String name, String content) throws Exception {
+
+        return Files.writeString(projectPath.resolve(name), content).toFile();
+    }
+}
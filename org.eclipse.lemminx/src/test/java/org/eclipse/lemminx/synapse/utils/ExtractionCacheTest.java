@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.eclipse.lemminx.synapse.utils;
+
+import org.eclipse.lemminx.customservice.synapse.utils.ExtractionCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExtractionCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testUnchangedZipIsNotExtractedAgain() throws Exception {
+
+        ExtractionCache cache = new ExtractionCache(tempDir.resolve("cache"));
+        File zip = createZip("mi-connector-test-1.0.0.zip", "connector");
+        File target = tempDir.resolve("extracted").resolve("mi-connector-test-1.0.0").toFile();
+
+        assertTrue(cache.extractZip(zip, target));
+        assertFalse(cache.extractZip(zip, target));
+        assertEquals("connector", Files.readString(target.toPath().resolve("connector.xml")));
+    }
+
+    @Test
+    public void testUpdatedZipWithSameNameIsExtractedAgain() throws Exception {
+
+        ExtractionCache cache = new ExtractionCache(tempDir.resolve("cache"));
+        File zip = createZip("mi-connector-test-1.0.0.zip", "connector");
+        File target = tempDir.resolve("extracted").resolve("mi-connector-test-1.0.0").toFile();
+        cache.extractZip(zip, target);
+
+        createZip("mi-connector-test-1.0.0.zip", "updated connector");
+
+        assertTrue(cache.extractZip(zip, target));
+        assertEquals("updated connector", Files.readString(target.toPath().resolve("connector.xml")));
+    }
+
+    @Test
+    public void testZipIsExtractedOnceForAllTargets() throws Exception {
+
+        ExtractionCache cache = new ExtractionCache(tempDir.resolve("cache"));
+        File zip = createZip("mi-connector-test-1.0.0.zip", "connector");
+        File firstTarget = tempDir.resolve("first").resolve("mi-connector-test-1.0.0").toFile();
+        File secondTarget = tempDir.resolve("second").resolve("mi-connector-test-1.0.0").toFile();
+
+        assertTrue(cache.extractZip(zip, firstTarget));
+        assertTrue(cache.extractZip(zip, secondTarget));
+
+        try (Stream<Path> cachedFolders = Files.list(tempDir.resolve("cache"))) {
+            assertEquals(1, cachedFolders.count());
+        }
+        assertEquals("connector", Files.readString(secondTarget.toPath().resolve("connector.xml")));
+    }
+
+    @Test
+    public void testDeletedFileIsRestored() throws Exception {
+
+        ExtractionCache cache = new ExtractionCache(tempDir.resolve("cache"));
+        File zip = createZip("mi-connector-test-1.0.0.zip", "connector");
+        File target = tempDir.resolve("extracted").resolve("mi-connector-test-1.0.0").toFile();
+        cache.extractZip(zip, target);
+
+        Files.delete(target.toPath().resolve("connector.xml"));
+
+        assertTrue(cache.extractZip(zip, target));
+        assertTrue(Files.exists(target.toPath().resolve("connector.xml")));
+    }
+
+    @Test
+    public void testUpdatedTargetIsReplaced() throws Exception {
+
+        ExtractionCache cache = new ExtractionCache(tempDir.resolve("cache"));
+        File zip = createZip("mi-connector-test-1.0.0.zip", "connector");
+        Path target = tempDir.resolve("extracted").resolve("mi-connector-test-1.0.0");
+        cache.extractZip(zip, target.toFile());
+        Files.writeString(target.resolve("stale.xml"), "stale");
+
+        createZip("mi-connector-test-1.0.0.zip", "updated connector");
+
+        assertTrue(cache.extractZip(zip, target.toFile()));
+        assertFalse(Files.exists(target.resolve("stale.xml")));
+        assertEquals("updated connector", Files.readString(target.resolve("connector.xml")));
+        try (Stream<Path> cachedFolders = Files.list(tempDir.resolve("cache"))) {
+            // Only the extracted zips are left in the cache, without the staging folders
+            assertEquals(2, cachedFolders.count());
+        }
+    }
+
+    @Test
+    public void testStaleProjectFolderIsDeleted() throws Exception {
+
+        Path schemas = tempDir.resolve("schemas");
+        Path project = Files.createDirectories(tempDir.resolve("projects").resolve("project"));
+        Path otherProject = Files.createDirectories(tempDir.resolve("other").resolve("project"));
+        Path folder = createProjectFolder(schemas.resolve("project_1"), project);
+        Path movedProjectFolder = createProjectFolder(schemas.resolve("project_2"), tempDir.resolve("moved"));
+        Path otherProjectFolder = createProjectFolder(schemas.resolve("project_3"), otherProject);
+        Path otherNameFolder = createProjectFolder(schemas.resolve("sample_4"), tempDir.resolve("moved"));
+        Path unrecordedFolder = Files.createDirectories(schemas.resolve("project_5"));
+
+        ExtractionCache.deleteStaleProjectFolders(folder, "project_", project.toString());
+
+        assertEquals(project.toString(), Files.readString(folder.resolve(ExtractionCache.PROJECT_FILE)));
+        assertFalse(Files.exists(movedProjectFolder));
+        assertTrue(Files.exists(otherProjectFolder));
+        assertTrue(Files.exists(otherNameFolder));
+        assertTrue(Files.exists(unrecordedFolder));
+    }
+
+    private static Path createProjectFolder(Path folder, Path project) throws Exception {
+
+        Files.createDirectories(folder);
+        Files.writeString(folder.resolve(ExtractionCache.PROJECT_FILE), project.toString());
+        return folder;
+    }
+
+    private File createZip(String name, String content) throws Exception {
+
+        Path zip = tempDir.resolve(name);
+        try (OutputStream outputStream = Files.newOutputStream(zip);
+             ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+            zipOutputStream.putNextEntry(new ZipEntry("connector.xml"));
+            zipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+            zipOutputStream.closeEntry();
+        }
+        // Mark the zip as an old file so that the extraction does not wait for the download to complete
+        Files.setLastModifiedTime(zip, FileTime.fromMillis(System.currentTimeMillis() - 3600 * 1000));
+        return zip.toFile();
+    }
+}
@@ -21,7 +21,9 @@ import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.lemminx.XMLLanguageServer;
 import org.eclipse.lemminx.customservice.SynapseLanguageClientAPI;
+import org.eclipse.lemminx.customservice.synapse.ConnectorDownloadNotification;
 import org.eclipse.lemminx.customservice.synapse.ConnectorStatusNotification;
+import org.eclipse.lemminx.customservice.synapse.StartupStageNotification;
 import org.eclipse.lemminx.utils.platform.Platform;
 import org.eclipse.lsp4j.InitializeParams;
 import org.eclipse.lsp4j.InitializedParams;
@@ -116,6 +118,16 @@ public class TelemetryInitializationTest {
 			public void removeConnectorStatus(ConnectorStatusNotification message) {
 
 			}
+
+			@Override
+			public void connectorDownloadStatus(ConnectorDownloadNotification message) {
+
+			}
+
+			@Override
+			public void startupStageStatus(StartupStageNotification message) {
+
+			}
 		};
 		languageServer.setClient(client);
 		return languageServer;